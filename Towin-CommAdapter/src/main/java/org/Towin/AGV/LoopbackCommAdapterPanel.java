@@ -188,6 +188,14 @@ public class LoopbackCommAdapterPanel
                             VehicleProcessModel.Attribute.LOAD_HANDLING_DEVICES.name())) {
       updateVehicleLoadHandlingDevice(processModel.getLoadHandlingDevices());
     }
+    else if (Objects.equals(attributeChanged,
+                            VehicleProcessModel.Attribute.STATE_UPDATE.name())) {
+      updateVehicleState(processModel.getVehicleState());
+      updatePrecisePosition(processModel.getPrecisePosition());
+      updateOrientationAngle(processModel.getOrientationAngle());
+      updateEnergyLevel(processModel.getEnergyLevel());
+      updateVehicleLoadHandlingDevice(processModel.getLoadHandlingDevices());
+    }
   }
 
   private void updateVehicleLoadHandlingDevice(List<LoadHandlingDevice> devices) {
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.function.Predicate;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.components.kernel.services.NotificationService;
+import org.opentcs.components.kernel.services.UserNotificationBatch;
 import org.opentcs.data.notification.UserNotification;
 
 /**
@@ -38,6 +39,16 @@ public interface RemoteNotificationService
                                                 Predicate<UserNotification> predicate)
       throws RemoteException;
 
+  UserNotificationBatch fetchUserNotificationsSince(ClientID clientId, long sequenceNumber)
+      throws RemoteException;
+
+  List<UserNotification> fetchUserNotificationsBySource(ClientID clientId, String source)
+      throws RemoteException;
+
+  List<UserNotification> fetchUserNotificationsByLevel(ClientID clientId,
+                                                       UserNotification.Level level)
+      throws RemoteException;
+
   void publishUserNotification(ClientID clientId, UserNotification notification)
       throws RemoteException;
 }
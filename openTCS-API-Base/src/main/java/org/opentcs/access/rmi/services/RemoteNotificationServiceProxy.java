@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.function.Predicate;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.components.kernel.services.NotificationService;
+import org.opentcs.components.kernel.services.UserNotificationBatch;
 import org.opentcs.data.notification.UserNotification;
 
 /**
@@ -37,6 +38,45 @@ class RemoteNotificationServiceProxy
     }
   }
 
+  @Override
+  public UserNotificationBatch fetchUserNotificationsSince(long sequenceNumber)
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchUserNotificationsSince(getClientId(), sequenceNumber);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
+  @Override
+  public List<UserNotification> fetchUserNotificationsBySource(String source)
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchUserNotificationsBySource(getClientId(), source);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
+  @Override
+  public List<UserNotification> fetchUserNotificationsByLevel(UserNotification.Level level)
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchUserNotificationsByLevel(getClientId(), level);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
   @Override
   public void publishUserNotification(UserNotification notification)
       throws KernelRuntimeException {
@@ -9,11 +9,13 @@ package org.opentcs.access.rmi.services;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
+import java.util.Set;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 
@@ -45,4 +47,22 @@ public interface RemoteTransportOrderService
 
   void markOrderSequenceComplete(ClientID clientId, TCSObjectReference<OrderSequence> ref)
       throws RemoteException;
+
+  Set<TransportOrder> fetchTransportOrdersByState(ClientID clientId, TransportOrder.State state)
+      throws RemoteException;
+
+  Set<TransportOrder> fetchTransportOrdersByIntendedVehicle(
+      ClientID clientId,
+      TCSObjectReference<Vehicle> vehicleRef)
+      throws RemoteException;
+
+  Set<TransportOrder> fetchTransportOrdersByProcessingVehicle(
+      ClientID clientId,
+      TCSObjectReference<Vehicle> vehicleRef)
+      throws RemoteException;
+
+  Set<TransportOrder> fetchTransportOrdersByWrappingSequence(
+      ClientID clientId,
+      TCSObjectReference<OrderSequence> seqRef)
+      throws RemoteException;
 }
@@ -8,6 +8,7 @@
 package org.opentcs.access.rmi.services;
 
 import java.rmi.RemoteException;
+import java.util.Set;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
@@ -15,6 +16,7 @@ import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 
@@ -66,4 +68,59 @@ class RemoteTransportOrderServiceProxy
       throw findSuitableExceptionFor(ex);
     }
   }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByState(TransportOrder.State state)
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchTransportOrdersByState(getClientId(), state);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByIntendedVehicle(
+      TCSObjectReference<Vehicle> vehicleRef)
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchTransportOrdersByIntendedVehicle(getClientId(), vehicleRef);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByProcessingVehicle(
+      TCSObjectReference<Vehicle> vehicleRef)
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchTransportOrdersByProcessingVehicle(getClientId(), vehicleRef);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByWrappingSequence(
+      TCSObjectReference<OrderSequence> seqRef)
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchTransportOrdersByWrappingSequence(getClientId(), seqRef);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
 }
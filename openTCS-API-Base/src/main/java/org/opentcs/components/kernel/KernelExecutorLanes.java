@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.components.kernel;
+
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.Nonnull;
+
+/**
+ * Provides executors for kernel tasks, partitioned into lanes.
+ * <p>
+ * Each key is mapped to a lane, with every lane executing its tasks one after another, in the order
+ * they were submitted. Tasks submitted for the same key are thus never executed concurrently.
+ * Tasks submitted for different keys, however, may be executed concurrently, so components using a
+ * lane other than the global one must synchronize access to any state they share with tasks in
+ * other lanes.
+ * </p>
+ * <p>
+ * The lane for {@link #GLOBAL} is the executor injected with the
+ * {@link org.opentcs.customizations.kernel.KernelExecutor} annotation. Besides the predefined
+ * keys, components may use any object as a key, e.g. a reference to a vehicle or transport order,
+ * provided it implements {@link Object#equals(java.lang.Object)} and {@link Object#hashCode()}.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public interface KernelExecutorLanes {
+
+  /**
+   * The key for the global lane, used for all tasks that do not declare a specific lane.
+   */
+  String GLOBAL = "global";
+  /**
+   * The key for the lane executing dispatching tasks.
+   */
+  String DISPATCHING = "dispatching";
+  /**
+   * The key for the lane executing resource allocation tasks.
+   */
+  String SCHEDULING = "scheduling";
+
+  /**
+   * Returns the executor for the lane the given key is mapped to.
+   *
+   * @param key The key.
+   * @return The executor for the lane the given key is mapped to.
+   */
+  @Nonnull
+  ScheduledExecutorService lane(@Nonnull Object key);
+}
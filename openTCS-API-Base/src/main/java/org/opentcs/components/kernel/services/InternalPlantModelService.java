@@ -7,10 +7,13 @@
  */
 package org.opentcs.components.kernel.services;
 
+import java.util.HashSet;
 import java.util.Set;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Declares the methods the plant model service must provide which are not accessible to remote
@@ -33,6 +36,31 @@ public interface InternalPlantModelService
   Set<TCSResource<?>> expandResources(Set<TCSResourceReference<?>> resources)
       throws ObjectUnknownException;
 
+  /**
+   * Returns all blocks that contain at least one of the given resources.
+   * <p>
+   * In contrast to filtering the result of {@link #fetchObjects(java.lang.Class)}, this does not
+   * require looking at every block in the plant model. (The default implementation does, though.)
+   * </p>
+   *
+   * @param resources The resources.
+   * @return Copies of all blocks containing at least one of the given resources. If there are no
+   * such blocks, the returned set is empty.
+   */
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default Set<Block> fetchBlocksContaining(Set<TCSResourceReference<?>> resources) {
+    Set<Block> result = new HashSet<>();
+    for (Block block : fetchObjects(Block.class)) {
+      for (TCSResourceReference<?> member : block.getMembers()) {
+        if (resources.contains(member)) {
+          result.add(block);
+          break;
+        }
+      }
+    }
+    return result;
+  }
+
   /**
    * Loads the saved model into the kernel.
    * If there is no saved model, a new empty model will be loaded.
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.components.kernel.services;
+
+import javax.annotation.Nonnull;
+import org.opentcs.data.TCSObject;
+
+/**
+ * Declares the methods the object service must provide which are not accessible to remote
+ * peers.
+ *
+ * @author The openTCS Authors
+ */
+public interface InternalTCSObjectService
+    extends TCSObjectService {
+
+  /**
+   * Returns an immutable, point-in-time view of all existing {@link TCSObject}s.
+   * <p>
+   * Taking a snapshot is cheap, and reading from it does not involve any synchronization with the
+   * kernel. Clients that need to read many objects in a consistent state (e.g. strategies
+   * evaluating vehicles and transport orders) should prefer a snapshot over repeatedly fetching
+   * objects.
+   * </p>
+   *
+   * @return A snapshot of all existing objects.
+   */
+  @Nonnull
+  TCSObjectSnapshot snapshot();
+}
@@ -16,6 +16,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.LoadHandlingDevice;
+import org.opentcs.drivers.vehicle.VehicleStateUpdate;
 
 /**
  * Declares the methods the vehicle service must provide which are not accessible to remote peers.
@@ -151,4 +152,16 @@ public interface InternalVehicleService
   void updateVehicleTransportOrder(TCSObjectReference<Vehicle> vehicleRef,
                                    TCSObjectReference<TransportOrder> orderRef)
       throws ObjectUnknownException;
+
+  /**
+   * Applies the given changes of a vehicle's attributes as a whole.
+   * This results in (at most) a single modification of the vehicle and thus a single event for
+   * all changed attributes, instead of one for each of them.
+   *
+   * @param ref A reference to the vehicle to be modified.
+   * @param update The changes to be applied.
+   * @throws ObjectUnknownException If the referenced vehicle does not exist.
+   */
+  void updateVehicle(TCSObjectReference<Vehicle> ref, VehicleStateUpdate update)
+      throws ObjectUnknownException;
 }
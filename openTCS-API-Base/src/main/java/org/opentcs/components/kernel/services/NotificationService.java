@@ -7,10 +7,15 @@
  */
 package org.opentcs.components.kernel.services;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.notification.UserNotification;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Provides methods concerning {@link UserNotification}s.
@@ -30,6 +35,70 @@ public interface NotificationService {
   List<UserNotification> fetchUserNotifications(Predicate<UserNotification> predicate)
       throws KernelRuntimeException;
 
+  /**
+   * Returns the user notifications published after the one with the given sequence number.
+   * <p>
+   * Every notification published is assigned a sequence number, starting with 1. To retrieve new
+   * notifications incrementally, clients start with sequence number 0 and pass the latest sequence
+   * number of the returned batch with the next call.
+   * </p>
+   * <p>
+   * The default implementation does not support retrieving notifications incrementally. It returns
+   * all existing notifications in a batch that is marked as incomplete.
+   * </p>
+   *
+   * @param sequenceNumber The sequence number of the last notification already known.
+   * @return The notifications published afterwards that are still available.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @Nonnull
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default UserNotificationBatch fetchUserNotificationsSince(long sequenceNumber)
+      throws KernelRuntimeException {
+    return new UserNotificationBatch(fetchUserNotifications(null), 0, false);
+  }
+
+  /**
+   * Returns the user notifications from the given source.
+   *
+   * @param source The source. May be <code>null</code> to return notifications without a source.
+   * @return The notifications from the given source, oldest first.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @Nonnull
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default List<UserNotification> fetchUserNotificationsBySource(@Nullable String source)
+      throws KernelRuntimeException {
+    List<UserNotification> result = new ArrayList<>();
+    for (UserNotification notification : fetchUserNotifications(null)) {
+      if (Objects.equals(notification.getSource(), source)) {
+        result.add(notification);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the user notifications with the given level.
+   *
+   * @param level The level.
+   * @return The notifications with the given level, oldest first.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @Nonnull
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default List<UserNotification> fetchUserNotificationsByLevel(
+      @Nonnull UserNotification.Level level)
+      throws KernelRuntimeException {
+    List<UserNotification> result = new ArrayList<>();
+    for (UserNotification notification : fetchUserNotifications(null)) {
+      if (notification.getLevel() == level) {
+        result.add(notification);
+      }
+    }
+    return result;
+  }
+
   /**
    * Publishes a user notification.
    *
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.components.kernel.services;
+
+import java.time.Instant;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Provides methods concerning the archive of {@link TransportOrder}s and {@link OrderSequence}s
+ * that have been removed from the kernel after being finished.
+ *
+ * @author The openTCS Authors
+ */
+public interface OrderArchiveService {
+
+  /**
+   * Returns the archived transport order with the given name.
+   *
+   * @param name The transport order's name.
+   * @return The archived transport order, or {@code null}, if there is no such transport order.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @Nullable
+  TransportOrder fetchArchivedTransportOrder(@Nonnull String name)
+      throws KernelRuntimeException;
+
+  /**
+   * Returns the archived order sequence with the given name.
+   *
+   * @param name The order sequence's name.
+   * @return The archived order sequence, or {@code null}, if there is no such order sequence.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @Nullable
+  OrderSequence fetchArchivedOrderSequence(@Nonnull String name)
+      throws KernelRuntimeException;
+
+  /**
+   * Returns all archived transport orders created within the given time range.
+   *
+   * @param from The start of the time range (inclusive).
+   * @param to The end of the time range (exclusive).
+   * @return The archived transport orders, sorted by their creation times.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @Nonnull
+  List<TransportOrder> fetchArchivedTransportOrders(@Nonnull Instant from, @Nonnull Instant to)
+      throws KernelRuntimeException;
+
+  /**
+   * Returns all archived order sequences whose first transport order was created within the given
+   * time range.
+   *
+   * @param from The start of the time range (inclusive).
+   * @param to The end of the time range (exclusive).
+   * @return The archived order sequences, sorted by the creation times of their first transport
+   * orders.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @Nonnull
+  List<OrderSequence> fetchArchivedOrderSequences(@Nonnull Instant from, @Nonnull Instant to)
+      throws KernelRuntimeException;
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.components.kernel.services;
+
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * An immutable, point-in-time view of all {@link TCSObject}s in the kernel.
+ * <p>
+ * All objects retrieved from a snapshot reflect the state of the kernel's objects at the time the
+ * snapshot was taken, i.e. modifications performed afterwards are not visible. Reading from a
+ * snapshot does not require any synchronization with the kernel.
+ * </p>
+ * <p>
+ * Note that the objects returned are shared with the kernel and with other snapshots. They must
+ * not be modified via their (deprecated) mutating methods.
+ * </p>
+ *
+ * @author The openTCS Authors
+ * @see InternalTCSObjectService#snapshot()
+ */
+public interface TCSObjectSnapshot {
+
+  /**
+   * Returns this snapshot's version.
+   * Versions are increasing, i.e. a snapshot taken later has a higher version if any objects have
+   * been modified in the meantime and the same version if not.
+   *
+   * @return This snapshot's version.
+   */
+  long getVersion();
+
+  /**
+   * Returns a single {@link TCSObject} of the given class.
+   *
+   * @param <T> The TCSObject's actual type.
+   * @param clazz The class of the object to be returned.
+   * @param ref A reference to the object to be returned.
+   * @return The referenced object, or {@code null} if no such object exists or if an object exists
+   * but is not an instance of the given class.
+   */
+  @Nullable
+  <T extends TCSObject<T>> T fetchObject(@Nonnull Class<T> clazz,
+                                         @Nullable TCSObjectReference<T> ref);
+
+  /**
+   * Returns a single {@link TCSObject} of the given class.
+   *
+   * @param <T> The TCSObject's actual type.
+   * @param clazz The class of the object to be returned.
+   * @param name The name of the object to be returned.
+   * @return The named object, or {@code null} if no such object exists or if an object exists but
+   * is not an instance of the given class.
+   */
+  @Nullable
+  <T extends TCSObject<T>> T fetchObject(@Nonnull Class<T> clazz, @Nullable String name);
+
+  /**
+   * Returns all {@link TCSObject}s of the given class.
+   *
+   * @param <T> The TCSObjects' actual type.
+   * @param clazz The class of the objects to be returned.
+   * @return All objects of the given class.
+   */
+  @Nonnull
+  <T extends TCSObject<T>> Set<T> fetchObjects(@Nonnull Class<T> clazz);
+
+  /**
+   * Returns all {@link TCSObject}s of the given class for which the given predicate is true.
+   *
+   * @param <T> The TCSObjects' actual type.
+   * @param clazz The class of the objects to be returned.
+   * @param predicate The predicate that must be true for returned objects.
+   * @return All objects of the given class for which the given predicate is true. If no such
+   * objects exist, the returned set will be empty.
+   */
+  @Nonnull
+  <T extends TCSObject<T>> Set<T> fetchObjects(@Nonnull Class<T> clazz,
+                                               @Nonnull Predicate<? super T> predicate);
+}
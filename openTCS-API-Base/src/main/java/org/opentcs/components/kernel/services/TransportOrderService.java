@@ -7,14 +7,21 @@
  */
 package org.opentcs.components.kernel.services;
 
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Provides methods concerning {@link TransportOrder}s and {@link OrderSequence}s.
@@ -64,4 +71,94 @@ public interface TransportOrderService
    */
   void markOrderSequenceComplete(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException, KernelRuntimeException;
+
+  /**
+   * Returns all transport orders currently in the given state.
+   * <p>
+   * In contrast to {@link #fetchObjects(java.lang.Class, java.util.function.Predicate)}, this does
+   * not require looking at every transport order in the kernel.
+   * </p>
+   *
+   * @param state The state.
+   * @return Copies of all transport orders currently in the given state. If there are no such
+   * transport orders, the returned set is empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default Set<TransportOrder> fetchTransportOrdersByState(@Nonnull TransportOrder.State state)
+      throws KernelRuntimeException {
+    Set<TransportOrder> result = new HashSet<>();
+    for (TransportOrder order : fetchObjects(TransportOrder.class)) {
+      if (order.hasState(state)) {
+        result.add(order);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns all transport orders intended to be processed by the referenced vehicle.
+   *
+   * @param vehicleRef A reference to the vehicle, or {@code null} to get all transport orders
+   * without an intended vehicle.
+   * @return Copies of all transport orders intended to be processed by the referenced vehicle. If
+   * there are no such transport orders, the returned set is empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default Set<TransportOrder> fetchTransportOrdersByIntendedVehicle(
+      @Nullable TCSObjectReference<Vehicle> vehicleRef)
+      throws KernelRuntimeException {
+    Set<TransportOrder> result = new HashSet<>();
+    for (TransportOrder order : fetchObjects(TransportOrder.class)) {
+      if (Objects.equals(order.getIntendedVehicle(), vehicleRef)) {
+        result.add(order);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns all transport orders currently being processed by the referenced vehicle.
+   *
+   * @param vehicleRef A reference to the vehicle, or {@code null} to get all transport orders
+   * without a processing vehicle.
+   * @return Copies of all transport orders currently being processed by the referenced vehicle. If
+   * there are no such transport orders, the returned set is empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default Set<TransportOrder> fetchTransportOrdersByProcessingVehicle(
+      @Nullable TCSObjectReference<Vehicle> vehicleRef)
+      throws KernelRuntimeException {
+    Set<TransportOrder> result = new HashSet<>();
+    for (TransportOrder order : fetchObjects(TransportOrder.class)) {
+      if (Objects.equals(order.getProcessingVehicle(), vehicleRef)) {
+        result.add(order);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns all transport orders belonging to the referenced order sequence.
+   *
+   * @param seqRef A reference to the order sequence, or {@code null} to get all transport orders
+   * not belonging to any order sequence.
+   * @return Copies of all transport orders belonging to the referenced order sequence. If there
+   * are no such transport orders, the returned set is empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default Set<TransportOrder> fetchTransportOrdersByWrappingSequence(
+      @Nullable TCSObjectReference<OrderSequence> seqRef)
+      throws KernelRuntimeException {
+    Set<TransportOrder> result = new HashSet<>();
+    for (TransportOrder order : fetchObjects(TransportOrder.class)) {
+      if (Objects.equals(order.getWrappingSequence(), seqRef)) {
+        result.add(order);
+      }
+    }
+    return result;
+  }
 }
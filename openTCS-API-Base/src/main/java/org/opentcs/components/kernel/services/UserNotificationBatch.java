@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.components.kernel.services;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import org.opentcs.data.notification.UserNotification;
+
+/**
+ * The user notifications published after a given sequence number, allowing clients to retrieve
+ * new notifications incrementally.
+ *
+ * @author The openTCS Authors
+ * @see NotificationService#fetchUserNotificationsSince(long)
+ */
+public class UserNotificationBatch
+    implements Serializable {
+
+  /**
+   * The notifications, oldest first.
+   */
+  private final List<UserNotification> notifications;
+  /**
+   * The sequence number of the latest notification published.
+   */
+  private final long latestSequenceNumber;
+  /**
+   * Whether the notifications are complete.
+   */
+  private final boolean complete;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param notifications The notifications, oldest first.
+   * @param latestSequenceNumber The sequence number of the latest notification published.
+   * @param complete Whether the notifications are complete, i.e. no notifications published after
+   * the requested sequence number have been discarded, yet.
+   */
+  public UserNotificationBatch(@Nonnull List<UserNotification> notifications,
+                               long latestSequenceNumber,
+                               boolean complete) {
+    this.notifications = Collections.unmodifiableList(
+        new ArrayList<>(requireNonNull(notifications, "notifications")));
+    this.latestSequenceNumber = latestSequenceNumber;
+    this.complete = complete;
+  }
+
+  /**
+   * Returns the notifications published after the requested sequence number, oldest first.
+   *
+   * @return The notifications published after the requested sequence number.
+   */
+  @Nonnull
+  public List<UserNotification> getNotifications() {
+    return notifications;
+  }
+
+  /**
+   * Returns the sequence number of the latest notification published.
+   * This is the sequence number to be requested next to retrieve only notifications that are
+   * published later.
+   *
+   * @return The sequence number of the latest notification published, or 0, if no notifications
+   * have been published, yet.
+   */
+  public long getLatestSequenceNumber() {
+    return latestSequenceNumber;
+  }
+
+  /**
+   * Indicates whether the notifications are complete.
+   *
+   * @return <code>true</code> if, and only if, no notifications published after the requested
+   * sequence number have been discarded before they could be retrieved.
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+}
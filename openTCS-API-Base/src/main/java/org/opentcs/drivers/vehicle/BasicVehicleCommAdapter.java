@@ -173,10 +173,7 @@ public abstract class BasicVehicleCommAdapter
       return;
     }
     connectVehicle();
-    commandDispatcherTask = new CommandDispatcherTask();
-    Thread commandDispatcherThread = new Thread(commandDispatcherTask,
-                                                getName() + "-commandDispatcher");
-    commandDispatcherThread.start();
+    startCommandDispatcher();
     enabled = true;
     getProcessModel().setCommAdapterEnabled(true);
   }
@@ -193,8 +190,7 @@ public abstract class BasicVehicleCommAdapter
       return;
     }
     disconnectVehicle();
-    commandDispatcherTask.terminate();
-    commandDispatcherTask = null;
+    stopCommandDispatcher();
     enabled = false;
     // Update the vehicle's state for the rest of the system.
     getProcessModel().setCommAdapterEnabled(false);
@@ -380,10 +376,59 @@ public abstract class BasicVehicleCommAdapter
    */
   protected abstract boolean isVehicleConnected();
 
-  private synchronized void triggerCommandDispatcherTask() {
+  /**
+   * Notifies the command dispatcher that a new command may be sent to the vehicle now, e.g. because
+   * a command was added to the command queue or the vehicle executed a command.
+   * <p>
+   * Implementations overriding {@link #canSendNextCommand()} should call this whenever a condition
+   * checked there changes.
+   * </p>
+   */
+  protected synchronized void triggerCommandDispatcherTask() {
     this.notifyAll();
   }
 
+  /**
+   * Starts processing the command queue.
+   * The default implementation starts a dedicated command dispatcher thread.
+   */
+  void startCommandDispatcher() {
+    commandDispatcherTask = new CommandDispatcherTask();
+    Thread commandDispatcherThread = new Thread(commandDispatcherTask,
+                                                getName() + "-commandDispatcher");
+    commandDispatcherThread.start();
+  }
+
+  /**
+   * Stops processing the command queue.
+   */
+  void stopCommandDispatcher() {
+    commandDispatcherTask.terminate();
+    commandDispatcherTask = null;
+  }
+
+  /**
+   * Takes the next command from the command queue, sends it to the vehicle and moves it to the sent
+   * queue.
+   */
+  synchronized void sendNextCommand() {
+    MovementCommand curCmd = getCommandQueue().poll();
+    if (curCmd != null) {
+      try {
+        sendCommand(curCmd);
+        // Remember that we sent this command to the vehicle.
+        getSentQueue().add(curCmd);
+        // Notify listeners that this command was sent.
+        getProcessModel().commandSent(curCmd);
+      }
+      catch (IllegalArgumentException exc) {
+        // Notify listeners that this command failed.
+        LOG.warn("{}: Failed sending command {}", getName(), curCmd, exc);
+        getProcessModel().commandFailed(curCmd);
+      }
+    }
+  }
+
   /**
    * Creates a transferable process model with the specific attributes of this comm adapter's
    * process model set.
@@ -412,7 +457,6 @@ public abstract class BasicVehicleCommAdapter
 
     @Override
     protected void runActualTask() {
-      MovementCommand curCmd;
       synchronized (BasicVehicleCommAdapter.this) {
         // Wait until we're terminated or we can send the next command.
         while (!isTerminated() && !canSendNextCommand()) {
@@ -426,21 +470,7 @@ public abstract class BasicVehicleCommAdapter
           }
         }
         if (!isTerminated()) {
-          curCmd = getCommandQueue().poll();
-          if (curCmd != null) {
-            try {
-              sendCommand(curCmd);
-              // Remember that we sent this command to the vehicle.
-              getSentQueue().add(curCmd);
-              // Notify listeners that this command was sent.
-              getProcessModel().commandSent(curCmd);
-            }
-            catch (IllegalArgumentException exc) {
-              // Notify listeners that this command failed.
-              LOG.warn("{}: Failed sending command {}", getName(), curCmd, exc);
-              getProcessModel().commandFailed(curCmd);
-            }
-          }
+          sendNextCommand();
         }
       }
     }
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.drivers.vehicle;
+
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.Nonnull;
+
+/**
+ * A base class for communication adapters processing their command queue with a shared executor
+ * instead of a dedicated thread.
+ * <p>
+ * Whenever {@link #triggerCommandDispatcherTask()} is called, a task sending all commands that can
+ * currently be sent is submitted to the executor (unless one is pending already). No thread is
+ * kept waiting for new commands, so a large number of adapters can share a small number of threads.
+ * Subclasses overriding {@link #canSendNextCommand()} should call
+ * {@link #triggerCommandDispatcherTask()} whenever a condition checked there changes.
+ * Subclasses are expected to use the executor for their own periodic work, too (e.g. polling the
+ * vehicle or simulating it), and must not block it for longer periods of time.
+ * </p>
+ * <p>
+ * As with {@link BasicVehicleCommAdapter}, the command queue is processed while holding this
+ * adapter's monitor.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public abstract class ScheduledVehicleCommAdapter
+    extends BasicVehicleCommAdapter {
+
+  /**
+   * Executes this adapter's tasks.
+   */
+  private final ScheduledExecutorService executor;
+  /**
+   * Whether the command queue is being processed.
+   */
+  private boolean commandDispatcherActive;
+  /**
+   * Whether a task processing the command queue has been submitted but not executed, yet.
+   */
+  private boolean commandDispatchPending;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param vehicleModel An observable model of the vehicle's and its comm adapter's attributes.
+   * @param commandQueueCapacity The number of commands this comm adapter's command queue accepts.
+   * Must be at least 1.
+   * @param sentQueueCapacity The maximum number of orders to be sent to a vehicle.
+   * @param rechargeOperation The string to recognize as a recharge operation.
+   * @param executor Executes this adapter's tasks. Should execute tasks for the same adapter one
+   * after another.
+   */
+  public ScheduledVehicleCommAdapter(VehicleProcessModel vehicleModel,
+                                     int commandQueueCapacity,
+                                     int sentQueueCapacity,
+                                     String rechargeOperation,
+                                     @Nonnull ScheduledExecutorService executor) {
+    super(vehicleModel, commandQueueCapacity, sentQueueCapacity, rechargeOperation);
+    this.executor = requireNonNull(executor, "executor");
+  }
+
+  /**
+   * Returns the executor executing this adapter's tasks.
+   *
+   * @return The executor executing this adapter's tasks.
+   */
+  @Nonnull
+  protected ScheduledExecutorService getExecutor() {
+    return executor;
+  }
+
+  @Override
+  protected synchronized void triggerCommandDispatcherTask() {
+    if (!commandDispatcherActive || commandDispatchPending) {
+      return;
+    }
+    commandDispatchPending = true;
+    executor.execute(this::dispatchCommands);
+  }
+
+  @Override
+  synchronized void startCommandDispatcher() {
+    commandDispatcherActive = true;
+    // There may be commands in the queue already.
+    triggerCommandDispatcherTask();
+  }
+
+  @Override
+  synchronized void stopCommandDispatcher() {
+    commandDispatcherActive = false;
+  }
+
+  private synchronized void dispatchCommands() {
+    commandDispatchPending = false;
+    while (commandDispatcherActive && canSendNextCommand()) {
+      sendNextCommand();
+    }
+  }
+}
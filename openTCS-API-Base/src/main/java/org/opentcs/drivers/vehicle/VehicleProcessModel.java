@@ -80,6 +80,10 @@ public class VehicleProcessModel {
   @Deprecated
   @ScheduledApiChange(when = "5.0")
   private VehicleCommAdapter.State adapterState = VehicleCommAdapter.State.UNKNOWN;
+  /**
+   * Whether a state update is currently being applied.
+   */
+  private boolean applyingStateUpdate;
 
   /**
    * Creates a new instance.
@@ -449,6 +453,61 @@ public class VehicleProcessModel {
     }
   }
 
+  /**
+   * Applies the given changes of the vehicle's attributes as a whole.
+   * <p>
+   * Listeners are notified about the change of each attribute as if it had been set
+   * individually, and about the update as a whole afterwards via
+   * {@link Attribute#STATE_UPDATE}. This allows listeners to process the changes with a single
+   * modification of the kernel's vehicle instance instead of one per attribute.
+   * </p>
+   * <p>
+   * The kernel publishes only a single
+   * {@link org.opentcs.drivers.vehicle.management.ProcessModelEvent} for the update as a whole, so
+   * consumers of these events (e.g. comm adapter panels) should treat
+   * {@link Attribute#STATE_UPDATE} as a change of each of the attributes it may contain.
+   * </p>
+   *
+   * @param update The changes to be applied.
+   */
+  public void applyStateUpdate(@Nonnull VehicleStateUpdate update) {
+    requireNonNull(update, "update");
+
+    applyingStateUpdate = true;
+    try {
+      if (update.isPrecisePositionUpdated()) {
+        setVehiclePrecisePosition(update.getPrecisePosition());
+      }
+      if (update.getOrientationAngle() != null) {
+        setVehicleOrientationAngle(update.getOrientationAngle());
+      }
+      if (update.getEnergyLevel() != null) {
+        setVehicleEnergyLevel(update.getEnergyLevel());
+      }
+      if (update.getLoadHandlingDevices() != null) {
+        setVehicleLoadHandlingDevices(update.getLoadHandlingDevices());
+      }
+      if (update.getState() != null) {
+        setVehicleState(update.getState());
+      }
+    }
+    finally {
+      applyingStateUpdate = false;
+    }
+    getPropertyChangeSupport().firePropertyChange(Attribute.STATE_UPDATE.name(), null, update);
+  }
+
+  /**
+   * Indicates whether a state update is currently being applied, i.e. whether changes of the
+   * vehicle's attributes being notified about are part of a {@link VehicleStateUpdate}.
+   *
+   * @return <code>true</code> if, and only if, a state update is currently being applied.
+   * @see #applyStateUpdate(org.opentcs.drivers.vehicle.VehicleStateUpdate)
+   */
+  public boolean isApplyingStateUpdate() {
+    return applyingStateUpdate;
+  }
+
   /**
    * Returns the comm adapter's current state.
    *
@@ -671,6 +730,11 @@ public class VehicleProcessModel {
      * Indicates a change of the vehicle's state.
      */
     STATE,
+    /**
+     * Indicates a change of multiple vehicle attributes applied as a whole, i.e. of the precise
+     * position, orientation angle, energy level, load handling devices and state.
+     */
+    STATE_UPDATE,
     /**
      * Indicates a change of the comm adapter's state.
      *
@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.drivers.vehicle;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * A set of changes to a vehicle's reported attributes that is to be applied as a whole, e.g. all
+ * values reported with a single telegram from the vehicle.
+ * <p>
+ * Attributes that are not set in an update are left unchanged when the update is applied.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class VehicleStateUpdate
+    implements Serializable {
+
+  /**
+   * The vehicle's new precise position.
+   */
+  private final Triple precisePosition;
+  /**
+   * Whether the precise position is updated (as <code>null</code> is a valid value for it).
+   */
+  private final boolean precisePositionUpdated;
+  /**
+   * The vehicle's new orientation angle, or <code>null</code>.
+   */
+  private final Double orientationAngle;
+  /**
+   * The vehicle's new energy level, or <code>null</code>.
+   */
+  private final Integer energyLevel;
+  /**
+   * The vehicle's new load handling devices, or <code>null</code>.
+   */
+  private final List<LoadHandlingDevice> loadHandlingDevices;
+  /**
+   * The vehicle's new state, or <code>null</code>.
+   */
+  private final Vehicle.State state;
+
+  /**
+   * Creates a new instance that does not update any attributes.
+   */
+  public VehicleStateUpdate() {
+    this(null, false, null, null, null, null);
+  }
+
+  private VehicleStateUpdate(@Nullable Triple precisePosition,
+                             boolean precisePositionUpdated,
+                             @Nullable Double orientationAngle,
+                             @Nullable Integer energyLevel,
+                             @Nullable List<LoadHandlingDevice> loadHandlingDevices,
+                             @Nullable Vehicle.State state) {
+    this.precisePosition = precisePosition;
+    this.precisePositionUpdated = precisePositionUpdated;
+    this.orientationAngle = orientationAngle;
+    this.energyLevel = energyLevel;
+    this.loadHandlingDevices = loadHandlingDevices;
+    this.state = state;
+  }
+
+  /**
+   * Indicates whether this update changes the vehicle's precise position.
+   *
+   * @return <code>true</code> if, and only if, this update changes the precise position.
+   */
+  public boolean isPrecisePositionUpdated() {
+    return precisePositionUpdated;
+  }
+
+  /**
+   * Returns the vehicle's new precise position.
+   *
+   * @return The vehicle's new precise position. Only meaningful if
+   * {@link #isPrecisePositionUpdated()} returns <code>true</code>.
+   */
+  @Nullable
+  public Triple getPrecisePosition() {
+    return precisePosition;
+  }
+
+  /**
+   * Creates a copy of this object, with the given precise position.
+   *
+   * @param precisePosition The value to be set in the copy. May be <code>null</code> if the
+   * vehicle's precise position is unknown.
+   * @return A copy of this object, differing in the given value.
+   */
+  public VehicleStateUpdate withPrecisePosition(@Nullable Triple precisePosition) {
+    return new VehicleStateUpdate(precisePosition,
+                                  true,
+                                  orientationAngle,
+                                  energyLevel,
+                                  loadHandlingDevices,
+                                  state);
+  }
+
+  /**
+   * Creates a copy of this object that does not update the precise position.
+   *
+   * @return A copy of this object that does not update the precise position.
+   */
+  public VehicleStateUpdate withoutPrecisePosition() {
+    return new VehicleStateUpdate(null,
+                                  false,
+                                  orientationAngle,
+                                  energyLevel,
+                                  loadHandlingDevices,
+                                  state);
+  }
+
+  /**
+   * Returns the vehicle's new orientation angle.
+   *
+   * @return The vehicle's new orientation angle, or <code>null</code>, if it is not updated.
+   */
+  @Nullable
+  public Double getOrientationAngle() {
+    return orientationAngle;
+  }
+
+  /**
+   * Creates a copy of this object, with the given orientation angle.
+   *
+   * @param orientationAngle The value to be set in the copy.
+   * @return A copy of this object, differing in the given value.
+   */
+  public VehicleStateUpdate withOrientationAngle(double orientationAngle) {
+    return new VehicleStateUpdate(precisePosition,
+                                  precisePositionUpdated,
+                                  orientationAngle,
+                                  energyLevel,
+                                  loadHandlingDevices,
+                                  state);
+  }
+
+  /**
+   * Returns the vehicle's new energy level.
+   *
+   * @return The vehicle's new energy level, or <code>null</code>, if it is not updated.
+   */
+  @Nullable
+  public Integer getEnergyLevel() {
+    return energyLevel;
+  }
+
+  /**
+   * Creates a copy of this object, with the given energy level.
+   *
+   * @param energyLevel The value to be set in the copy.
+   * @return A copy of this object, differing in the given value.
+   */
+  public VehicleStateUpdate withEnergyLevel(int energyLevel) {
+    return new VehicleStateUpdate(precisePosition,
+                                  precisePositionUpdated,
+                                  orientationAngle,
+                                  energyLevel,
+                                  loadHandlingDevices,
+                                  state);
+  }
+
+  /**
+   * Returns the vehicle's new load handling devices.
+   *
+   * @return The vehicle's new load handling devices, or <code>null</code>, if they are not
+   * updated.
+   */
+  @Nullable
+  public List<LoadHandlingDevice> getLoadHandlingDevices() {
+    return loadHandlingDevices;
+  }
+
+  /**
+   * Creates a copy of this object, with the given load handling devices.
+   *
+   * @param loadHandlingDevices The value to be set in the copy.
+   * @return A copy of this object, differing in the given value.
+   */
+  public VehicleStateUpdate withLoadHandlingDevices(
+      @Nonnull List<LoadHandlingDevice> loadHandlingDevices) {
+    requireNonNull(loadHandlingDevices, "loadHandlingDevices");
+    return new VehicleStateUpdate(precisePosition,
+                                  precisePositionUpdated,
+                                  orientationAngle,
+                                  energyLevel,
+                                  Collections.unmodifiableList(
+                                      new ArrayList<>(loadHandlingDevices)),
+                                  state);
+  }
+
+  /**
+   * Returns the vehicle's new state.
+   *
+   * @return The vehicle's new state, or <code>null</code>, if it is not updated.
+   */
+  @Nullable
+  public Vehicle.State getState() {
+    return state;
+  }
+
+  /**
+   * Creates a copy of this object, with the given state.
+   *
+   * @param state The value to be set in the copy.
+   * @return A copy of this object, differing in the given value.
+   */
+  public VehicleStateUpdate withState(@Nonnull Vehicle.State state) {
+    requireNonNull(state, "state");
+    return new VehicleStateUpdate(precisePosition,
+                                  precisePositionUpdated,
+                                  orientationAngle,
+                                  energyLevel,
+                                  loadHandlingDevices,
+                                  state);
+  }
+
+  /**
+   * Indicates whether this update does not change any attributes.
+   *
+   * @return <code>true</code> if, and only if, this update does not change any attributes.
+   */
+  public boolean isEmpty() {
+    return !precisePositionUpdated
+        && orientationAngle == null
+        && energyLevel == null
+        && loadHandlingDevices == null
+        && state == null;
+  }
+
+  @Override
+  public String toString() {
+    return "VehicleStateUpdate{"
+        + (precisePositionUpdated ? "precisePosition=" + precisePosition + ", " : "")
+        + "orientationAngle=" + orientationAngle
+        + ", energyLevel=" + energyLevel
+        + ", loadHandlingDevices=" + loadHandlingDevices
+        + ", state=" + state
+        + '}';
+  }
+}
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.event;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import static org.opentcs.util.Assertions.checkState;
+
+/**
+ * Describes the events an {@link EventHandler} is interested in.
+ * <p>
+ * A filter either accepts all events of a given class (and its subclasses), or it accepts
+ * {@link TCSObjectEvent}s only, optionally restricted to objects of given classes and/or to an
+ * object with a given name.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class EventFilter {
+
+  /**
+   * The class of events accepted.
+   */
+  private final Class<?> eventClass;
+  /**
+   * The classes of objects accepted, or an empty set, if objects of any class are accepted.
+   */
+  private final Set<Class<?>> objectClasses;
+  /**
+   * The name of the object accepted, or <code>null</code>, if objects with any name are accepted.
+   */
+  private final String objectName;
+
+  private EventFilter(@Nonnull Class<?> eventClass,
+                      @Nonnull Set<Class<?>> objectClasses,
+                      @Nullable String objectName) {
+    this.eventClass = requireNonNull(eventClass, "eventClass");
+    this.objectClasses = requireNonNull(objectClasses, "objectClasses");
+    this.objectName = objectName;
+  }
+
+  /**
+   * Creates a filter accepting all events that are instances of the given class.
+   *
+   * @param eventClass The class of events to be accepted.
+   * @return A filter accepting all events that are instances of the given class.
+   */
+  public static EventFilter forEventClass(@Nonnull Class<?> eventClass) {
+    return new EventFilter(eventClass, Collections.emptySet(), null);
+  }
+
+  /**
+   * Creates a filter accepting all {@link TCSObjectEvent}s for objects of the given class.
+   *
+   * @param objectClass The class of objects to be accepted.
+   * @return A filter accepting all object events for objects of the given class.
+   */
+  public static EventFilter forObjectClass(@Nonnull Class<? extends TCSObject<?>> objectClass) {
+    return forEventClass(TCSObjectEvent.class).withObjectClass(objectClass);
+  }
+
+  /**
+   * Creates a filter accepting all {@link TCSObjectEvent}s for the object with the given class and
+   * name.
+   *
+   * @param objectClass The class of the object to be accepted.
+   * @param objectName The name of the object to be accepted.
+   * @return A filter accepting all object events for the object with the given class and name.
+   */
+  public static EventFilter forObject(@Nonnull Class<? extends TCSObject<?>> objectClass,
+                                      @Nonnull String objectName) {
+    return forObjectClass(objectClass).withObjectName(objectName);
+  }
+
+  /**
+   * Returns the class of events accepted by this filter.
+   *
+   * @return The class of events accepted by this filter.
+   */
+  @Nonnull
+  public Class<?> getEventClass() {
+    return eventClass;
+  }
+
+  /**
+   * Returns the classes of objects accepted by this filter.
+   *
+   * @return The classes of objects accepted by this filter, or an empty set, if this filter does
+   * not restrict object classes.
+   */
+  @Nonnull
+  public Set<Class<?>> getObjectClasses() {
+    return objectClasses;
+  }
+
+  /**
+   * Creates a copy of this object that additionally accepts objects of the given class.
+   *
+   * @param objectClass The class of objects to be accepted.
+   * @return A copy of this object that additionally accepts objects of the given class.
+   * @throws IllegalStateException If this filter does not accept {@link TCSObjectEvent}s only.
+   */
+  public EventFilter withObjectClass(@Nonnull Class<? extends TCSObject<?>> objectClass)
+      throws IllegalStateException {
+    requireNonNull(objectClass, "objectClass");
+    checkState(eventClass == TCSObjectEvent.class,
+               "Object classes can only be set for TCSObjectEvent filters.");
+    Set<Class<?>> newObjectClasses = new HashSet<>(objectClasses);
+    newObjectClasses.add(objectClass);
+    return new EventFilter(eventClass, Collections.unmodifiableSet(newObjectClasses), objectName);
+  }
+
+  /**
+   * Returns the name of the object accepted by this filter.
+   *
+   * @return The name of the object accepted by this filter, or <code>null</code>, if this filter
+   * does not restrict object names.
+   */
+  @Nullable
+  public String getObjectName() {
+    return objectName;
+  }
+
+  /**
+   * Creates a copy of this object that accepts only the object with the given name.
+   *
+   * @param objectName The name of the object to be accepted.
+   * @return A copy of this object that accepts only the object with the given name.
+   * @throws IllegalStateException If this filter does not accept {@link TCSObjectEvent}s only.
+   */
+  public EventFilter withObjectName(@Nonnull String objectName)
+      throws IllegalStateException {
+    requireNonNull(objectName, "objectName");
+    checkState(eventClass == TCSObjectEvent.class,
+               "Object names can only be set for TCSObjectEvent filters.");
+    return new EventFilter(eventClass, objectClasses, objectName);
+  }
+
+  /**
+   * Checks whether this filter accepts the given event.
+   *
+   * @param event The event to be checked.
+   * @return <code>true</code> if, and only if, this filter accepts the given event.
+   */
+  public boolean matches(Object event) {
+    if (!eventClass.isInstance(event)) {
+      return false;
+    }
+    if (objectClasses.isEmpty() && objectName == null) {
+      return true;
+    }
+    TCSObject<?> object = ((TCSObjectEvent) event).getCurrentOrPreviousObjectState();
+    return acceptsObjectClass(object.getClass())
+        && (objectName == null || objectName.equals(object.getName()));
+  }
+
+  /**
+   * Checks whether this filter accepts objects of the given class, regardless of their names.
+   *
+   * @param objectClass The class of objects to be checked.
+   * @return <code>true</code> if, and only if, this filter accepts objects of the given class.
+   */
+  public boolean acceptsObjectClass(Class<?> objectClass) {
+    if (objectClasses.isEmpty()) {
+      return true;
+    }
+    for (Class<?> curClass : objectClasses) {
+      if (curClass.isAssignableFrom(objectClass)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof EventFilter)) {
+      return false;
+    }
+    EventFilter other = (EventFilter) obj;
+    return eventClass == other.eventClass
+        && objectClasses.equals(other.objectClasses)
+        && Objects.equals(objectName, other.objectName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(eventClass, objectClasses, objectName);
+  }
+
+  @Override
+  public String toString() {
+    return "EventFilter{"
+        + "eventClass=" + eventClass.getName()
+        + ", objectClasses=" + objectClasses
+        + ", objectName=" + objectName
+        + '}';
+  }
+}
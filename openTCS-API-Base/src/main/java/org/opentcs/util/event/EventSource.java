@@ -15,6 +15,22 @@ package org.opentcs.util.event;
 public interface EventSource {
 
   void subscribe(EventHandler listener);
-  
+
+  /**
+   * Subscribes the given listener for events accepted by the given filter.
+   * <p>
+   * Subscribing a listener that is already subscribed replaces its filter.
+   * Implementations that do not support filtering may deliver all events to the listener, so
+   * listeners should not rely on receiving only accepted events.
+   * This default implementation simply ignores the filter.
+   * </p>
+   *
+   * @param listener The listener to be subscribed.
+   * @param filter The filter describing the events the listener is interested in.
+   */
+  default void subscribe(EventHandler listener, EventFilter filter) {
+    subscribe(listener);
+  }
+
   void unsubscribe(EventHandler listener);
 }
@@ -0,0 +1,370 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.event;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.Nonnull;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An event handler that decouples the delivery of events to a delegate handler from the thread
+ * publishing them.
+ * <p>
+ * Events are put into a bounded queue and delivered to the delegate, in order, by tasks run on
+ * the given executor. The executor may be a single thread dedicated to the delegate or a pool
+ * shared by several instances, as there is at most one delivery task per instance at any time.
+ * What happens when the queue is full is determined by the {@link OverflowPolicy}.
+ * </p>
+ * <p>
+ * To use this class, subscribe an instance wrapping the actual handler with the event source
+ * instead of the actual handler, and unsubscribe the same instance later.
+ * </p>
+ * <p>
+ * The queue's metrics are provided via {@link QueuedEventHandlerMXBean}, so an instance may be
+ * registered with an MBean server for monitoring.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class QueuedEventHandler
+    implements EventHandler,
+               QueuedEventHandlerMXBean {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(QueuedEventHandler.class);
+  /**
+   * The maximum number of events delivered by a single task, so that instances sharing an
+   * executor get their turns.
+   */
+  private static final int MAX_EVENTS_PER_TASK = 64;
+  /**
+   * The handler the events are delivered to.
+   */
+  private final EventHandler delegate;
+  /**
+   * The maximum number of events in the queue.
+   */
+  private final int capacity;
+  /**
+   * What to do when the queue is full.
+   */
+  private final OverflowPolicy overflowPolicy;
+  /**
+   * Executes the delivery tasks.
+   */
+  private final Executor executor;
+  /**
+   * The events waiting to be delivered.
+   */
+  private final Deque<QueuedEvent> queue = new ArrayDeque<>();
+  /**
+   * The queued object events, mapped by object class and name, for conflation.
+   */
+  private final Map<Class<?>, Map<String, QueuedEvent>> queuedObjectEvents = new HashMap<>();
+  /**
+   * Whether a delivery task has been submitted to the executor and not finished, yet.
+   */
+  private boolean deliveryScheduled;
+  /**
+   * The number of events delivered to the delegate.
+   */
+  private long deliveredEventCount;
+  /**
+   * The number of events dropped.
+   */
+  private long droppedEventCount;
+  /**
+   * The number of events merged into events already queued.
+   */
+  private long conflatedEventCount;
+  /**
+   * The maximum number of events in the queue so far.
+   */
+  private int maxQueueSize;
+  /**
+   * The time the last event delivered spent in the queue (in ms).
+   */
+  private long lastDeliveryLag;
+  /**
+   * The maximum time an event delivered spent in the queue (in ms).
+   */
+  private long maxDeliveryLag;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param delegate The handler the events are delivered to.
+   * @param capacity The maximum number of events in the queue.
+   * @param overflowPolicy What to do when the queue is full.
+   * @param executor Executes the delivery tasks.
+   */
+  public QueuedEventHandler(@Nonnull EventHandler delegate,
+                            int capacity,
+                            @Nonnull OverflowPolicy overflowPolicy,
+                            @Nonnull Executor executor) {
+    this.delegate = requireNonNull(delegate, "delegate");
+    this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+    this.executor = requireNonNull(executor, "executor");
+    checkArgument(capacity > 0, "capacity <= 0: %s", capacity);
+    this.capacity = capacity;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    synchronized (this) {
+      if (overflowPolicy == OverflowPolicy.CONFLATE && conflate(event)) {
+        conflatedEventCount++;
+        return;
+      }
+      while (queue.size() >= capacity) {
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+          try {
+            wait();
+          }
+          catch (InterruptedException exc) {
+            LOG.warn("Interrupted while waiting for space in queue, dropping event {}", event);
+            Thread.currentThread().interrupt();
+            droppedEventCount++;
+            return;
+          }
+        }
+        else {
+          forget(queue.pollFirst());
+          droppedEventCount++;
+        }
+      }
+      QueuedEvent queuedEvent = new QueuedEvent(event, System.currentTimeMillis());
+      queue.addLast(queuedEvent);
+      remember(queuedEvent);
+      maxQueueSize = Math.max(maxQueueSize, queue.size());
+      if (!deliveryScheduled && !scheduleDelivery()) {
+        LOG.warn("Executor rejected delivery of events to {}", delegate);
+      }
+    }
+  }
+
+  /**
+   * Returns the handler the events are delivered to.
+   *
+   * @return The handler the events are delivered to.
+   */
+  @Nonnull
+  public EventHandler getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public synchronized int getQueueSize() {
+    return queue.size();
+  }
+
+  @Override
+  public synchronized int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  @Override
+  public synchronized long getDeliveredEventCount() {
+    return deliveredEventCount;
+  }
+
+  @Override
+  public synchronized long getDroppedEventCount() {
+    return droppedEventCount;
+  }
+
+  @Override
+  public synchronized long getConflatedEventCount() {
+    return conflatedEventCount;
+  }
+
+  @Override
+  public synchronized long getLastDeliveryLag() {
+    return lastDeliveryLag;
+  }
+
+  @Override
+  public synchronized long getMaxDeliveryLag() {
+    return maxDeliveryLag;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "QueuedEventHandler{"
+        + "delegate=" + delegate
+        + ", queueSize=" + queue.size()
+        + ", maxQueueSize=" + maxQueueSize
+        + ", deliveredEventCount=" + deliveredEventCount
+        + ", droppedEventCount=" + droppedEventCount
+        + ", conflatedEventCount=" + conflatedEventCount
+        + ", lastDeliveryLag=" + lastDeliveryLag
+        + ", maxDeliveryLag=" + maxDeliveryLag
+        + '}';
+  }
+
+  /**
+   * Submits a delivery task to the executor.
+   *
+   * @return <code>true</code> if, and only if, the executor accepted the task.
+   */
+  private boolean scheduleDelivery() {
+    try {
+      executor.execute(this::deliverQueuedEvents);
+      deliveryScheduled = true;
+      return true;
+    }
+    catch (RejectedExecutionException exc) {
+      return false;
+    }
+  }
+
+  private void deliverQueuedEvents() {
+    while (true) {
+      for (int i = 0; i < MAX_EVENTS_PER_TASK; i++) {
+        QueuedEvent queuedEvent;
+        synchronized (this) {
+          queuedEvent = queue.pollFirst();
+          if (queuedEvent == null) {
+            deliveryScheduled = false;
+            return;
+          }
+          forget(queuedEvent);
+          lastDeliveryLag = System.currentTimeMillis() - queuedEvent.enqueueTime;
+          maxDeliveryLag = Math.max(maxDeliveryLag, lastDeliveryLag);
+          deliveredEventCount++;
+          notifyAll();
+        }
+        try {
+          delegate.onEvent(queuedEvent.event);
+        }
+        catch (Exception exc) {
+          LOG.warn("Exception thrown by event handler", exc);
+        }
+      }
+      // Give other instances sharing the executor a chance before delivering the remaining events.
+      synchronized (this) {
+        deliveryScheduled = false;
+        if (queue.isEmpty() || scheduleDelivery()) {
+          return;
+        }
+        // The executor is shutting down, so deliver the remaining events with this task.
+        deliveryScheduled = true;
+      }
+    }
+  }
+
+  /**
+   * Merges the given event into an event for the same object that is already queued.
+   * Only modifications are merged, and only into a queued modification, so events for creating
+   * or removing an object are delivered in their original order with regard to modifications.
+   *
+   * @param event The event.
+   * @return <code>true</code> if, and only if, the event was merged.
+   */
+  private boolean conflate(Object event) {
+    if (!isModification(event)) {
+      return false;
+    }
+    TCSObjectEvent newEvent = (TCSObjectEvent) event;
+    TCSObject<?> object = newEvent.getCurrentOrPreviousObjectState();
+    Map<String, QueuedEvent> eventsByName = queuedObjectEvents.get(object.getClass());
+    QueuedEvent queuedEvent = eventsByName == null ? null : eventsByName.get(object.getName());
+    if (queuedEvent == null || !isModification(queuedEvent.event)) {
+      return false;
+    }
+    // Keep the oldest previous state, so the merged event covers all modifications.
+    queuedEvent.event = new TCSObjectEvent(newEvent.getCurrentObjectState(),
+                                           ((TCSObjectEvent) queuedEvent.event)
+                                               .getPreviousObjectState(),
+                                           TCSObjectEvent.Type.OBJECT_MODIFIED);
+    return true;
+  }
+
+  private boolean isModification(Object event) {
+    return event instanceof TCSObjectEvent
+        && ((TCSObjectEvent) event).getType() == TCSObjectEvent.Type.OBJECT_MODIFIED;
+  }
+
+  private void remember(QueuedEvent queuedEvent) {
+    if (overflowPolicy != OverflowPolicy.CONFLATE
+        || !(queuedEvent.event instanceof TCSObjectEvent)) {
+      return;
+    }
+    TCSObject<?> object = ((TCSObjectEvent) queuedEvent.event).getCurrentOrPreviousObjectState();
+    queuedObjectEvents.computeIfAbsent(object.getClass(), cls -> new HashMap<>())
+        .put(object.getName(), queuedEvent);
+  }
+
+  private void forget(QueuedEvent queuedEvent) {
+    if (overflowPolicy != OverflowPolicy.CONFLATE
+        || !(queuedEvent.event instanceof TCSObjectEvent)) {
+      return;
+    }
+    TCSObject<?> object = ((TCSObjectEvent) queuedEvent.event).getCurrentOrPreviousObjectState();
+    Map<String, QueuedEvent> eventsByName = queuedObjectEvents.get(object.getClass());
+    if (eventsByName != null && eventsByName.get(object.getName()) == queuedEvent) {
+      eventsByName.remove(object.getName());
+    }
+  }
+
+  /**
+   * Defines what happens when an event is published while the queue is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * The publishing thread waits until there is space in the queue.
+     * As the publishing thread may be the kernel executor, a slow delegate may stall the whole
+     * kernel with this policy.
+     * Must not be used if the delegate handler itself publishes events to the same queue.
+     */
+    BLOCK,
+    /**
+     * The oldest event in the queue is dropped.
+     */
+    DROP_OLDEST,
+    /**
+     * Modification events are merged into a modification event for the same object that is
+     * already queued, as long as no creation or removal event for the object has been queued
+     * after it.
+     * If the queue is still full, the oldest event in the queue is dropped.
+     */
+    CONFLATE;
+  }
+
+  /**
+   * An event waiting to be delivered.
+   */
+  private static class QueuedEvent {
+
+    /**
+     * The event.
+     */
+    private Object event;
+    /**
+     * The time the event was queued.
+     */
+    private final long enqueueTime;
+
+    QueuedEvent(Object event, long enqueueTime) {
+      this.event = event;
+      this.enqueueTime = enqueueTime;
+    }
+  }
+}
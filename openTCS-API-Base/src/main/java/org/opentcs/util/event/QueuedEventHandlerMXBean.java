@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.event;
+
+/**
+ * Provides the queue metrics of a {@link QueuedEventHandler}, e.g. for monitoring it via JMX.
+ *
+ * @author The openTCS Authors
+ */
+public interface QueuedEventHandlerMXBean {
+
+  /**
+   * Returns the number of events currently waiting to be delivered.
+   *
+   * @return The number of events currently waiting to be delivered.
+   */
+  int getQueueSize();
+
+  /**
+   * Returns the maximum number of events that were waiting to be delivered at the same time.
+   *
+   * @return The maximum number of events that were waiting to be delivered at the same time.
+   */
+  int getMaxQueueSize();
+
+  /**
+   * Returns the number of events delivered to the delegate.
+   *
+   * @return The number of events delivered to the delegate.
+   */
+  long getDeliveredEventCount();
+
+  /**
+   * Returns the number of events dropped because the queue was full.
+   *
+   * @return The number of events dropped because the queue was full.
+   */
+  long getDroppedEventCount();
+
+  /**
+   * Returns the number of events merged into events already waiting to be delivered.
+   *
+   * @return The number of events merged into events already waiting to be delivered.
+   */
+  long getConflatedEventCount();
+
+  /**
+   * Returns the time the last event delivered spent waiting in the queue.
+   *
+   * @return The time the last event delivered spent waiting in the queue (in ms).
+   */
+  long getLastDeliveryLag();
+
+  /**
+   * Returns the maximum time an event delivered spent waiting in the queue.
+   *
+   * @return The maximum time an event delivered spent waiting in the queue (in ms).
+   */
+  long getMaxDeliveryLag();
+}
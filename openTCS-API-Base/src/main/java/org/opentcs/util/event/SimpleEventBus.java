@@ -7,13 +7,29 @@
  */
 package org.opentcs.util.event;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * An event bus delivering events synchronously to its subscribers.
+ * <p>
+ * Subscribers registered with an {@link EventFilter} only receive the events accepted by their
+ * filter. Instead of checking every filter for every event, events are routed using dispatch
+ * tables that are rebuilt whenever the set of subscribers changes. Events are delivered to
+ * subscribers without a filter first, in the order of their subscription.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -25,19 +41,33 @@ public class SimpleEventBus
    */
   private static final Logger LOG = LoggerFactory.getLogger(SimpleEventBus.class);
   /**
-   * The listeners.
+   * The listeners and their filters (<code>null</code> for listeners without a filter), in the
+   * order they subscribed.
    */
-  private final Set<EventHandler> listeners = new CopyOnWriteArraySet<>();
+  private final Map<EventHandler, EventFilter> listeners = new LinkedHashMap<>();
+  /**
+   * The current dispatch table.
+   */
+  private volatile DispatchTable dispatchTable = new DispatchTable(listeners);
 
   @Override
   public void onEvent(Object event) {
-    try {
-      for (EventHandler listener : listeners) {
-        listener.onEvent(event);
-      }
+    DispatchTable table = dispatchTable;
+    deliver(table.unfilteredListeners, event);
+    if (event == null) {
+      return;
     }
-    catch (Exception exc) {
-      LOG.warn("Exception thrown by event handler", exc);
+    deliver(table.listenersForEventClass(event.getClass()), event);
+    if (!(event instanceof TCSObjectEvent)) {
+      return;
+    }
+    TCSObject<?> object = ((TCSObjectEvent) event).getCurrentOrPreviousObjectState();
+    deliver(table.listenersForObjectClass(object.getClass()), event);
+    for (Map.Entry<EventHandler, EventFilter> entry
+             : table.listenersForObjectName(object.getName())) {
+      if (entry.getValue().acceptsObjectClass(object.getClass())) {
+        deliver(entry.getKey(), event);
+      }
     }
   }
 
@@ -45,14 +75,153 @@ public class SimpleEventBus
   public void subscribe(EventHandler listener) {
     requireNonNull(listener, "listener");
 
-    listeners.add(listener);
+    synchronized (listeners) {
+      listeners.put(listener, null);
+      dispatchTable = new DispatchTable(listeners);
+    }
+  }
+
+  @Override
+  public void subscribe(EventHandler listener, EventFilter filter) {
+    requireNonNull(listener, "listener");
+    requireNonNull(filter, "filter");
+
+    synchronized (listeners) {
+      listeners.put(listener, filter);
+      dispatchTable = new DispatchTable(listeners);
+    }
   }
 
   @Override
   public void unsubscribe(EventHandler listener) {
     requireNonNull(listener, "listener");
 
-    listeners.remove(listener);
+    synchronized (listeners) {
+      if (listeners.containsKey(listener)) {
+        listeners.remove(listener);
+        dispatchTable = new DispatchTable(listeners);
+      }
+    }
+  }
+
+  private void deliver(EventHandler[] targets, Object event) {
+    for (EventHandler listener : targets) {
+      deliver(listener, event);
+    }
   }
 
+  private void deliver(EventHandler listener, Object event) {
+    try {
+      listener.onEvent(event);
+    }
+    catch (Exception exc) {
+      LOG.warn("Exception thrown by event handler", exc);
+    }
+  }
+
+  /**
+   * An immutable routing table for a given set of subscriptions.
+   * Lookups by event class and object class are resolved lazily and cached, as only a few
+   * distinct classes are usually published.
+   */
+  private static class DispatchTable {
+
+    /**
+     * An empty array of listeners.
+     */
+    private static final EventHandler[] NO_LISTENERS = new EventHandler[0];
+    /**
+     * Listeners without a filter.
+     */
+    private final EventHandler[] unfilteredListeners;
+    /**
+     * Listeners with filters restricting only the event class.
+     */
+    private final List<Map.Entry<EventHandler, EventFilter>> eventClassListeners
+        = new ArrayList<>();
+    /**
+     * Listeners with filters restricting object classes, but not object names.
+     */
+    private final List<Map.Entry<EventHandler, EventFilter>> objectClassListeners
+        = new ArrayList<>();
+    /**
+     * Listeners with filters restricting object names, mapped by object name.
+     */
+    private final Map<String, List<Map.Entry<EventHandler, EventFilter>>> objectNameListeners
+        = new HashMap<>();
+    /**
+     * The resolved listeners for event classes.
+     */
+    private final ConcurrentMap<Class<?>, EventHandler[]> eventClassCache
+        = new ConcurrentHashMap<>();
+    /**
+     * The resolved listeners for object classes.
+     */
+    private final ConcurrentMap<Class<?>, EventHandler[]> objectClassCache
+        = new ConcurrentHashMap<>();
+
+    DispatchTable(Map<EventHandler, EventFilter> listeners) {
+      List<EventHandler> unfiltered = new ArrayList<>();
+      for (Map.Entry<EventHandler, EventFilter> entry : listeners.entrySet()) {
+        Map.Entry<EventHandler, EventFilter> subscription
+            = new AbstractMap.SimpleImmutableEntry<>(entry);
+        EventFilter filter = entry.getValue();
+        if (filter == null) {
+          unfiltered.add(entry.getKey());
+        }
+        else if (filter.getObjectName() != null) {
+          objectNameListeners.computeIfAbsent(filter.getObjectName(), name -> new ArrayList<>())
+              .add(subscription);
+        }
+        else if (!filter.getObjectClasses().isEmpty()) {
+          objectClassListeners.add(subscription);
+        }
+        else {
+          eventClassListeners.add(subscription);
+        }
+      }
+      unfilteredListeners = unfiltered.toArray(NO_LISTENERS);
+    }
+
+    EventHandler[] listenersForEventClass(Class<?> eventClass) {
+      if (eventClassListeners.isEmpty()) {
+        return NO_LISTENERS;
+      }
+      return eventClassCache.computeIfAbsent(eventClass, this::resolveEventClass);
+    }
+
+    EventHandler[] listenersForObjectClass(Class<?> objectClass) {
+      if (objectClassListeners.isEmpty()) {
+        return NO_LISTENERS;
+      }
+      return objectClassCache.computeIfAbsent(objectClass, this::resolveObjectClass);
+    }
+
+    List<Map.Entry<EventHandler, EventFilter>> listenersForObjectName(String objectName) {
+      if (objectNameListeners.isEmpty()) {
+        return Collections.emptyList();
+      }
+      return objectNameListeners.getOrDefault(objectName, Collections.emptyList());
+    }
+
+    private EventHandler[] resolveEventClass(Class<?> eventClass) {
+      List<EventHandler> result = new ArrayList<>();
+      for (Map.Entry<EventHandler, EventFilter> entry : eventClassListeners) {
+        if (entry.getValue().getEventClass().isAssignableFrom(eventClass)) {
+          result.add(entry.getKey());
+        }
+      }
+      return result.toArray(NO_LISTENERS);
+    }
+
+    private EventHandler[] resolveObjectClass(Class<?> objectClass) {
+      List<EventHandler> result = new ArrayList<>();
+      for (Map.Entry<EventHandler, EventFilter> entry : objectClassListeners) {
+        if (entry.getValue().acceptsObjectClass(objectClass)) {
+          result.add(entry.getKey());
+        }
+      }
+      return result.toArray(NO_LISTENERS);
+    }
+  }
 }
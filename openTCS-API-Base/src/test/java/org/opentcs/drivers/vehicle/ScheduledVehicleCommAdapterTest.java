@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.drivers.vehicle;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.util.ExplainedBoolean;
+
+/**
+ * Unit tests for {@link ScheduledVehicleCommAdapter}.
+ *
+ * @author The openTCS Authors
+ */
+public class ScheduledVehicleCommAdapterTest {
+
+  /**
+   * The tasks submitted to the executor, not executed, yet.
+   */
+  private Queue<Runnable> submittedTasks;
+
+  private TestCommAdapter commAdapter;
+
+  @Before
+  public void setUp() {
+    submittedTasks = new LinkedList<>();
+    ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+    doAnswer(invocation -> submittedTasks.add(invocation.getArgument(0)))
+        .when(executor).execute(any(Runnable.class));
+
+    commAdapter = new TestCommAdapter(executor);
+    commAdapter.initialize();
+  }
+
+  @After
+  public void tearDown() {
+    commAdapter.terminate();
+  }
+
+  @Test
+  public void sendCommandsWhenTriggered() {
+    commAdapter.enable();
+    runSubmittedTasks();
+
+    MovementCommand command1 = mock(MovementCommand.class);
+    MovementCommand command2 = mock(MovementCommand.class);
+    commAdapter.enqueueCommand(command1);
+    commAdapter.enqueueCommand(command2);
+
+    // Both commands should be sent by a single task.
+    assertEquals(1, submittedTasks.size());
+    runSubmittedTasks();
+    assertEquals(2, commAdapter.sentCommands.size());
+    assertEquals(command1, commAdapter.sentCommands.get(0));
+    assertEquals(command2, commAdapter.sentCommands.get(1));
+  }
+
+  @Test
+  public void sendQueuedCommandsWhenEnabled() {
+    MovementCommand command = mock(MovementCommand.class);
+    commAdapter.enqueueCommand(command);
+    assertTrue(submittedTasks.isEmpty());
+
+    commAdapter.enable();
+    runSubmittedTasks();
+    assertEquals(1, commAdapter.sentCommands.size());
+  }
+
+  @Test
+  public void respectSentQueueCapacity() {
+    commAdapter.enable();
+    commAdapter.enqueueCommand(mock(MovementCommand.class));
+    commAdapter.enqueueCommand(mock(MovementCommand.class));
+    commAdapter.enqueueCommand(mock(MovementCommand.class));
+    runSubmittedTasks();
+    assertEquals(2, commAdapter.sentCommands.size());
+
+    // Executing a command should trigger sending the next one.
+    commAdapter.getProcessModel().commandExecuted(commAdapter.getSentQueue().poll());
+    runSubmittedTasks();
+    assertEquals(3, commAdapter.sentCommands.size());
+  }
+
+  @Test
+  public void stopSendingCommandsWhenDisabled() {
+    commAdapter.enable();
+    commAdapter.enqueueCommand(mock(MovementCommand.class));
+    commAdapter.disable();
+    runSubmittedTasks();
+    assertTrue(commAdapter.sentCommands.isEmpty());
+  }
+
+  private void runSubmittedTasks() {
+    while (!submittedTasks.isEmpty()) {
+      submittedTasks.poll().run();
+    }
+  }
+
+  private static class TestCommAdapter
+      extends ScheduledVehicleCommAdapter {
+
+    private final List<MovementCommand> sentCommands = new ArrayList<>();
+
+    TestCommAdapter(ScheduledExecutorService executor) {
+      super(new VehicleProcessModel(new Vehicle("vehicle")), 10, 2, "CHARGE", executor);
+    }
+
+    @Override
+    public void sendCommand(MovementCommand cmd) {
+      sentCommands.add(cmd);
+    }
+
+    @Override
+    public void processMessage(Object message) {
+    }
+
+    @Override
+    protected void connectVehicle() {
+    }
+
+    @Override
+    protected void disconnectVehicle() {
+    }
+
+    @Override
+    protected boolean isVehicleConnected() {
+      return true;
+    }
+
+    @Override
+    public ExplainedBoolean canProcess(List<String> operations) {
+      return new ExplainedBoolean(true, "");
+    }
+  }
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.event;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link QueuedEventHandler}.
+ *
+ * @author The openTCS Authors
+ */
+public class QueuedEventHandlerTest {
+
+  /**
+   * The events delivered to the delegate.
+   */
+  private List<Object> deliveredEvents;
+  /**
+   * Collects tasks instead of running them immediately.
+   */
+  private ManualExecutor executor;
+
+  @Before
+  public void setUp() {
+    deliveredEvents = new ArrayList<>();
+    executor = new ManualExecutor();
+  }
+
+  @Test
+  public void shouldDeliverEventsInOrderOnExecutor() {
+    QueuedEventHandler handler = createHandler(10, QueuedEventHandler.OverflowPolicy.BLOCK);
+
+    handler.onEvent("event-1");
+    handler.onEvent("event-2");
+    assertTrue(deliveredEvents.isEmpty());
+    assertEquals(2, handler.getQueueSize());
+
+    executor.runAll();
+
+    assertEquals(2, deliveredEvents.size());
+    assertEquals("event-1", deliveredEvents.get(0));
+    assertEquals("event-2", deliveredEvents.get(1));
+    assertEquals(0, handler.getQueueSize());
+    assertEquals(2, handler.getMaxQueueSize());
+    assertEquals(2, handler.getDeliveredEventCount());
+  }
+
+  @Test
+  public void shouldDropOldestEventsWhenFull() {
+    QueuedEventHandler handler = createHandler(2, QueuedEventHandler.OverflowPolicy.DROP_OLDEST);
+
+    handler.onEvent("event-1");
+    handler.onEvent("event-2");
+    handler.onEvent("event-3");
+    executor.runAll();
+
+    assertEquals(2, deliveredEvents.size());
+    assertEquals("event-2", deliveredEvents.get(0));
+    assertEquals("event-3", deliveredEvents.get(1));
+    assertEquals(1, handler.getDroppedEventCount());
+  }
+
+  @Test
+  public void shouldConflateEventsForSameObject() {
+    QueuedEventHandler handler = createHandler(10, QueuedEventHandler.OverflowPolicy.CONFLATE);
+    Vehicle vehicle1 = new Vehicle("Vehicle-00001");
+    Vehicle vehicle1Idle = vehicle1.withState(Vehicle.State.IDLE);
+    Vehicle vehicle1Executing = vehicle1.withState(Vehicle.State.EXECUTING);
+    Vehicle vehicle2 = new Vehicle("Vehicle-00002");
+
+    handler.onEvent(modifiedEvent(vehicle1Idle, vehicle1));
+    handler.onEvent(modifiedEvent(vehicle2, vehicle2));
+    handler.onEvent(modifiedEvent(vehicle1Executing, vehicle1Idle));
+    handler.onEvent("event-1");
+    executor.runAll();
+
+    assertEquals(3, deliveredEvents.size());
+    TCSObjectEvent mergedEvent = (TCSObjectEvent) deliveredEvents.get(0);
+    assertSame(vehicle1Executing, mergedEvent.getCurrentObjectState());
+    assertSame(vehicle1, mergedEvent.getPreviousObjectState());
+    assertSame(vehicle2, ((TCSObjectEvent) deliveredEvents.get(1)).getCurrentObjectState());
+    assertEquals("event-1", deliveredEvents.get(2));
+    assertEquals(1, handler.getConflatedEventCount());
+  }
+
+  @Test
+  public void shouldNotConflateAcrossCreationOrRemoval() {
+    QueuedEventHandler handler = createHandler(10, QueuedEventHandler.OverflowPolicy.CONFLATE);
+    Vehicle vehicle = new Vehicle("Vehicle-00001");
+    Vehicle vehicleIdle = vehicle.withState(Vehicle.State.IDLE);
+    Vehicle vehicleExecuting = vehicle.withState(Vehicle.State.EXECUTING);
+
+    handler.onEvent(new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    handler.onEvent(modifiedEvent(vehicleIdle, vehicle));
+    handler.onEvent(new TCSObjectEvent(null, vehicleIdle, TCSObjectEvent.Type.OBJECT_REMOVED));
+    handler.onEvent(new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    handler.onEvent(modifiedEvent(vehicleIdle, vehicle));
+    handler.onEvent(modifiedEvent(vehicleExecuting, vehicleIdle));
+    executor.runAll();
+
+    assertEquals(5, deliveredEvents.size());
+    assertEquals(TCSObjectEvent.Type.OBJECT_CREATED,
+                 ((TCSObjectEvent) deliveredEvents.get(0)).getType());
+    assertEquals(TCSObjectEvent.Type.OBJECT_MODIFIED,
+                 ((TCSObjectEvent) deliveredEvents.get(1)).getType());
+    assertEquals(TCSObjectEvent.Type.OBJECT_REMOVED,
+                 ((TCSObjectEvent) deliveredEvents.get(2)).getType());
+    assertEquals(TCSObjectEvent.Type.OBJECT_CREATED,
+                 ((TCSObjectEvent) deliveredEvents.get(3)).getType());
+    TCSObjectEvent mergedEvent = (TCSObjectEvent) deliveredEvents.get(4);
+    assertEquals(TCSObjectEvent.Type.OBJECT_MODIFIED, mergedEvent.getType());
+    assertSame(vehicleExecuting, mergedEvent.getCurrentObjectState());
+    assertSame(vehicle, mergedEvent.getPreviousObjectState());
+    assertEquals(1, handler.getConflatedEventCount());
+  }
+
+  @Test
+  public void shouldDeliverAllEventsAfterExecutorShutdown() {
+    QueuedEventHandler handler = createHandler(1000, QueuedEventHandler.OverflowPolicy.BLOCK);
+
+    for (int i = 0; i < 200; i++) {
+      handler.onEvent(i);
+    }
+    executor.shutdown();
+    executor.runAll();
+
+    assertEquals(200, deliveredEvents.size());
+  }
+
+  private QueuedEventHandler createHandler(int capacity,
+                                           QueuedEventHandler.OverflowPolicy overflowPolicy) {
+    return new QueuedEventHandler(deliveredEvents::add, capacity, overflowPolicy, executor);
+  }
+
+  private TCSObjectEvent modifiedEvent(Vehicle currentState, Vehicle previousState) {
+    return new TCSObjectEvent(currentState, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
+  /**
+   * An executor that runs submitted tasks only when explicitly told to.
+   */
+  private static class ManualExecutor
+      implements Executor {
+
+    private final Queue<Runnable> tasks = new LinkedList<>();
+
+    private boolean shutdown;
+
+    @Override
+    public void execute(Runnable command) {
+      if (shutdown) {
+        throw new RejectedExecutionException();
+      }
+      tasks.add(command);
+    }
+
+    public void shutdown() {
+      shutdown = true;
+    }
+
+    public void runAll() {
+      Runnable task;
+      while ((task = tasks.poll()) != null) {
+        task.run();
+      }
+    }
+  }
+}
@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Unit tests for {@link SimpleEventBus}.
+ *
+ * @author The openTCS Authors
+ */
+public class SimpleEventBusTest {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(SimpleEventBusTest.class);
+
+  private SimpleEventBus eventBus;
+
+  @Before
+  public void setUp() {
+    eventBus = new SimpleEventBus();
+  }
+
+  @Test
+  public void shouldDeliverAllEventsToUnfilteredListener() {
+    EventHandler listener = mock(EventHandler.class);
+    eventBus.subscribe(listener);
+
+    Object event = new Object();
+    eventBus.onEvent(event);
+    TCSObjectEvent objectEvent = modifiedEvent(new Vehicle("Vehicle-00001"));
+    eventBus.onEvent(objectEvent);
+
+    verify(listener).onEvent(event);
+    verify(listener).onEvent(objectEvent);
+  }
+
+  @Test
+  public void shouldDeliverOnlyAcceptedEventsToFilteredListeners() {
+    EventHandler eventClassListener = mock(EventHandler.class);
+    EventHandler objectClassListener = mock(EventHandler.class);
+    EventHandler objectListener = mock(EventHandler.class);
+    eventBus.subscribe(eventClassListener, EventFilter.forEventClass(TCSObjectEvent.class));
+    eventBus.subscribe(objectClassListener, EventFilter.forObjectClass(Point.class));
+    eventBus.subscribe(objectListener, EventFilter.forObject(Vehicle.class, "Vehicle-00001"));
+
+    Object otherEvent = new Object();
+    eventBus.onEvent(otherEvent);
+    TCSObjectEvent vehicle1Event = modifiedEvent(new Vehicle("Vehicle-00001"));
+    TCSObjectEvent vehicle2Event = modifiedEvent(new Vehicle("Vehicle-00002"));
+    TCSObjectEvent pointEvent = modifiedEvent(new Point("Vehicle-00001"));
+    eventBus.onEvent(vehicle1Event);
+    eventBus.onEvent(vehicle2Event);
+    eventBus.onEvent(pointEvent);
+
+    verify(eventClassListener).onEvent(vehicle1Event);
+    verify(eventClassListener).onEvent(vehicle2Event);
+    verify(eventClassListener).onEvent(pointEvent);
+    verify(eventClassListener, never()).onEvent(otherEvent);
+    verify(objectClassListener, never()).onEvent(otherEvent);
+    verify(objectListener, never()).onEvent(otherEvent);
+
+    verify(objectClassListener).onEvent(pointEvent);
+    verify(objectClassListener, never()).onEvent(vehicle1Event);
+    verify(objectClassListener, never()).onEvent(vehicle2Event);
+
+    verify(objectListener).onEvent(vehicle1Event);
+    verify(objectListener, never()).onEvent(vehicle2Event);
+    verify(objectListener, never()).onEvent(pointEvent);
+  }
+
+  @Test
+  public void shouldNotDeliverToUnsubscribedListener() {
+    EventHandler listener = mock(EventHandler.class);
+    eventBus.subscribe(listener, EventFilter.forObjectClass(Vehicle.class));
+    eventBus.unsubscribe(listener);
+
+    eventBus.onEvent(modifiedEvent(new Vehicle("Vehicle-00001")));
+
+    verify(listener, never()).onEvent(any());
+  }
+
+  @Test
+  public void shouldContinueDeliveryAfterExceptionInListener() {
+    EventHandler listener = mock(EventHandler.class);
+    eventBus.subscribe(event -> {
+      throw new IllegalStateException("Expected exception");
+    });
+    eventBus.subscribe(listener);
+
+    Object event = new Object();
+    eventBus.onEvent(event);
+
+    verify(listener).onEvent(event);
+  }
+
+  /**
+   * Compares the cost of delivering object events to 100 listeners, each interested in a single
+   * vehicle, when the listeners check the events themselves and when they subscribe with filters.
+   */
+  @Test
+  public void compareDeliveryWithAndWithoutFilters() {
+    int listenerCount = 100;
+    int eventCount = 100000;
+    List<TCSObjectEvent> events = new ArrayList<>();
+    for (int i = 0; i < listenerCount; i++) {
+      events.add(modifiedEvent(new Vehicle(vehicleName(i))));
+    }
+
+    SimpleEventBus unfilteredBus = new SimpleEventBus();
+    SimpleEventBus filteredBus = new SimpleEventBus();
+    List<VehicleListener> unfilteredListeners = new ArrayList<>();
+    List<VehicleListener> filteredListeners = new ArrayList<>();
+    for (int i = 0; i < listenerCount; i++) {
+      VehicleListener listener = new VehicleListener(vehicleName(i));
+      unfilteredBus.subscribe(listener);
+      unfilteredListeners.add(listener);
+      listener = new VehicleListener(vehicleName(i));
+      filteredBus.subscribe(listener, EventFilter.forObject(Vehicle.class, vehicleName(i)));
+      filteredListeners.add(listener);
+    }
+
+    long unfilteredDuration = publish(unfilteredBus, events, eventCount);
+    long filteredDuration = publish(filteredBus, events, eventCount);
+    LOG.info("Delivered {} events to {} listeners in {} ms unfiltered, {} ms filtered",
+             eventCount,
+             listenerCount,
+             unfilteredDuration,
+             filteredDuration);
+
+    for (int i = 0; i < listenerCount; i++) {
+      assertEquals(unfilteredListeners.get(i).receivedEvents,
+                   filteredListeners.get(i).receivedEvents);
+    }
+  }
+
+  private long publish(EventBus bus, List<TCSObjectEvent> events, int eventCount) {
+    long startTime = System.currentTimeMillis();
+    for (int i = 0; i < eventCount; i++) {
+      bus.onEvent(events.get(i % events.size()));
+    }
+    return System.currentTimeMillis() - startTime;
+  }
+
+  private String vehicleName(int index) {
+    return String.format("Vehicle-%05d", index);
+  }
+
+  private TCSObjectEvent modifiedEvent(TCSObject<?> object) {
+    return new TCSObjectEvent(object, object, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
+  /**
+   * A listener interested in events for a single vehicle, checking events like a vehicle
+   * controller does.
+   */
+  private static class VehicleListener
+      implements EventHandler {
+
+    private final String vehicleName;
+
+    private int receivedEvents;
+
+    VehicleListener(String vehicleName) {
+      this.vehicleName = vehicleName;
+    }
+
+    @Override
+    public void onEvent(Object event) {
+      if (!(event instanceof TCSObjectEvent)) {
+        return;
+      }
+      TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+      if (!(objectEvent.getCurrentOrPreviousObjectState() instanceof Vehicle)) {
+        return;
+      }
+      if (!Objects.equals(objectEvent.getCurrentOrPreviousObjectState().getName(), vehicleName)) {
+        return;
+      }
+      receivedEvents++;
+    }
+  }
+}
@@ -7,26 +7,29 @@
  */
 package org.opentcs.virtualvehicle;
 
-import com.google.common.util.concurrent.Uninterruptibles;
 import com.google.inject.assistedinject.Assisted;
+import java.beans.PropertyChangeEvent;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import org.opentcs.common.LoopbackAdapterConstants;
+import org.opentcs.components.kernel.KernelExecutorLanes;
 import org.opentcs.data.ObjectPropConstants;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.model.Vehicle.Orientation;
 import org.opentcs.data.order.Route.Step;
-import org.opentcs.drivers.vehicle.BasicVehicleCommAdapter;
 import org.opentcs.drivers.vehicle.LoadHandlingDevice;
 import org.opentcs.drivers.vehicle.MovementCommand;
+import org.opentcs.drivers.vehicle.ScheduledVehicleCommAdapter;
 import org.opentcs.drivers.vehicle.SimVehicleCommAdapter;
 import org.opentcs.drivers.vehicle.VehicleCommAdapter;
+import org.opentcs.drivers.vehicle.VehicleStateUpdate;
 import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
 import org.opentcs.drivers.vehicle.messages.SetSpeedMultiplier;
-import org.opentcs.util.CyclicTask;
 import org.opentcs.util.ExplainedBoolean;
 import org.opentcs.virtualvehicle.VelocityController.WayEntry;
 import org.slf4j.Logger;
@@ -35,11 +38,16 @@ import org.slf4j.LoggerFactory;
 /**
  * A {@link VehicleCommAdapter} that does not really communicate with a physical vehicle but roughly
  * simulates one.
+ * <p>
+ * The command queue is processed and the vehicle is simulated by tasks executed in the kernel
+ * executor's lane for the vehicle, so simulating a large number of vehicles does not require a
+ * large number of threads.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
 public class LoopbackCommunicationAdapter
-    extends BasicVehicleCommAdapter
+    extends ScheduledVehicleCommAdapter
     implements SimVehicleCommAdapter {
 
   /**
@@ -63,9 +71,9 @@ public class LoopbackCommunicationAdapter
    */
   private final LoopbackAdapterComponentsFactory componentsFactory;
   /**
-   * The task simulating the virtual vehicle's behaviour.
+   * The future for the task simulating the virtual vehicle's behaviour.
    */
-  private CyclicTask vehicleSimulationTask;
+  private ScheduledFuture<?> vehicleSimulationFuture;
   /**
    * The boolean flag to check if execution of the next command is allowed.
    */
@@ -84,16 +92,19 @@ public class LoopbackCommunicationAdapter
    *
    * @param componentsFactory The factory providing additional components for this adapter.
    * @param configuration This class's configuration.
+   * @param executorLanes Provides the lane executing this adapter's tasks.
    * @param vehicle The vehicle this adapter is associated with.
    */
   @Inject
   public LoopbackCommunicationAdapter(LoopbackAdapterComponentsFactory componentsFactory,
                                       VirtualVehicleConfiguration configuration,
+                                      KernelExecutorLanes executorLanes,
                                       @Assisted Vehicle vehicle) {
     super(new LoopbackVehicleModel(vehicle),
           configuration.commandQueueCapacity(),
           1,
-          configuration.rechargeOperation());
+          configuration.rechargeOperation(),
+          executorLanes.lane(vehicle.getName()));
     this.vehicle = requireNonNull(vehicle, "vehicle");
     this.configuration = requireNonNull(configuration, "configuration");
     this.componentsFactory = requireNonNull(componentsFactory, "componentsFactory");
@@ -117,7 +128,7 @@ public class LoopbackCommunicationAdapter
     if (initialPos != null) {
       initVehiclePosition(initialPos);
     }
-    getProcessModel().setVehicleState(Vehicle.State.IDLE);
+    getProcessModel().applyStateUpdate(new VehicleStateUpdate().withState(Vehicle.State.IDLE));
     initialized = true;
   }
 
@@ -141,10 +152,11 @@ public class LoopbackCommunicationAdapter
       return;
     }
     getProcessModel().getVelocityController().addVelocityListener(getProcessModel());
-    // Create task for vehicle simulation.
-    vehicleSimulationTask = new VehicleSimulationTask();
-    Thread simThread = new Thread(vehicleSimulationTask, getName() + "-simulationTask");
-    simThread.start();
+    // Schedule task for vehicle simulation.
+    vehicleSimulationFuture = getExecutor().scheduleAtFixedRate(new VehicleSimulationTask(),
+                                                                ADVANCE_TIME,
+                                                                ADVANCE_TIME,
+                                                                TimeUnit.MILLISECONDS);
     super.enable();
   }
 
@@ -154,8 +166,8 @@ public class LoopbackCommunicationAdapter
       return;
     }
     // Disable vehicle simulation.
-    vehicleSimulationTask.terminate();
-    vehicleSimulationTask = null;
+    vehicleSimulationFuture.cancel(false);
+    vehicleSimulationFuture = null;
     getProcessModel().getVelocityController().removeVelocityListener(getProcessModel());
     super.disable();
   }
@@ -211,6 +223,16 @@ public class LoopbackCommunicationAdapter
         && (!getProcessModel().isSingleStepModeEnabled() || singleStepExecutionAllowed);
   }
 
+  @Override
+  public void propertyChange(PropertyChangeEvent evt) {
+    super.propertyChange(evt);
+    // Leaving single step mode may allow commands to be sent.
+    if (Objects.equals(evt.getPropertyName(),
+                       LoopbackVehicleModel.Attribute.SINGLE_STEP_MODE.name())) {
+      triggerCommandDispatcherTask();
+    }
+  }
+
   @Override
   protected synchronized void connectVehicle() {
   }
@@ -243,84 +265,103 @@ public class LoopbackCommunicationAdapter
    */
   public synchronized void trigger() {
     singleStepExecutionAllowed = true;
+    triggerCommandDispatcherTask();
   }
 
   /**
-   * A task simulating a vehicle's behaviour.
+   * A task simulating a vehicle's behaviour, advancing the simulation by one step per execution.
+   * <p>
+   * Instead of sleeping between the steps of a simulated movement or operation, the task is
+   * executed periodically by the shared executor and keeps track of the command being processed
+   * across executions.
+   * </p>
    */
   private class VehicleSimulationTask
-      extends CyclicTask {
+      implements Runnable {
 
     /**
      * The time that has passed for the velocity controller whenever
      * <em>advanceTime</em> has passed for real.
      */
     private int simAdvanceTime;
+    /**
+     * The command currently being processed, or <code>null</code>.
+     */
+    private MovementCommand curCommand;
+    /**
+     * The current phase of processing the command.
+     */
+    private Phase phase = Phase.IDLE;
+    /**
+     * The time that has passed while processing the current command's operation.
+     */
+    private int operatingTimePassed;
 
     /**
      * Creates a new VehicleSimluationTask.
      */
     private VehicleSimulationTask() {
-      super(0);
     }
 
     @Override
-    protected void runActualTask() {
-      final MovementCommand curCommand;
-      synchronized (LoopbackCommunicationAdapter.this) {
-        curCommand = getSentQueue().peek();
-      }
+    public void run() {
       simAdvanceTime = (int) (ADVANCE_TIME * configuration.simulationTimeFactor());
-      if (curCommand == null) {
-        Uninterruptibles.sleepUninterruptibly(ADVANCE_TIME, TimeUnit.MILLISECONDS);
-        getProcessModel().getVelocityController().advanceTime(simAdvanceTime);
+      if (phase == Phase.IDLE) {
+        startNextCommand();
       }
-      else {
-        // If we were told to move somewhere, simulate the journey.
-        LOG.debug("Processing MovementCommand...");
-        final Step curStep = curCommand.getStep();
-        // Simulate the movement.
-        simulateMovement(curStep);
-        // Simulate processing of an operation.
-        if (!curCommand.isWithoutOperation()) {
-          simulateOperation(curCommand.getOperation());
-        }
-        LOG.debug("Processed MovementCommand.");
-        if (!isTerminated()) {
-          // Set the vehicle's state back to IDLE, but only if there aren't 
-          // any more movements to be processed.
-          if (getSentQueue().size() <= 1 && getCommandQueue().isEmpty()) {
-            getProcessModel().setVehicleState(Vehicle.State.IDLE);
+
+      VelocityController velocityController = getProcessModel().getVelocityController();
+      WayEntry wayEntry = velocityController.getCurrentWayEntry();
+      velocityController.advanceTime(simAdvanceTime);
+
+      switch (phase) {
+        case MOVING:
+          WayEntry nextWayEntry = velocityController.getCurrentWayEntry();
+          if (wayEntry != nextWayEntry) {
+            // Let the vehicle manager know that the vehicle has reached
+            // the way entry's destination point.
+            getProcessModel().setVehiclePosition(wayEntry.getDestPointName());
+          }
+          if (!velocityController.hasWayEntries()) {
+            startOperation();
           }
-          // Update GUI.
-          synchronized (LoopbackCommunicationAdapter.this) {
-            MovementCommand sentCmd = getSentQueue().poll();
-            // If the command queue was cleared in the meantime, the kernel
-            // might be surprised to hear we executed a command we shouldn't
-            // have, so we only peek() at the beginning of this method and
-            // poll() here. If sentCmd is null, the queue was probably cleared
-            // and we shouldn't report anything back.
-            if (sentCmd != null && sentCmd.equals(curCommand)) {
-              // Let the vehicle manager know we've finished this command.
-              getProcessModel().commandExecuted(curCommand);
-              LoopbackCommunicationAdapter.this.notify();
-            }
+          break;
+        case OPERATING:
+          operatingTimePassed += simAdvanceTime;
+          if (operatingTimePassed >= getProcessModel().getOperatingTime()) {
+            finishOperation();
           }
+          break;
+        default:
+      }
+    }
+
+    /**
+     * Starts processing the next command sent to the vehicle, if any.
+     * Commands that do not require any time to be processed are finished immediately.
+     */
+    private void startNextCommand() {
+      while (phase == Phase.IDLE) {
+        synchronized (LoopbackCommunicationAdapter.this) {
+          curCommand = getSentQueue().peek();
         }
+        if (curCommand == null) {
+          return;
+        }
+        LOG.debug("Processing MovementCommand...");
+        startMovement(curCommand.getStep());
       }
     }
 
     /**
-     * Simulates the vehicle's movement. If the method parameter is null,
-     * then the vehicle's state is failure and some false movement
-     * must be simulated. In the other case normal step
-     * movement will be simulated.
+     * Starts simulating the vehicle's movement for the given step.
+     * If the step does not contain a path, the operation is started immediately.
      *
      * @param step A step
-     * @throws InterruptedException If an exception occured while sumulating
      */
-    private void simulateMovement(Step step) {
+    private void startMovement(Step step) {
       if (step.getPath() == null) {
+        startOperation();
         return;
       }
 
@@ -337,56 +378,102 @@ public class LoopbackCommunicationAdapter
       }
       String pointName = step.getDestinationPoint().getName();
 
-      getProcessModel().setVehicleState(Vehicle.State.EXECUTING);
+      getProcessModel().applyStateUpdate(
+          new VehicleStateUpdate().withState(Vehicle.State.EXECUTING));
       getProcessModel().getVelocityController().addWayEntry(new WayEntry(pathLength,
                                                                          maxVelocity,
                                                                          pointName,
                                                                          orientation));
-      // Advance the velocity controller by small steps until the
-      // controller has processed all way entries.
-      while (getProcessModel().getVelocityController().hasWayEntries() && !isTerminated()) {
-        WayEntry wayEntry = getProcessModel().getVelocityController().getCurrentWayEntry();
-        Uninterruptibles.sleepUninterruptibly(ADVANCE_TIME, TimeUnit.MILLISECONDS);
-        getProcessModel().getVelocityController().advanceTime(simAdvanceTime);
-        WayEntry nextWayEntry = getProcessModel().getVelocityController().getCurrentWayEntry();
-        if (wayEntry != nextWayEntry) {
-          // Let the vehicle manager know that the vehicle has reached
-          // the way entry's destination point.
-          getProcessModel().setVehiclePosition(wayEntry.getDestPointName());
-        }
-      }
+      phase = Phase.MOVING;
     }
 
     /**
-     * Simulates an operation.
-     *
-     * @param operation A operation
-     * @throws InterruptedException If an exception occured while simulating
+     * Starts simulating the current command's operation, if it has one.
      */
-    private void simulateOperation(String operation) {
-      requireNonNull(operation, "operation");
-
-      if (isTerminated()) {
+    private void startOperation() {
+      if (curCommand.isWithoutOperation()) {
+        finishCommand(new VehicleStateUpdate());
         return;
       }
 
       LOG.debug("Operating...");
-      final int operatingTime = getProcessModel().getOperatingTime();
-      getProcessModel().setVehicleState(Vehicle.State.EXECUTING);
-      for (int timePassed = 0; timePassed < operatingTime && !isTerminated();
-           timePassed += simAdvanceTime) {
-        Uninterruptibles.sleepUninterruptibly(ADVANCE_TIME, TimeUnit.MILLISECONDS);
-        getProcessModel().getVelocityController().advanceTime(simAdvanceTime);
+      getProcessModel().applyStateUpdate(
+          new VehicleStateUpdate().withState(Vehicle.State.EXECUTING));
+      operatingTimePassed = 0;
+      phase = Phase.OPERATING;
+      if (getProcessModel().getOperatingTime() <= 0) {
+        finishOperation();
       }
+    }
+
+    /**
+     * Finishes simulating the current command's operation.
+     */
+    private void finishOperation() {
+      String operation = curCommand.getOperation();
+      VehicleStateUpdate update = new VehicleStateUpdate();
       if (operation.equals(getProcessModel().getLoadOperation())) {
         // Update load handling devices as defined by this operation
-        getProcessModel().setVehicleLoadHandlingDevices(
+        update = update.withLoadHandlingDevices(
             Arrays.asList(new LoadHandlingDevice(LHD_NAME, true)));
       }
       else if (operation.equals(getProcessModel().getUnloadOperation())) {
-        getProcessModel().setVehicleLoadHandlingDevices(
+        update = update.withLoadHandlingDevices(
             Arrays.asList(new LoadHandlingDevice(LHD_NAME, false)));
       }
+      finishCommand(update);
     }
+
+    /**
+     * Reports the current command as executed.
+     *
+     * @param update Changes of the vehicle's state resulting from the command, to be reported along
+     * with the vehicle's new state.
+     */
+    private void finishCommand(VehicleStateUpdate update) {
+      LOG.debug("Processed MovementCommand.");
+      // Set the vehicle's state back to IDLE, but only if there aren't
+      // any more movements to be processed.
+      if (getSentQueue().size() <= 1 && getCommandQueue().isEmpty()) {
+        update = update.withState(Vehicle.State.IDLE);
+      }
+      if (!update.isEmpty()) {
+        getProcessModel().applyStateUpdate(update);
+      }
+      // Update GUI.
+      synchronized (LoopbackCommunicationAdapter.this) {
+        MovementCommand sentCmd = getSentQueue().poll();
+        // If the command queue was cleared in the meantime, the kernel
+        // might be surprised to hear we executed a command we shouldn't
+        // have, so we only peek() at the beginning of this method and
+        // poll() here. If sentCmd is null, the queue was probably cleared
+        // and we shouldn't report anything back.
+        if (sentCmd != null && sentCmd.equals(curCommand)) {
+          // Let the vehicle manager know we've finished this command.
+          // (This also triggers sending the next command to the vehicle.)
+          getProcessModel().commandExecuted(curCommand);
+        }
+      }
+      curCommand = null;
+      phase = Phase.IDLE;
+    }
+  }
+
+  /**
+   * The phases of processing a command in the simulation.
+   */
+  private enum Phase {
+    /**
+     * No command is being processed.
+     */
+    IDLE,
+    /**
+     * The vehicle's movement is being simulated.
+     */
+    MOVING,
+    /**
+     * The command's operation is being simulated.
+     */
+    OPERATING
   }
 }
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time needed to generate the names for a number of new transport orders, the way
+ * the kernel's object pool does it - requesting a unique name and adding it right away.
+ * <p>
+ * With {@link UniqueStringGenerator.SuffixMode#HIGHEST_PLUS_ONE}, the time per name grows with the
+ * number of names already known, so the total time grows quadratically. Expect that variant to
+ * take minutes for 100,000 names.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UniqueStringGeneratorBenchmark {
+
+  /**
+   * The way suffixes are chosen.
+   */
+  @Param({"HIGHEST_PLUS_ONE", "MONOTONIC", "REUSE_REMOVED"})
+  public UniqueStringGenerator.SuffixMode suffixMode;
+  /**
+   * The number of names to be generated.
+   */
+  @Param({"10000", "100000"})
+  public int nameCount;
+  /**
+   * The generator.
+   */
+  private UniqueStringGenerator<?> generator;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    generator = new UniqueStringGenerator<>(suffixMode);
+  }
+
+  @Benchmark
+  public String generateOrderNames() {
+    String name = null;
+    for (int i = 0; i < nameCount; i++) {
+      name = generator.getUniqueString("TOrder-", "0000");
+      generator.addString(name);
+    }
+    return name;
+  }
+}
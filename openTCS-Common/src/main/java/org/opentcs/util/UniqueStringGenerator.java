@@ -10,6 +10,7 @@ package org.opentcs.util;
 import java.text.DecimalFormat;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NavigableSet;
 import static java.util.Objects.requireNonNull;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -17,6 +18,16 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 /**
  * Provides a way to acquire unique strings.
+ * <p>
+ * Generated strings consist of a prefix followed by a numeric suffix. How the suffix is chosen
+ * depends on the generator's {@link SuffixMode}.
+ * </p>
+ * <p>
+ * Instances of this class are thread-safe. Note, however, that a string returned by
+ * {@link #getUniqueString(java.lang.String, java.lang.String)} is only reserved once it is added
+ * via {@link #addString(java.lang.String)}, so callers generating strings concurrently need to
+ * synchronize these two steps themselves.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  * @param <S> The type of the selectors/keys to be used for mapping to name
@@ -32,12 +43,30 @@ public class UniqueStringGenerator<S> {
    * All strings known to this generator, sorted lexicographically.
    */
   private final SortedSet<String> existingStrings = new TreeSet<>();
+  /**
+   * The way suffixes are chosen.
+   */
+  private final SuffixMode suffixMode;
+  /**
+   * The suffix counters for all prefixes strings have been generated for, mapped by prefix.
+   * Not used with {@link SuffixMode#HIGHEST_PLUS_ONE}.
+   */
+  private final Map<String, SuffixCounter> suffixCounters = new HashMap<>();
 
   /**
-   * Creates a new instance without any name patterns.
+   * Creates a new instance without any name patterns, using {@link SuffixMode#HIGHEST_PLUS_ONE}.
    */
   public UniqueStringGenerator() {
-    // Do nada.
+    this(SuffixMode.HIGHEST_PLUS_ONE);
+  }
+
+  /**
+   * Creates a new instance without any name patterns.
+   *
+   * @param suffixMode The way suffixes are chosen.
+   */
+  public UniqueStringGenerator(SuffixMode suffixMode) {
+    this.suffixMode = requireNonNull(suffixMode, "suffixMode");
   }
 
   /**
@@ -47,9 +76,9 @@ public class UniqueStringGenerator<S> {
    * @param prefix The prefix of names to be used for the given selector.
    * @param suffixPattern The suffix pattern to be used for the given selector.
    */
-  public void registerNamePattern(S selector,
-                                  String prefix,
-                                  String suffixPattern) {
+  public synchronized void registerNamePattern(S selector,
+                                               String prefix,
+                                               String suffixPattern) {
     namePatterns.put(selector, new NamePattern(prefix, suffixPattern));
   }
 
@@ -59,9 +88,15 @@ public class UniqueStringGenerator<S> {
    *
    * @param newString The string to be added.
    */
-  public void addString(final String newString) {
+  public synchronized void addString(final String newString) {
     requireNonNull(newString, "newString is null");
     existingStrings.add(newString);
+    for (Map.Entry<String, SuffixCounter> entry : suffixCounters.entrySet()) {
+      long suffixValue = parseSuffix(newString, entry.getKey());
+      if (suffixValue >= 0) {
+        entry.getValue().suffixAdded(suffixValue);
+      }
+    }
   }
 
   /**
@@ -70,16 +105,26 @@ public class UniqueStringGenerator<S> {
    *
    * @param rmString The string to be forgotten.
    */
-  public void removeString(final String rmString) {
+  public synchronized void removeString(final String rmString) {
     requireNonNull(rmString, "rmString is null");
     existingStrings.remove(rmString);
+    if (suffixMode != SuffixMode.REUSE_REMOVED) {
+      return;
+    }
+    for (Map.Entry<String, SuffixCounter> entry : suffixCounters.entrySet()) {
+      long suffixValue = parseSuffix(rmString, entry.getKey());
+      if (suffixValue >= 0) {
+        entry.getValue().suffixRemoved(suffixValue);
+      }
+    }
   }
 
   /**
    * Removes all known Strings.
    */
-  public void clear() {
+  public synchronized void clear() {
     existingStrings.clear();
+    suffixCounters.clear();
   }
 
   /**
@@ -90,7 +135,7 @@ public class UniqueStringGenerator<S> {
    * @return A string that is unique among all strings registered with this
    * generator.
    */
-  public String getUniqueString(S selector) {
+  public synchronized String getUniqueString(S selector) {
     requireNonNull(selector, "selector");
 
     NamePattern namePattern = namePatterns.get(selector);
@@ -111,15 +156,44 @@ public class UniqueStringGenerator<S> {
    * <code>java.text.DecimalFormat</code>.
    * @return A String that is unique among all known Strings.
    */
-  public String getUniqueString(final String prefix,
-                                final String suffixPattern) {
+  public synchronized String getUniqueString(final String prefix,
+                                             final String suffixPattern) {
     requireNonNull(suffixPattern, "suffixPattern is null");
 
     final String actualPrefix = prefix == null ? "" : prefix;
     final DecimalFormat format = new DecimalFormat(suffixPattern);
-    final String lBound = actualPrefix + "0";
-    final String uBound = actualPrefix + ":";
-    final int prefixLength = actualPrefix.length();
+
+    if (suffixMode == SuffixMode.HIGHEST_PLUS_ONE) {
+      // Increment the highest value found and use that as the suffix
+      return actualPrefix + format.format(highestSuffix(actualPrefix) + 1);
+    }
+
+    SuffixCounter counter = suffixCounters.computeIfAbsent(
+        actualPrefix,
+        key -> new SuffixCounter(highestSuffix(key)));
+    Long freeSuffix;
+    while ((freeSuffix = counter.lowestFreeSuffix()) != null) {
+      String candidate = actualPrefix + format.format(freeSuffix);
+      // The same value may still be in use with a differently formatted suffix.
+      if (!existingStrings.contains(candidate)) {
+        return candidate;
+      }
+      counter.suffixAdded(freeSuffix);
+    }
+    return actualPrefix + format.format(counter.highestSuffix + 1);
+  }
+
+  /**
+   * Returns the highest numeric suffix of all known strings with the given prefix.
+   *
+   * @param prefix The prefix.
+   * @return The highest numeric suffix, or 0, if there is no string with the given prefix followed
+   * by only digits.
+   */
+  private long highestSuffix(String prefix) {
+    final String lBound = prefix + "0";
+    final String uBound = prefix + ":";
+    final int prefixLength = prefix.length();
     long maxSuffixValue = 0;
     // Get all existing strings with the same prefix and at least one digit
     // following it.
@@ -137,8 +211,26 @@ public class UniqueStringGenerator<S> {
             = maxSuffixValue > curSuffixValue ? maxSuffixValue : curSuffixValue;
       }
     }
-    // Increment the highest value found and use that as the suffix
-    return actualPrefix + format.format(maxSuffixValue + 1);
+    return maxSuffixValue;
+  }
+
+  /**
+   * Returns the numeric suffix of the given string following the given prefix.
+   *
+   * @param input The string.
+   * @param prefix The prefix.
+   * @return The numeric suffix, or -1, if the string does not start with the prefix or is not
+   * followed by only (and at least one) digits.
+   */
+  private long parseSuffix(String input, String prefix) {
+    if (input.length() <= prefix.length()
+        || !input.startsWith(prefix)
+        || !containsOnlyDigits(input.substring(prefix.length()))) {
+      return -1;
+    }
+    return NumberParsers.parsePureDecimalLong(input,
+                                              prefix.length(),
+                                              input.length() - prefix.length());
   }
 
   /**
@@ -184,4 +276,75 @@ public class UniqueStringGenerator<S> {
       this.suffixPattern = requireNonNull(suffixPattern, "suffixPattern");
     }
   }
+
+  /**
+   * Defines the ways in which suffixes for new strings may be chosen.
+   */
+  public enum SuffixMode {
+
+    /**
+     * The suffix is the highest suffix of all known strings with the same prefix, incremented by
+     * one.
+     * Finding this suffix requires looking at all known strings with the same prefix each time a
+     * string is requested, so the time needed grows with the number of known strings.
+     */
+    HIGHEST_PLUS_ONE,
+    /**
+     * The suffix is taken from a counter that is kept for every prefix and that is incremented
+     * whenever a string with the same prefix and a higher suffix is added.
+     * Suffixes of removed strings are not reused until {@link UniqueStringGenerator#clear()} is
+     * called.
+     * Strings are generated in constant time.
+     */
+    MONOTONIC,
+    /**
+     * Like {@link #MONOTONIC}, but suffixes of strings that are removed are reused, lowest first.
+     * Only strings removed after the first string with the same prefix was requested are taken
+     * into account.
+     */
+    REUSE_REMOVED;
+  }
+
+  /**
+   * Keeps track of the suffixes used with a prefix.
+   */
+  private static class SuffixCounter {
+
+    /**
+     * The highest suffix used so far.
+     */
+    private long highestSuffix;
+    /**
+     * Suffixes below the highest one that have been removed and are not in use any more.
+     */
+    private final NavigableSet<Long> freeSuffixes = new TreeSet<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param highestSuffix The highest suffix used so far.
+     */
+    private SuffixCounter(long highestSuffix) {
+      this.highestSuffix = highestSuffix;
+    }
+
+    private void suffixAdded(long suffix) {
+      if (suffix > highestSuffix) {
+        highestSuffix = suffix;
+      }
+      else if (!freeSuffixes.isEmpty()) {
+        freeSuffixes.remove(suffix);
+      }
+    }
+
+    private void suffixRemoved(long suffix) {
+      if (suffix > 0 && suffix <= highestSuffix) {
+        freeSuffixes.add(suffix);
+      }
+    }
+
+    private Long lowestFreeSuffix() {
+      return freeSuffixes.isEmpty() ? null : freeSuffixes.first();
+    }
+  }
 }
@@ -7,8 +7,14 @@
  */
 package org.opentcs.util;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * A test case for class UniqueStringGenerator.
@@ -72,4 +78,90 @@ public class UniqueStringGeneratorTest {
     assertEquals("1", generatedString);
   }
 
+  @Test
+  public void shouldReuseRemovedHighestSuffixInLegacyMode() {
+    generator.addString(PREFIX + "01");
+    generator.addString(PREFIX + "02");
+    generator.removeString(PREFIX + "02");
+
+    assertEquals(PREFIX + "02", generator.getUniqueString(PREFIX, PATTERN_TWO_DIGITS));
+  }
+
+  @Test
+  public void shouldNotReuseRemovedSuffixesInMonotonicMode() {
+    generator = new UniqueStringGenerator<>(UniqueStringGenerator.SuffixMode.MONOTONIC);
+    generator.addString(PREFIX + "01");
+    assertEquals(PREFIX + "02", generator.getUniqueString(PREFIX, PATTERN_TWO_DIGITS));
+
+    generator.addString(PREFIX + "02");
+    generator.addString(PREFIX + "07");
+    generator.removeString(PREFIX + "07");
+    generator.removeString(PREFIX + "01");
+
+    assertEquals(PREFIX + "08", generator.getUniqueString(PREFIX, PATTERN_TWO_DIGITS));
+  }
+
+  @Test
+  public void shouldReuseLowestRemovedSuffixWhenReusingRemoved() {
+    generator = new UniqueStringGenerator<>(UniqueStringGenerator.SuffixMode.REUSE_REMOVED);
+    for (int i = 1; i <= 5; i++) {
+      generator.addString(generator.getUniqueString(PREFIX, PATTERN_TWO_DIGITS));
+    }
+    generator.removeString(PREFIX + "04");
+    generator.removeString(PREFIX + "02");
+
+    assertEquals(PREFIX + "02", generator.getUniqueString(PREFIX, PATTERN_TWO_DIGITS));
+    generator.addString(PREFIX + "02");
+    assertEquals(PREFIX + "04", generator.getUniqueString(PREFIX, PATTERN_TWO_DIGITS));
+    generator.addString(PREFIX + "04");
+    assertEquals(PREFIX + "06", generator.getUniqueString(PREFIX, PATTERN_TWO_DIGITS));
+  }
+
+  @Test
+  public void shouldGenerateManyUniqueStringsInMonotonicMode() {
+    generator = new UniqueStringGenerator<>(UniqueStringGenerator.SuffixMode.MONOTONIC);
+    Set<String> generatedStrings = new HashSet<>();
+    for (int i = 0; i < 100000; i++) {
+      String generatedString = generator.getUniqueString("TOrder-", "0000");
+      assertTrue(generatedStrings.add(generatedString));
+      generator.addString(generatedString);
+    }
+    assertEquals("TOrder-100001", generator.getUniqueString("TOrder-", "0000"));
+  }
+
+  @Test
+  public void shouldGenerateUniqueStringsWhileOtherThreadsRemoveStrings()
+      throws InterruptedException {
+    generator = new UniqueStringGenerator<>(UniqueStringGenerator.SuffixMode.MONOTONIC);
+    for (int i = 1; i <= 1000; i++) {
+      generator.addString("Point-" + i);
+    }
+    Set<String> generatedStrings = ConcurrentHashMap.newKeySet();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      threads.add(new Thread(() -> {
+        for (int j = 0; j < 5000; j++) {
+          synchronized (generator) {
+            String generatedString = generator.getUniqueString("TOrder-", "0000");
+            assertTrue(generatedStrings.add(generatedString));
+            generator.addString(generatedString);
+          }
+        }
+      }));
+    }
+    threads.add(new Thread(() -> {
+      for (int i = 1; i <= 1000; i++) {
+        generator.removeString("Point-" + i);
+      }
+    }));
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(20000, generatedStrings.size());
+    assertEquals("TOrder-20001", generator.getUniqueString("TOrder-", "0000"));
+  }
 }
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import static java.util.Objects.requireNonNull;
 import javax.inject.Inject;
 import org.opentcs.data.ObjectExistsException;
@@ -115,6 +117,12 @@ public class V1RequestHandler
                 this::handleGetTransportOrderByName);
     service.get("/transportOrders",
                 this::handleGetTransportOrders);
+    service.get("/archive/transportOrders/:NAME",
+                this::handleGetArchivedTransportOrderByName);
+    service.get("/archive/transportOrders",
+                this::handleGetArchivedTransportOrders);
+    service.get("/notifications",
+                this::handleGetNotifications);
   }
 
   private Object handleGetEvents(Request request, Response response)
@@ -167,6 +175,31 @@ public class V1RequestHandler
     return toJson(statusInformationProvider.getTransportOrderByName(request.params(":NAME")));
   }
 
+  private Object handleGetArchivedTransportOrders(Request request, Response response)
+      throws IllegalArgumentException {
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    return toJson(
+        statusInformationProvider.getArchivedTransportOrdersState(
+            instant(request, "from", Instant.EPOCH),
+            instant(request, "to", Instant.now())
+        )
+    );
+  }
+
+  private Object handleGetArchivedTransportOrderByName(Request request, Response response)
+      throws ObjectUnknownException {
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    return toJson(
+        statusInformationProvider.getArchivedTransportOrderByName(request.params(":NAME"))
+    );
+  }
+
+  private Object handleGetNotifications(Request request, Response response)
+      throws IllegalArgumentException {
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    return toJson(statusInformationProvider.getUserNotificationsSince(sinceSequenceNo(request)));
+  }
+
   private Object handleGetVehicles(Request request, Response response)
       throws IllegalArgumentException {
     response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
@@ -245,6 +278,17 @@ public class V1RequestHandler
     }
   }
 
+  private long sinceSequenceNo(Request request)
+      throws IllegalArgumentException {
+    String param = request.queryParamOrDefault("sinceSequenceNo", "0");
+    try {
+      return Long.parseLong(param);
+    }
+    catch (NumberFormatException exc) {
+      throw new IllegalArgumentException("Malformed sinceSequenceNo: " + param);
+    }
+  }
+
   private long timeout(Request request)
       throws IllegalArgumentException {
     String param = request.queryParamOrDefault("timeout", "1000");
@@ -257,6 +301,20 @@ public class V1RequestHandler
     }
   }
 
+  private Instant instant(Request request, String key, Instant defaultValue)
+      throws IllegalArgumentException {
+    String param = request.queryParams(key);
+    if (param == null) {
+      return defaultValue;
+    }
+    try {
+      return Instant.parse(param);
+    }
+    catch (DateTimeParseException exc) {
+      throw new IllegalArgumentException("Malformed " + key + ": " + param);
+    }
+  }
+
   private boolean immediate(Request request) {
     return Boolean.parseBoolean(request.queryParamOrDefault("immediate", "false"));
   }
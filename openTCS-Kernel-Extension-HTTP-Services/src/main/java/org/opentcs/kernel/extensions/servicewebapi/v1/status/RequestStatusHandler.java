@@ -7,12 +7,16 @@
  */
 package org.opentcs.kernel.extensions.servicewebapi.v1.status;
 
+import java.time.Instant;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import org.opentcs.components.kernel.services.NotificationService;
+import org.opentcs.components.kernel.services.OrderArchiveService;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.components.kernel.services.VehicleService;
 import org.opentcs.customizations.kernel.KernelExecutor;
@@ -20,8 +24,8 @@ import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.TransportOrderState;
+import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.UserNotificationList;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.VehicleState;
-import org.opentcs.kernel.extensions.servicewebapi.v1.status.filter.TransportOrderFilter;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.filter.VehicleFilter;
 
 /**
@@ -39,6 +43,14 @@ public class RequestStatusHandler {
    * Used to update vehicle instances.
    */
   private final VehicleService vehicleService;
+  /**
+   * The service we use to fetch archived transport orders.
+   */
+  private final OrderArchiveService archiveService;
+  /**
+   * The service we use to fetch user notifications.
+   */
+  private final NotificationService notificationService;
   /**
    * The kernel's executor service.
    */
@@ -49,14 +61,20 @@ public class RequestStatusHandler {
    *
    * @param orderService The service we use to get the transport orders.
    * @param vehicleService Used to update vehicle instances.
+   * @param archiveService The service we use to get archived transport orders.
+   * @param notificationService The service we use to get user notifications.
    * @param kernelExecutor The kernel's executor service.
    */
   @Inject
   public RequestStatusHandler(TransportOrderService orderService,
                               VehicleService vehicleService,
+                              OrderArchiveService archiveService,
+                              NotificationService notificationService,
                               @KernelExecutor ExecutorService kernelExecutor) {
     this.orderService = requireNonNull(orderService, "orderService");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
+    this.archiveService = requireNonNull(archiveService, "archiveService");
+    this.notificationService = requireNonNull(notificationService, "notificationService");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
   }
 
@@ -69,16 +87,19 @@ public class RequestStatusHandler {
    * @return A list of transport orders that match the filter.
    */
   public List<TransportOrderState> getTransportOrdersState(@Nullable String intendedVehicle) {
+    Set<TransportOrder> orders;
     if (intendedVehicle != null) {
       Vehicle vehicle = orderService.fetchObject(Vehicle.class, intendedVehicle);
       if (vehicle == null) {
         throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
       }
+      orders = orderService.fetchTransportOrdersByIntendedVehicle(vehicle.getReference());
+    }
+    else {
+      orders = orderService.fetchObjects(TransportOrder.class);
     }
 
-    return orderService.fetchObjects(TransportOrder.class,
-                                     new TransportOrderFilter(intendedVehicle))
-        .stream()
+    return orders.stream()
         .map(order -> TransportOrderState.fromTransportOrder(order))
         .collect(Collectors.toList());
   }
@@ -102,6 +123,53 @@ public class RequestStatusHandler {
         .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
   }
 
+  /**
+   * Finds all archived transport orders created within the given time range.
+   *
+   * @param from The start of the time range (inclusive).
+   * @param to The end of the time range (exclusive).
+   * @return A list of archived transport orders, sorted by their creation times.
+   */
+  public List<TransportOrderState> getArchivedTransportOrdersState(Instant from, Instant to) {
+    requireNonNull(from, "from");
+    requireNonNull(to, "to");
+
+    return archiveService.fetchArchivedTransportOrders(from, to).stream()
+        .map(order -> TransportOrderState.fromTransportOrder(order))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Finds the archived transport order with the given name.
+   *
+   * @param name The name of the requested transport order.
+   * @return A single archived transport order with the given name.
+   * @throws ObjectUnknownException If an archived transport order with the given name does not
+   * exist.
+   */
+  public TransportOrderState getArchivedTransportOrderByName(String name)
+      throws ObjectUnknownException {
+    requireNonNull(name, "name");
+
+    TransportOrder order = archiveService.fetchArchivedTransportOrder(name);
+    if (order == null) {
+      throw new ObjectUnknownException("Unknown archived transport order: " + name);
+    }
+    return TransportOrderState.fromTransportOrder(order);
+  }
+
+  /**
+   * Finds the user notifications published after the one with the given sequence number.
+   *
+   * @param sequenceNumber The sequence number of the last notification already known.
+   * @return The notifications published afterwards that are still available.
+   */
+  public UserNotificationList getUserNotificationsSince(long sequenceNumber) {
+    return UserNotificationList.fromUserNotificationBatch(
+        notificationService.fetchUserNotificationsSince(sequenceNumber)
+    );
+  }
+
   /**
    * Find all vehicles orders and filters depending on the given parameters.
    *
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.status.binding;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.UserNotificationBatch;
+
+/**
+ * The user notifications published after a given sequence number.
+ *
+ * @author The openTCS Authors
+ */
+public class UserNotificationList {
+
+  @JsonProperty(required = true)
+  @JsonPropertyDescription("The sequence number of the latest notification published. "
+      + "Pass this as sinceSequenceNo with the next request to retrieve only newer notifications.")
+  private long latestSequenceNo;
+
+  @JsonProperty(required = true)
+  @JsonPropertyDescription("Whether no notifications published after the requested sequence "
+      + "number have been discarded before they could be retrieved.")
+  private boolean complete = true;
+
+  @JsonProperty(required = true)
+  @JsonPropertyDescription("The notifications, oldest first.")
+  private List<UserNotificationState> notifications = new ArrayList<>();
+
+  private UserNotificationList() {
+  }
+
+  public long getLatestSequenceNo() {
+    return latestSequenceNo;
+  }
+
+  public void setLatestSequenceNo(long latestSequenceNo) {
+    this.latestSequenceNo = latestSequenceNo;
+  }
+
+  public boolean isComplete() {
+    return complete;
+  }
+
+  public void setComplete(boolean complete) {
+    this.complete = complete;
+  }
+
+  public List<UserNotificationState> getNotifications() {
+    return notifications;
+  }
+
+  public void setNotifications(List<UserNotificationState> notifications) {
+    this.notifications = requireNonNull(notifications, "notifications");
+  }
+
+  public static UserNotificationList fromUserNotificationBatch(UserNotificationBatch batch) {
+    if (batch == null) {
+      return null;
+    }
+    UserNotificationList notificationList = new UserNotificationList();
+    notificationList.setLatestSequenceNo(batch.getLatestSequenceNumber());
+    notificationList.setComplete(batch.isComplete());
+    notificationList.setNotifications(
+        batch.getNotifications()
+            .stream()
+            .map(notification -> UserNotificationState.fromUserNotification(notification))
+            .collect(Collectors.toList()));
+    return notificationList;
+  }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.status.binding;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import java.time.Instant;
+import static java.util.Objects.requireNonNull;
+import org.opentcs.data.notification.UserNotification;
+
+/**
+ * A user notification published by the kernel or one of its clients.
+ *
+ * @author The openTCS Authors
+ */
+public class UserNotificationState {
+
+  @JsonPropertyDescription("The source of the notification.")
+  private String source;
+
+  @JsonPropertyDescription("The notification's text.")
+  private String text = "";
+
+  @JsonPropertyDescription("The notification's level.")
+  private UserNotification.Level level = UserNotification.Level.INFORMATIONAL;
+
+  @JsonPropertyDescription("When the notification was created.")
+  private Instant timestamp = Instant.EPOCH;
+
+  private UserNotificationState() {
+  }
+
+  public String getSource() {
+    return source;
+  }
+
+  public void setSource(String source) {
+    this.source = source;
+  }
+
+  public String getText() {
+    return text;
+  }
+
+  public void setText(String text) {
+    this.text = requireNonNull(text, "text");
+  }
+
+  public UserNotification.Level getLevel() {
+    return level;
+  }
+
+  public void setLevel(UserNotification.Level level) {
+    this.level = requireNonNull(level, "level");
+  }
+
+  public Instant getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(Instant timestamp) {
+    this.timestamp = requireNonNull(timestamp, "timestamp");
+  }
+
+  public static UserNotificationState fromUserNotification(UserNotification notification) {
+    if (notification == null) {
+      return null;
+    }
+    UserNotificationState notificationState = new UserNotificationState();
+    notificationState.setSource(notification.getSource());
+    notificationState.setText(notification.getText());
+    notificationState.setLevel(notification.getLevel());
+    notificationState.setTimestamp(notification.getTimestamp());
+    return notificationState;
+  }
+}
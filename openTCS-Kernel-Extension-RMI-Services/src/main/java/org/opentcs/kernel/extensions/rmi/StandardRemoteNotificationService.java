@@ -22,6 +22,7 @@ import org.opentcs.access.rmi.factories.SocketFactoryProvider;
 import org.opentcs.access.rmi.services.RegistrationName;
 import org.opentcs.access.rmi.services.RemoteNotificationService;
 import org.opentcs.components.kernel.services.NotificationService;
+import org.opentcs.components.kernel.services.UserNotificationBatch;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.notification.UserNotification;
 import org.slf4j.Logger;
@@ -160,6 +161,30 @@ public class StandardRemoteNotificationService
     return notificationService.fetchUserNotifications(predicate);
   }
 
+  @Override
+  public UserNotificationBatch fetchUserNotificationsSince(ClientID clientId,
+                                                          long sequenceNumber) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return notificationService.fetchUserNotificationsSince(sequenceNumber);
+  }
+
+  @Override
+  public List<UserNotification> fetchUserNotificationsBySource(ClientID clientId,
+                                                               String source) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return notificationService.fetchUserNotificationsBySource(source);
+  }
+
+  @Override
+  public List<UserNotification> fetchUserNotificationsByLevel(ClientID clientId,
+                                                              UserNotification.Level level) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return notificationService.fetchUserNotificationsByLevel(level);
+  }
+
   @Override
   public void publishUserNotification(ClientID clientId, UserNotification notification) {
     userManager.verifyCredentials(clientId, UserPermission.PUBLISH_MESSAGES);
@@ -12,6 +12,7 @@ import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
@@ -24,6 +25,7 @@ import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.slf4j.Logger;
@@ -190,4 +192,39 @@ public class StandardRemoteTransportOrderService
       throw findSuitableExceptionFor(exc);
     }
   }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByState(ClientID clientId,
+                                                         TransportOrder.State state) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return transportOrderService.fetchTransportOrdersByState(state);
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByIntendedVehicle(
+      ClientID clientId,
+      TCSObjectReference<Vehicle> vehicleRef) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return transportOrderService.fetchTransportOrdersByIntendedVehicle(vehicleRef);
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByProcessingVehicle(
+      ClientID clientId,
+      TCSObjectReference<Vehicle> vehicleRef) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return transportOrderService.fetchTransportOrdersByProcessingVehicle(vehicleRef);
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByWrappingSequence(
+      ClientID clientId,
+      TCSObjectReference<OrderSequence> seqRef) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return transportOrderService.fetchTransportOrdersByWrappingSequence(seqRef);
+  }
 }
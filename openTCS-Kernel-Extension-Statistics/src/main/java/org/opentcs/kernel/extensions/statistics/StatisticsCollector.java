@@ -8,16 +8,24 @@
 package org.opentcs.kernel.extensions.statistics;
 
 import java.io.File;
+import java.lang.management.ManagementFactory;
 import java.text.Format;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import org.opentcs.components.kernel.KernelExtension;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.ApplicationHome;
 import static org.opentcs.util.Assertions.checkArgument;
 import org.opentcs.util.event.EventSource;
+import org.opentcs.util.event.QueuedEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +42,11 @@ public class StatisticsCollector
    * This class's logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(StatisticsCollector.class);
+  /**
+   * The name the event queue's metrics are registered with at the platform MBean server.
+   */
+  private static final String EVENT_QUEUE_MBEAN_NAME
+      = "org.opentcs:type=EventQueue,name=StatisticsCollector";
   /**
    * Where we register for application events.
    */
@@ -42,6 +55,10 @@ public class StatisticsCollector
    * The directory to log event data to.
    */
   private final File logDir;
+  /**
+   * This collector's configuration.
+   */
+  private final StatisticsCollectorConfiguration configuration;
   /**
    * Whether this instance is currently initialized.
    */
@@ -50,17 +67,28 @@ public class StatisticsCollector
    * An event logger for persisting the event data collected.
    */
   private StatisticsEventLogger statisticsLogger;
+  /**
+   * Delivers events to the event logger, decoupled from the publishing threads.
+   */
+  private QueuedEventHandler queuedLogger;
+  /**
+   * Executes the delivery of events to the event logger.
+   */
+  private ExecutorService loggerExecutor;
 
   /**
    * Creates a new instance.
    *
    * @param eventSource Where this instance registers for application events.
    * @param homeDir The kernel's home directory.
+   * @param configuration This collector's configuration.
    */
   @Inject
   public StatisticsCollector(@ApplicationEventBus EventSource eventSource,
-                             @ApplicationHome File homeDir) {
+                             @ApplicationHome File homeDir,
+                             StatisticsCollectorConfiguration configuration) {
     this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.configuration = requireNonNull(configuration, "configuration");
     requireNonNull(homeDir, "homeDir");
     this.logDir = new File(homeDir, "log/statistics");
   }
@@ -85,7 +113,15 @@ public class StatisticsCollector
     LOG.info("Logging events to {}...", logFile.getAbsolutePath());
     statisticsLogger = new StatisticsEventLogger(logFile);
     statisticsLogger.initialize();
-    eventSource.subscribe(statisticsLogger);
+    // Write to the file on a separate thread so the kernel is not slowed down by file I/O.
+    loggerExecutor = Executors.newSingleThreadExecutor(
+        runnable -> new Thread(runnable, "statisticsEventLogger"));
+    queuedLogger = new QueuedEventHandler(statisticsLogger,
+                                          configuration.eventQueueCapacity(),
+                                          configuration.eventQueueOverflowPolicy(),
+                                          loggerExecutor);
+    eventSource.subscribe(queuedLogger);
+    registerEventQueueMBean();
 
     // Remember we're plugged in.
     initialized = true;
@@ -97,10 +133,56 @@ public class StatisticsCollector
       return;
     }
     // Unregister event listener, terminate event processing.
-    eventSource.unsubscribe(statisticsLogger);
+    eventSource.unsubscribe(queuedLogger);
+    unregisterEventQueueMBean();
+    // Let the events still queued be written before closing the log file.
+    loggerExecutor.shutdown();
+    try {
+      if (!loggerExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+        LOG.warn("Timed out waiting for queued events to be logged.");
+      }
+    }
+    catch (InterruptedException exc) {
+      LOG.warn("Interrupted waiting for queued events to be logged.");
+      Thread.currentThread().interrupt();
+    }
+    LOG.debug("Event queue statistics: {}", queuedLogger);
     statisticsLogger.terminate();
 
     statisticsLogger = null;
+    queuedLogger = null;
+    loggerExecutor = null;
     initialized = false;
   }
+
+  /**
+   * Registers the event queue with the platform MBean server, so its depth and delivery lag can
+   * be monitored while the kernel is running.
+   */
+  private void registerEventQueueMBean() {
+    MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName(EVENT_QUEUE_MBEAN_NAME);
+      if (mbeanServer.isRegistered(name)) {
+        mbeanServer.unregisterMBean(name);
+      }
+      mbeanServer.registerMBean(queuedLogger, name);
+    }
+    catch (JMException exc) {
+      LOG.warn("Could not register event queue metrics with the MBean server", exc);
+    }
+  }
+
+  private void unregisterEventQueueMBean() {
+    MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName(EVENT_QUEUE_MBEAN_NAME);
+      if (mbeanServer.isRegistered(name)) {
+        mbeanServer.unregisterMBean(name);
+      }
+    }
+    catch (JMException exc) {
+      LOG.warn("Could not unregister event queue metrics from the MBean server", exc);
+    }
+  }
 }
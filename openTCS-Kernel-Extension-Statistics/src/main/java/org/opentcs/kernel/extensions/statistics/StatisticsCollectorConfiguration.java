@@ -9,6 +9,7 @@ package org.opentcs.kernel.extensions.statistics;
 
 import org.opentcs.configuration.ConfigurationEntry;
 import org.opentcs.configuration.ConfigurationPrefix;
+import org.opentcs.util.event.QueuedEventHandler;
 
 /**
  * Configuration entries for the statistics collector.
@@ -25,4 +26,22 @@ public interface StatisticsCollectorConfiguration {
       description = "Whether to enable the statistics collector.",
       orderKey = "0")
   boolean enable();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of events waiting to be written to the statistics log.",
+      orderKey = "1")
+  int eventQueueCapacity();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+        "What to do when events are published while the event queue is full. Valid values:",
+        "'BLOCK': The publishing thread waits until there is space in the queue. No events are "
+            + "lost, but as events are published while the kernel's locks are held, slow writing "
+            + "of the log may stall the whole kernel once the queue is full.",
+        "'DROP_OLDEST': The oldest event in the queue is dropped.",
+        "'CONFLATE': Modifications of the same object are merged while they are queued."},
+      orderKey = "2")
+  QueuedEventHandler.OverflowPolicy eventQueueOverflowPolicy();
 }
@@ -18,12 +18,14 @@ import javax.inject.Singleton;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
 import org.opentcs.access.SslParameterSet;
-import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
+import org.opentcs.components.kernel.KernelExecutorLanes;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.components.kernel.services.NotificationService;
+import org.opentcs.components.kernel.services.OrderArchiveService;
 import org.opentcs.components.kernel.services.PlantModelService;
 import org.opentcs.components.kernel.services.RouterService;
 import org.opentcs.components.kernel.services.SchedulerService;
@@ -38,12 +40,15 @@ import org.opentcs.drivers.vehicle.VehicleControllerPool;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.VehicleEntryPool;
 import org.opentcs.kernel.persistence.ModelPersister;
+import org.opentcs.kernel.persistence.OrderArchive;
+import org.opentcs.kernel.persistence.TransportOrderJournal;
 import org.opentcs.kernel.persistence.XMLFileModelPersister;
 import org.opentcs.kernel.persistence.XMLModel002Builder;
 import org.opentcs.kernel.persistence.XMLModelReader;
 import org.opentcs.kernel.persistence.XMLModelWriter;
 import org.opentcs.kernel.services.StandardDispatcherService;
 import org.opentcs.kernel.services.StandardNotificationService;
+import org.opentcs.kernel.services.StandardOrderArchiveService;
 import org.opentcs.kernel.services.StandardPlantModelService;
 import org.opentcs.kernel.services.StandardRouterService;
 import org.opentcs.kernel.services.StandardSchedulerService;
@@ -61,7 +66,6 @@ import org.opentcs.kernel.workingset.TransportOrderPool;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.SimpleEventBus;
-import org.opentcs.util.logging.UncaughtExceptionLogger;
 
 /**
  * A Guice module for the openTCS kernel application.
@@ -72,6 +76,7 @@ public class DefaultKernelInjectionModule
     extends KernelInjectionModule {
 
   @Override
+  @SuppressWarnings("deprecation")
   protected void configure() {
     configureEventHub();
     configureKernelExecutor();
@@ -82,7 +87,9 @@ public class DefaultKernelInjectionModule
         .annotatedWith(ApplicationHome.class)
         .toInstance(applicationHome);
 
-    // A single global synchronization object for the kernel.
+    // The locks for synchronizing access to the kernel's working set.
+    bind(StripedKernelLock.class).in(Singleton.class);
+    // A single global synchronization object, kept for compatibility only.
     bind(Object.class)
         .annotatedWith(GlobalKernelSync.class)
         .to(Object.class)
@@ -138,10 +145,14 @@ public class DefaultKernelInjectionModule
 
     bind(StandardTCSObjectService.class).in(Singleton.class);
     bind(TCSObjectService.class).to(StandardTCSObjectService.class);
+    bind(InternalTCSObjectService.class).to(StandardTCSObjectService.class);
 
     bind(StandardNotificationService.class).in(Singleton.class);
     bind(NotificationService.class).to(StandardNotificationService.class);
 
+    bind(StandardOrderArchiveService.class).in(Singleton.class);
+    bind(OrderArchiveService.class).to(StandardOrderArchiveService.class);
+
     bind(StandardRouterService.class).in(Singleton.class);
     bind(RouterService.class).to(StandardRouterService.class);
 
@@ -167,6 +178,8 @@ public class DefaultKernelInjectionModule
     bind(ModelPersister.class).to(XMLFileModelPersister.class);
     bind(XMLModelReader.class).to(XMLModel002Builder.class);
     bind(XMLModelWriter.class).to(XMLModel002Builder.class);
+    bind(OrderArchive.class).in(Singleton.class);
+    bind(TransportOrderJournal.class).in(Singleton.class);
   }
 
   @SuppressWarnings("deprecation")
@@ -235,15 +248,15 @@ public class DefaultKernelInjectionModule
   }
 
   private void configureKernelExecutor() {
-    ScheduledExecutorService executor
-        = new LoggingScheduledThreadPoolExecutor(
-            1,
-            (runnable) -> {
-              Thread thread = new Thread(runnable, "kernelExecutor");
-              thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
-              return thread;
-            }
-        );
+    KernelApplicationConfiguration configuration
+        = getConfigBindingProvider().get(KernelApplicationConfiguration.PREFIX,
+                                         KernelApplicationConfiguration.class);
+    MultiLaneKernelExecutor executorLanes
+        = new MultiLaneKernelExecutor(configuration.executorLaneCount());
+    bind(KernelExecutorLanes.class)
+        .toInstance(executorLanes);
+
+    ScheduledExecutorService executor = executorLanes.globalLane();
     bind(ScheduledExecutorService.class)
         .annotatedWith(KernelExecutor.class)
         .toInstance(executor);
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.workingset.Model;
+import org.opentcs.kernel.workingset.TCSObjectPool;
+import org.opentcs.util.event.SimpleEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of vehicle state updates with a growing number of concurrently reporting
+ * vehicles.
+ * <p>
+ * Every benchmark thread represents a vehicle (comm adapter) reporting its precise position, which
+ * is applied to the working set under the vehicle's object lock, as done by
+ * <code>StandardVehicleService</code>. For comparison, the <code>GLOBAL</code> locking scheme
+ * applies every update under the exclusive write lock, like all updates were applied under the
+ * single global kernel monitor before. With striped locking, the total throughput should grow with
+ * the number of reporting vehicles (up to the number of available cores), while it stays flat with
+ * the global lock.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VehicleUpdateContentionBenchmark {
+
+  /**
+   * The number of vehicles in the working set, i.e. the maximum number of reporting threads.
+   */
+  private static final int VEHICLE_COUNT = 64;
+  /**
+   * The locking scheme.
+   */
+  @Param({"STRIPED", "GLOBAL"})
+  public LockingScheme lockingScheme;
+  /**
+   * The kernel's locks.
+   */
+  private StripedKernelLock kernelLock;
+  /**
+   * The working set.
+   */
+  private Model model;
+  /**
+   * The vehicles in the working set.
+   */
+  private final List<TCSObjectReference<Vehicle>> vehicles = new ArrayList<>();
+  /**
+   * The index of the vehicle to be assigned to the next reporting thread.
+   */
+  private final AtomicInteger nextVehicleIndex = new AtomicInteger();
+  /**
+   * Counts the events delivered to the event bus's listener.
+   */
+  private final LongAdder eventCount = new LongAdder();
+
+  @Setup
+  public void setUp() {
+    kernelLock = new StripedKernelLock(64);
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.subscribe(event -> eventCount.increment());
+    model = new Model(new TCSObjectPool(eventBus, kernelLock));
+
+    kernelLock.writeLock().lock();
+    try {
+      for (int i = 0; i < VEHICLE_COUNT; i++) {
+        vehicles.add(model.createVehicle(new VehicleCreationTO(String.format("Vehicle-%04d", i)))
+            .getReference());
+      }
+    }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void reportingVehicles01(Reporter reporter) {
+    report(reporter);
+  }
+
+  @Benchmark
+  @Threads(2)
+  public void reportingVehicles02(Reporter reporter) {
+    report(reporter);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void reportingVehicles04(Reporter reporter) {
+    report(reporter);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void reportingVehicles08(Reporter reporter) {
+    report(reporter);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void reportingVehicles16(Reporter reporter) {
+    report(reporter);
+  }
+
+  private void report(Reporter reporter) {
+    Triple position = new Triple(reporter.nextCoordinate++, 0, 0);
+    if (lockingScheme == LockingScheme.STRIPED) {
+      StripedKernelLock.ObjectLock lock = kernelLock.objectLock(reporter.vehicle);
+      lock.lock();
+      try {
+        model.setVehiclePrecisePosition(reporter.vehicle, position);
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+    else {
+      kernelLock.writeLock().lock();
+      try {
+        model.setVehiclePrecisePosition(reporter.vehicle, position);
+      }
+      finally {
+        kernelLock.writeLock().unlock();
+      }
+    }
+  }
+
+  /**
+   * The locking schemes to be compared.
+   */
+  public enum LockingScheme {
+    /**
+     * Updates are applied under the updated object's lock.
+     */
+    STRIPED,
+    /**
+     * Updates are applied under the exclusive write lock.
+     */
+    GLOBAL
+  }
+
+  /**
+   * The state of a reporting vehicle.
+   */
+  @State(Scope.Thread)
+  public static class Reporter {
+
+    /**
+     * The vehicle reporting.
+     */
+    private TCSObjectReference<Vehicle> vehicle;
+    /**
+     * The x coordinate of the next position to be reported.
+     */
+    private long nextCoordinate;
+
+    @Setup
+    public void setUp(VehicleUpdateContentionBenchmark benchmark) {
+      vehicle = benchmark.vehicles.get(benchmark.nextVehicleIndex.getAndIncrement()
+          % VEHICLE_COUNT);
+    }
+  }
+}
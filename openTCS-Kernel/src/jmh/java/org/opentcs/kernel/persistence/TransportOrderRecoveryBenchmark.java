@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.StripedKernelLock;
+import org.opentcs.kernel.workingset.Model;
+import org.opentcs.kernel.workingset.TCSObjectPool;
+import org.opentcs.kernel.workingset.TransportOrderPool;
+import static org.opentcs.util.Assertions.checkState;
+import org.opentcs.util.FileSystems;
+import org.opentcs.util.event.SimpleEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time needed to restore the recorded transport orders after a restart of the kernel.
+ * <p>
+ * The orders are restored either by replaying the journal entries recorded while the orders were
+ * created and modified, or by reading the snapshot written after that.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TransportOrderRecoveryBenchmark {
+
+  /**
+   * The number of transport orders to be restored.
+   */
+  @Param({"50000"})
+  public int orderCount;
+  /**
+   * The files to restore the orders from.
+   */
+  @Param({"JOURNAL", "SNAPSHOT"})
+  public RecordedFiles recordedFiles;
+  /**
+   * The directory containing the recorded files to be copied for every restart.
+   */
+  private File templateDirectory;
+  /**
+   * The directory the journal works with.
+   */
+  private File journalDirectory;
+  /**
+   * The transport order pool of the restarted kernel.
+   */
+  private TransportOrderPool orderPool;
+  /**
+   * The journal of the restarted kernel.
+   */
+  private TransportOrderJournal journal;
+
+  @Setup(Level.Trial)
+  public void recordOrders()
+      throws IOException {
+    templateDirectory = Files.createTempDirectory("order-journal-template").toFile();
+
+    TransportOrderJournal recordingJournal = createJournal(templateDirectory);
+    recordingJournal.initialize();
+    for (int i = 0; i < orderCount; i++) {
+      TransportOrder order = orderPool.createTransportOrder(
+          new TransportOrderCreationTO(String.format("TOrder-%06d", i),
+                                       Arrays.asList(new DestinationCreationTO("Point-00001",
+                                                                               "NOP"))));
+      orderPool.setTransportOrderState(order.getReference(), TransportOrder.State.DISPATCHABLE);
+    }
+    recordingJournal.terminate();
+
+    if (recordedFiles == RecordedFiles.SNAPSHOT) {
+      // Restoring the orders compacts the journal into a snapshot right away.
+      recordingJournal = createJournal(templateDirectory);
+      recordingJournal.initialize();
+      recordingJournal.terminate();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteRecordedOrders() {
+    FileSystems.deleteRecursively(templateDirectory);
+  }
+
+  @Setup(Level.Invocation)
+  public void setUp()
+      throws IOException {
+    journalDirectory = Files.createTempDirectory("order-journal").toFile();
+    File[] files = templateDirectory.listFiles();
+    checkState(files != null, "Could not list %s", templateDirectory);
+    for (File file : files) {
+      Files.copy(file.toPath(), new File(journalDirectory, file.getName()).toPath());
+    }
+    journal = createJournal(journalDirectory);
+  }
+
+  @TearDown(Level.Invocation)
+  public void tearDown() {
+    checkState(orderPool.getObjectPool().getObjects(TransportOrder.class).size() == orderCount,
+               "Not all transport orders were restored.");
+    journal.terminate();
+    FileSystems.deleteRecursively(journalDirectory);
+  }
+
+  @Benchmark
+  public TransportOrderJournal restoreOrders() {
+    journal.initialize();
+    return journal;
+  }
+
+  private TransportOrderJournal createJournal(File directory) {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    TCSObjectPool objectPool = new TCSObjectPool(eventBus);
+    Model model = new Model(objectPool);
+    model.createPoint(new PointCreationTO("Point-00001"));
+    model.createVehicle(new VehicleCreationTO("Vehicle-00001"));
+    orderPool = new TransportOrderPool(objectPool);
+
+    return new TransportOrderJournal(directory,
+                                     true,
+                                     3600000,
+                                     new StripedKernelLock(16),
+                                     orderPool,
+                                     eventBus);
+  }
+
+  /**
+   * The files the transport orders are restored from.
+   */
+  public enum RecordedFiles {
+    /**
+     * A journal containing all modifications of the orders.
+     */
+    JOURNAL,
+    /**
+     * A snapshot of the orders' latest states.
+     */
+    SNAPSHOT
+  }
+}
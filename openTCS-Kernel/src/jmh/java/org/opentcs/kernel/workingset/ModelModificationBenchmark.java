@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.concurrent.TimeUnit;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.StripedKernelLock;
+import org.opentcs.util.event.SimpleEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures vehicle position updates applied to the working set.
+ * <p>
+ * Run with <code>-prof gc</code> to see the allocation rate per update
+ * (<code>gc.alloc.rate.norm</code>). With <code>copyStates</code> set, every update additionally
+ * makes the copies the modification path used to make - one of the previous and one of the new
+ * state of every modified object - which serves as the baseline.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelModificationBenchmark {
+
+  /**
+   * Whether to copy the previous and new states of modified objects like before.
+   */
+  @Param({"false", "true"})
+  public boolean copyStates;
+  /**
+   * The working set.
+   */
+  private Model model;
+  /**
+   * The vehicle reporting.
+   */
+  private TCSObjectReference<Vehicle> vehicleRef;
+  /**
+   * The points the vehicle alternately reports as its position.
+   */
+  private TCSObjectReference<Point> pointRef1;
+  private TCSObjectReference<Point> pointRef2;
+  /**
+   * The x coordinate of the next precise position to be reported.
+   */
+  private long nextCoordinate;
+
+  @Setup
+  public void setUp() {
+    StripedKernelLock kernelLock = new StripedKernelLock(64);
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.subscribe(event -> {
+    });
+    model = new Model(new TCSObjectPool(eventBus, kernelLock));
+
+    kernelLock.writeLock().lock();
+    try {
+      pointRef1 = model.createPoint(new PointCreationTO("Point-00001")).getReference();
+      pointRef2 = model.createPoint(new PointCreationTO("Point-00002")).getReference();
+      vehicleRef = model.createVehicle(new VehicleCreationTO("Vehicle-0001")).getReference();
+      model.setVehiclePosition(vehicleRef, pointRef1);
+    }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
+  }
+
+  @Benchmark
+  public Vehicle setVehiclePosition(Blackhole blackhole) {
+    Vehicle vehicle = model.getObjectPool().getObject(Vehicle.class, vehicleRef);
+    TCSObjectReference<Point> newPosRef
+        = pointRef1.equals(vehicle.getCurrentPosition()) ? pointRef2 : pointRef1;
+    if (copyStates) {
+      copyStates(blackhole, vehicle.getCurrentPosition(), newPosRef);
+    }
+    Vehicle result = model.setVehiclePosition(vehicleRef, newPosRef);
+    if (copyStates) {
+      copyStates(blackhole, result.getCurrentPosition(), vehicle.getCurrentPosition());
+    }
+    return result;
+  }
+
+  @Benchmark
+  public Vehicle setVehiclePrecisePosition(Blackhole blackhole) {
+    if (copyStates) {
+      copyStates(blackhole, null, null);
+    }
+    Vehicle result = model.setVehiclePrecisePosition(vehicleRef,
+                                                     new Triple(nextCoordinate++, 0, 0));
+    if (copyStates) {
+      copyStates(blackhole, null, null);
+    }
+    return result;
+  }
+
+  @SuppressWarnings("deprecation")
+  private void copyStates(Blackhole blackhole,
+                          TCSObjectReference<Point> pointRefA,
+                          TCSObjectReference<Point> pointRefB) {
+    TCSObjectPool pool = model.getObjectPool();
+    blackhole.consume(pool.getObject(Vehicle.class, vehicleRef).clone());
+    if (pointRefA != null) {
+      blackhole.consume(pool.getObject(Point.class, pointRefA).clone());
+    }
+    if (pointRefB != null) {
+      blackhole.consume(pool.getObject(Point.class, pointRefB).clone());
+    }
+  }
+}
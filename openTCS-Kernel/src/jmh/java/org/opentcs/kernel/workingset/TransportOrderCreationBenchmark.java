@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.access.to.model.LocationCreationTO;
+import org.opentcs.access.to.model.LocationTypeCreationTO;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.StripedKernelLock;
+import org.opentcs.util.event.SimpleEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time needed to create a number of transport orders with generated names in an
+ * otherwise empty working set.
+ *
+ * @author The openTCS Authors
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class TransportOrderCreationBenchmark {
+
+  /**
+   * The number of transport orders to be created.
+   */
+  @Param({"100000"})
+  public int orderCount;
+  /**
+   * The kernel's locks.
+   */
+  private StripedKernelLock kernelLock;
+  /**
+   * The transport order pool.
+   */
+  private TransportOrderPool orderPool;
+  /**
+   * The destinations of every transport order.
+   */
+  private List<DriveOrder.Destination> destinations;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    kernelLock = new StripedKernelLock(64);
+    TCSObjectPool objectPool = new TCSObjectPool(new SimpleEventBus(), kernelLock);
+    Model model = new Model(objectPool);
+    orderPool = new TransportOrderPool(objectPool);
+
+    kernelLock.writeLock().lock();
+    try {
+      model.createLocationType(new LocationTypeCreationTO("LocationType-01"));
+      Location location = model.createLocation(
+          new LocationCreationTO("Location-01", "LocationType-01"));
+      destinations = Collections.singletonList(
+          new DriveOrder.Destination(location.getReference()));
+    }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    kernelLock.writeLock().lock();
+    try {
+      orderPool.clear();
+    }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
+  }
+
+  @Benchmark
+  @SuppressWarnings("deprecation")
+  public TransportOrder createTransportOrders() {
+    TransportOrder order = null;
+    kernelLock.writeLock().lock();
+    try {
+      for (int i = 0; i < orderCount; i++) {
+        order = orderPool.createTransportOrder(destinations);
+      }
+    }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
+    return order;
+  }
+}
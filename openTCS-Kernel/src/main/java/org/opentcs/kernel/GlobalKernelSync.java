@@ -12,12 +12,17 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import javax.inject.Qualifier;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Annotation type to mark an injectable synchronization object for the kernel.
  *
  * @author Stefan Walter (Fraunhofer IML)
+ * @deprecated Access to the kernel's working set is no longer synchronized via a single object.
+ * Use {@link StripedKernelLock} instead.
  */
+@Deprecated
+@ScheduledApiChange(when = "5.0", details = "Will be removed.")
 @Qualifier
 @Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
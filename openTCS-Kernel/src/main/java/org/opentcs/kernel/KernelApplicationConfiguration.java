@@ -46,4 +46,20 @@ public interface KernelApplicationConfiguration {
       description = "Whether to implicitly update the router's topology when a path is (un)locked.",
       orderKey = "3_topologyUpdate")
   boolean updateRoutingTopologyOnPathLockChange();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of lock stripes used for synchronizing modifications of objects.",
+      orderKey = "4_locking")
+  int lockStripeCount();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The number of lanes (threads) the kernel executes its tasks in.",
+        "With 1, all tasks are executed one after another. With 3 or more, dispatching and resource "
+        + "allocation tasks are executed in lanes of their own. With 4 or more, tasks of vehicle "
+        + "drivers are executed in the remaining lanes."},
+      orderKey = "5_executor")
+  int executorLaneCount();
 }
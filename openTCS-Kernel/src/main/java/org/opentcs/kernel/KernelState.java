@@ -63,9 +63,9 @@ abstract class KernelState
     implements Lifecycle {
 
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The kernel's locks for synchronizing access to the working set.
    */
-  private final Object globalSyncObject;
+  private final StripedKernelLock kernelLock;
   /**
    * The container of all course model and transport order objects.
    */
@@ -87,17 +87,17 @@ abstract class KernelState
    * Creates a new state.
    *
    * @param kernel The kernel.
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
    * @param objectPool The object pool to be used.
    * @param model The model to be used.
    * @param notificationBuffer The notification buffer to be used.
    */
-  KernelState(Object globalSyncObject,
+  KernelState(StripedKernelLock kernelLock,
               TCSObjectPool objectPool,
               Model model,
               NotificationBuffer notificationBuffer,
               ModelPersister modelPersister) {
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
     this.globalObjectPool = requireNonNull(objectPool, "objectPool");
     this.model = requireNonNull(model, "model");
     this.notificationBuffer = requireNonNull(notificationBuffer, "notificationBuffer");
@@ -125,9 +125,13 @@ abstract class KernelState
 
   @Deprecated
   public final String getLoadedModelName() {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       return getModel().getName();
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Deprecated
@@ -173,24 +177,33 @@ abstract class KernelState
   @Deprecated
   public final <T extends TCSObject<T>> T getTCSObject(Class<T> clazz,
                                                        TCSObjectReference<T> ref) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       T result = getGlobalObjectPool().getObjectOrNull(clazz, ref);
       return result == null ? null : clazz.cast(result.clone());
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Deprecated
   public final <T extends TCSObject<T>> T getTCSObject(Class<T> clazz,
                                                        String name) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       T result = getGlobalObjectPool().getObjectOrNull(clazz, name);
       return result == null ? null : clazz.cast(result.clone());
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Deprecated
   public final <T extends TCSObject<T>> Set<T> getTCSObjects(Class<T> clazz) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       Set<T> objects = getGlobalObjectPool().getObjects(clazz);
       Set<T> copies = new HashSet<>();
       for (T object : objects) {
@@ -198,12 +211,16 @@ abstract class KernelState
       }
       return copies;
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Deprecated
   public final <T extends TCSObject<T>> Set<T> getTCSObjects(Class<T> clazz,
                                                              Pattern regexp) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       Set<T> objects = getGlobalObjectPool().getObjects(clazz, regexp);
       Set<T> copies = new HashSet<>();
       for (T object : objects) {
@@ -211,59 +228,86 @@ abstract class KernelState
       }
       return copies;
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @SuppressWarnings("deprecation")
   public <T extends TCSObject<T>> Set<T> getTCSObjects(@Nonnull Class<T> clazz,
                                                        @Nonnull Predicate<? super T> predicate) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       return getGlobalObjectPool().getObjects(clazz, predicate).stream()
           .map(obj -> clazz.cast(obj.clone()))
           .collect(Collectors.toSet());
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Deprecated
   public final <T extends TCSObject<T>> T getTCSObjectOriginal(
       Class<T> clazz,
       TCSObjectReference<T> ref) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       return getGlobalObjectPool().getObjectOrNull(clazz, ref);
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Deprecated
   public final <T extends TCSObject<T>> T getTCSObjectOriginal(Class<T> clazz,
                                                                String name) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       return getGlobalObjectPool().getObjectOrNull(clazz, name);
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Deprecated
   public final <T extends TCSObject<T>> Set<T> getTCSObjectsOriginal(
       Class<T> clazz) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       return getGlobalObjectPool().getObjects(clazz);
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Deprecated
   public final <T extends TCSObject<T>> Set<T> getTCSObjectsOriginal(
       Class<T> clazz,
       Pattern regexp) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       return getGlobalObjectPool().getObjects(clazz, regexp);
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Deprecated
   public final void renameTCSObject(TCSObjectReference<?> ref,
                                     String newName)
       throws ObjectUnknownException, ObjectExistsException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getGlobalObjectPool().renameObject(ref, newName);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Deprecated
@@ -271,17 +315,25 @@ abstract class KernelState
                                          String key,
                                          String value)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getGlobalObjectPool().setObjectProperty(ref, key, value);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Deprecated
   public final void clearTCSObjectProperties(TCSObjectReference<?> ref)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getGlobalObjectPool().clearObjectProperties(ref);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Deprecated
@@ -292,16 +344,24 @@ abstract class KernelState
 
   @Deprecated
   public void publishUserNotification(UserNotification notification) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       notificationBuffer.addNotification(notification);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Deprecated
   public List<UserNotification> getUserNotifications(Predicate<UserNotification> predicate) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       return notificationBuffer.getNotifications(predicate);
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Deprecated
@@ -430,18 +490,26 @@ abstract class KernelState
       TCSObjectReference<Vehicle> ref,
       int energyLevel)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleEnergyLevelCritical(ref, energyLevel);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Deprecated
   public final void setVehicleEnergyLevelGood(TCSObjectReference<Vehicle> ref,
                                               int energyLevel)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleEnergyLevelGood(ref, energyLevel);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Deprecated
@@ -663,28 +731,40 @@ abstract class KernelState
 
   @Deprecated
   public Group createGroup() {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       // Return a copy of the point
       return getModel().createGroup((Integer) null).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Deprecated
   public void addGroupMember(TCSObjectReference<Group> ref,
                              TCSObjectReference<?> newMemberRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().addGroupMember(ref, newMemberRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Deprecated
   public void removeGroupMember(TCSObjectReference<Group> ref,
                                 TCSObjectReference<?> rmMemberRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().removeGroupMember(ref, rmMemberRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Deprecated
@@ -936,9 +1016,13 @@ abstract class KernelState
   @Deprecated
   public final Set<TCSResource<?>> expandResources(Set<TCSResourceReference<?>> resources)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       return getModel().expandResources(resources);
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Deprecated
@@ -1012,8 +1096,8 @@ abstract class KernelState
     org.opentcs.util.configuration.Configuration.getInstance().setConfigurationItem(item);
   }
 
-  protected Object getGlobalSyncObject() {
-    return globalSyncObject;
+  protected StripedKernelLock getKernelLock() {
+    return kernelLock;
   }
 
   protected ModelPersister getModelPersister() {
@@ -32,6 +32,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.model.visualization.LayoutElement;
 import org.opentcs.data.model.visualization.VisualLayout;
 import org.opentcs.kernel.persistence.ModelPersister;
+import org.opentcs.kernel.persistence.TransportOrderJournal;
 import org.opentcs.kernel.workingset.Model;
 import org.opentcs.kernel.workingset.NotificationBuffer;
 import org.opentcs.kernel.workingset.TCSObjectPool;
@@ -54,6 +55,10 @@ class KernelStateModelling
    * This kernel state's local extensions.
    */
   private final Set<KernelExtension> extensions;
+  /**
+   * The journal persisting transport orders and order sequences.
+   */
+  private final TransportOrderJournal orderJournal;
   /**
    * This instance's <em>initialized</em> flag.
    */
@@ -66,21 +71,24 @@ class KernelStateModelling
    * @param messageBuffer The message buffer to be used.
    * @param modelPersister The model persister to be used.
    * @param configuration This class's configuration.
+   * @param orderJournal The journal persisting transport orders and order sequences.
    */
   @Inject
-  KernelStateModelling(@GlobalKernelSync Object globalSyncObject,
+  KernelStateModelling(StripedKernelLock kernelLock,
                        TCSObjectPool objectPool,
                        Model model,
                        NotificationBuffer messageBuffer,
                        ModelPersister modelPersister,
                        KernelApplicationConfiguration configuration,
+                       TransportOrderJournal orderJournal,
                        @ActiveInModellingMode Set<KernelExtension> extensions) {
-    super(globalSyncObject,
+    super(kernelLock,
           objectPool,
           model,
           messageBuffer,
           modelPersister,
           configuration.saveModelOnTerminateModelling());
+    this.orderJournal = requireNonNull(orderJournal, "orderJournal");
     this.extensions = requireNonNull(extensions, "extensions");
   }
 
@@ -91,6 +99,13 @@ class KernelStateModelling
     }
     LOG.debug("Initializing modelling state...");
 
+    // The orders have been removed from the working set when leaving the operating state, e.g. to
+    // replace the plant model, so they must not be restored again. (Orders recorded before the
+    // kernel was started are kept until they have been restored.)
+    if (orderJournal.isRestored()) {
+      orderJournal.discard();
+    }
+
     // Start kernel extensions.
     for (KernelExtension extension : extensions) {
       LOG.debug("Initializing kernel extension '{}'...", extension);
@@ -142,20 +157,28 @@ class KernelStateModelling
   @Override
   @Deprecated
   public void createPlantModel(PlantModelCreationTO to) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().clear();
       getModel().setName(to.getName());
       getModel().createPlantModelObjects(to);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void loadPlantModel()
       throws IllegalStateException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModelPersister().loadModel(getModel());
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -176,7 +199,8 @@ class KernelStateModelling
   @Deprecated
   public void removeTCSObject(TCSObjectReference<?> ref)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       TCSObject<?> object = getGlobalObjectPool().getObjectOrNull(ref);
       if (object == null) {
         throw new ObjectUnknownException(ref);
@@ -210,14 +234,21 @@ class KernelStateModelling
         super.removeTCSObject(ref);
       }
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public VisualLayout createVisualLayout() {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       return getModel().createVisualLayout((Integer) null).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -225,9 +256,13 @@ class KernelStateModelling
   public void setVisualLayoutScaleX(TCSObjectReference<VisualLayout> ref,
                                     double scaleX)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVisualLayoutScaleX(ref, scaleX);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -235,9 +270,13 @@ class KernelStateModelling
   public void setVisualLayoutScaleY(TCSObjectReference<VisualLayout> ref,
                                     double scaleY)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVisualLayoutScaleY(ref, scaleY);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -245,9 +284,13 @@ class KernelStateModelling
   public void setVisualLayoutColors(TCSObjectReference<VisualLayout> ref,
                                     Map<String, Color> colors)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVisualLayoutColors(ref, colors);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -255,18 +298,26 @@ class KernelStateModelling
   public void setVisualLayoutElements(TCSObjectReference<VisualLayout> ref,
                                       Set<LayoutElement> elements)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVisualLayoutElements(ref, elements);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public Point createPoint() {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       // Return a copy of the point
       return getModel().createPoint((Integer) null).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -274,9 +325,13 @@ class KernelStateModelling
   public void setPointPosition(TCSObjectReference<Point> ref,
                                Triple position)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setPointPosition(ref, position);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -284,9 +339,13 @@ class KernelStateModelling
   public void setPointVehicleOrientationAngle(TCSObjectReference<Point> ref,
                                               double angle)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setPointVehicleOrientationAngle(ref, angle);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -294,9 +353,13 @@ class KernelStateModelling
   public void setPointType(TCSObjectReference<Point> ref,
                            Point.Type newType)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setPointType(ref, newType);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -304,36 +367,52 @@ class KernelStateModelling
   public Path createPath(TCSObjectReference<Point> srcRef,
                          TCSObjectReference<Point> destRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       return getModel().createPath(null, srcRef, destRef).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void setPathLength(TCSObjectReference<Path> ref, long length)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setPathLength(ref, length);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void setPathRoutingCost(TCSObjectReference<Path> ref, long cost)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setPathRoutingCost(ref, cost);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void setPathMaxVelocity(TCSObjectReference<Path> ref, int velocity)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setPathMaxVelocity(ref, velocity);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -341,43 +420,63 @@ class KernelStateModelling
   public void setPathMaxReverseVelocity(TCSObjectReference<Path> ref,
                                         int velocity)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setPathMaxReverseVelocity(ref, velocity);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @SuppressWarnings("deprecation")
   public void setPathLocked(TCSObjectReference<Path> ref, boolean locked)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setPathLocked(ref, locked);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public Vehicle createVehicle() {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       return getModel().createVehicle((Integer) null).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void setVehicleLength(TCSObjectReference<Vehicle> ref, int length)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleLength(ref, length);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public LocationType createLocationType() {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       return getModel().createLocationType((Integer) null).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -386,9 +485,13 @@ class KernelStateModelling
       TCSObjectReference<LocationType> ref,
       String operation)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().addLocationTypeAllowedOperation(ref, operation);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -396,18 +499,26 @@ class KernelStateModelling
   public void removeLocationTypeAllowedOperation(
       TCSObjectReference<LocationType> ref, String operation)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().removeLocationTypeAllowedOperation(ref, operation);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public Location createLocation(TCSObjectReference<LocationType> typeRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       return getModel().createLocation(null, typeRef).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -415,9 +526,13 @@ class KernelStateModelling
   public void setLocationPosition(TCSObjectReference<Location> ref,
                                   Triple position)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setLocationPosition(ref, position);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -425,9 +540,13 @@ class KernelStateModelling
   public void setLocationType(TCSObjectReference<Location> ref,
                               TCSObjectReference<LocationType> typeRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setLocationType(ref, typeRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -435,9 +554,13 @@ class KernelStateModelling
   public void connectLocationToPoint(TCSObjectReference<Location> locRef,
                                      TCSObjectReference<Point> pointRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().connectLocationToPoint(locRef, pointRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -445,9 +568,13 @@ class KernelStateModelling
   public void disconnectLocationFromPoint(TCSObjectReference<Location> locRef,
                                           TCSObjectReference<Point> pointRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().disconnectLocationFromPoint(locRef, pointRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -456,9 +583,13 @@ class KernelStateModelling
       TCSObjectReference<Location> locRef, TCSObjectReference<Point> pointRef,
       String operation)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().addLocationLinkAllowedOperation(locRef, pointRef, operation);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -467,9 +598,13 @@ class KernelStateModelling
       TCSObjectReference<Location> locRef, TCSObjectReference<Point> pointRef,
       String operation)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().removeLocationLinkAllowedOperation(locRef, pointRef, operation);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -477,18 +612,26 @@ class KernelStateModelling
   public void clearLocationLinkAllowedOperations(
       TCSObjectReference<Location> locRef, TCSObjectReference<Point> pointRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().clearLocationLinkAllowedOperations(locRef, pointRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public Block createBlock() {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       // Return a copy of the point
       return getModel().createBlock((Integer) null).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -496,9 +639,13 @@ class KernelStateModelling
   public void addBlockMember(TCSObjectReference<Block> ref,
                              TCSResourceReference<?> newMemberRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().addBlockMember(ref, newMemberRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -506,18 +653,26 @@ class KernelStateModelling
   public void removeBlockMember(TCSObjectReference<Block> ref,
                                 TCSResourceReference<?> rmMemberRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().removeBlockMember(ref, rmMemberRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public org.opentcs.data.model.StaticRoute createStaticRoute() {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       // Return a copy of the point
       return getModel().createStaticRoute((Integer) null).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -525,17 +680,25 @@ class KernelStateModelling
   public void addStaticRouteHop(TCSObjectReference<org.opentcs.data.model.StaticRoute> ref,
                                 TCSObjectReference<Point> newHopRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().addStaticRouteHop(ref, newHopRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void clearStaticRouteHops(TCSObjectReference<org.opentcs.data.model.StaticRoute> ref)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().clearStaticRouteHops(ref);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 }
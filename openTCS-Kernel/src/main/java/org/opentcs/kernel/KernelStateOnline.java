@@ -39,20 +39,20 @@ abstract class KernelStateOnline
   /**
    * Creates a new instance.
    *
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
    * @param objectPool The object pool to be used.
    * @param model The model to be used.
    * @param messageBuffer The message buffer to be used.
    * @param modelPersister The model persister to be used.
    * @param saveModelOnTerminate Whether to save the model when this state is terminated.
    */
-  public KernelStateOnline(Object globalSyncObject,
+  public KernelStateOnline(StripedKernelLock kernelLock,
                            TCSObjectPool objectPool,
                            Model model,
                            NotificationBuffer messageBuffer,
                            ModelPersister modelPersister,
                            boolean saveModelOnTerminate) {
-    super(globalSyncObject, objectPool, model, messageBuffer, modelPersister);
+    super(kernelLock, objectPool, model, messageBuffer, modelPersister);
     this.saveModelOnTerminate = saveModelOnTerminate;
   }
 
@@ -67,18 +67,26 @@ abstract class KernelStateOnline
   @Deprecated
   public void savePlantModel()
       throws IllegalStateException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModelPersister().saveModel(getModel(), getModel().getName());
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void saveModel(String modelName)
       throws IOException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModelPersister().saveModel(getModel(), modelName);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -87,9 +95,13 @@ abstract class KernelStateOnline
       TCSObjectReference<VisualLayout> ref,
       List<org.opentcs.data.model.visualization.ViewBookmark> bookmarks)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVisualLayoutViewBookmarks(ref, bookmarks);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
 }
@@ -49,6 +49,7 @@ import org.opentcs.drivers.vehicle.VehicleCommAdapter;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.extensions.xmlhost.orders.ScriptFileManager;
 import org.opentcs.kernel.persistence.ModelPersister;
+import org.opentcs.kernel.persistence.TransportOrderJournal;
 import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
 import org.opentcs.kernel.workingset.Model;
 import org.opentcs.kernel.workingset.NotificationBuffer;
@@ -107,6 +108,10 @@ class KernelStateOperating
    * The kernel's executor.
    */
   private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The journal persisting transport orders and order sequences.
+   */
+  private final TransportOrderJournal orderJournal;
   /**
    * A task for periodically getting rid of old orders.
    */
@@ -143,7 +148,7 @@ class KernelStateOperating
    */
   @Inject
   @SuppressWarnings("deprecation")
-  KernelStateOperating(@GlobalKernelSync Object globalSyncObject,
+  KernelStateOperating(StripedKernelLock kernelLock,
                        TCSObjectPool objectPool,
                        Model model,
                        TransportOrderPool orderPool,
@@ -157,11 +162,12 @@ class KernelStateOperating
                        LocalVehicleControllerPool controllerPool,
                        ScriptFileManager scriptFileManager,
                        @KernelExecutor ScheduledExecutorService kernelExecutor,
+                       TransportOrderJournal orderJournal,
                        OrderCleanerTask orderCleanerTask,
                        @ActiveInOperatingMode Set<KernelExtension> extensions,
                        AttachmentManager attachmentManager,
                        VehicleService vehicleService) {
-    super(globalSyncObject,
+    super(kernelLock,
           objectPool,
           model,
           messageBuffer,
@@ -176,6 +182,7 @@ class KernelStateOperating
     this.scriptFileManager = requireNonNull(scriptFileManager, "scriptFileManager");
     this.vehicleControllerPool = requireNonNull(controllerPool, "controllerPool");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.orderJournal = requireNonNull(orderJournal, "orderJournal");
     this.orderCleanerTask = requireNonNull(orderCleanerTask, "orderCleanerTask");
     this.extensions = requireNonNull(extensions, "extensions");
     this.attachmentManager = requireNonNull(attachmentManager, "attachmentManager");
@@ -202,6 +209,10 @@ class KernelStateOperating
       setVehicleOrderSequence(curVehicle.getReference(), null);
     }
 
+    // Restore transport orders from before the last shutdown before any strategy sees them.
+    LOG.debug("Initializing transport order journal '{}'...", orderJournal);
+    orderJournal.initialize();
+
     LOG.debug("Initializing scheduler '{}'...", scheduler);
     scheduler.initialize();
     LOG.debug("Initializing router '{}'...", router);
@@ -288,6 +299,10 @@ class KernelStateOperating
       setVehicleOrderSequence(curVehicle.getReference(), null);
     }
 
+    // Stop journaling before removing the orders, so they are restored on the next start.
+    LOG.debug("Terminating transport order journal '{}'...", orderJournal);
+    orderJournal.terminate();
+
     // Remove all orders and order sequences from the pool.
     orderPool.clear();
 
@@ -305,7 +320,8 @@ class KernelStateOperating
   @Deprecated
   public void removeTCSObject(TCSObjectReference<?> ref)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       TCSObject<?> object = getGlobalObjectPool().getObjectOrNull(ref);
       if (object == null) {
         throw new ObjectUnknownException(ref);
@@ -353,6 +369,9 @@ class KernelStateOperating
         super.removeTCSObject(ref);
       }
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -360,12 +379,16 @@ class KernelStateOperating
   public void setPathLocked(TCSObjectReference<Path> ref,
                             boolean locked)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setPathLocked(ref, locked);
       if (configuration.updateRoutingTopologyOnPathLockChange()) {
         updateRoutingTopology();
       }
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -373,9 +396,13 @@ class KernelStateOperating
   public void setVehicleEnergyLevel(TCSObjectReference<Vehicle> ref,
                                     int energyLevel)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleEnergyLevel(ref, energyLevel);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -383,9 +410,13 @@ class KernelStateOperating
   public void setVehicleRechargeOperation(TCSObjectReference<Vehicle> ref,
                                           String rechargeOperation)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleRechargeOperation(ref, rechargeOperation);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -393,9 +424,13 @@ class KernelStateOperating
   public void setVehicleLoadHandlingDevices(TCSObjectReference<Vehicle> ref,
                                             List<LoadHandlingDevice> devices)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleLoadHandlingDevices(ref, devices);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -403,9 +438,13 @@ class KernelStateOperating
   public void setVehicleMaxVelocity(TCSObjectReference<Vehicle> ref,
                                     int velocity)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleMaxVelocity(ref, velocity);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -413,9 +452,13 @@ class KernelStateOperating
   public void setVehicleMaxReverseVelocity(TCSObjectReference<Vehicle> ref,
                                            int velocity)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleMaxReverseVelocity(ref, velocity);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -423,9 +466,13 @@ class KernelStateOperating
   public void setVehicleState(TCSObjectReference<Vehicle> ref,
                               Vehicle.State newState)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleState(ref, newState);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -433,10 +480,14 @@ class KernelStateOperating
   public void setVehicleProcState(TCSObjectReference<Vehicle> ref,
                                   Vehicle.ProcState newState)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       LOG.debug("Updating procState of vehicle {} to {}...", ref.getName(), newState);
       getModel().setVehicleProcState(ref, newState);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -444,18 +495,26 @@ class KernelStateOperating
   public void setVehicleAdapterState(TCSObjectReference<Vehicle> ref,
                                      VehicleCommAdapter.State newState)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleAdapterState(ref, newState);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void setVehicleProcessableCategories(TCSObjectReference<Vehicle> ref,
                                               Set<String> processableCategories) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleProcessableCategories(ref, processableCategories);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -463,10 +522,14 @@ class KernelStateOperating
   public void setVehiclePosition(TCSObjectReference<Vehicle> vehicleRef,
                                  TCSObjectReference<Point> pointRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       LOG.debug("Vehicle {} has reached point {}.", vehicleRef, pointRef);
       getModel().setVehiclePosition(vehicleRef, pointRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -474,9 +537,13 @@ class KernelStateOperating
   public void setVehicleNextPosition(TCSObjectReference<Vehicle> vehicleRef,
                                      TCSObjectReference<Point> pointRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleNextPosition(vehicleRef, pointRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -484,9 +551,13 @@ class KernelStateOperating
   public void setVehiclePrecisePosition(TCSObjectReference<Vehicle> vehicleRef,
                                         Triple newPosition)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehiclePrecisePosition(vehicleRef, newPosition);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -494,9 +565,13 @@ class KernelStateOperating
   public void setVehicleOrientationAngle(TCSObjectReference<Vehicle> vehicleRef,
                                          double angle)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleOrientationAngle(vehicleRef, angle);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -505,9 +580,13 @@ class KernelStateOperating
       TCSObjectReference<Vehicle> vehicleRef,
       TCSObjectReference<TransportOrder> orderRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleTransportOrder(vehicleRef, orderRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -515,9 +594,13 @@ class KernelStateOperating
   public void setVehicleOrderSequence(TCSObjectReference<Vehicle> vehicleRef,
                                       TCSObjectReference<OrderSequence> seqRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleOrderSequence(vehicleRef, seqRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -526,25 +609,37 @@ class KernelStateOperating
       TCSObjectReference<Vehicle> vehicleRef,
       int index)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       getModel().setVehicleRouteProgressIndex(vehicleRef, index);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public TransportOrder createTransportOrder(List<Destination> destinations) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       return orderPool.createTransportOrder(destinations).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public TransportOrder createTransportOrder(TransportOrderCreationTO to) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       return orderPool.createTransportOrder(to).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -552,16 +647,21 @@ class KernelStateOperating
   public void setTransportOrderDeadline(TCSObjectReference<TransportOrder> ref,
                                         long deadline)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setTransportOrderDeadline(ref, deadline);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void activateTransportOrder(TCSObjectReference<TransportOrder> ref)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       TransportOrder order = getGlobalObjectPool().getObject(TransportOrder.class, ref);
       // Check if the transport order hasn't been activated before.
       checkArgument(order.hasState(TransportOrder.State.RAW),
@@ -569,6 +669,9 @@ class KernelStateOperating
                     order);
       dispatcher.dispatch(order);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -576,9 +679,13 @@ class KernelStateOperating
   public void setTransportOrderState(TCSObjectReference<TransportOrder> ref,
                                      TransportOrder.State newState)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setTransportOrderState(ref, newState);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -587,9 +694,13 @@ class KernelStateOperating
       TCSObjectReference<TransportOrder> orderRef,
       TCSObjectReference<Vehicle> vehicleRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setTransportOrderIntendedVehicle(orderRef, vehicleRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -598,9 +709,13 @@ class KernelStateOperating
                                                  TCSObjectReference<Vehicle> vehicleRef,
                                                  List<DriveOrder> driveOrders)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setTransportOrderProcessingVehicle(orderRef, vehicleRef, driveOrders);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -609,9 +724,13 @@ class KernelStateOperating
       TCSObjectReference<TransportOrder> orderRef,
       TCSObjectReference<Vehicle> vehicleRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setTransportOrderProcessingVehicle(orderRef, vehicleRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -619,9 +738,13 @@ class KernelStateOperating
   public void setTransportOrderFutureDriveOrders(TCSObjectReference<TransportOrder> orderRef,
                                                  List<DriveOrder> newOrders)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setTransportOrderDriveOrders(orderRef, newOrders);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -629,9 +752,13 @@ class KernelStateOperating
   public void setTransportOrderDriveOrders(TCSObjectReference<TransportOrder> orderRef,
                                            List<DriveOrder> newOrders)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setTransportOrderDriveOrders(orderRef, newOrders);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -639,9 +766,13 @@ class KernelStateOperating
   public void setTransportOrderInitialDriveOrder(
       TCSObjectReference<TransportOrder> ref)
       throws ObjectUnknownException, IllegalStateException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setTransportOrderInitialDriveOrder(ref);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -649,9 +780,13 @@ class KernelStateOperating
   public void setTransportOrderNextDriveOrder(
       TCSObjectReference<TransportOrder> ref)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setTransportOrderNextDriveOrder(ref);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -660,9 +795,13 @@ class KernelStateOperating
       TCSObjectReference<TransportOrder> orderRef,
       TCSObjectReference<TransportOrder> newDepRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.addTransportOrderDependency(orderRef, newDepRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -671,9 +810,13 @@ class KernelStateOperating
       TCSObjectReference<TransportOrder> orderRef,
       TCSObjectReference<TransportOrder> rmDepRef)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.addTransportOrderDependency(orderRef, rmDepRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -682,9 +825,13 @@ class KernelStateOperating
       TCSObjectReference<TransportOrder> orderRef,
       Rejection newRejection)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.addTransportOrderRejection(orderRef, newRejection);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -693,25 +840,37 @@ class KernelStateOperating
       TCSObjectReference<TransportOrder> orderRef,
       boolean dispensable)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setTransportOrderDispensable(orderRef, dispensable);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public OrderSequence createOrderSequence() {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       return orderPool.createOrderSequence().clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public OrderSequence createOrderSequence(OrderSequenceCreationTO to) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       return orderPool.createOrderSequence(to).clone();
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -719,9 +878,13 @@ class KernelStateOperating
   public void addOrderSequenceOrder(
       TCSObjectReference<OrderSequence> seqRef,
       TCSObjectReference<TransportOrder> orderRef) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.addOrderSequenceOrder(seqRef, orderRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -729,9 +892,13 @@ class KernelStateOperating
   public void removeOrderSequenceOrder(
       TCSObjectReference<OrderSequence> seqRef,
       TCSObjectReference<TransportOrder> orderRef) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.removeOrderSequenceOrder(seqRef, orderRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -739,15 +906,20 @@ class KernelStateOperating
   public void setOrderSequenceFinishedIndex(
       TCSObjectReference<OrderSequence> ref,
       int index) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setOrderSequenceFinishedIndex(ref, index);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void setOrderSequenceComplete(TCSObjectReference<OrderSequence> ref) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       OrderSequence seq = getGlobalObjectPool().getObject(OrderSequence.class, ref);
       // Make sure we don't execute this if the sequence is already marked as
       // finished, as that would make it possible to trigger disposition of a
@@ -769,12 +941,16 @@ class KernelStateOperating
         }
       }
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void setOrderSequenceFinished(TCSObjectReference<OrderSequence> ref) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       OrderSequence seq = getGlobalObjectPool().getObject(OrderSequence.class, ref);
       // Make sure we don't execute this if the sequence is already marked as
       // finished, as that would make it possible to trigger disposition of a
@@ -791,6 +967,9 @@ class KernelStateOperating
         getModel().setVehicleOrderSequence(vehicle.getReference(), null);
       }
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -798,9 +977,13 @@ class KernelStateOperating
   public void setOrderSequenceFailureFatal(
       TCSObjectReference<OrderSequence> ref,
       boolean fatal) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setOrderSequenceFailureFatal(ref, fatal);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -808,9 +991,13 @@ class KernelStateOperating
   public void setOrderSequenceIntendedVehicle(
       TCSObjectReference<OrderSequence> seqRef,
       TCSObjectReference<Vehicle> vehicleRef) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setOrderSequenceIntendedVehicle(seqRef, vehicleRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -818,9 +1005,13 @@ class KernelStateOperating
   public void setOrderSequenceProcessingVehicle(
       TCSObjectReference<OrderSequence> seqRef,
       TCSObjectReference<Vehicle> vehicleRef) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       orderPool.setOrderSequenceProcessingVehicle(seqRef, vehicleRef);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -829,11 +1020,15 @@ class KernelStateOperating
                                      boolean immediateAbort,
                                      boolean disableVehicle)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       dispatcher.withdrawOrder(getGlobalObjectPool().getObject(TransportOrder.class, ref),
                                immediateAbort,
                                disableVehicle);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
@@ -842,18 +1037,23 @@ class KernelStateOperating
                                               boolean immediateAbort,
                                               boolean disableVehicle)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       dispatcher.withdrawOrder(getGlobalObjectPool().getObject(Vehicle.class, vehicleRef),
                                immediateAbort,
                                disableVehicle);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void dispatchVehicle(TCSObjectReference<Vehicle> vehicleRef,
                               boolean setIdleIfUnavailable) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       Vehicle vehicle = getGlobalObjectPool().getObject(Vehicle.class, vehicleRef);
       // If the vehicle's processing state is currently UNAVAILABLE and we're
       // supposed to change that to IDLE implicitly, do so.
@@ -874,31 +1074,43 @@ class KernelStateOperating
                  vehicle.getProcState());
       }
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void releaseVehicle(TCSObjectReference<Vehicle> vehicleRef) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       dispatcher.releaseVehicle(getGlobalObjectPool().getObject(Vehicle.class, vehicleRef));
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void sendCommAdapterMessage(TCSObjectReference<Vehicle> vehicleRef, Object message) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       vehicleControllerPool
           .getVehicleController(vehicleRef.getName())
           .sendCommAdapterMessage(message);
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public List<TransportOrder> createTransportOrdersFromScript(String fileName)
       throws ObjectUnknownException, IOException {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       List<TransportOrder> orders
           = scriptFileManager.createTransportOrdersFromScript(fileName);
       // Return a deep copy.
@@ -908,15 +1120,22 @@ class KernelStateOperating
       }
       return result;
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void updateRoutingTopology() {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().writeLock().lock();
+    try {
       router.topologyChanged();
       // XXX Check if we need to re-route any vehicles?
     }
+    finally {
+      getKernelLock().writeLock().unlock();
+    }
   }
 
   @Override
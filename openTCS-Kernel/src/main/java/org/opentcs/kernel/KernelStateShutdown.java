@@ -35,12 +35,12 @@ final class KernelStateShutdown
    * @param modelPersister The model persister to be used.
    */
   @Inject
-  public KernelStateShutdown(@GlobalKernelSync Object globalSyncObject,
+  public KernelStateShutdown(StripedKernelLock kernelLock,
                              TCSObjectPool objectPool,
                              Model model,
                              NotificationBuffer messageBuffer,
                              ModelPersister modelPersister) {
-    super(globalSyncObject,
+    super(kernelLock,
           objectPool,
           model,
           messageBuffer,
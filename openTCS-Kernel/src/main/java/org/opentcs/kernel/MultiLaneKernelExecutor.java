@@ -0,0 +1,232 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
+import org.opentcs.components.kernel.KernelExecutorLanes;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The kernel's executors, partitioned into lanes with a single thread each.
+ * <p>
+ * The global, dispatching and scheduling keys are mapped to lanes of their own (as far as the
+ * number of lanes permits), so that e.g. a long-running dispatcher run does not delay resource
+ * allocations. All other keys (e.g. those of vehicles' comm adapters) are distributed over the
+ * remaining lanes by their hash codes. If there are no remaining lanes, they are mapped to the
+ * global lane, so they never delay dispatching or resource allocations.
+ * Each lane records how long tasks had to wait before being executed.
+ * </p>
+ * <p>
+ * When the global lane is shut down, all other lanes are shut down, too.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class MultiLaneKernelExecutor
+    implements KernelExecutorLanes {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(MultiLaneKernelExecutor.class);
+  /**
+   * The keys that are mapped to lanes of their own, in the order of their lanes.
+   */
+  private static final List<String> DEDICATED_KEYS = Arrays.asList(GLOBAL,
+                                                                   DISPATCHING,
+                                                                   SCHEDULING);
+  /**
+   * The lanes.
+   */
+  private final Lane[] lanes;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param laneCount The number of lanes. If this is 1, all tasks are executed in the global lane.
+   */
+  public MultiLaneKernelExecutor(int laneCount) {
+    checkArgument(laneCount > 0, "laneCount <= 0: %s", laneCount);
+    lanes = new Lane[laneCount];
+    for (int i = 0; i < laneCount; i++) {
+      lanes[i] = new Lane(i == 0 ? "kernelExecutor" : "kernelExecutor-" + i);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledExecutorService lane(@Nonnull Object key) {
+    return lanes[laneIndex(key)];
+  }
+
+  /**
+   * Returns the lane for {@link #GLOBAL}.
+   *
+   * @return The lane for {@link #GLOBAL}.
+   */
+  @Nonnull
+  public ScheduledExecutorService globalLane() {
+    return lanes[0];
+  }
+
+  /**
+   * Returns all lanes.
+   *
+   * @return All lanes.
+   */
+  @Nonnull
+  public List<Lane> getLanes() {
+    return Collections.unmodifiableList(Arrays.asList(lanes));
+  }
+
+  /**
+   * Returns the index of the lane the given key is mapped to.
+   *
+   * @param key The key.
+   * @return The index of the lane.
+   */
+  int laneIndex(@Nonnull Object key) {
+    requireNonNull(key, "key");
+    int dedicatedIndex = DEDICATED_KEYS.indexOf(key);
+    if (dedicatedIndex >= 0) {
+      return dedicatedIndex < lanes.length ? dedicatedIndex : 0;
+    }
+    if (lanes.length > DEDICATED_KEYS.size()) {
+      return DEDICATED_KEYS.size()
+          + Math.floorMod(key.hashCode(), lanes.length - DEDICATED_KEYS.size());
+    }
+    return 0;
+  }
+
+  private void globalLaneTerminated() {
+    for (int i = 1; i < lanes.length; i++) {
+      lanes[i].shutdown();
+    }
+    for (Lane lane : lanes) {
+      LOG.info("Lane statistics: {}", lane);
+    }
+  }
+
+  /**
+   * A single lane, executing its tasks on a single thread.
+   */
+  public class Lane
+      extends LoggingScheduledThreadPoolExecutor {
+
+    /**
+     * The name of this lane's thread.
+     */
+    private final String name;
+    /**
+     * The number of tasks executed.
+     */
+    private final LongAdder executedTaskCount = new LongAdder();
+    /**
+     * The accumulated time tasks waited before being executed (in ns).
+     */
+    private final LongAdder totalQueueWaitTime = new LongAdder();
+    /**
+     * The maximum time a task waited before being executed (in ns).
+     */
+    private final LongAccumulator maxQueueWaitTime = new LongAccumulator(Long::max, 0);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param name The name of this lane's thread.
+     */
+    private Lane(String name) {
+      super(1,
+            (runnable) -> {
+              Thread thread = new Thread(runnable, name);
+              thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+              return thread;
+            });
+      this.name = name;
+    }
+
+    /**
+     * Returns the number of tasks executed by this lane.
+     *
+     * @return The number of tasks executed by this lane.
+     */
+    public long getExecutedTaskCount() {
+      return executedTaskCount.sum();
+    }
+
+    /**
+     * Returns the average time tasks waited before being executed.
+     * For tasks scheduled with a delay, this is the time between the scheduled and the actual start
+     * time.
+     *
+     * @param unit The time unit of the value to be returned.
+     * @return The average time tasks waited before being executed.
+     */
+    public long getAverageQueueWaitTime(@Nonnull TimeUnit unit) {
+      long count = executedTaskCount.sum();
+      if (count == 0) {
+        return 0;
+      }
+      return unit.convert(totalQueueWaitTime.sum() / count, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the maximum time a task waited before being executed.
+     *
+     * @param unit The time unit of the value to be returned.
+     * @return The maximum time a task waited before being executed.
+     */
+    public long getMaxQueueWaitTime(@Nonnull TimeUnit unit) {
+      return unit.convert(maxQueueWaitTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+      super.beforeExecute(t, r);
+      if (r instanceof Delayed) {
+        // The (negative) delay of a task being executed is the time since it became due.
+        long waitTime = Math.max(0, -((Delayed) r).getDelay(TimeUnit.NANOSECONDS));
+        executedTaskCount.increment();
+        totalQueueWaitTime.add(waitTime);
+        maxQueueWaitTime.accumulate(waitTime);
+      }
+    }
+
+    @Override
+    protected void terminated() {
+      super.terminated();
+      if (this == lanes[0]) {
+        globalLaneTerminated();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "Lane{"
+          + "name=" + name
+          + ", executedTaskCount=" + getExecutedTaskCount()
+          + ", queuedTaskCount=" + getQueue().size()
+          + ", averageQueueWaitTime=" + getAverageQueueWaitTime(TimeUnit.MICROSECONDS) + "us"
+          + ", maxQueueWaitTime=" + getMaxQueueWaitTime(TimeUnit.MILLISECONDS) + "ms"
+          + '}';
+    }
+  }
+}
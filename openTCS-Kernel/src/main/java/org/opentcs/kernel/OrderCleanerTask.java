@@ -8,7 +8,10 @@
 package org.opentcs.kernel;
 
 import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -18,6 +21,7 @@ import org.opentcs.components.kernel.TransportOrderCleanupApproval;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.persistence.OrderArchive;
 import org.opentcs.kernel.workingset.TransportOrderPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,9 +39,9 @@ class OrderCleanerTask
    */
   private static final Logger LOG = LoggerFactory.getLogger(OrderCleanerTask.class);
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The kernel's locks for synchronizing access to the working set.
    */
-  private final Object globalSyncObject;
+  private final StripedKernelLock kernelLock;
   /**
    * Keeps all the transport orders.
    */
@@ -50,6 +54,10 @@ class OrderCleanerTask
    * Check whether order sequences may be removed.
    */
   private final Set<OrderSequenceCleanupApproval> sequenceCleanupApprovals;
+  /**
+   * The archive removed orders are appended to.
+   */
+  private final OrderArchive orderArchive;
   /**
    * This class's configuration.
    */
@@ -58,20 +66,23 @@ class OrderCleanerTask
   /**
    * Creates a new instance.
    *
-   * @param kernel The kernel.
+   * @param kernelLock The kernel's locks.
+   * @param orderArchive The archive removed orders are appended to.
    * @param configuration This class's configuration.
    */
   @Inject
-  public OrderCleanerTask(@GlobalKernelSync Object globalSyncObject,
+  public OrderCleanerTask(StripedKernelLock kernelLock,
                           TransportOrderPool orderPool,
                           Set<TransportOrderCleanupApproval> orderCleanupApprovals,
                           Set<OrderSequenceCleanupApproval> sequenceCleanupApprovals,
+                          OrderArchive orderArchive,
                           OrderPoolConfiguration configuration) {
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
     this.orderPool = requireNonNull(orderPool, "orderPool");
     this.orderCleanupApprovals = requireNonNull(orderCleanupApprovals, "orderCleanupApprovals");
     this.sequenceCleanupApprovals = requireNonNull(sequenceCleanupApprovals,
                                                    "sequenceCleanupApprovals");
+    this.orderArchive = requireNonNull(orderArchive, "orderArchive");
     this.configuration = requireNonNull(configuration, "configuration");
   }
 
@@ -81,26 +92,100 @@ class OrderCleanerTask
 
   @Override
   public void run() {
-    synchronized (globalSyncObject) {
+    List<TransportOrder> orders = new ArrayList<>();
+    Map<OrderSequence, List<TransportOrder>> sequences = new LinkedHashMap<>();
+
+    kernelLock.readLock().lock();
+    try {
       LOG.debug("Sweeping order pool...");
       // Candidates that are created before this point of time should be removed.
       long creationTimeThreshold = System.currentTimeMillis() - configuration.sweepAge();
 
-      // Remove all transport orders in a final state that do NOT belong to a sequence and that are
-      // older than the threshold.
-      for (TransportOrder transportOrder
-               : orderPool.getObjectPool().getObjects(TransportOrder.class,
-                                                      new OrderApproval(creationTimeThreshold))) {
-        orderPool.removeTransportOrder(transportOrder.getReference());
+      // Collect all transport orders in a final state that do NOT belong to a sequence and that
+      // are older than the threshold.
+      OrderApproval orderApproval = new OrderApproval(creationTimeThreshold);
+      for (TransportOrder.State state : TransportOrder.State.values()) {
+        if (!state.isFinalState()) {
+          continue;
+        }
+        for (TransportOrder transportOrder : orderPool.getTransportOrdersByState(state)) {
+          if (orderApproval.test(transportOrder)) {
+            orders.add(transportOrder);
+          }
+        }
       }
 
-      // Remove all order sequences that have been finished, including their transport orders.
+      // Collect all order sequences that have been finished, including their transport orders.
       for (OrderSequence orderSequence
                : orderPool.getObjectPool().getObjects(
               OrderSequence.class,
               new SequenceApproval(creationTimeThreshold))) {
-        orderPool.removeFinishedOrderSequenceAndOrders(orderSequence.getReference());
+        List<TransportOrder> sequenceOrders = new ArrayList<>();
+        for (TCSObjectReference<TransportOrder> orderRef : orderSequence.getOrders()) {
+          TransportOrder order = orderPool.getObjectPool().getObjectOrNull(TransportOrder.class,
+                                                                           orderRef);
+          if (order != null) {
+            sequenceOrders.add(order);
+          }
+        }
+        sequences.put(orderSequence, sequenceOrders);
+      }
+    }
+    finally {
+      kernelLock.readLock().unlock();
+    }
+
+    if (configuration.archiveEnabled()) {
+      // The archive does its own synchronization, so do this without blocking the kernel.
+      // Orders that could not be archived are kept, so archiving them is retried with the next
+      // sweep.
+      if (!archiveTransportOrders(orders)) {
+        orders.clear();
+      }
+      sequences.entrySet().removeIf(entry -> !archiveOrderSequence(entry.getKey(),
+                                                                   entry.getValue()));
+    }
+
+    kernelLock.writeLock().lock();
+    try {
+      // The collected orders are in a final state, but they may have been removed in the meantime.
+      for (TransportOrder order : orders) {
+        if (orderPool.getObjectPool().getObjectOrNull(TransportOrder.class,
+                                                      order.getReference()) != null) {
+          orderPool.removeTransportOrder(order.getReference());
+        }
       }
+      for (OrderSequence sequence : sequences.keySet()) {
+        if (orderPool.getObjectPool().getObjectOrNull(OrderSequence.class,
+                                                      sequence.getReference()) != null) {
+          orderPool.removeFinishedOrderSequenceAndOrders(sequence.getReference());
+        }
+      }
+    }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
+  }
+
+  private boolean archiveTransportOrders(List<TransportOrder> orders) {
+    try {
+      orderArchive.archiveTransportOrders(orders);
+      return true;
+    }
+    catch (IllegalStateException exc) {
+      LOG.warn("Could not archive transport orders, keeping them", exc);
+      return false;
+    }
+  }
+
+  private boolean archiveOrderSequence(OrderSequence sequence, List<TransportOrder> orders) {
+    try {
+      orderArchive.archiveOrderSequence(sequence, orders);
+      return true;
+    }
+    catch (IllegalStateException exc) {
+      LOG.warn("Could not archive order sequence {}, keeping it", sequence.getName(), exc);
+      return false;
     }
   }
 
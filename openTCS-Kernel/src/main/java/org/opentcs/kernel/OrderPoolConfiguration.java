@@ -32,4 +32,29 @@ public interface OrderPoolConfiguration {
       type = "Integer",
       description = "The minimum age of orders to remove in a sweep (in ms).")
   int sweepAge();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = "Whether to archive swept orders instead of discarding them.")
+  boolean archiveEnabled();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The size of the order archive's segment files (in bytes, at most 2147483647).")
+  int archiveSegmentSize();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = "The maximum age of archived orders (in ms), or 0 to keep them forever.")
+  long archiveMaxAge();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = "Whether to journal transport orders so they are restored after a restart.")
+  boolean journalEnabled();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = "The interval between snapshots of the transport order journal (in ms).")
+  long journalSnapshotInterval();
 }
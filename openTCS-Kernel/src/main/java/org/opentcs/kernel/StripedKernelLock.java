@@ -0,0 +1,505 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.data.TCSObjectReference;
+import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkState;
+
+/**
+ * Provides the locks used for synchronizing access to the kernel's working set.
+ * <p>
+ * Three kinds of locks are provided:
+ * </p>
+ * <ul>
+ * <li>The <em>read lock</em>, for reading from the working set. It is shared, i.e. any number of
+ * threads may hold it at the same time, also while other threads are modifying individual
+ * objects.</li>
+ * <li>Object locks, for modifying specific, existing objects (e.g. updating a vehicle's position).
+ * An object lock consists of the read lock plus the lock stripes the objects' names map to. Thus,
+ * modifications of unrelated objects do not block each other.</li>
+ * <li>The <em>write lock</em>, for all other modifications, e.g. structural changes like creating or
+ * removing objects, loading a plant model or changing the kernel's state. It is exclusive, i.e. it
+ * blocks all other locks.</li>
+ * </ul>
+ * <p>
+ * To prevent deadlocks, locks must be acquired in the following order:
+ * </p>
+ * <ol>
+ * <li>The write lock.</li>
+ * <li>The read lock.</li>
+ * <li>Lock stripes, in ascending order of their indices.</li>
+ * </ol>
+ * <p>
+ * Object locks returned by {@link #objectLock(java.util.Collection)} adhere to this order
+ * implicitly. Since a read lock cannot be upgraded to a write lock, a thread holding the read lock
+ * or an object lock may not acquire the write lock - attempting to do so results in an
+ * {@link IllegalStateException} instead of a deadlock.
+ * </p>
+ * <p>
+ * Events for modifications are emitted synchronously while the modifying thread still holds the
+ * corresponding locks. Thus, the events for an object are delivered in the order the object was
+ * modified, while events for unrelated objects may be delivered concurrently. Event handlers that
+ * need the write lock have to do their work asynchronously, e.g. via the kernel executor.
+ * </p>
+ * <p>
+ * Listeners registered via {@link #addReleaseListener(java.lang.Runnable)} are notified whenever a
+ * thread is about to release the last lock it holds, i.e. when it has completed a modification.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class StripedKernelLock {
+
+  /**
+   * The lock separating structural (exclusive) modifications from reads and object modifications.
+   */
+  private final ReentrantReadWriteLock globalLock = new ReentrantReadWriteLock();
+  /**
+   * The read lock, notifying release listeners.
+   */
+  private final Lock readLock = new ReadLock();
+  /**
+   * The write lock, checking for attempts to upgrade a read lock.
+   */
+  private final Lock writeLock = new WriteLock();
+  /**
+   * The lock stripes objects are mapped to.
+   */
+  private final ReentrantLock[] stripes;
+  /**
+   * Listeners to be notified when a thread is about to release the last lock it holds.
+   */
+  private final List<Runnable> releaseListeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The kernel application's configuration.
+   */
+  @Inject
+  public StripedKernelLock(KernelApplicationConfiguration configuration) {
+    this(configuration.lockStripeCount());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param stripeCount The number of lock stripes objects are mapped to.
+   */
+  public StripedKernelLock(int stripeCount) {
+    checkArgument(stripeCount > 0, "stripeCount <= 0: %s", stripeCount);
+    stripes = new ReentrantLock[stripeCount];
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * Returns the (shared) read lock.
+   *
+   * @return The read lock.
+   */
+  @Nonnull
+  public Lock readLock() {
+    return readLock;
+  }
+
+  /**
+   * Returns the (exclusive) write lock.
+   *
+   * @return The write lock.
+   */
+  @Nonnull
+  public Lock writeLock() {
+    return writeLock;
+  }
+
+  /**
+   * Returns a lock for modifying the referenced objects.
+   *
+   * @param refs References to the objects to be modified.
+   * @return A lock for modifying the referenced objects.
+   */
+  @Nonnull
+  public ObjectLock objectLock(@Nonnull TCSObjectReference<?>... refs) {
+    return objectLock(Arrays.asList(refs));
+  }
+
+  /**
+   * Returns a lock for modifying the referenced objects.
+   * <code>null</code> references are ignored.
+   *
+   * @param refs References to the objects to be modified.
+   * @return A lock for modifying the referenced objects.
+   */
+  @Nonnull
+  public ObjectLock objectLock(@Nonnull Collection<? extends TCSObjectReference<?>> refs) {
+    requireNonNull(refs, "refs");
+
+    return new ObjectLock(refs.stream()
+        .filter(ref -> ref != null)
+        .mapToInt(ref -> stripeIndex(ref.getName()))
+        .distinct()
+        .sorted()
+        .toArray());
+  }
+
+  /**
+   * Returns a lock for all objects, i.e. one consisting of the read lock and all lock stripes.
+   * While holding it, no objects are modified by any other thread, but other threads may still
+   * read.
+   *
+   * @return A lock for all objects.
+   */
+  @Nonnull
+  public ObjectLock allObjectsLock() {
+    int[] stripeIndices = new int[stripes.length];
+    for (int i = 0; i < stripeIndices.length; i++) {
+      stripeIndices[i] = i;
+    }
+    return new ObjectLock(stripeIndices);
+  }
+
+  /**
+   * Registers a listener to be notified whenever a thread is about to release the last lock it
+   * holds. The listener is called by that thread while it still holds the lock.
+   *
+   * @param listener The listener.
+   */
+  public void addReleaseListener(@Nonnull Runnable listener) {
+    releaseListeners.add(requireNonNull(listener, "listener"));
+  }
+
+  /**
+   * Checks whether the current thread holds any lock, i.e. the read lock, an object lock or the
+   * write lock.
+   *
+   * @return <code>true</code> if, and only if, the current thread holds any lock.
+   */
+  public boolean isHeldByCurrentThread() {
+    return globalLock.isWriteLockedByCurrentThread() || globalLock.getReadHoldCount() > 0;
+  }
+
+  /**
+   * Checks whether the current thread holds the write lock.
+   *
+   * @return <code>true</code> if, and only if, the current thread holds the write lock.
+   */
+  public boolean isWriteLockedByCurrentThread() {
+    return globalLock.isWriteLockedByCurrentThread();
+  }
+
+  /**
+   * Returns the number of lock stripes.
+   *
+   * @return The number of lock stripes.
+   */
+  public int getStripeCount() {
+    return stripes.length;
+  }
+
+  /**
+   * Notifies release listeners if the current thread holds exactly the given number of read and
+   * write locks, i.e. if releasing one of them releases the last lock it holds.
+   *
+   * @param readHolds The number of read locks held by a thread about to release its last lock.
+   * @param writeHolds The number of write locks held by a thread about to release its last lock.
+   */
+  private void beforeRelease(int readHolds, int writeHolds) {
+    if (globalLock.getReadHoldCount() != readHolds
+        || globalLock.getWriteHoldCount() != writeHolds) {
+      return;
+    }
+    for (Runnable listener : releaseListeners) {
+      listener.run();
+    }
+  }
+
+  private int stripeIndex(String name) {
+    // Spread the hash code's higher bits to the lower ones, like HashMap does.
+    int hash = name.hashCode();
+    hash ^= (hash >>> 16);
+    return (hash & 0x7fffffff) % stripes.length;
+  }
+
+  /**
+   * The read lock, delegating to the global lock's read lock.
+   */
+  private class ReadLock
+      implements Lock {
+
+    @Override
+    public void lock() {
+      globalLock.readLock().lock();
+    }
+
+    @Override
+    public void lockInterruptibly()
+        throws InterruptedException {
+      globalLock.readLock().lockInterruptibly();
+    }
+
+    @Override
+    public boolean tryLock() {
+      return globalLock.readLock().tryLock();
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit)
+        throws InterruptedException {
+      return globalLock.readLock().tryLock(time, unit);
+    }
+
+    @Override
+    public void unlock() {
+      try {
+        beforeRelease(1, 0);
+      }
+      finally {
+        globalLock.readLock().unlock();
+      }
+    }
+
+    @Override
+    public Condition newCondition() {
+      return globalLock.readLock().newCondition();
+    }
+  }
+
+  /**
+   * The write lock, delegating to the global lock's write lock.
+   */
+  private class WriteLock
+      implements Lock {
+
+    @Override
+    public void lock() {
+      checkNotUpgrading();
+      globalLock.writeLock().lock();
+    }
+
+    @Override
+    public void lockInterruptibly()
+        throws InterruptedException {
+      checkNotUpgrading();
+      globalLock.writeLock().lockInterruptibly();
+    }
+
+    @Override
+    public boolean tryLock() {
+      checkNotUpgrading();
+      return globalLock.writeLock().tryLock();
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit)
+        throws InterruptedException {
+      checkNotUpgrading();
+      return globalLock.writeLock().tryLock(time, unit);
+    }
+
+    @Override
+    public void unlock() {
+      try {
+        beforeRelease(0, 1);
+      }
+      finally {
+        globalLock.writeLock().unlock();
+      }
+    }
+
+    @Override
+    public Condition newCondition() {
+      return globalLock.writeLock().newCondition();
+    }
+
+    private void checkNotUpgrading() {
+      checkState(globalLock.isWriteLockedByCurrentThread() || globalLock.getReadHoldCount() == 0,
+                 "Current thread holds a read/object lock and may not acquire the write lock.");
+    }
+  }
+
+  /**
+   * A lock for a set of objects, consisting of the read lock and the objects' lock stripes.
+   * <p>
+   * Provides the locking methods of {@link Lock}, but not conditions, as waiting for a condition
+   * would require releasing and reacquiring the read lock and all stripes at once.
+   * </p>
+   */
+  public final class ObjectLock {
+
+    /**
+     * The indices of the stripes to be locked, in ascending order.
+     */
+    private final int[] stripeIndices;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param stripeIndices The indices of the stripes to be locked, in ascending order.
+     */
+    private ObjectLock(int[] stripeIndices) {
+      this.stripeIndices = stripeIndices;
+    }
+
+    /**
+     * Acquires the lock, waiting until it is available.
+     *
+     * @see Lock#lock()
+     */
+    public void lock() {
+      checkStripeOrder();
+      globalLock.readLock().lock();
+      for (int index : stripeIndices) {
+        stripes[index].lock();
+      }
+    }
+
+    /**
+     * Acquires the lock unless the current thread is interrupted.
+     *
+     * @throws InterruptedException If the current thread was interrupted while waiting.
+     * @see Lock#lockInterruptibly()
+     */
+    public void lockInterruptibly()
+        throws InterruptedException {
+      checkStripeOrder();
+      globalLock.readLock().lockInterruptibly();
+      int locked = 0;
+      try {
+        for (int index : stripeIndices) {
+          stripes[index].lockInterruptibly();
+          locked++;
+        }
+      }
+      catch (InterruptedException exc) {
+        unlockStripes(locked);
+        globalLock.readLock().unlock();
+        throw exc;
+      }
+    }
+
+    /**
+     * Acquires the lock only if it is available at the time of invocation.
+     *
+     * @return <code>true</code> if, and only if, the lock was acquired.
+     * @see Lock#tryLock()
+     */
+    public boolean tryLock() {
+      checkStripeOrder();
+      if (!globalLock.readLock().tryLock()) {
+        return false;
+      }
+      for (int i = 0; i < stripeIndices.length; i++) {
+        if (!stripes[stripeIndices[i]].tryLock()) {
+          unlockStripes(i);
+          globalLock.readLock().unlock();
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Acquires the lock if it becomes available within the given waiting time.
+     *
+     * @param time The maximum time to wait.
+     * @param unit The time unit of the <code>time</code> argument.
+     * @return <code>true</code> if, and only if, the lock was acquired.
+     * @throws InterruptedException If the current thread was interrupted while waiting.
+     * @see Lock#tryLock(long, java.util.concurrent.TimeUnit)
+     */
+    public boolean tryLock(long time, TimeUnit unit)
+        throws InterruptedException {
+      checkStripeOrder();
+      long deadline = System.nanoTime() + unit.toNanos(time);
+      if (!globalLock.readLock().tryLock(time, unit)) {
+        return false;
+      }
+      int locked = 0;
+      try {
+        for (int index : stripeIndices) {
+          if (!stripes[index].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            unlockStripes(locked);
+            globalLock.readLock().unlock();
+            return false;
+          }
+          locked++;
+        }
+      }
+      catch (InterruptedException exc) {
+        unlockStripes(locked);
+        globalLock.readLock().unlock();
+        throw exc;
+      }
+      return true;
+    }
+
+    /**
+     * Releases the lock.
+     *
+     * @see Lock#unlock()
+     */
+    public void unlock() {
+      try {
+        beforeRelease(1, 0);
+      }
+      finally {
+        unlockStripes(stripeIndices.length);
+        globalLock.readLock().unlock();
+      }
+    }
+
+    /**
+     * Checks that, if the current thread already holds lock stripes, acquiring this lock's stripes
+     * does not violate the order of acquisition.
+     */
+    private void checkStripeOrder() {
+      if (globalLock.getReadHoldCount() == 0) {
+        // Not holding the read lock means not holding any stripes, either.
+        return;
+      }
+      int highestHeld = -1;
+      for (int i = stripes.length - 1; i >= 0 && highestHeld < 0; i--) {
+        if (stripes[i].isHeldByCurrentThread()) {
+          highestHeld = i;
+        }
+      }
+      for (int index : stripeIndices) {
+        checkState(index >= highestHeld || stripes[index].isHeldByCurrentThread(),
+                   "Acquiring lock stripe %s while holding stripe %s violates the lock order.",
+                   index,
+                   highestHeld);
+      }
+    }
+
+    /**
+     * Unlocks the first <code>count</code> stripes, in reverse order.
+     *
+     * @param count The number of stripes to unlock.
+     */
+    private void unlockStripes(int count) {
+      for (int i = count - 1; i >= 0; i--) {
+        stripes[stripeIndices[i]].unlock();
+      }
+    }
+  }
+}
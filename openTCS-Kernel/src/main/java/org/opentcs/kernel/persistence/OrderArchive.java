@@ -0,0 +1,789 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import org.opentcs.customizations.ApplicationHome;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.OrderPoolConfiguration;
+import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only, on-disk archive for transport orders and order sequences that have been removed
+ * from the kernel's object pool.
+ * <p>
+ * The archive is a log split into segment files. Each record holds a single serialized object
+ * along with its name and a timestamp. Transport orders are archived with their creation time,
+ * order sequences with the creation time of their earliest transport order. When the current
+ * segment has reached its maximum size, a new one is started, and segments whose records are all
+ * older than the configured maximum age are deleted as a whole.
+ * </p>
+ * <p>
+ * Only a small index is kept in memory: the time range covered by each segment and, for every
+ * record, its type, its timestamp, the hash code of its name and its offset in the segment file.
+ * Queries by time range therefore read only the records within the range, and lookups by name
+ * read only the records with a matching name hash. The index is rebuilt from the segment files
+ * when the archive is accessed for the first time.
+ * </p>
+ * <p>
+ * Instances are thread-safe. They do not synchronize with the kernel, so archiving and querying
+ * should be done without holding any of the kernel's locks.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class OrderArchive {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(OrderArchive.class);
+  /**
+   * The record type for transport orders.
+   */
+  private static final byte TYPE_TRANSPORT_ORDER = 1;
+  /**
+   * The record type for order sequences.
+   */
+  private static final byte TYPE_ORDER_SEQUENCE = 2;
+  /**
+   * The pattern of segment file names.
+   */
+  private static final Pattern SEGMENT_FILE_PATTERN = Pattern.compile("segment-(\\d+)\\.log");
+  /**
+   * The directory containing the segment files.
+   */
+  private final File directory;
+  /**
+   * The size (in bytes) beyond which a new segment is started.
+   */
+  private final long maxSegmentSize;
+  /**
+   * The maximum age (in ms) of records, or 0 to keep records forever.
+   */
+  private final long maxAge;
+  /**
+   * The segments, ordered from oldest to newest.
+   */
+  private final List<Segment> segments = new ArrayList<>();
+  /**
+   * Whether the segments have been read from disk.
+   */
+  private boolean loaded;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param homeDirectory The application's home directory.
+   * @param configuration The order pool configuration.
+   */
+  @Inject
+  public OrderArchive(@ApplicationHome File homeDirectory, OrderPoolConfiguration configuration) {
+    this(new File(new File(requireNonNull(homeDirectory, "homeDirectory"), "data"),
+                  "order-archive"),
+         configuration.archiveSegmentSize(),
+         configuration.archiveMaxAge());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param directory The directory containing the segment files.
+   * @param maxSegmentSize The size (in bytes) beyond which a new segment is started.
+   * @param maxAge The maximum age (in ms) of records, or 0 to keep records forever.
+   */
+  OrderArchive(@Nonnull File directory, long maxSegmentSize, long maxAge) {
+    this.directory = requireNonNull(directory, "directory");
+    checkArgument(maxSegmentSize > 0 && maxSegmentSize <= Integer.MAX_VALUE,
+                  "maxSegmentSize is not in [1..%s]: %s",
+                  Integer.MAX_VALUE,
+                  maxSegmentSize);
+    checkArgument(maxAge >= 0, "maxAge is negative: %s", maxAge);
+    this.maxSegmentSize = maxSegmentSize;
+    this.maxAge = maxAge;
+  }
+
+  /**
+   * Appends the given transport orders to the archive.
+   *
+   * @param orders The transport orders.
+   * @throws IllegalStateException If writing to the archive failed.
+   */
+  public synchronized void archiveTransportOrders(@Nonnull Collection<TransportOrder> orders)
+      throws IllegalStateException {
+    requireNonNull(orders, "orders");
+
+    List<Record> records = new ArrayList<>(orders.size());
+    for (TransportOrder order : orders) {
+      records.add(new Record(TYPE_TRANSPORT_ORDER, order.getCreationTime(), order));
+    }
+    append(records);
+  }
+
+  /**
+   * Appends the given order sequence and its transport orders to the archive.
+   *
+   * @param sequence The order sequence.
+   * @param orders The order sequence's transport orders.
+   * @throws IllegalStateException If writing to the archive failed.
+   */
+  public synchronized void archiveOrderSequence(@Nonnull OrderSequence sequence,
+                                                @Nonnull Collection<TransportOrder> orders)
+      throws IllegalStateException {
+    requireNonNull(sequence, "sequence");
+    requireNonNull(orders, "orders");
+
+    List<Record> records = new ArrayList<>(orders.size() + 1);
+    long sequenceTime = Long.MAX_VALUE;
+    for (TransportOrder order : orders) {
+      records.add(new Record(TYPE_TRANSPORT_ORDER, order.getCreationTime(), order));
+      sequenceTime = Math.min(sequenceTime, order.getCreationTime());
+    }
+    if (sequenceTime == Long.MAX_VALUE) {
+      sequenceTime = System.currentTimeMillis();
+    }
+    records.add(new Record(TYPE_ORDER_SEQUENCE, sequenceTime, sequence));
+    append(records);
+  }
+
+  /**
+   * Returns the archived transport order with the given name.
+   *
+   * @param name The name.
+   * @return The archived transport order with the given name, or <code>null</code>, if there is
+   * no such transport order.
+   * @throws IllegalStateException If reading from the archive failed.
+   */
+  @Nullable
+  public synchronized TransportOrder getTransportOrder(@Nonnull String name)
+      throws IllegalStateException {
+    return getObject(TYPE_TRANSPORT_ORDER, TransportOrder.class, name);
+  }
+
+  /**
+   * Returns the archived order sequence with the given name.
+   *
+   * @param name The name.
+   * @return The archived order sequence with the given name, or <code>null</code>, if there is no
+   * such order sequence.
+   * @throws IllegalStateException If reading from the archive failed.
+   */
+  @Nullable
+  public synchronized OrderSequence getOrderSequence(@Nonnull String name)
+      throws IllegalStateException {
+    return getObject(TYPE_ORDER_SEQUENCE, OrderSequence.class, name);
+  }
+
+  /**
+   * Returns all archived transport orders created within the given time range.
+   *
+   * @param from The start of the time range (inclusive).
+   * @param to The end of the time range (exclusive).
+   * @return All archived transport orders created within the given time range, sorted by their
+   * creation times.
+   * @throws IllegalStateException If reading from the archive failed.
+   */
+  @Nonnull
+  public synchronized List<TransportOrder> getTransportOrders(@Nonnull Instant from,
+                                                              @Nonnull Instant to)
+      throws IllegalStateException {
+    return getObjects(TYPE_TRANSPORT_ORDER, TransportOrder.class, from, to);
+  }
+
+  /**
+   * Returns all archived order sequences whose earliest transport order was created within the
+   * given time range.
+   *
+   * @param from The start of the time range (inclusive).
+   * @param to The end of the time range (exclusive).
+   * @return All archived order sequences whose earliest transport order was created within the
+   * given time range, sorted by these creation times.
+   * @throws IllegalStateException If reading from the archive failed.
+   */
+  @Nonnull
+  public synchronized List<OrderSequence> getOrderSequences(@Nonnull Instant from,
+                                                            @Nonnull Instant to)
+      throws IllegalStateException {
+    return getObjects(TYPE_ORDER_SEQUENCE, OrderSequence.class, from, to);
+  }
+
+  /**
+   * Appends the given records to the archive.
+   * The records are added to the index only after all of them have been written and synced to the
+   * storage device. If writing fails, the segment files are restored to their previous state.
+   */
+  private void append(List<Record> records)
+      throws IllegalStateException {
+    if (records.isEmpty()) {
+      return;
+    }
+    ensureLoaded();
+
+    int segmentCount = segments.size();
+    List<SegmentAppend> appends = new ArrayList<>();
+    try {
+      Iterator<Record> pending = records.iterator();
+      while (pending.hasNext()) {
+        SegmentAppend segmentAppend = new SegmentAppend(appends.isEmpty()
+            ? currentSegment()
+            : newSegment());
+        try (FileOutputStream fileOut = new FileOutputStream(segmentAppend.segment.file, true)) {
+          DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut));
+          while (pending.hasNext() && segmentAppend.size < maxSegmentSize) {
+            segmentAppend.write(pending.next(), out);
+          }
+          out.flush();
+          fileOut.getFD().sync();
+        }
+        appends.add(segmentAppend);
+      }
+    }
+    catch (IOException exc) {
+      rollBack(segmentCount);
+      throw new IllegalStateException("Exception writing to order archive", exc);
+    }
+
+    for (SegmentAppend segmentAppend : appends) {
+      segmentAppend.commit();
+    }
+    removeExpiredSegments();
+  }
+
+  /**
+   * Removes everything written by a failed append from the segment files.
+   *
+   * @param segmentCount The number of segments before the append.
+   */
+  private void rollBack(int segmentCount) {
+    while (segments.size() > segmentCount) {
+      Segment segment = segments.remove(segments.size() - 1);
+      if (segment.file.exists() && !segment.file.delete()) {
+        LOG.warn("Could not delete order archive segment {}", segment.file);
+      }
+    }
+    if (segments.isEmpty()) {
+      return;
+    }
+    Segment segment = segments.get(segments.size() - 1);
+    try (RandomAccessFile file = new RandomAccessFile(segment.file, "rw")) {
+      file.setLength(segment.size);
+    }
+    catch (IOException exc) {
+      LOG.warn("Could not truncate order archive segment {}, reloading the index",
+               segment.file,
+               exc);
+      segments.clear();
+      loaded = false;
+    }
+  }
+
+  private <T extends TCSObject<T>> T getObject(byte type, Class<T> clazz, String name)
+      throws IllegalStateException {
+    requireNonNull(name, "name");
+    ensureLoaded();
+
+    int nameHash = name.hashCode();
+    try {
+      // Look at the newest segments first.
+      for (int i = segments.size() - 1; i >= 0; i--) {
+        Segment segment = segments.get(i);
+        List<Integer> offsets = segment.offsetsForHash(nameHash);
+        if (offsets.isEmpty()) {
+          continue;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.file, "r")) {
+          for (int offset : offsets) {
+            file.seek(offset);
+            Record record = Record.readFrom(file);
+            if (record.type == type && record.name.equals(name)) {
+              return clazz.cast(record.object);
+            }
+          }
+        }
+      }
+    }
+    catch (IOException | ClassNotFoundException exc) {
+      throw new IllegalStateException("Exception reading from order archive", exc);
+    }
+    return null;
+  }
+
+  private <T extends TCSObject<T>> List<T> getObjects(byte type,
+                                                      Class<T> clazz,
+                                                      Instant from,
+                                                      Instant to)
+      throws IllegalStateException {
+    requireNonNull(from, "from");
+    requireNonNull(to, "to");
+    ensureLoaded();
+
+    long fromMillis = from.toEpochMilli();
+    long toMillis = to.toEpochMilli();
+    List<Record> result = new ArrayList<>();
+    try {
+      for (Segment segment : segments) {
+        if (segment.maxTimestamp < fromMillis || segment.minTimestamp >= toMillis) {
+          continue;
+        }
+        List<Integer> offsets = segment.offsetsForTimeRange(type, fromMillis, toMillis);
+        if (offsets.isEmpty()) {
+          continue;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.file, "r")) {
+          for (int offset : offsets) {
+            file.seek(offset);
+            result.add(Record.readFrom(file));
+          }
+        }
+      }
+    }
+    catch (IOException | ClassNotFoundException exc) {
+      throw new IllegalStateException("Exception reading from order archive", exc);
+    }
+
+    result.sort(Comparator.comparingLong(record -> record.timestamp));
+    List<T> objects = new ArrayList<>(result.size());
+    for (Record record : result) {
+      objects.add(clazz.cast(record.object));
+    }
+    return objects;
+  }
+
+  private Segment currentSegment() {
+    if (segments.isEmpty() || segments.get(segments.size() - 1).size >= maxSegmentSize) {
+      return newSegment();
+    }
+    return segments.get(segments.size() - 1);
+  }
+
+  private Segment newSegment() {
+    long id = segments.isEmpty() ? 1 : segments.get(segments.size() - 1).id + 1;
+    Segment segment = new Segment(id, new File(directory, String.format("segment-%020d.log", id)));
+    segments.add(segment);
+    return segment;
+  }
+
+  private void removeExpiredSegments() {
+    if (maxAge == 0) {
+      return;
+    }
+    long threshold = System.currentTimeMillis() - maxAge;
+    // Never remove the current segment, which new records are appended to.
+    while (segments.size() > 1 && segments.get(0).maxTimestamp < threshold) {
+      Segment segment = segments.remove(0);
+      LOG.debug("Removing expired order archive segment {}", segment.file);
+      if (!segment.file.delete()) {
+        LOG.warn("Could not delete expired order archive segment {}", segment.file);
+      }
+    }
+  }
+
+  private void ensureLoaded()
+      throws IllegalStateException {
+    if (loaded) {
+      return;
+    }
+    checkState(directory.isDirectory() || directory.mkdirs(),
+               "%s is not an existing directory and could not be created, either.",
+               directory.getPath());
+
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        Matcher matcher = SEGMENT_FILE_PATTERN.matcher(file.getName());
+        if (matcher.matches()) {
+          segments.add(new Segment(Long.parseLong(matcher.group(1)), file));
+        }
+      }
+    }
+    segments.sort(Comparator.comparingLong(segment -> segment.id));
+
+    try {
+      for (Segment segment : segments) {
+        loadIndex(segment);
+      }
+    }
+    catch (IOException exc) {
+      segments.clear();
+      throw new IllegalStateException("Exception reading order archive index", exc);
+    }
+    loaded = true;
+  }
+
+  private void loadIndex(Segment segment)
+      throws IOException {
+    long fileLength = segment.file.length();
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(new FileInputStream(segment.file)))) {
+      while (segment.size < fileLength) {
+        RecordHeader header = RecordHeader.readFrom(in);
+        if (segment.size + header.length() > fileLength) {
+          throw new EOFException();
+        }
+        in.skipBytes(header.payloadLength);
+        segment.addEntry(header.type,
+                         header.name.hashCode(),
+                         (int) segment.size,
+                         header.timestamp);
+        segment.size += header.length();
+      }
+    }
+    catch (EOFException exc) {
+      // The kernel may have been stopped while writing the last record - drop it.
+      LOG.warn("Truncating incomplete record at end of order archive segment {}", segment.file);
+      try (RandomAccessFile file = new RandomAccessFile(segment.file, "rw")) {
+        file.setLength(segment.size);
+      }
+    }
+  }
+
+  private static Object deserialize(byte[] payload)
+      throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+      return in.readObject();
+    }
+  }
+
+  /**
+   * A single segment file and its index.
+   */
+  private static class Segment {
+
+    /**
+     * The segment's ID, which also determines its position in the archive.
+     */
+    private final long id;
+    /**
+     * The segment file.
+     */
+    private final File file;
+    /**
+     * The size of the segment file (in bytes).
+     */
+    private long size;
+    /**
+     * The smallest record timestamp in this segment.
+     */
+    private long minTimestamp = Long.MAX_VALUE;
+    /**
+     * The largest record timestamp in this segment.
+     */
+    private long maxTimestamp = Long.MIN_VALUE;
+    /**
+     * The hash codes of the records' names, sorted if <code>sorted</code> is set.
+     */
+    private int[] nameHashes = new int[64];
+    /**
+     * The records' offsets, in the same order as <code>nameHashes</code>.
+     */
+    private int[] offsets = new int[64];
+    /**
+     * The records' timestamps, sorted if <code>timeSorted</code> is set.
+     */
+    private long[] timestamps = new long[64];
+    /**
+     * The records' types, in the same order as <code>timestamps</code>.
+     */
+    private byte[] types = new byte[64];
+    /**
+     * The records' offsets, in the same order as <code>timestamps</code>.
+     */
+    private int[] timeOffsets = new int[64];
+    /**
+     * The number of records in this segment.
+     */
+    private int count;
+    /**
+     * Whether the index entries are sorted by name hashes.
+     */
+    private boolean sorted = true;
+    /**
+     * Whether the time index entries are sorted by timestamps.
+     */
+    private boolean timeSorted = true;
+
+    Segment(long id, File file) {
+      this.id = id;
+      this.file = file;
+    }
+
+    void addEntry(byte type, int nameHash, int offset, long timestamp) {
+      if (count == nameHashes.length) {
+        nameHashes = Arrays.copyOf(nameHashes, count * 2);
+        offsets = Arrays.copyOf(offsets, count * 2);
+        timestamps = Arrays.copyOf(timestamps, count * 2);
+        types = Arrays.copyOf(types, count * 2);
+        timeOffsets = Arrays.copyOf(timeOffsets, count * 2);
+      }
+      sorted = sorted && (count == 0 || nameHashes[count - 1] <= nameHash);
+      nameHashes[count] = nameHash;
+      offsets[count] = offset;
+      timeSorted = timeSorted && (count == 0 || timestamps[count - 1] <= timestamp);
+      timestamps[count] = timestamp;
+      types[count] = type;
+      timeOffsets[count] = offset;
+      count++;
+      minTimestamp = Math.min(minTimestamp, timestamp);
+      maxTimestamp = Math.max(maxTimestamp, timestamp);
+    }
+
+    List<Integer> offsetsForHash(int nameHash) {
+      sortEntries();
+      List<Integer> result = new ArrayList<>(1);
+      int index = Arrays.binarySearch(nameHashes, 0, count, nameHash);
+      if (index < 0) {
+        return result;
+      }
+      while (index > 0 && nameHashes[index - 1] == nameHash) {
+        index--;
+      }
+      // Return the offsets of later records first, as they are the more recent ones.
+      for (; index < count && nameHashes[index] == nameHash; index++) {
+        result.add(0, offsets[index]);
+      }
+      return result;
+    }
+
+    List<Integer> offsetsForTimeRange(byte type, long fromMillis, long toMillis) {
+      sortTimeEntries();
+      List<Integer> result = new ArrayList<>();
+      // Find the first entry with a timestamp not before the start of the range.
+      int low = 0;
+      int high = count;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (timestamps[middle] < fromMillis) {
+          low = middle + 1;
+        }
+        else {
+          high = middle;
+        }
+      }
+      for (int index = low; index < count && timestamps[index] < toMillis; index++) {
+        if (types[index] == type) {
+          result.add(timeOffsets[index]);
+        }
+      }
+      return result;
+    }
+
+    private void sortTimeEntries() {
+      if (timeSorted) {
+        return;
+      }
+      Integer[] order = new Integer[count];
+      for (int i = 0; i < count; i++) {
+        order[i] = i;
+      }
+      // Sort by timestamp first and by offset second.
+      Arrays.sort(order,
+                  Comparator.<Integer>comparingLong(i -> timestamps[i])
+                      .thenComparingInt(i -> timeOffsets[i]));
+      long[] sortedTimestamps = new long[timestamps.length];
+      byte[] sortedTypes = new byte[types.length];
+      int[] sortedOffsets = new int[timeOffsets.length];
+      for (int i = 0; i < count; i++) {
+        sortedTimestamps[i] = timestamps[order[i]];
+        sortedTypes[i] = types[order[i]];
+        sortedOffsets[i] = timeOffsets[order[i]];
+      }
+      timestamps = sortedTimestamps;
+      types = sortedTypes;
+      timeOffsets = sortedOffsets;
+      timeSorted = true;
+    }
+
+    private void sortEntries() {
+      if (sorted) {
+        return;
+      }
+      long[] entries = new long[count];
+      for (int i = 0; i < count; i++) {
+        // Sort by hash first and by offset second.
+        entries[i] = ((long) nameHashes[i] << 32) | (offsets[i] & 0xffffffffL);
+      }
+      Arrays.sort(entries);
+      for (int i = 0; i < count; i++) {
+        nameHashes[i] = (int) (entries[i] >> 32);
+        offsets[i] = (int) entries[i];
+      }
+      sorted = true;
+    }
+  }
+
+  /**
+   * Records written to a segment, but not yet added to its index.
+   */
+  private static class SegmentAppend {
+
+    /**
+     * The segment written to.
+     */
+    private final Segment segment;
+    /**
+     * The records written.
+     */
+    private final List<Record> records = new ArrayList<>();
+    /**
+     * The offsets of the records written.
+     */
+    private final List<Integer> offsets = new ArrayList<>();
+    /**
+     * The size of the segment file after writing the records (in bytes).
+     */
+    private long size;
+
+    SegmentAppend(Segment segment) {
+      this.segment = segment;
+      this.size = segment.size;
+    }
+
+    void write(Record record, DataOutputStream out)
+        throws IOException {
+      records.add(record);
+      offsets.add((int) size);
+      size += record.writeTo(out);
+    }
+
+    void commit() {
+      for (int i = 0; i < records.size(); i++) {
+        Record record = records.get(i);
+        segment.addEntry(record.type, record.name.hashCode(), offsets.get(i), record.timestamp);
+      }
+      segment.size = size;
+    }
+  }
+
+  /**
+   * The header of a record, preceding the serialized object.
+   */
+  private static class RecordHeader {
+
+    private final byte type;
+    private final long timestamp;
+    private final String name;
+    private final int nameLength;
+    private final int payloadLength;
+
+    RecordHeader(byte type, long timestamp, String name, int nameLength, int payloadLength) {
+      this.type = type;
+      this.timestamp = timestamp;
+      this.name = name;
+      this.nameLength = nameLength;
+      this.payloadLength = payloadLength;
+    }
+
+    /**
+     * Returns the length of the whole record, including the payload.
+     */
+    long length() {
+      // Type, timestamp, name length, name, payload length and payload.
+      return 1 + 8 + 4 + nameLength + 4 + payloadLength;
+    }
+
+    static RecordHeader readFrom(DataInput in)
+        throws IOException {
+      byte type = in.readByte();
+      long timestamp = in.readLong();
+      byte[] nameBytes = new byte[in.readInt()];
+      in.readFully(nameBytes);
+      int payloadLength = in.readInt();
+      return new RecordHeader(type,
+                              timestamp,
+                              new String(nameBytes, StandardCharsets.UTF_8),
+                              nameBytes.length,
+                              payloadLength);
+    }
+  }
+
+  /**
+   * A single archived object.
+   */
+  private static class Record {
+
+    private final byte type;
+    private final long timestamp;
+    private final String name;
+    private final Object object;
+
+    Record(byte type, long timestamp, TCSObject<?> object) {
+      this.type = type;
+      this.timestamp = timestamp;
+      this.name = object.getName();
+      this.object = object;
+    }
+
+    Record(RecordHeader header, Object object) {
+      this.type = header.type;
+      this.timestamp = header.timestamp;
+      this.name = header.name;
+      this.object = object;
+    }
+
+    /**
+     * Writes this record and returns the number of bytes written.
+     */
+    long writeTo(DataOutputStream out)
+        throws IOException {
+      ByteArrayOutputStream payload = new ByteArrayOutputStream();
+      try (ObjectOutputStream objectOut = new ObjectOutputStream(payload)) {
+        objectOut.writeObject(object);
+      }
+      byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+
+      out.writeByte(type);
+      out.writeLong(timestamp);
+      out.writeInt(nameBytes.length);
+      out.write(nameBytes);
+      out.writeInt(payload.size());
+      payload.writeTo(out);
+      return new RecordHeader(type, timestamp, name, nameBytes.length, payload.size()).length();
+    }
+
+    static Record readFrom(RandomAccessFile file)
+        throws IOException, ClassNotFoundException {
+      RecordHeader header = RecordHeader.readFrom(file);
+      byte[] payload = new byte[header.payloadLength];
+      file.readFully(payload);
+      return new Record(header, deserialize(payload));
+    }
+  }
+}
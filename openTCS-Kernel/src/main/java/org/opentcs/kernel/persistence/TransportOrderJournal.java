@@ -0,0 +1,715 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.persistence;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.ApplicationHome;
+import org.opentcs.data.ObjectExistsException;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.OrderPoolConfiguration;
+import org.opentcs.kernel.StripedKernelLock;
+import org.opentcs.kernel.workingset.TCSObjectPool;
+import org.opentcs.kernel.workingset.TCSObjectPoolSnapshot;
+import org.opentcs.kernel.workingset.TransportOrderPool;
+import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkState;
+import org.opentcs.util.event.EventFilter;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the transport orders and order sequences in the kernel's working set, so they can be
+ * restored after a restart of the kernel.
+ * <p>
+ * Every modification of a transport order or an order sequence is recorded in a journal file as
+ * the complete new state of the object (or its removal). Journal entries are written by a separate
+ * thread, with all entries accumulated while the previous batch was being written being committed
+ * in a single write and a single sync to the storage device. This keeps the overhead for the
+ * kernel low regardless of the number of modifications.
+ * </p>
+ * <p>
+ * Periodically, the states of all transport orders and order sequences are written to a snapshot
+ * file, a new journal file is started and all older files are deleted. On the first
+ * initialization after the kernel has been started, the latest snapshot and the journal files
+ * written after it are replayed, and the resulting objects are added to the working set again.
+ * Transport orders that were being processed at the time of the shutdown are marked as failed, as
+ * the vehicles' states cannot be restored, and their order sequences are updated accordingly.
+ * </p>
+ * <p>
+ * When the transport orders are removed from the working set, e.g. because the kernel leaves the
+ * operating state to replace the plant model, the recorded orders must be discarded via
+ * {@link #discard()}, so they are not restored later.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class TransportOrderJournal
+    implements Lifecycle,
+               EventHandler {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(TransportOrderJournal.class);
+  /**
+   * The entry type for a new or modified object.
+   */
+  private static final byte ENTRY_UPDATE = 1;
+  /**
+   * The entry type for a removed object.
+   */
+  private static final byte ENTRY_REMOVAL = 2;
+  /**
+   * The pattern of journal and snapshot file names.
+   */
+  private static final Pattern FILE_PATTERN = Pattern.compile("(journal|snapshot)-(\\d+)\\.dat");
+  /**
+   * The directory containing the journal and snapshot files.
+   */
+  private final File directory;
+  /**
+   * Whether journaling is enabled.
+   */
+  private final boolean enabled;
+  /**
+   * The interval between snapshots (in ms).
+   */
+  private final long snapshotInterval;
+  /**
+   * The kernel's locks for synchronizing access to the working set.
+   */
+  private final StripedKernelLock kernelLock;
+  /**
+   * The transport order pool.
+   */
+  private final TransportOrderPool orderPool;
+  /**
+   * Where we get modification events from.
+   */
+  private final EventSource eventSource;
+  /**
+   * The entries not yet written to the journal.
+   */
+  private List<Entry> pendingEntries = new ArrayList<>();
+  /**
+   * The time at which the next snapshot is due.
+   */
+  private long nextSnapshotTime;
+  /**
+   * Whether the writer thread should terminate.
+   */
+  private boolean terminating;
+  /**
+   * The thread writing journal entries and snapshots.
+   */
+  private Thread writerThread;
+  /**
+   * The ID of the current journal file. (Accessed by the writer thread only.)
+   */
+  private long journalId;
+  /**
+   * The stream of the current journal file, if open. (Accessed by the writer thread only.)
+   */
+  private FileOutputStream journalFileOut;
+  /**
+   * The buffered stream of the current journal file, if open.
+   */
+  private DataOutputStream journalOut;
+  /**
+   * Whether the recorded transport orders have already been restored or discarded.
+   */
+  private boolean restored;
+  /**
+   * This instance's <em>initialized</em> flag.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param homeDirectory The application's home directory.
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
+   * @param orderPool The transport order pool.
+   * @param eventSource Where we get modification events from.
+   * @param configuration The order pool configuration.
+   */
+  @Inject
+  public TransportOrderJournal(@ApplicationHome File homeDirectory,
+                               StripedKernelLock kernelLock,
+                               TransportOrderPool orderPool,
+                               @ApplicationEventBus EventSource eventSource,
+                               OrderPoolConfiguration configuration) {
+    this(new File(new File(requireNonNull(homeDirectory, "homeDirectory"), "data"),
+                  "order-journal"),
+         configuration.journalEnabled(),
+         configuration.journalSnapshotInterval(),
+         kernelLock,
+         orderPool,
+         eventSource);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param directory The directory containing the journal and snapshot files.
+   * @param enabled Whether journaling is enabled.
+   * @param snapshotInterval The interval between snapshots (in ms).
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
+   * @param orderPool The transport order pool.
+   * @param eventSource Where we get modification events from.
+   */
+  TransportOrderJournal(@Nonnull File directory,
+                        boolean enabled,
+                        long snapshotInterval,
+                        @Nonnull StripedKernelLock kernelLock,
+                        @Nonnull TransportOrderPool orderPool,
+                        @Nonnull EventSource eventSource) {
+    this.directory = requireNonNull(directory, "directory");
+    this.enabled = enabled;
+    checkArgument(snapshotInterval > 0, "snapshotInterval is not positive: %s", snapshotInterval);
+    this.snapshotInterval = snapshotInterval;
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
+    this.orderPool = requireNonNull(orderPool, "orderPool");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+  }
+
+  /**
+   * Restores the transport orders and order sequences from the journal, unless they have already
+   * been restored or discarded, and starts recording their modifications.
+   */
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+    if (!enabled) {
+      LOG.info("Transport order journal disabled, orders will not be restored after a restart.");
+      initialized = true;
+      return;
+    }
+    checkState(directory.isDirectory() || directory.mkdirs(),
+               "%s is not an existing directory and could not be created, either.",
+               directory.getPath());
+
+    if (!restored) {
+      long startTime = System.currentTimeMillis();
+      Map<String, TCSObject<?>> objects = new LinkedHashMap<>();
+      long lastFileId = replay(objects);
+      restore(objects.values());
+      restored = true;
+      LOG.info("Restored {} transport orders and order sequences in {} ms.",
+               objects.size(),
+               System.currentTimeMillis() - startTime);
+      journalId = lastFileId;
+    }
+
+    // Never append to existing files - their last entries may be incomplete.
+    journalId++;
+    synchronized (this) {
+      pendingEntries = new ArrayList<>();
+      terminating = false;
+      // Compact the files we just replayed right away.
+      nextSnapshotTime = 0;
+    }
+    eventSource.subscribe(this,
+                          EventFilter.forObjectClass(TransportOrder.class)
+                              .withObjectClass(OrderSequence.class));
+    writerThread = new Thread(this::processEntries, "orderJournalWriter");
+    writerThread.start();
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  /**
+   * Stops recording modifications after writing all pending entries to the journal.
+   */
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+    if (enabled) {
+      eventSource.unsubscribe(this);
+      synchronized (this) {
+        terminating = true;
+        notifyAll();
+      }
+      Uninterruptibles.joinUninterruptibly(writerThread);
+      writerThread = null;
+    }
+
+    initialized = false;
+  }
+
+  /**
+   * Discards all recorded transport orders and order sequences, so they are not restored.
+   * <p>
+   * To be called when the transport orders have been removed from the working set. May only be
+   * called while this journal is not initialized.
+   * </p>
+   */
+  public void discard() {
+    checkState(!isInitialized(), "Cannot discard recorded orders while journaling.");
+
+    restored = true;
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      if (FILE_PATTERN.matcher(file.getName()).matches()) {
+        try {
+          Files.delete(file.toPath());
+        }
+        catch (IOException exc) {
+          LOG.warn("Exception deleting {}", file, exc);
+        }
+      }
+    }
+    LOG.info("Discarded recorded transport orders and order sequences.");
+  }
+
+  /**
+   * Checks whether the recorded transport orders have already been restored or discarded.
+   *
+   * @return <code>true</code> if, and only if, the recorded transport orders have already been
+   * restored or discarded.
+   */
+  public boolean isRestored() {
+    return restored;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
+      return;
+    }
+    TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+    TCSObject<?> object = objectEvent.getCurrentOrPreviousObjectState();
+    if (!(object instanceof TransportOrder) && !(object instanceof OrderSequence)) {
+      return;
+    }
+
+    Entry entry = objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED
+        ? new Entry(ENTRY_REMOVAL, object.getName(), null)
+        : new Entry(ENTRY_UPDATE, object.getName(), object);
+    synchronized (this) {
+      pendingEntries.add(entry);
+      if (pendingEntries.size() == 1) {
+        notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Reads the latest snapshot and all journal files written after it.
+   *
+   * @param objects The map to put the restored objects into.
+   * @return The highest ID of any journal or snapshot file found.
+   */
+  private long replay(Map<String, TCSObject<?>> objects) {
+    TreeMap<Long, File> journalFiles = new TreeMap<>();
+    TreeMap<Long, File> snapshotFiles = new TreeMap<>();
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        Matcher matcher = FILE_PATTERN.matcher(file.getName());
+        if (matcher.matches()) {
+          long id = Long.parseLong(matcher.group(2));
+          if (matcher.group(1).equals("journal")) {
+            journalFiles.put(id, file);
+          }
+          else {
+            snapshotFiles.put(id, file);
+          }
+        }
+      }
+    }
+
+    long lastFileId = Math.max(journalFiles.isEmpty() ? 0 : journalFiles.lastKey(),
+                               snapshotFiles.isEmpty() ? 0 : snapshotFiles.lastKey());
+    long snapshotId = 0;
+    if (!snapshotFiles.isEmpty()) {
+      snapshotId = snapshotFiles.lastKey();
+      readEntries(snapshotFiles.lastEntry().getValue(), objects);
+    }
+    // The snapshot contains everything written to older journal files.
+    for (File journalFile : journalFiles.tailMap(snapshotId).values()) {
+      readEntries(journalFile, objects);
+    }
+    return lastFileId;
+  }
+
+  private void readEntries(File file, Map<String, TCSObject<?>> objects) {
+    long fileLength = file.length();
+    long position = 0;
+    CRC32 checksum = new CRC32();
+    try (DataInputStream in
+        = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      while (position < fileLength) {
+        int length = in.readInt();
+        int expectedChecksum = in.readInt();
+        position += 8;
+        if (length < 0 || position + length > fileLength) {
+          throw new EOFException();
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        position += length;
+        checksum.reset();
+        checksum.update(payload);
+        if ((int) checksum.getValue() != expectedChecksum) {
+          throw new EOFException();
+        }
+
+        Entry entry = Entry.decode(payload);
+        if (entry.type == ENTRY_REMOVAL) {
+          objects.remove(entry.name);
+        }
+        else {
+          objects.put(entry.name, entry.object);
+        }
+      }
+    }
+    catch (EOFException exc) {
+      // The kernel may have been stopped while writing the last batch of entries.
+      LOG.warn("Ignoring incomplete entry at end of {}", file);
+    }
+    catch (IOException | ClassNotFoundException exc) {
+      LOG.warn("Exception reading {}, ignoring remaining entries", file, exc);
+    }
+  }
+
+  private void restore(Collection<TCSObject<?>> objects) {
+    kernelLock.writeLock().lock();
+    try {
+      TCSObjectPool objectPool = orderPool.getObjectPool();
+      Map<String, TransportOrder> orders = new LinkedHashMap<>();
+      List<OrderSequence> sequences = new ArrayList<>();
+      for (TCSObject<?> object : objects) {
+        if (object instanceof TransportOrder) {
+          orders.put(object.getName(), sanitized((TransportOrder) object, objectPool));
+        }
+        else if (object instanceof OrderSequence) {
+          sequences.add((OrderSequence) object);
+        }
+      }
+      // Sanitizing a sequence may also modify its orders, so do this before restoring them.
+      List<OrderSequence> sanitizedSequences = new ArrayList<>(sequences.size());
+      for (OrderSequence sequence : sequences) {
+        sanitizedSequences.add(sanitized(sequence, orders));
+      }
+
+      for (TransportOrder order : orders.values()) {
+        try {
+          orderPool.restoreTransportOrder(order);
+        }
+        catch (ObjectExistsException exc) {
+          LOG.warn("Could not restore {}", order.getName(), exc);
+        }
+      }
+      for (OrderSequence sequence : sanitizedSequences) {
+        try {
+          orderPool.restoreOrderSequence(sequence);
+        }
+        catch (ObjectExistsException exc) {
+          LOG.warn("Could not restore {}", sequence.getName(), exc);
+        }
+      }
+    }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
+  }
+
+  private TransportOrder sanitized(TransportOrder order, TCSObjectPool objectPool) {
+    if (order.getState().isFinalState()) {
+      return order;
+    }
+    if (order.hasState(TransportOrder.State.BEING_PROCESSED)
+        || order.hasState(TransportOrder.State.WITHDRAWN)) {
+      LOG.info("Marking interrupted transport order {} as failed.", order.getName());
+      return order.withState(TransportOrder.State.FAILED).withProcessingVehicle(null);
+    }
+    if (!referencedObjectsExist(order, objectPool)) {
+      LOG.info("Marking transport order {} referencing unknown objects as failed.",
+               order.getName());
+      return order.withState(TransportOrder.State.FAILED);
+    }
+    return order;
+  }
+
+  private boolean referencedObjectsExist(TransportOrder order, TCSObjectPool objectPool) {
+    if (order.getIntendedVehicle() != null
+        && objectPool.getObjectOrNull(Vehicle.class, order.getIntendedVehicle()) == null) {
+      return false;
+    }
+    for (DriveOrder driveOrder : order.getAllDriveOrders()) {
+      if (objectPool.getObjectOrNull(driveOrder.getDestination().getDestination()) == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Updates the given sequence for orders that have been marked as failed, the same way the
+   * dispatcher does for failed orders.
+   *
+   * @param sequence The order sequence.
+   * @param orders The (sanitized) transport orders, by name. If the sequence's failure is fatal,
+   * its remaining orders are replaced with failed ones in this map.
+   * @return The sanitized order sequence.
+   */
+  private OrderSequence sanitized(OrderSequence sequence, Map<String, TransportOrder> orders) {
+    if (sequence.isFinished()) {
+      return sequence;
+    }
+    OrderSequence result = sequence;
+    TransportOrder nextOrder = nextUnfinishedOrder(result, orders);
+    while (nextOrder != null && nextOrder.getState().isFinalState()) {
+      if (nextOrder.hasState(TransportOrder.State.FAILED) && result.isFailureFatal()) {
+        // Mark the sequence as complete and all of its remaining orders as failed.
+        result = result.withComplete(true);
+        for (TCSObjectReference<TransportOrder> orderRef : result.getOrders()) {
+          TransportOrder order = orders.get(orderRef.getName());
+          if (order != null && !order.getState().isFinalState()) {
+            orders.put(order.getName(), order.withState(TransportOrder.State.FAILED));
+          }
+        }
+        result = result.withFinishedIndex(result.getOrders().size() - 1);
+      }
+      else {
+        result = result.withFinishedIndex(result.getFinishedIndex() + 1);
+      }
+      nextOrder = nextUnfinishedOrder(result, orders);
+    }
+    if (result.isComplete() && result.getNextUnfinishedOrder() == null) {
+      LOG.info("Marking order sequence {} as finished.", result.getName());
+      result = result.withFinished(true);
+    }
+    if (!result.isFinished() && result.getProcessingVehicle() != null) {
+      result = result.withProcessingVehicle(null);
+    }
+    return result;
+  }
+
+  private TransportOrder nextUnfinishedOrder(OrderSequence sequence,
+                                             Map<String, TransportOrder> orders) {
+    TCSObjectReference<TransportOrder> orderRef = sequence.getNextUnfinishedOrder();
+    return orderRef == null ? null : orders.get(orderRef.getName());
+  }
+
+  private void processEntries() {
+    boolean done = false;
+    while (!done) {
+      List<Entry> batch;
+      TCSObjectPoolSnapshot poolSnapshot = null;
+      synchronized (this) {
+        long remainingTime = nextSnapshotTime - System.currentTimeMillis();
+        while (pendingEntries.isEmpty() && !terminating && remainingTime > 0) {
+          try {
+            wait(remainingTime);
+          }
+          catch (InterruptedException exc) {
+            LOG.debug("Unexpectedly interrupted, ignored.");
+          }
+          remainingTime = nextSnapshotTime - System.currentTimeMillis();
+        }
+        // Everything emitted before taking the snapshot is written to the current journal,
+        // everything emitted afterwards is written to the next one. Events of modifications still in
+        // progress may already have been emitted, so the snapshot has to include their changes.
+        batch = pendingEntries;
+        pendingEntries = new ArrayList<>();
+        if (remainingTime <= 0 && !terminating) {
+          poolSnapshot = orderPool.getObjectPool().latestSnapshot();
+          nextSnapshotTime = System.currentTimeMillis() + snapshotInterval;
+        }
+        done = terminating;
+      }
+
+      try {
+        appendToJournal(batch);
+        if (poolSnapshot != null) {
+          writeSnapshot(poolSnapshot);
+        }
+      }
+      catch (IOException exc) {
+        LOG.error("Exception writing transport order journal", exc);
+        closeJournal();
+      }
+    }
+    closeJournal();
+  }
+
+  private void appendToJournal(List<Entry> entries)
+      throws IOException {
+    if (entries.isEmpty()) {
+      return;
+    }
+    if (journalOut == null) {
+      journalFileOut = new FileOutputStream(file("journal", journalId), true);
+      journalOut = new DataOutputStream(new BufferedOutputStream(journalFileOut));
+    }
+    writeEntries(entries, journalOut);
+    journalOut.flush();
+    journalFileOut.getFD().sync();
+  }
+
+  private void writeSnapshot(TCSObjectPoolSnapshot poolSnapshot)
+      throws IOException {
+    closeJournal();
+    journalId++;
+
+    List<Entry> entries = new ArrayList<>();
+    for (TransportOrder order : poolSnapshot.fetchObjects(TransportOrder.class)) {
+      entries.add(new Entry(ENTRY_UPDATE, order.getName(), order));
+    }
+    for (OrderSequence sequence : poolSnapshot.fetchObjects(OrderSequence.class)) {
+      entries.add(new Entry(ENTRY_UPDATE, sequence.getName(), sequence));
+    }
+
+    File tmpFile = new File(directory, "snapshot.tmp");
+    try (FileOutputStream fileOut = new FileOutputStream(tmpFile)) {
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut));
+      writeEntries(entries, out);
+      out.flush();
+      fileOut.getFD().sync();
+    }
+    Files.move(tmpFile.toPath(),
+               file("snapshot", journalId).toPath(),
+               StandardCopyOption.ATOMIC_MOVE);
+
+    // The new snapshot supersedes all older files.
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        Matcher matcher = FILE_PATTERN.matcher(file.getName());
+        if (matcher.matches() && Long.parseLong(matcher.group(2)) < journalId) {
+          Files.delete(file.toPath());
+        }
+      }
+    }
+  }
+
+  private void writeEntries(List<Entry> entries, DataOutputStream out)
+      throws IOException {
+    CRC32 checksum = new CRC32();
+    for (Entry entry : entries) {
+      byte[] payload = entry.encode();
+      checksum.reset();
+      checksum.update(payload);
+      out.writeInt(payload.length);
+      out.writeInt((int) checksum.getValue());
+      out.write(payload);
+    }
+  }
+
+  private void closeJournal() {
+    if (journalOut == null) {
+      return;
+    }
+    try {
+      journalOut.close();
+    }
+    catch (IOException exc) {
+      LOG.warn("Exception closing transport order journal", exc);
+    }
+    journalOut = null;
+    journalFileOut = null;
+  }
+
+  private File file(String type, long id) {
+    return new File(directory, String.format("%s-%020d.dat", type, id));
+  }
+
+  /**
+   * A single journal entry.
+   */
+  private static class Entry {
+
+    private final byte type;
+    private final String name;
+    private final TCSObject<?> object;
+
+    Entry(byte type, String name, TCSObject<?> object) {
+      this.type = type;
+      this.name = name;
+      this.object = object;
+    }
+
+    byte[] encode()
+        throws IOException {
+      ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytesOut);
+      out.writeByte(type);
+      out.writeUTF(name);
+      if (type == ENTRY_UPDATE) {
+        ObjectOutputStream objectOut = new ObjectOutputStream(out);
+        objectOut.writeObject(object);
+        objectOut.flush();
+      }
+      out.flush();
+      return bytesOut.toByteArray();
+    }
+
+    static Entry decode(byte[] payload)
+        throws IOException, ClassNotFoundException {
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+      byte type = in.readByte();
+      String name = in.readUTF();
+      TCSObject<?> object = null;
+      if (type == ENTRY_UPDATE) {
+        object = (TCSObject<?>) new ObjectInputStream(in).readObject();
+      }
+      return new Entry(type, name, object);
+    }
+  }
+}
@@ -15,7 +15,7 @@ import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
-import org.opentcs.kernel.GlobalKernelSync;
+import org.opentcs.kernel.StripedKernelLock;
 import org.opentcs.kernel.workingset.TCSObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,9 +33,9 @@ public class StandardDispatcherService
    */
   private static final Logger LOG = LoggerFactory.getLogger(StandardDispatcherService.class);
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The kernel's locks for synchronizing access to the working set.
    */
-  private final Object globalSyncObject;
+  private final StripedKernelLock kernelLock;
   /**
    * The container of all course model and transport order objects.
    */
@@ -48,33 +48,41 @@ public class StandardDispatcherService
   /**
    * Creates a new instance.
    *
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
    * @param globalObjectPool The object pool to be used.
    * @param dispatcher The dispatcher.
    */
   @Inject
-  public StandardDispatcherService(@GlobalKernelSync Object globalSyncObject,
+  public StandardDispatcherService(StripedKernelLock kernelLock,
                                    TCSObjectPool globalObjectPool,
                                    Dispatcher dispatcher) {
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
     this.globalObjectPool = requireNonNull(globalObjectPool, "globalObjectPool");
     this.dispatcher = requireNonNull(dispatcher, "dispatcher");
   }
 
   @Override
   public void dispatch() {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       dispatcher.dispatch();
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   @Deprecated
   public void releaseVehicle(TCSObjectReference<Vehicle> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       dispatcher.releaseVehicle(globalObjectPool.getObject(Vehicle.class, ref));
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
@@ -83,11 +91,15 @@ public class StandardDispatcherService
                                 boolean immediateAbort,
                                 boolean disableVehicle)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       dispatcher.withdrawOrder(globalObjectPool.getObject(Vehicle.class, ref),
                                immediateAbort,
                                disableVehicle);
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
@@ -96,28 +108,40 @@ public class StandardDispatcherService
                                        boolean immediateAbort,
                                        boolean disableVehicle)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       dispatcher.withdrawOrder(globalObjectPool.getObject(TransportOrder.class, ref),
                                immediateAbort,
                                disableVehicle);
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void withdrawByVehicle(TCSObjectReference<Vehicle> ref, boolean immediateAbort)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       dispatcher.withdrawOrder(globalObjectPool.getObject(Vehicle.class, ref), immediateAbort);
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void withdrawByTransportOrder(TCSObjectReference<TransportOrder> ref,
                                        boolean immediateAbort)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       dispatcher.withdrawOrder(globalObjectPool.getObject(TransportOrder.class, ref),
                                immediateAbort);
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 }
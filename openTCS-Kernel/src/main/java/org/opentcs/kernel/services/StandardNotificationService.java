@@ -12,8 +12,9 @@ import static java.util.Objects.requireNonNull;
 import java.util.function.Predicate;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.services.NotificationService;
+import org.opentcs.components.kernel.services.UserNotificationBatch;
 import org.opentcs.data.notification.UserNotification;
-import org.opentcs.kernel.GlobalKernelSync;
+import org.opentcs.kernel.StripedKernelLock;
 import org.opentcs.kernel.workingset.NotificationBuffer;
 
 /**
@@ -25,9 +26,9 @@ public class StandardNotificationService
     implements NotificationService {
 
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The kernel's locks for synchronizing access to the working set.
    */
-  private final Object globalSyncObject;
+  private final StripedKernelLock kernelLock;
   /**
    * The buffer for all messages published.
    */
@@ -36,27 +37,68 @@ public class StandardNotificationService
   /**
    * Creates a new instance.
    *
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
    * @param notificationBuffer The notification buffer to be used.
    */
   @Inject
-  public StandardNotificationService(@GlobalKernelSync Object globalSyncObject,
+  public StandardNotificationService(StripedKernelLock kernelLock,
                                      NotificationBuffer notificationBuffer) {
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
     this.notificationBuffer = requireNonNull(notificationBuffer, "notificationBuffer");
   }
 
   @Override
   public List<UserNotification> fetchUserNotifications(Predicate<UserNotification> predicate) {
-    synchronized (globalSyncObject) {
+    kernelLock.readLock().lock();
+    try {
       return notificationBuffer.getNotifications(predicate);
     }
+    finally {
+      kernelLock.readLock().unlock();
+    }
   }
 
   @Override
   public void publishUserNotification(UserNotification notification) {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       notificationBuffer.addNotification(notification);
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public UserNotificationBatch fetchUserNotificationsSince(long sequenceNumber) {
+    kernelLock.readLock().lock();
+    try {
+      return notificationBuffer.getNotificationsSince(sequenceNumber);
+    }
+    finally {
+      kernelLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public List<UserNotification> fetchUserNotificationsBySource(String source) {
+    kernelLock.readLock().lock();
+    try {
+      return notificationBuffer.getNotificationsBySource(source);
+    }
+    finally {
+      kernelLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public List<UserNotification> fetchUserNotificationsByLevel(UserNotification.Level level) {
+    kernelLock.readLock().lock();
+    try {
+      return notificationBuffer.getNotificationsByLevel(level);
+    }
+    finally {
+      kernelLock.readLock().unlock();
+    }
   }
 }
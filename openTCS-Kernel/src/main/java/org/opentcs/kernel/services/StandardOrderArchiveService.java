@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.services;
+
+import java.time.Instant;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import javax.inject.Inject;
+import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.components.kernel.services.OrderArchiveService;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.persistence.OrderArchive;
+
+/**
+ * This class is the standard implementation of the {@link OrderArchiveService} interface.
+ * <p>
+ * The archive is independent of the working set, so the kernel's locks are not required here.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class StandardOrderArchiveService
+    implements OrderArchiveService {
+
+  /**
+   * The order archive.
+   */
+  private final OrderArchive orderArchive;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param orderArchive The order archive.
+   */
+  @Inject
+  public StandardOrderArchiveService(OrderArchive orderArchive) {
+    this.orderArchive = requireNonNull(orderArchive, "orderArchive");
+  }
+
+  @Override
+  public TransportOrder fetchArchivedTransportOrder(String name) {
+    try {
+      return orderArchive.getTransportOrder(name);
+    }
+    catch (IllegalStateException exc) {
+      throw new KernelRuntimeException(exc);
+    }
+  }
+
+  @Override
+  public OrderSequence fetchArchivedOrderSequence(String name) {
+    try {
+      return orderArchive.getOrderSequence(name);
+    }
+    catch (IllegalStateException exc) {
+      throw new KernelRuntimeException(exc);
+    }
+  }
+
+  @Override
+  public List<TransportOrder> fetchArchivedTransportOrders(Instant from, Instant to) {
+    try {
+      return orderArchive.getTransportOrders(from, to);
+    }
+    catch (IllegalStateException exc) {
+      throw new KernelRuntimeException(exc);
+    }
+  }
+
+  @Override
+  public List<OrderSequence> fetchArchivedOrderSequences(Instant from, Instant to) {
+    try {
+      return orderArchive.getOrderSequences(from, to);
+    }
+    catch (IllegalStateException exc) {
+      throw new KernelRuntimeException(exc);
+    }
+  }
+}
@@ -8,6 +8,7 @@
 package org.opentcs.kernel.services;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
@@ -24,10 +25,11 @@ import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.notification.UserNotification;
-import org.opentcs.kernel.GlobalKernelSync;
+import org.opentcs.kernel.StripedKernelLock;
 import org.opentcs.kernel.persistence.ModelPersister;
 import org.opentcs.kernel.workingset.Model;
 import org.opentcs.util.event.EventHandler;
@@ -52,9 +54,9 @@ public class StandardPlantModelService
    */
   private final Kernel kernel;
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The kernel's locks for synchronizing access to the working set.
    */
-  private final Object globalSyncObject;
+  private final StripedKernelLock kernelLock;
   /**
    * The model facade to the object pool.
    */
@@ -77,7 +79,7 @@ public class StandardPlantModelService
    *
    * @param kernel The kernel.
    * @param objectService The tcs object service.
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
    * @param model The model to be used.
    * @param modelPersister The model persister to be used.
    * @param eventHandler Where this instance sends events to.
@@ -86,14 +88,14 @@ public class StandardPlantModelService
   @Inject
   public StandardPlantModelService(LocalKernel kernel,
                                    TCSObjectService objectService,
-                                   @GlobalKernelSync Object globalSyncObject,
+                                   StripedKernelLock kernelLock,
                                    Model model,
                                    ModelPersister modelPersister,
                                    @ApplicationEventBus EventHandler eventHandler,
                                    NotificationService notificationService) {
     super(objectService);
     this.kernel = requireNonNull(kernel, "kernel");
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
     this.model = requireNonNull(model, "model");
     this.modelPersister = requireNonNull(modelPersister, "modelPersister");
     this.eventHandler = requireNonNull(eventHandler, "eventHandler");
@@ -103,15 +105,40 @@ public class StandardPlantModelService
   @Override
   public Set<TCSResource<?>> expandResources(Set<TCSResourceReference<?>> resources)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.readLock().lock();
+    try {
       return model.expandResources(resources);
     }
+    finally {
+      kernelLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  @SuppressWarnings("deprecation")
+  public Set<Block> fetchBlocksContaining(Set<TCSResourceReference<?>> resources) {
+    requireNonNull(resources, "resources");
+
+    kernelLock.readLock().lock();
+    try {
+      Set<Block> result = new HashSet<>();
+      for (TCSResourceReference<?> resource : resources) {
+        for (Block block : model.getBlocksContaining(resource)) {
+          result.add(block.clone());
+        }
+      }
+      return result;
+    }
+    finally {
+      kernelLock.readLock().unlock();
+    }
   }
 
   @Override
   public void loadPlantModel()
       throws IllegalStateException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       if (!modelPersister.hasSavedModel()) {
         createPlantModel(new PlantModelCreationTO(Kernel.DEFAULT_MODEL_NAME));
         return;
@@ -131,14 +158,21 @@ public class StandardPlantModelService
           new UserNotification("Kernel loaded model " + newModelName,
                                UserNotification.Level.INFORMATIONAL));
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void savePlantModel()
       throws IllegalStateException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       modelPersister.saveModel(model, model.getName());
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
@@ -155,12 +189,16 @@ public class StandardPlantModelService
     emitModelEvent(oldModelName, to.getName(), true, false);
 
     // Create the plant model
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       model.clear();
       model.setName(to.getName());
       model.setProperties(new HashMap<>(to.getProperties()));
       model.createPlantModelObjects(to);
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
 
     savePlantModel();
 
@@ -183,17 +221,25 @@ public class StandardPlantModelService
 
   @Override
   public String getModelName() {
-    synchronized (globalSyncObject) {
+    kernelLock.readLock().lock();
+    try {
       return model.getName();
     }
+    finally {
+      kernelLock.readLock().unlock();
+    }
   }
 
   @Override
   public Map<String, String> getModelProperties()
       throws KernelRuntimeException {
-    synchronized (globalSyncObject) {
+    kernelLock.readLock().lock();
+    try {
       return model.getProperties();
     }
+    finally {
+      kernelLock.readLock().unlock();
+    }
   }
 
   @Override
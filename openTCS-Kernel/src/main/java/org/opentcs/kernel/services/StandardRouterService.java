@@ -17,7 +17,7 @@ import org.opentcs.components.kernel.services.RouterService;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Path;
-import org.opentcs.kernel.GlobalKernelSync;
+import org.opentcs.kernel.StripedKernelLock;
 import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.kernel.workingset.Model;
 
@@ -30,9 +30,9 @@ public class StandardRouterService
     implements RouterService {
 
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The kernel's locks for synchronizing access to the working set.
    */
-  private final Object globalSyncObject;
+  private final StripedKernelLock kernelLock;
   /**
    * The kernel.
    */
@@ -57,7 +57,7 @@ public class StandardRouterService
   /**
    * Creates a new instance.
    *
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
    * @param kernel The kernel.
    * @param router The scheduler.
    * @param dispatcher The dispatcher.
@@ -65,13 +65,13 @@ public class StandardRouterService
    * @param configuration The kernel application's configuration.
    */
   @Inject
-  public StandardRouterService(@GlobalKernelSync Object globalSyncObject,
+  public StandardRouterService(StripedKernelLock kernelLock,
                                LocalKernel kernel,
                                Router router,
                                Dispatcher dispatcher,
                                Model model,
                                KernelApplicationConfiguration configuration) {
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
     this.kernel = requireNonNull(kernel, "kernel");
     this.router = requireNonNull(router, "router");
     this.dispatcher = requireNonNull(dispatcher, "dispatcher");
@@ -82,20 +82,28 @@ public class StandardRouterService
   @Override
   public void updatePathLock(TCSObjectReference<Path> ref, boolean locked)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       model.setPathLocked(ref, locked);
       if (kernel.getState() == Kernel.State.OPERATING
           && configuration.updateRoutingTopologyOnPathLockChange()) {
         updateRoutingTopology();
       }
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void updateRoutingTopology() {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       router.topologyChanged();
       dispatcher.topologyChanged();
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 }
@@ -12,7 +12,7 @@ import javax.inject.Inject;
 import org.opentcs.access.SchedulerAllocationState;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.SchedulerService;
-import org.opentcs.kernel.GlobalKernelSync;
+import org.opentcs.kernel.StripedKernelLock;
 
 /**
  * This class is the standard implementation of the {@link SchedulerService} interface.
@@ -23,9 +23,9 @@ public class StandardSchedulerService
     implements SchedulerService {
 
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The kernel's locks for synchronizing access to the working set.
    */
-  private final Object globalSyncObject;
+  private final StripedKernelLock kernelLock;
   /**
    * The scheduler.
    */
@@ -34,20 +34,24 @@ public class StandardSchedulerService
   /**
    * Creates a new instance.
    *
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
    * @param scheduler The scheduler.
    */
   @Inject
-  public StandardSchedulerService(@GlobalKernelSync Object globalSyncObject,
+  public StandardSchedulerService(StripedKernelLock kernelLock,
                                   Scheduler scheduler) {
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
     this.scheduler = requireNonNull(scheduler, "scheduler");
   }
 
   @Override
   public SchedulerAllocationState fetchSchedulerAllocations() {
-    synchronized (globalSyncObject) {
+    kernelLock.readLock().lock();
+    try {
       return new SchedulerAllocationState(scheduler.getAllocations());
     }
+    finally {
+      kernelLock.readLock().unlock();
+    }
   }
 }
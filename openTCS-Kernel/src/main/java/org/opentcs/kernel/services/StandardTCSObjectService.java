@@ -15,11 +15,13 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
-import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
-import org.opentcs.kernel.GlobalKernelSync;
+import org.opentcs.kernel.StripedKernelLock;
+import org.opentcs.kernel.StripedKernelLock.ObjectLock;
 import org.opentcs.kernel.workingset.TCSObjectPool;
 
 /**
@@ -28,12 +30,12 @@ import org.opentcs.kernel.workingset.TCSObjectPool;
  * @author Martin Grzenia (Fraunhofer IML)
  */
 public class StandardTCSObjectService
-    implements TCSObjectService {
+    implements InternalTCSObjectService {
 
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The kernel's locks for synchronizing access to the working set.
    */
-  private final Object globalSyncObject;
+  private final StripedKernelLock kernelLock;
   /**
    * The container of all course model and transport order objects.
    */
@@ -42,38 +44,47 @@ public class StandardTCSObjectService
   /**
    * Creates a new instance.
    *
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
    * @param globalObjectPool The object pool to be used.
    */
   @Inject
-  public StandardTCSObjectService(@GlobalKernelSync Object globalSyncObject,
+  public StandardTCSObjectService(StripedKernelLock kernelLock,
                                   TCSObjectPool globalObjectPool) {
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
     this.globalObjectPool = requireNonNull(globalObjectPool, "globalObjectPool");
   }
 
   @Override
   @SuppressWarnings("deprecation")
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, TCSObjectReference<T> ref) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       T result = getGlobalObjectPool().getObjectOrNull(clazz, ref);
       return result == null ? null : clazz.cast(result.clone());
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Override
   @SuppressWarnings("deprecation")
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       T result = getGlobalObjectPool().getObjectOrNull(clazz, name);
       return result == null ? null : clazz.cast(result.clone());
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Override
   @SuppressWarnings("deprecation")
   public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       Set<T> objects = getGlobalObjectPool().getObjects(clazz);
       Set<T> copies = new HashSet<>();
       for (T object : objects) {
@@ -81,29 +92,48 @@ public class StandardTCSObjectService
       }
       return copies;
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Override
   @SuppressWarnings("deprecation")
   public <T extends TCSObject<T>> Set<T> fetchObjects(@Nonnull Class<T> clazz,
                                                       @Nonnull Predicate<? super T> predicate) {
-    synchronized (getGlobalSyncObject()) {
+    getKernelLock().readLock().lock();
+    try {
       return getGlobalObjectPool().getObjects(clazz, predicate).stream()
           .map(obj -> clazz.cast(obj.clone()))
           .collect(Collectors.toSet());
     }
+    finally {
+      getKernelLock().readLock().unlock();
+    }
   }
 
   @Override
   public void updateObjectProperty(TCSObjectReference<?> ref, String key, @Nullable String value)
       throws ObjectUnknownException {
-    synchronized (getGlobalSyncObject()) {
+    ObjectLock lock = getKernelLock().objectLock(ref);
+    lock.lock();
+    try {
       getGlobalObjectPool().setObjectProperty(ref, key, value);
     }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public TCSObjectSnapshot snapshot() {
+    // The pool publishes a new snapshot whenever a modification is completed, so no locking is
+    // required here.
+    return getGlobalObjectPool().snapshot();
   }
 
-  protected Object getGlobalSyncObject() {
-    return globalSyncObject;
+  protected StripedKernelLock getKernelLock() {
+    return kernelLock;
   }
 
   protected TCSObjectPool getGlobalObjectPool() {
@@ -9,6 +9,9 @@ package org.opentcs.kernel.services;
 
 import java.util.List;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
@@ -25,7 +28,8 @@ import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.Rejection;
 import org.opentcs.data.order.TransportOrder;
-import org.opentcs.kernel.GlobalKernelSync;
+import org.opentcs.kernel.StripedKernelLock;
+import org.opentcs.kernel.StripedKernelLock.ObjectLock;
 import org.opentcs.kernel.workingset.Model;
 import org.opentcs.kernel.workingset.TCSObjectPool;
 import org.opentcs.kernel.workingset.TransportOrderPool;
@@ -40,9 +44,9 @@ public class StandardTransportOrderService
     implements InternalTransportOrderService {
 
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The kernel's locks for synchronizing access to the working set.
    */
-  private final Object globalSyncObject;
+  private final StripedKernelLock kernelLock;
   /**
    * The container of all course model and transport order objects.
    */
@@ -64,7 +68,7 @@ public class StandardTransportOrderService
    * Creates a new instance.
    *
    * @param objectService The tcs obejct service.
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
    * @param globalObjectPool The object pool to be used.
    * @param orderPool The oder pool to be used.
    * @param model The model to be used.
@@ -72,13 +76,13 @@ public class StandardTransportOrderService
    */
   @Inject
   public StandardTransportOrderService(TCSObjectService objectService,
-                                       @GlobalKernelSync Object globalSyncObject,
+                                       StripedKernelLock kernelLock,
                                        TCSObjectPool globalObjectPool,
                                        TransportOrderPool orderPool,
                                        Model model,
                                        Provider<Dispatcher> dispatcherProvider) {
     super(objectService);
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
     this.globalObjectPool = requireNonNull(globalObjectPool, "globalObjectPool");
     this.orderPool = requireNonNull(orderPool, "orderPool");
     this.model = requireNonNull(model, "model");
@@ -89,15 +93,21 @@ public class StandardTransportOrderService
   public void registerTransportOrderRejection(TCSObjectReference<TransportOrder> ref,
                                               Rejection rejection)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       orderPool.addTransportOrderRejection(ref, rejection);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void markOrderSequenceFinished(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       OrderSequence seq = globalObjectPool.getObject(OrderSequence.class, ref);
       // Make sure we don't execute this if the sequence is already marked as finished, as that 
       // would make it possible to trigger disposition of a vehicle at any given moment.
@@ -114,23 +124,35 @@ public class StandardTransportOrderService
         model.setVehicleOrderSequence(vehicle.getReference(), null);
       }
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void updateOrderSequenceFinishedIndex(TCSObjectReference<OrderSequence> ref, int index)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       orderPool.setOrderSequenceFinishedIndex(ref, index);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateOrderSequenceProcessingVehicle(TCSObjectReference<OrderSequence> seqRef,
                                                    TCSObjectReference<Vehicle> vehicleRef)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       orderPool.setOrderSequenceProcessingVehicle(seqRef, vehicleRef);
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
@@ -138,58 +160,86 @@ public class StandardTransportOrderService
                                                     TCSObjectReference<Vehicle> vehicleRef,
                                                     List<DriveOrder> driveOrders)
       throws ObjectUnknownException, IllegalArgumentException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       orderPool.setTransportOrderProcessingVehicle(orderRef, vehicleRef, driveOrders);
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void updateTransportOrderDriveOrders(TCSObjectReference<TransportOrder> ref,
                                               List<DriveOrder> driveOrders)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       orderPool.setTransportOrderDriveOrders(ref, driveOrders);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateTransportOrderNextDriveOrder(TCSObjectReference<TransportOrder> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       orderPool.setTransportOrderNextDriveOrder(ref);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateTransportOrderState(TCSObjectReference<TransportOrder> ref,
                                         TransportOrder.State state)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       orderPool.setTransportOrderState(ref, state);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   @SuppressWarnings("deprecation")
   public OrderSequence createOrderSequence(OrderSequenceCreationTO to) {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       return orderPool.createOrderSequence(to).clone();
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   @SuppressWarnings("deprecation")
   public TransportOrder createTransportOrder(TransportOrderCreationTO to)
       throws ObjectUnknownException, ObjectExistsException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       return orderPool.createTransportOrder(to).clone();
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void markOrderSequenceComplete(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       OrderSequence seq = globalObjectPool.getObject(OrderSequence.class, ref);
       // Make sure we don't execute this if the sequence is already marked as finished, as that 
       // would make it possible to trigger disposition of a vehicle at any given moment.
@@ -210,6 +260,50 @@ public class StandardTransportOrderService
         }
       }
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByState(TransportOrder.State state) {
+    requireNonNull(state, "state");
+
+    return fetchTransportOrderCopies(() -> orderPool.getTransportOrdersByState(state));
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByIntendedVehicle(
+      TCSObjectReference<Vehicle> vehicleRef) {
+    return fetchTransportOrderCopies(
+        () -> orderPool.getTransportOrdersByIntendedVehicle(vehicleRef));
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByProcessingVehicle(
+      TCSObjectReference<Vehicle> vehicleRef) {
+    return fetchTransportOrderCopies(
+        () -> orderPool.getTransportOrdersByProcessingVehicle(vehicleRef));
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByWrappingSequence(
+      TCSObjectReference<OrderSequence> seqRef) {
+    return fetchTransportOrderCopies(
+        () -> orderPool.getTransportOrdersByWrappingSequence(seqRef));
+  }
+
+  @SuppressWarnings("deprecation")
+  private Set<TransportOrder> fetchTransportOrderCopies(Supplier<Set<TransportOrder>> query) {
+    kernelLock.readLock().lock();
+    try {
+      return query.get().stream()
+          .map(order -> order.clone())
+          .collect(Collectors.toSet());
+    }
+    finally {
+      kernelLock.readLock().unlock();
+    }
+  }
 }
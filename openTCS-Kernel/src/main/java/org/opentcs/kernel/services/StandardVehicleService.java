@@ -8,6 +8,7 @@
 package org.opentcs.kernel.services;
 
 import java.util.List;
+import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import javax.inject.Inject;
@@ -25,9 +26,11 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.AdapterCommand;
 import org.opentcs.drivers.vehicle.LoadHandlingDevice;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterDescription;
+import org.opentcs.drivers.vehicle.VehicleStateUpdate;
 import org.opentcs.drivers.vehicle.management.AttachmentInformation;
 import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
-import org.opentcs.kernel.GlobalKernelSync;
+import org.opentcs.kernel.StripedKernelLock;
+import org.opentcs.kernel.StripedKernelLock.ObjectLock;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.VehicleEntry;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.VehicleEntryPool;
@@ -52,9 +55,9 @@ public class StandardVehicleService
    */
   private static final Logger LOG = LoggerFactory.getLogger(StandardVehicleService.class);
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The kernel's locks for synchronizing access to the working set.
    */
-  private final Object globalSyncObject;
+  private final StripedKernelLock kernelLock;
   /**
    * The container of all course model and transport order objects.
    */
@@ -84,7 +87,7 @@ public class StandardVehicleService
    * Creates a new instance.
    *
    * @param objectService The tcs object service.
-   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelLock The kernel's locks for synchronizing access to the working set.
    * @param globalObjectPool The object pool to be used.
    * @param vehicleControllerPool The controller pool to be used.
    * @param vehicleEntryPool The pool of vehicle entries to be used.
@@ -94,7 +97,7 @@ public class StandardVehicleService
    */
   @Inject
   public StandardVehicleService(TCSObjectService objectService,
-                                @GlobalKernelSync Object globalSyncObject,
+                                StripedKernelLock kernelLock,
                                 TCSObjectPool globalObjectPool,
                                 LocalVehicleControllerPool vehicleControllerPool,
                                 VehicleEntryPool vehicleEntryPool,
@@ -102,7 +105,7 @@ public class StandardVehicleService
                                 VehicleCommAdapterRegistry commAdapterRegistry,
                                 Model model) {
     super(objectService);
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
     this.globalObjectPool = requireNonNull(globalObjectPool, "globalObjectPool");
     this.vehicleControllerPool = requireNonNull(vehicleControllerPool, "vehicleControllerPool");
     this.vehicleEntryPool = requireNonNull(vehicleEntryPool, "vehicleEntryPool");
@@ -114,121 +117,211 @@ public class StandardVehicleService
   @Override
   public void updateVehicleEnergyLevel(TCSObjectReference<Vehicle> ref, int energyLevel)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       model.setVehicleEnergyLevel(ref, energyLevel);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateVehicleLoadHandlingDevices(TCSObjectReference<Vehicle> ref,
                                                List<LoadHandlingDevice> devices)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       model.setVehicleLoadHandlingDevices(ref, devices);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateVehicleNextPosition(TCSObjectReference<Vehicle> vehicleRef,
                                         TCSObjectReference<Point> pointRef)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(vehicleRef);
+    lock.lock();
+    try {
       model.setVehicleNextPosition(vehicleRef, pointRef);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateVehicleOrderSequence(TCSObjectReference<Vehicle> vehicleRef,
                                          TCSObjectReference<OrderSequence> sequenceRef)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(vehicleRef);
+    lock.lock();
+    try {
       model.setVehicleOrderSequence(vehicleRef, sequenceRef);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateVehicleOrientationAngle(TCSObjectReference<Vehicle> ref, double angle)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       model.setVehicleOrientationAngle(ref, angle);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateVehiclePosition(TCSObjectReference<Vehicle> vehicleRef,
                                     TCSObjectReference<Point> pointRef)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      LOG.debug("Vehicle {} has reached point {}.", vehicleRef, pointRef);
-      model.setVehiclePosition(vehicleRef, pointRef);
+    // Besides the vehicle, the points it leaves and enters are modified, too. Since the point it
+    // leaves is only known after looking at the vehicle, retry if it moved in the meantime.
+    while (true) {
+      TCSObjectReference<Point> oldPointRef
+          = globalObjectPool.getObject(Vehicle.class, vehicleRef).getCurrentPosition();
+      ObjectLock lock = kernelLock.objectLock(vehicleRef, oldPointRef, pointRef);
+      lock.lock();
+      try {
+        if (!Objects.equals(oldPointRef,
+                            globalObjectPool.getObject(Vehicle.class, vehicleRef)
+                                .getCurrentPosition())) {
+          continue;
+        }
+        LOG.debug("Vehicle {} has reached point {}.", vehicleRef, pointRef);
+        model.setVehiclePosition(vehicleRef, pointRef);
+        return;
+      }
+      finally {
+        lock.unlock();
+      }
     }
   }
 
   @Override
   public void updateVehiclePrecisePosition(TCSObjectReference<Vehicle> ref, Triple position)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       model.setVehiclePrecisePosition(ref, position);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateVehicleProcState(TCSObjectReference<Vehicle> ref, Vehicle.ProcState state)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       LOG.debug("Updating procState of vehicle {} to {}...", ref.getName(), state);
       model.setVehicleProcState(ref, state);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateVehicleRechargeOperation(TCSObjectReference<Vehicle> ref,
                                              String rechargeOperation)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       model.setVehicleRechargeOperation(ref, rechargeOperation);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateVehicleRouteProgressIndex(TCSObjectReference<Vehicle> ref, int index)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       model.setVehicleRouteProgressIndex(ref, index);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateVehicleState(TCSObjectReference<Vehicle> ref, Vehicle.State state)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       model.setVehicleState(ref, state);
     }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void updateVehicleTransportOrder(TCSObjectReference<Vehicle> vehicleRef,
                                           TCSObjectReference<TransportOrder> orderRef)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(vehicleRef);
+    lock.lock();
+    try {
       model.setVehicleTransportOrder(vehicleRef, orderRef);
     }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void updateVehicle(TCSObjectReference<Vehicle> ref, VehicleStateUpdate update)
+      throws ObjectUnknownException {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
+      model.applyVehicleStateUpdate(ref, update);
+    }
+    finally {
+      lock.unlock();
+    }
   }
 
   @Override
   public void attachCommAdapter(TCSObjectReference<Vehicle> ref,
                                 VehicleCommAdapterDescription description)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       attachmentManager.attachAdapterToVehicle(ref.getName(),
                                                commAdapterRegistry.findFactoryFor(description));
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void disableCommAdapter(TCSObjectReference<Vehicle> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       VehicleEntry entry = vehicleEntryPool.getEntryFor(ref.getName());
       if (entry == null) {
         throw new IllegalArgumentException("No vehicle entry found for" + ref.getName());
@@ -236,12 +329,16 @@ public class StandardVehicleService
 
       entry.getCommAdapter().disable();
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void enableCommAdapter(TCSObjectReference<Vehicle> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       VehicleEntry entry = vehicleEntryPool.getEntryFor(ref.getName());
       if (entry == null) {
         throw new IllegalArgumentException("No vehicle entry found for " + ref.getName());
@@ -249,20 +346,28 @@ public class StandardVehicleService
 
       entry.getCommAdapter().enable();
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public AttachmentInformation fetchAttachmentInformation(TCSObjectReference<Vehicle> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.readLock().lock();
+    try {
       return attachmentManager.getAttachmentInformation(ref.getName());
     }
+    finally {
+      kernelLock.readLock().unlock();
+    }
   }
 
   @Override
   public VehicleProcessModelTO fetchProcessModel(TCSObjectReference<Vehicle> ref)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.readLock().lock();
+    try {
       VehicleEntry entry = vehicleEntryPool.getEntryFor(ref.getName());
       if (entry == null) {
         throw new IllegalArgumentException("No vehicle entry found for " + ref.getName());
@@ -270,33 +375,45 @@ public class StandardVehicleService
 
       return entry.getCommAdapter().createTransferableProcessModel();
     }
+    finally {
+      kernelLock.readLock().unlock();
+    }
   }
 
   @Override
   public void sendCommAdapterCommand(TCSObjectReference<Vehicle> ref, AdapterCommand command)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       vehicleControllerPool
           .getVehicleController(ref.getName())
           .sendCommAdapterCommand(command);
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void sendCommAdapterMessage(TCSObjectReference<Vehicle> ref, Object message)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       vehicleControllerPool
           .getVehicleController(ref.getName())
           .sendCommAdapterMessage(message);
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void updateVehicleIntegrationLevel(TCSObjectReference<Vehicle> ref,
                                             Vehicle.IntegrationLevel integrationLevel)
       throws ObjectUnknownException, KernelRuntimeException {
-    synchronized (globalSyncObject) {
+    kernelLock.writeLock().lock();
+    try {
       Vehicle vehicle = fetchObject(Vehicle.class, ref);
 
       if (vehicle.isProcessingOrder()
@@ -311,14 +428,22 @@ public class StandardVehicleService
 
       model.setVehicleIntegrationLevel(ref, integrationLevel);
     }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
   }
 
   @Override
   public void updateVehicleProcessableCategories(TCSObjectReference<Vehicle> ref,
                                                  Set<String> processableCategories)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
+    ObjectLock lock = kernelLock.objectLock(ref);
+    lock.lock();
+    try {
       model.setVehicleProcessableCategories(ref, processableCategories);
     }
+    finally {
+      lock.unlock();
+    }
   }
 }
@@ -51,11 +51,13 @@ import org.opentcs.drivers.vehicle.VehicleCommAdapter;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterEvent;
 import org.opentcs.drivers.vehicle.VehicleController;
 import org.opentcs.drivers.vehicle.VehicleProcessModel;
+import org.opentcs.drivers.vehicle.VehicleStateUpdate;
 import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
 import static org.opentcs.util.Assertions.checkArgument;
 import static org.opentcs.util.Assertions.checkState;
 import org.opentcs.util.ExplainedBoolean;
 import org.opentcs.util.event.EventBus;
+import org.opentcs.util.event.EventFilter;
 import org.opentcs.util.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -195,7 +197,7 @@ public class DefaultVehicleController
       return;
     }
 
-    eventBus.subscribe(this);
+    eventBus.subscribe(this, EventFilter.forObject(Vehicle.class, vehicle.getName()));
 
     vehicleService.updateVehicleRechargeOperation(vehicle.getReference(),
                                                   commAdapter.getRechargeOperation());
@@ -203,21 +205,17 @@ public class DefaultVehicleController
 
     // Initialize standard attributes once.
     setVehiclePosition(commAdapter.getProcessModel().getVehiclePosition());
-    vehicleService.updateVehiclePrecisePosition(
-        vehicle.getReference(),
-        commAdapter.getProcessModel().getVehiclePrecisePosition()
-    );
-    vehicleService.updateVehicleOrientationAngle(
-        vehicle.getReference(),
-        commAdapter.getProcessModel().getVehicleOrientationAngle()
-    );
-    vehicleService.updateVehicleEnergyLevel(vehicle.getReference(),
-                                            commAdapter.getProcessModel().getVehicleEnergyLevel());
-    vehicleService.updateVehicleLoadHandlingDevices(
-        vehicle.getReference(),
-        commAdapter.getProcessModel().getVehicleLoadHandlingDevices()
-    );
-    updateVehicleState(commAdapter.getProcessModel().getVehicleState());
+    VehicleProcessModel processModel = commAdapter.getProcessModel();
+    // Unlike updates reported later, the initial precise position is set regardless of the
+    // vehicle's integration level.
+    VehicleStateUpdate initialState = new VehicleStateUpdate()
+        .withPrecisePosition(processModel.getVehiclePrecisePosition())
+        .withOrientationAngle(processModel.getVehicleOrientationAngle())
+        .withEnergyLevel(processModel.getVehicleEnergyLevel())
+        .withLoadHandlingDevices(processModel.getVehicleLoadHandlingDevices())
+        .withState(processModel.getVehicleState());
+    markConnectedForState(initialState.getState());
+    vehicleService.updateVehicle(vehicle.getReference(), initialState);
     updateCommAdapterState(commAdapter.getProcessModel().getVehicleAdapterState());
 
     // Add a first entry into allocatedResources to shift freeing of resources
@@ -582,6 +580,12 @@ public class DefaultVehicleController
 
   @SuppressWarnings({"unchecked", "deprecation"})
   private void handleProcessModelEvent(PropertyChangeEvent evt) {
+    if (commAdapter.getProcessModel().isApplyingStateUpdate()
+        && isStateUpdateAttribute(evt.getPropertyName())) {
+      // Handled along with all other changes with the state update event following.
+      return;
+    }
+
     eventBus.onEvent(new ProcessModelEvent(evt.getPropertyName(),
                                            commAdapter.createTransferableProcessModel()));
 
@@ -609,6 +613,10 @@ public class DefaultVehicleController
     else if (Objects.equals(evt.getPropertyName(), VehicleProcessModel.Attribute.STATE.name())) {
       updateVehicleState((Vehicle.State) evt.getNewValue());
     }
+    else if (Objects.equals(evt.getPropertyName(),
+                            VehicleProcessModel.Attribute.STATE_UPDATE.name())) {
+      applyStateUpdate((VehicleStateUpdate) evt.getNewValue());
+    }
     else if (Objects.equals(evt.getPropertyName(),
                             VehicleProcessModel.Attribute.COMM_ADAPTER_STATE.name())) {
       updateCommAdapterState((VehicleCommAdapter.State) evt.getNewValue());
@@ -649,6 +657,28 @@ public class DefaultVehicleController
     }
   }
 
+  private boolean isStateUpdateAttribute(String propertyName) {
+    return Objects.equals(propertyName, VehicleProcessModel.Attribute.PRECISE_POSITION.name())
+        || Objects.equals(propertyName, VehicleProcessModel.Attribute.ORIENTATION_ANGLE.name())
+        || Objects.equals(propertyName, VehicleProcessModel.Attribute.ENERGY_LEVEL.name())
+        || Objects.equals(propertyName,
+                          VehicleProcessModel.Attribute.LOAD_HANDLING_DEVICES.name())
+        || Objects.equals(propertyName, VehicleProcessModel.Attribute.STATE.name());
+  }
+
+  private void applyStateUpdate(VehicleStateUpdate update) {
+    // Get an up-to-date copy of the vehicle
+    Vehicle currVehicle = vehicleService.fetchObject(Vehicle.class, vehicle.getReference());
+
+    if (currVehicle.getIntegrationLevel() == Vehicle.IntegrationLevel.TO_BE_IGNORED) {
+      update = update.withoutPrecisePosition();
+    }
+    if (update.getState() != null) {
+      markConnectedForState(update.getState());
+    }
+    vehicleService.updateVehicle(vehicle.getReference(), update);
+  }
+
   private void updateVehiclePrecisePosition(Triple precisePosition)
       throws ObjectUnknownException {
     // Get an up-to-date copy of the vehicle
@@ -805,6 +835,12 @@ public class DefaultVehicleController
   @SuppressWarnings("deprecation")
   private void updateVehicleState(Vehicle.State newState) {
     requireNonNull(newState, "newState");
+    markConnectedForState(newState);
+    vehicleService.updateVehicleState(vehicle.getReference(), newState);
+  }
+
+  @SuppressWarnings("deprecation")
+  private void markConnectedForState(Vehicle.State newState) {
     // If the communication adapter knows the state of the vehicle and is not
     // marked as connected with us, mark it as connected now. - It knows the
     // vehicle's state, so it must be connected to it.
@@ -812,7 +848,6 @@ public class DefaultVehicleController
         && !VehicleCommAdapter.State.CONNECTED.equals(commAdapterState)) {
       updateCommAdapterState(VehicleCommAdapter.State.CONNECTED);
     }
-    vehicleService.updateVehicleState(vehicle.getReference(), newState);
   }
 
   /**
@@ -54,6 +54,7 @@ import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.LoadHandlingDevice;
 import org.opentcs.drivers.vehicle.VehicleCommAdapter;
+import org.opentcs.drivers.vehicle.VehicleStateUpdate;
 import org.opentcs.util.Comparators;
 import org.opentcs.util.annotations.ScheduledApiChange;
 import org.slf4j.Logger;
@@ -80,6 +81,10 @@ public class Model {
    * The system's global object pool.
    */
   private final TCSObjectPool objectPool;
+  /**
+   * The blocks in the object pool, indexed by their members.
+   */
+  private final TCSObjectIndex<Block, TCSResourceReference<?>> blocksByMember;
   /**
    * This model's name.
    */
@@ -98,6 +103,7 @@ public class Model {
   @Inject
   public Model(TCSObjectPool globalPool) {
     this.objectPool = Objects.requireNonNull(globalPool);
+    this.blocksByMember = objectPool.registerMultiKeyIndex(Block.class, Block::getMembers);
   }
 
   /**
@@ -240,7 +246,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newLayout.clone(),
+    objectPool.emitObjectEvent(newLayout,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created layout.
@@ -276,7 +282,7 @@ public class Model {
       newLayout.getLayoutElements().add(shape);
     }
     objectPool.addObject(newLayout);
-    objectPool.emitObjectEvent(newLayout.clone(),
+    objectPool.emitObjectEvent(newLayout,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created layout.
@@ -303,9 +309,11 @@ public class Model {
     if (layout == null) {
       throw new ObjectUnknownException(ref);
     }
-    VisualLayout previousState = layout.clone();
+    VisualLayout previousState = layout;
+    layout = layout.clone();
     layout.setScaleX(scaleX);
-    objectPool.emitObjectEvent(layout.clone(),
+    layout = objectPool.replaceObject(layout);
+    objectPool.emitObjectEvent(layout,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return layout;
@@ -331,9 +339,11 @@ public class Model {
     if (layout == null) {
       throw new ObjectUnknownException(ref);
     }
-    VisualLayout previousState = layout.clone();
+    VisualLayout previousState = layout;
+    layout = layout.clone();
     layout.setScaleY(scaleY);
-    objectPool.emitObjectEvent(layout.clone(),
+    layout = objectPool.replaceObject(layout);
+    objectPool.emitObjectEvent(layout,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return layout;
@@ -359,9 +369,11 @@ public class Model {
     if (layout == null) {
       throw new ObjectUnknownException(ref);
     }
-    VisualLayout previousState = layout.clone();
+    VisualLayout previousState = layout;
+    layout = layout.clone();
     layout.setColors(colors);
-    objectPool.emitObjectEvent(layout.clone(),
+    layout = objectPool.replaceObject(layout);
+    objectPool.emitObjectEvent(layout,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return layout;
@@ -387,9 +399,11 @@ public class Model {
     if (layout == null) {
       throw new ObjectUnknownException(ref);
     }
-    VisualLayout previousState = layout.clone();
+    VisualLayout previousState = layout;
+    layout = layout.clone();
     layout.setLayoutElements(elements);
-    objectPool.emitObjectEvent(layout.clone(),
+    layout = objectPool.replaceObject(layout);
+    objectPool.emitObjectEvent(layout,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return layout;
@@ -415,9 +429,11 @@ public class Model {
     if (layout == null) {
       throw new ObjectUnknownException(ref);
     }
-    VisualLayout previousState = layout.clone();
+    VisualLayout previousState = layout;
+    layout = layout.clone();
     layout.setViewBookmarks(bookmarks);
-    objectPool.emitObjectEvent(layout.clone(),
+    layout = objectPool.replaceObject(layout);
+    objectPool.emitObjectEvent(layout,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return layout;
@@ -448,7 +464,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newPoint.clone(),
+    objectPool.emitObjectEvent(newPoint,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created point.
@@ -473,7 +489,7 @@ public class Model {
         .withVehicleOrientationAngle(to.getVehicleOrientationAngle())
         .withProperties(to.getProperties());
     objectPool.addObject(newPoint);
-    objectPool.emitObjectEvent(newPoint.clone(), null, TCSObjectEvent.Type.OBJECT_CREATED);
+    objectPool.emitObjectEvent(newPoint, null, TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created point.
     return newPoint;
   }
@@ -541,9 +557,11 @@ public class Model {
     if (point == null) {
       throw new ObjectUnknownException(ref);
     }
-    Point previousState = point.clone();
+    Point previousState = point;
+    point = point.clone();
     point.setPosition(position);
-    objectPool.emitObjectEvent(point.clone(),
+    point = objectPool.replaceObject(point);
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -567,9 +585,11 @@ public class Model {
     if (point == null) {
       throw new ObjectUnknownException(ref);
     }
-    Point previousState = point.clone();
+    Point previousState = point;
+    point = point.clone();
     point.setVehicleOrientationAngle(angle);
-    objectPool.emitObjectEvent(point.clone(),
+    point = objectPool.replaceObject(point);
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -595,9 +615,11 @@ public class Model {
     if (point == null) {
       throw new ObjectUnknownException(ref);
     }
-    Point previousState = point.clone();
+    Point previousState = point;
+    point = point.clone();
     point.setType(newType);
-    objectPool.emitObjectEvent(point.clone(),
+    point = objectPool.replaceObject(point);
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -624,11 +646,11 @@ public class Model {
       throw new IllegalArgumentException(
           "Point is not the path's destination.");
     }
-    Path previousState = path.clone();
+    Path previousState = path;
     Set<TCSObjectReference<Path>> incomingPaths = new HashSet<>(point.getIncomingPaths());
     incomingPaths.add(path.getReference());
     point = objectPool.replaceObject(point.withIncomingPaths(incomingPaths));
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -650,11 +672,11 @@ public class Model {
     LOG.debug("method entry");
     Point point = objectPool.getObject(Point.class, pointRef);
     Path path = objectPool.getObject(Path.class, pathRef);
-    Path previousState = path.clone();
+    Path previousState = path;
     Set<TCSObjectReference<Path>> incomingPaths = new HashSet<>(point.getIncomingPaths());
     incomingPaths.remove(path.getReference());
     point = objectPool.replaceObject(point.withIncomingPaths(incomingPaths));
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -680,11 +702,11 @@ public class Model {
     if (!path.getSourcePoint().equals(point.getReference())) {
       throw new IllegalArgumentException("Point is not the path's source.");
     }
-    Path previousState = path.clone();
+    Path previousState = path;
     Set<TCSObjectReference<Path>> outgoingPaths = new HashSet<>(point.getOutgoingPaths());
     outgoingPaths.add(path.getReference());
     point = objectPool.replaceObject(point.withOutgoingPaths(outgoingPaths));
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -706,11 +728,11 @@ public class Model {
     LOG.debug("method entry");
     Point point = objectPool.getObject(Point.class, pointRef);
     Path path = objectPool.getObject(Path.class, pathRef);
-    Path previousState = path.clone();
+    Path previousState = path;
     Set<TCSObjectReference<Path>> outgoingPaths = new HashSet<>(point.getOutgoingPaths());
     outgoingPaths.remove(path.getReference());
     point = objectPool.replaceObject(point.withOutgoingPaths(outgoingPaths));
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -748,7 +770,7 @@ public class Model {
     // Remove the point.
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               point.clone(),
+                               point,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return point;
   }
@@ -794,7 +816,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newPath.clone(),
+    objectPool.emitObjectEvent(newPath,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     addPointOutgoingPath(srcRef, newPath.getReference());
@@ -831,7 +853,7 @@ public class Model {
     // Store the instance in the global object pool.
     objectPool.addObject(newPath);
 
-    objectPool.emitObjectEvent(newPath.clone(),
+    objectPool.emitObjectEvent(newPath,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
 
@@ -904,9 +926,11 @@ public class Model {
     if (path == null) {
       throw new ObjectUnknownException(ref);
     }
-    Path previousState = path.clone();
+    Path previousState = path;
+    path = path.clone();
     path.setLength(newLength);
-    objectPool.emitObjectEvent(path.clone(),
+    path = objectPool.replaceObject(path);
+    objectPool.emitObjectEvent(path,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return path;
@@ -929,9 +953,11 @@ public class Model {
     if (path == null) {
       throw new ObjectUnknownException(ref);
     }
-    Path previousState = path.clone();
+    Path previousState = path;
+    path = path.clone();
     path.setRoutingCost(newCost);
-    objectPool.emitObjectEvent(path.clone(),
+    path = objectPool.replaceObject(path);
+    objectPool.emitObjectEvent(path,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return path;
@@ -954,9 +980,11 @@ public class Model {
     if (path == null) {
       throw new ObjectUnknownException(ref);
     }
-    Path previousState = path.clone();
+    Path previousState = path;
+    path = path.clone();
     path.setMaxVelocity(newVelocity);
-    objectPool.emitObjectEvent(path.clone(),
+    path = objectPool.replaceObject(path);
+    objectPool.emitObjectEvent(path,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return path;
@@ -980,9 +1008,11 @@ public class Model {
     if (path == null) {
       throw new ObjectUnknownException(ref);
     }
-    Path previousState = path.clone();
+    Path previousState = path;
+    path = path.clone();
     path.setMaxReverseVelocity(newVelocity);
-    objectPool.emitObjectEvent(path.clone(),
+    path = objectPool.replaceObject(path);
+    objectPool.emitObjectEvent(path,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return path;
@@ -1002,9 +1032,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Path path = objectPool.getObject(Path.class, ref);
-    Path previousState = path.clone();
+    Path previousState = path;
     path = objectPool.replaceObject(path.withLocked(newLocked));
-    objectPool.emitObjectEvent(path.clone(),
+    objectPool.emitObjectEvent(path,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return path;
@@ -1026,7 +1056,7 @@ public class Model {
     if (path == null) {
       throw new ObjectUnknownException(ref);
     }
-    Path previousState = path.clone();
+    Path previousState = path;
     removePointOutgoingPath(path.getSourcePoint(), ref);
     removePointIncomingPath(path.getDestinationPoint(), ref);
     objectPool.removeObject(ref);
@@ -1060,7 +1090,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newType.clone(),
+    objectPool.emitObjectEvent(newType,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     return newType;
@@ -1081,7 +1111,7 @@ public class Model {
         .withAllowedOperations(to.getAllowedOperations())
         .withProperties(to.getProperties());
     objectPool.addObject(newType);
-    objectPool.emitObjectEvent(newType.clone(),
+    objectPool.emitObjectEvent(newType,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     return newType;
@@ -1155,9 +1185,11 @@ public class Model {
     if (type == null) {
       throw new ObjectUnknownException(ref);
     }
-    LocationType previousState = type.clone();
+    LocationType previousState = type;
+    type = type.clone();
     type.addAllowedOperation(operation);
-    objectPool.emitObjectEvent(type.clone(),
+    type = objectPool.replaceObject(type);
+    objectPool.emitObjectEvent(type,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return type;
@@ -1183,9 +1215,11 @@ public class Model {
     if (type == null) {
       throw new ObjectUnknownException(ref);
     }
-    LocationType previousState = type.clone();
+    LocationType previousState = type;
+    type = type.clone();
     type.removeAllowedOperation(operation);
-    objectPool.emitObjectEvent(type.clone(),
+    type = objectPool.replaceObject(type);
+    objectPool.emitObjectEvent(type,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return type;
@@ -1211,7 +1245,7 @@ public class Model {
     // XXX Check if any locations of this type still exist, first.
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               type.clone(),
+                               type,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return type;
   }
@@ -1251,7 +1285,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newLocation.clone(),
+    objectPool.emitObjectEvent(newLocation,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created point.
@@ -1285,7 +1319,7 @@ public class Model {
     newLocation = newLocation.withAttachedLinks(locationLinks);
 
     objectPool.addObject(newLocation);
-    objectPool.emitObjectEvent(newLocation.clone(),
+    objectPool.emitObjectEvent(newLocation,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
 
@@ -1296,10 +1330,10 @@ public class Model {
       Set<Location.Link> pointLinks = new HashSet<>(point.getAttachedLinks());
       pointLinks.add(link);
 
-      Point previousPointState = point.clone();
+      Point previousPointState = point;
       point = objectPool.replaceObject(point.withAttachedLinks(pointLinks));
 
-      objectPool.emitObjectEvent(point.clone(),
+      objectPool.emitObjectEvent(point,
                                  previousPointState,
                                  TCSObjectEvent.Type.OBJECT_MODIFIED);
     }
@@ -1371,9 +1405,11 @@ public class Model {
     if (location == null) {
       throw new ObjectUnknownException(ref);
     }
-    Location previousState = location.clone();
+    Location previousState = location;
+    location = location.clone();
     location.setPosition(position);
-    objectPool.emitObjectEvent(location.clone(),
+    location = objectPool.replaceObject(location);
+    objectPool.emitObjectEvent(location,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return location;
@@ -1402,9 +1438,11 @@ public class Model {
     if (type == null) {
       throw new ObjectUnknownException(typeRef);
     }
-    Location previousState = location.clone();
+    Location previousState = location;
+    location = location.clone();
     location.setType(type.getReference());
-    objectPool.emitObjectEvent(location.clone(),
+    location = objectPool.replaceObject(location);
+    objectPool.emitObjectEvent(location,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return location;
@@ -1429,20 +1467,20 @@ public class Model {
     if (location == null) {
       throw new ObjectUnknownException(locRef);
     }
-    Location previousLocationState = location.clone();
+    Location previousLocationState = location;
     Point point = objectPool.getObjectOrNull(Point.class, pointRef);
     if (point == null) {
       throw new ObjectUnknownException(pointRef);
     }
-    Point previousPointState = point.clone();
+    Point previousPointState = point;
     Location.Link newLink
         = new Location.Link(location.getReference(), point.getReference());
     location.attachLink(newLink);
     point.attachLink(newLink);
-    objectPool.emitObjectEvent(location.clone(),
+    objectPool.emitObjectEvent(location,
                                previousLocationState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousPointState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return location;
@@ -1467,18 +1505,18 @@ public class Model {
     if (location == null) {
       throw new ObjectUnknownException(locRef);
     }
-    Location previousLocationState = location.clone();
+    Location previousLocationState = location;
     Point point = objectPool.getObjectOrNull(Point.class, pointRef);
     if (point == null) {
       throw new ObjectUnknownException(pointRef);
     }
-    Point previousPointState = point.clone();
+    Point previousPointState = point;
     location.detachLink(point.getReference());
     point.detachLink(location.getReference());
-    objectPool.emitObjectEvent(location.clone(),
+    objectPool.emitObjectEvent(location,
                                previousLocationState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousPointState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return location;
@@ -1645,7 +1683,7 @@ public class Model {
     // XXX Check if there are links pointing to this location, first.
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               location.clone(),
+                               location,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return location;
   }
@@ -1677,7 +1715,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newVehicle.clone(),
+    objectPool.emitObjectEvent(newVehicle,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     return newVehicle;
@@ -1704,7 +1742,7 @@ public class Model {
         .withMaxReverseVelocity(to.getMaxReverseVelocity())
         .withProperties(to.getProperties());
     objectPool.addObject(newVehicle);
-    objectPool.emitObjectEvent(newVehicle.clone(),
+    objectPool.emitObjectEvent(newVehicle,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     return newVehicle;
@@ -1773,9 +1811,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withEnergyLevel(energyLevel));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1799,9 +1837,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withEnergyLevelCritical(energyLevel));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1825,9 +1863,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withEnergyLevelGood(energyLevel));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1847,9 +1885,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withRechargeOperation(rechargeOperation));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1869,9 +1907,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withLoadHandlingDevices(devices));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1895,9 +1933,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withMaxVelocity(velocity));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1921,9 +1959,57 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withMaxReverseVelocity(velocity));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
+                               previousState,
+                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    return vehicle;
+  }
+
+  /**
+   * Applies the given changes of a vehicle's attributes as a whole.
+   * Only attributes actually differing from the vehicle's current ones are changed. If any of them
+   * do, the vehicle is replaced once and a single event is emitted for all of them.
+   *
+   * @param ref A reference to the vehicle to be modified.
+   * @param update The changes to be applied.
+   * @return The (possibly) modified vehicle.
+   * @throws ObjectUnknownException If the referenced vehicle does not exist.
+   */
+  public Vehicle applyVehicleStateUpdate(TCSObjectReference<Vehicle> ref,
+                                         VehicleStateUpdate update)
+      throws ObjectUnknownException {
+    requireNonNull(update, "update");
+    Vehicle vehicle = objectPool.getObjectOrNull(Vehicle.class, ref);
+    if (vehicle == null) {
+      throw new ObjectUnknownException(ref);
+    }
+    Vehicle previousState = vehicle;
+    if (update.isPrecisePositionUpdated()
+        && !Objects.equals(vehicle.getPrecisePosition(), update.getPrecisePosition())) {
+      vehicle = vehicle.withPrecisePosition(update.getPrecisePosition());
+    }
+    if (update.getOrientationAngle() != null
+        && Double.compare(vehicle.getOrientationAngle(), update.getOrientationAngle()) != 0) {
+      vehicle = vehicle.withOrientationAngle(update.getOrientationAngle());
+    }
+    if (update.getEnergyLevel() != null
+        && vehicle.getEnergyLevel() != update.getEnergyLevel()) {
+      vehicle = vehicle.withEnergyLevel(update.getEnergyLevel());
+    }
+    if (update.getLoadHandlingDevices() != null
+        && !Objects.equals(vehicle.getLoadHandlingDevices(), update.getLoadHandlingDevices())) {
+      vehicle = vehicle.withLoadHandlingDevices(update.getLoadHandlingDevices());
+    }
+    if (update.getState() != null && vehicle.getState() != update.getState()) {
+      vehicle = vehicle.withState(update.getState());
+    }
+    if (vehicle == previousState) {
+      return vehicle;
+    }
+    vehicle = objectPool.replaceObject(vehicle);
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1943,9 +2029,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withState(newState));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1964,9 +2050,9 @@ public class Model {
                                             Vehicle.IntegrationLevel integrationLevel)
       throws ObjectUnknownException {
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withIntegrationLevel(integrationLevel));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1986,9 +2072,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withProcState(newState));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2013,9 +2099,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withAdapterState(newState));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2038,9 +2124,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withLength(length));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2054,9 +2140,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withProcessableCategories(processableCategories));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2076,27 +2162,27 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousVehicleState = vehicle.clone();
+    Vehicle previousVehicleState = vehicle;
     // If the vehicle was occupying a point before, clear it and send an event.
     if (vehicle.getCurrentPosition() != null) {
       Point oldVehiclePos = objectPool.getObject(Point.class, vehicle.getCurrentPosition());
-      Point previousPointState = oldVehiclePos.clone();
+      Point previousPointState = oldVehiclePos;
       oldVehiclePos = objectPool.replaceObject(oldVehiclePos.withOccupyingVehicle(null));
-      objectPool.emitObjectEvent(oldVehiclePos.clone(),
+      objectPool.emitObjectEvent(oldVehiclePos,
                                  previousPointState,
                                  TCSObjectEvent.Type.OBJECT_MODIFIED);
     }
     // If the vehicle is occupying a point now, set that and send an event.
     if (newPosRef != null) {
       Point newVehiclePos = objectPool.getObject(Point.class, newPosRef);
-      Point previousPointState = newVehiclePos.clone();
+      Point previousPointState = newVehiclePos;
       newVehiclePos = objectPool.replaceObject(newVehiclePos.withOccupyingVehicle(ref));
-      objectPool.emitObjectEvent(newVehiclePos.clone(),
+      objectPool.emitObjectEvent(newVehiclePos,
                                  previousPointState,
                                  TCSObjectEvent.Type.OBJECT_MODIFIED);
     }
     vehicle = objectPool.replaceObject(vehicle.withCurrentPosition(newPosRef));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousVehicleState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
 
@@ -2118,9 +2204,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withNextPosition(newPosition));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2140,9 +2226,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withPrecisePosition(newPosition));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2162,9 +2248,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withOrientationAngle(angle));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2184,7 +2270,7 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, vehicleRef);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     if (orderRef == null) {
       vehicle = objectPool.replaceObject(vehicle.withTransportOrder(null));
     }
@@ -2192,7 +2278,7 @@ public class Model {
       TransportOrder order = objectPool.getObject(TransportOrder.class, orderRef);
       vehicle = objectPool.replaceObject(vehicle.withTransportOrder(order.getReference()));
     }
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2212,7 +2298,7 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, vehicleRef);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     if (seqRef == null) {
       vehicle = objectPool.replaceObject(vehicle.withOrderSequence(null));
     }
@@ -2220,7 +2306,7 @@ public class Model {
       OrderSequence seq = objectPool.getObject(OrderSequence.class, seqRef);
       vehicle = objectPool.replaceObject(vehicle.withOrderSequence(seq.getReference()));
     }
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2241,9 +2327,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, vehicleRef);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withRouteProgressIndex(index));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2267,7 +2353,7 @@ public class Model {
     }
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               vehicle.clone(),
+                               vehicle,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return vehicle;
   }
@@ -2297,7 +2383,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newBlock.clone(),
+    objectPool.emitObjectEvent(newBlock,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created block.
@@ -2329,7 +2415,7 @@ public class Model {
         .withMembers(members)
         .withProperties(to.getProperties());
     objectPool.addObject(newBlock);
-    objectPool.emitObjectEvent(newBlock.clone(),
+    objectPool.emitObjectEvent(newBlock,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created block.
@@ -2382,6 +2468,18 @@ public class Model {
     return objectPool.getObjects(Block.class, regexp);
   }
 
+  /**
+   * Returns all blocks the referenced resource is a member of.
+   *
+   * @param ref A reference to the resource.
+   * @return All blocks the referenced resource is a member of. If there are no such blocks, the
+   * returned set is empty.
+   */
+  public Set<Block> getBlocksContaining(TCSResourceReference<?> ref) {
+    requireNonNull(ref, "ref");
+    return blocksByMember.getObjects(ref);
+  }
+
   /**
    * Adds a member to a block.
    *
@@ -2400,14 +2498,16 @@ public class Model {
     if (block == null) {
       throw new ObjectUnknownException(ref);
     }
-    Block previousState = block.clone();
+    Block previousState = block;
+    block = block.clone();
     TCSObject<?> object = objectPool.getObjectOrNull(newMemberRef);
     if (!(object instanceof TCSResource)) {
       throw new ObjectUnknownException(ref);
     }
     TCSResourceReference<?> memberRef = ((TCSResource) object).getReference();
     block.addMember(memberRef);
-    objectPool.emitObjectEvent(block.clone(),
+    block = objectPool.replaceObject(block);
+    objectPool.emitObjectEvent(block,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return block;
@@ -2430,9 +2530,11 @@ public class Model {
     if (block == null) {
       throw new ObjectUnknownException(ref);
     }
-    Block previousState = block.clone();
+    Block previousState = block;
+    block = block.clone();
     block.removeMember(rmMemberRef);
-    objectPool.emitObjectEvent(block.clone(),
+    block = objectPool.replaceObject(block);
+    objectPool.emitObjectEvent(block,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return block;
@@ -2457,7 +2559,7 @@ public class Model {
     // Remove the block.
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               block.clone(),
+                               block,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return block;
   }
@@ -2487,7 +2589,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newGroup.clone(),
+    objectPool.emitObjectEvent(newGroup,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created group.
@@ -2518,7 +2620,7 @@ public class Model {
         .withMembers(members)
         .withProperties(to.getProperties());
     objectPool.addObject(newGroup);
-    objectPool.emitObjectEvent(newGroup.clone(),
+    objectPool.emitObjectEvent(newGroup,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created group.
@@ -2559,13 +2661,15 @@ public class Model {
     if (group == null) {
       throw new ObjectUnknownException(ref);
     }
-    Group previousState = group.clone();
+    Group previousState = group;
+    group = group.clone();
     TCSObject<?> object = objectPool.getObjectOrNull(newMemberRef);
     if (object == null) {
       throw new ObjectUnknownException(newMemberRef);
     }
     group.addMember(object.getReference());
-    objectPool.emitObjectEvent(group.clone(),
+    group = objectPool.replaceObject(group);
+    objectPool.emitObjectEvent(group,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return group;
@@ -2588,9 +2692,11 @@ public class Model {
     if (group == null) {
       throw new ObjectUnknownException(ref);
     }
-    Group previousState = group.clone();
+    Group previousState = group;
+    group = group.clone();
     group.removeMember(rmMemberRef);
-    objectPool.emitObjectEvent(group.clone(),
+    group = objectPool.replaceObject(group);
+    objectPool.emitObjectEvent(group,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return group;
@@ -2615,7 +2721,7 @@ public class Model {
     // Remove the block.
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               group.clone(),
+                               group,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return group;
   }
@@ -2646,7 +2752,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newRoute.clone(),
+    objectPool.emitObjectEvent(newRoute,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created route.
@@ -2680,7 +2786,7 @@ public class Model {
             .withHops(hops)
             .withProperties(to.getProperties());
     objectPool.addObject(newRoute);
-    objectPool.emitObjectEvent(newRoute.clone(),
+    objectPool.emitObjectEvent(newRoute,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created route.
@@ -2753,13 +2859,15 @@ public class Model {
     if (route == null) {
       throw new ObjectUnknownException(routeRef);
     }
-    org.opentcs.data.model.StaticRoute previousState = route.clone();
+    org.opentcs.data.model.StaticRoute previousState = route;
+    route = route.clone();
     Point point = objectPool.getObjectOrNull(Point.class, newHopRef);
     if (point == null) {
       throw new ObjectUnknownException(newHopRef);
     }
     route.addHop(point.getReference());
-    objectPool.emitObjectEvent(route.clone(),
+    route = objectPool.replaceObject(route);
+    objectPool.emitObjectEvent(route,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return route;
@@ -2785,9 +2893,11 @@ public class Model {
     if (route == null) {
       throw new ObjectUnknownException(routeRef);
     }
-    org.opentcs.data.model.StaticRoute previousState = route.clone();
+    org.opentcs.data.model.StaticRoute previousState = route;
+    route = route.clone();
     route.clearHops();
-    objectPool.emitObjectEvent(route.clone(),
+    route = objectPool.replaceObject(route);
+    objectPool.emitObjectEvent(route,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return route;
@@ -2812,10 +2922,10 @@ public class Model {
     if (route == null) {
       throw new ObjectUnknownException(ref);
     }
-    org.opentcs.data.model.StaticRoute previousState = route.clone();
+    org.opentcs.data.model.StaticRoute previousState = route;
     // Remove the block.
     objectPool.removeObject(ref);
-    objectPool.emitObjectEvent(route.clone(),
+    objectPool.emitObjectEvent(route,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return route;
@@ -2836,19 +2946,15 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Set<TCSResource<?>> result = new HashSet<>();
-    Set<Block> blocks = getBlocks(null);
     for (TCSResourceReference<?> curRef : resources) {
       TCSObject<?> object = objectPool.getObject(curRef);
       TCSResource<?> resource = (TCSResource<?>) object;
       result.add(resource);
-      for (Block curBlock : blocks) {
-        // If the current block contains the resource, add all of the block's
-        // members to the result.
-        if (curBlock.getMembers().contains(resource.getReference())) {
-          for (TCSResourceReference<?> curResRef : curBlock.getMembers()) {
-            TCSResource<?> member = (TCSResource<?>) objectPool.getObject(curResRef);
-            result.add(member);
-          }
+      // For every block containing the resource, add all of the block's members to the result.
+      for (Block curBlock : getBlocksContaining(resource.getReference())) {
+        for (TCSResourceReference<?> curResRef : curBlock.getMembers()) {
+          TCSResource<?> member = (TCSResource<?>) objectPool.getObject(curResRef);
+          result.add(member);
         }
       }
     }
@@ -7,12 +7,20 @@
  */
 package org.opentcs.kernel.workingset;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.function.Predicate;
 import javax.inject.Inject;
 import org.opentcs.access.NotificationPublicationEvent;
+import org.opentcs.components.kernel.services.UserNotificationBatch;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.notification.UserNotification;
 import org.opentcs.util.event.EventHandler;
@@ -26,13 +34,14 @@ import org.slf4j.LoggerFactory;
  * The actual size of a buffer can be influenced by two parameters, its
  * <code>capacity</code> and <code>cut back count</code>. When a new message is
  * added to the buffer and the number of messages in the buffer exceeds its
- * <code>capacity</code>, messages are removed from from the buffer until it
+ * <code>capacity</code>, the oldest messages are removed from the buffer until it
  * contains not more than <code>cut back count</code>.
  * </p>
  * <p>
- * Which messages are removed is decided by sorting all messages with the
- * <code>Comparator</code> given to the constructor. The last/highest elements
- * according to the sorting order of that <code>Comparator</code> are removed.
+ * Messages are kept in insertion order in ring buffers, with additional ones per message source
+ * and level, so adding a message, removing the oldest ones and retrieving messages by source,
+ * level or sequence number does not require iterating over all messages.
+ * Every message added is assigned a sequence number, starting with 1.
  * </p>
  * <p>
  * Note that no synchronization is done inside this class. Concurrent access of
@@ -48,9 +57,18 @@ public class NotificationBuffer {
    */
   private static final Logger LOG = LoggerFactory.getLogger(NotificationBuffer.class);
   /**
-   * The actual messages.
+   * The actual messages, oldest first.
    */
-  private final List<UserNotification> notifications = new LinkedList<>();
+  private final Deque<Entry> entries = new ArrayDeque<>();
+  /**
+   * The messages, oldest first, mapped by their sources.
+   */
+  private final Map<String, Deque<Entry>> entriesBySource = new HashMap<>();
+  /**
+   * The messages, oldest first, mapped by their levels.
+   */
+  private final Map<UserNotification.Level, Deque<Entry>> entriesByLevel
+      = new EnumMap<>(UserNotification.Level.class);
   /**
    * The maximum number of messages that should be kept in this buffer.
    */
@@ -60,6 +78,10 @@ public class NotificationBuffer {
    * exceeded and messages are removed.
    */
   private int cutBackCount;
+  /**
+   * The sequence number of the latest message added.
+   */
+  private long latestSequenceNumber;
   /**
    * A listener for events concerning the stored messages.
    */
@@ -143,7 +165,17 @@ public class NotificationBuffer {
    */
   public int getMessageCount() {
     LOG.debug("method entry");
-    return notifications.size();
+    return entries.size();
+  }
+
+  /**
+   * Returns the sequence number of the latest message added.
+   *
+   * @return The sequence number of the latest message added, or 0, if no messages have been added,
+   * yet.
+   */
+  public long getLatestSequenceNumber() {
+    return latestSequenceNumber;
   }
 
   /**
@@ -154,7 +186,13 @@ public class NotificationBuffer {
   public void addNotification(UserNotification notification) {
     requireNonNull(notification, "notification");
 
-    notifications.add(notification);
+    latestSequenceNumber++;
+    Entry entry = new Entry(latestSequenceNumber, notification);
+    entries.addLast(entry);
+    entriesBySource.computeIfAbsent(notification.getSource(), source -> new ArrayDeque<>())
+        .addLast(entry);
+    entriesByLevel.computeIfAbsent(notification.getLevel(), level -> new ArrayDeque<>())
+        .addLast(entry);
     LOG.debug("New notification added: {}", notification.getText());
     // Make sure we don't have too many messages now.
     cutBackMessages();
@@ -165,11 +203,11 @@ public class NotificationBuffer {
   /**
    * Returns all messages.
    *
-   * @return A list of all existing Message objects.
+   * @return A list of all existing Message objects, oldest first.
    */
   public List<UserNotification> getNotifications() {
     LOG.debug("method entry");
-    return new LinkedList<>(notifications);
+    return toNotifications(entries);
   }
 
   /**
@@ -177,40 +215,110 @@ public class NotificationBuffer {
    * filter is given.
    *
    * @param predicate The predicate used to filter. May be <code>null</code>.
-   * @return A list of notifications accepted by the given filter.
+   * @return A list of notifications accepted by the given filter, oldest first.
    */
   public List<UserNotification> getNotifications(Predicate<UserNotification> predicate) {
     LOG.debug("method entry");
-    List<UserNotification> result = new LinkedList<>();
-    for (UserNotification notification : notifications) {
-      if (predicate == null || predicate.test(notification)) {
-        result.add(notification);
+    if (predicate == null) {
+      return getNotifications();
+    }
+    List<UserNotification> result = new ArrayList<>();
+    for (Entry entry : entries) {
+      if (predicate.test(entry.notification)) {
+        result.add(entry.notification);
       }
     }
     return result;
   }
 
+  /**
+   * Returns all notifications from the given source.
+   *
+   * @param source The source. May be <code>null</code> to return notifications without a source.
+   * @return A list of notifications from the given source, oldest first.
+   */
+  public List<UserNotification> getNotificationsBySource(String source) {
+    Deque<Entry> sourceEntries = entriesBySource.get(source);
+    return sourceEntries == null ? new ArrayList<>() : toNotifications(sourceEntries);
+  }
+
+  /**
+   * Returns all notifications with the given level.
+   *
+   * @param level The level.
+   * @return A list of notifications with the given level, oldest first.
+   */
+  public List<UserNotification> getNotificationsByLevel(UserNotification.Level level) {
+    requireNonNull(level, "level");
+    Deque<Entry> levelEntries = entriesByLevel.get(level);
+    return levelEntries == null ? new ArrayList<>() : toNotifications(levelEntries);
+  }
+
+  /**
+   * Returns all notifications added after the one with the given sequence number.
+   *
+   * @param sequenceNumber The sequence number of the last notification already known.
+   * @return The notifications added afterwards that are still in this buffer.
+   */
+  public UserNotificationBatch getNotificationsSince(long sequenceNumber) {
+    List<UserNotification> result = new ArrayList<>();
+    Iterator<Entry> iter = entries.descendingIterator();
+    while (iter.hasNext()) {
+      Entry entry = iter.next();
+      if (entry.sequenceNumber <= sequenceNumber) {
+        break;
+      }
+      result.add(entry.notification);
+    }
+    Collections.reverse(result);
+    boolean complete = sequenceNumber >= latestSequenceNumber
+        || (!entries.isEmpty() && entries.peekFirst().sequenceNumber <= sequenceNumber + 1);
+    return new UserNotificationBatch(result, latestSequenceNumber, complete);
+  }
+
   /**
    * Removes all messages from this buffer.
    */
   public void clear() {
     LOG.debug("method entry");
-    notifications.clear();
+    entries.clear();
+    entriesBySource.clear();
+    entriesByLevel.clear();
   }
 
   /**
-   * Removes messages until we're down to this buffer's <code>cut back count</code>.
+   * Removes the oldest messages until we're down to this buffer's <code>cut back count</code>.
    */
   private void cutBackMessages() {
     LOG.debug("method entry");
-    if (notifications.size() > capacity) {
+    if (entries.size() > capacity) {
       // Cut back number of messages.
-      while (notifications.size() > cutBackCount) {
-        notifications.remove(notifications.size() - 1);
+      while (entries.size() > cutBackCount) {
+        removeOldestMessage();
       }
     }
   }
 
+  private void removeOldestMessage() {
+    Entry entry = entries.pollFirst();
+    // Being the oldest message, the entry must be the oldest in the other buffers, too.
+    String source = entry.notification.getSource();
+    Deque<Entry> sourceEntries = entriesBySource.get(source);
+    sourceEntries.pollFirst();
+    if (sourceEntries.isEmpty()) {
+      entriesBySource.remove(source);
+    }
+    entriesByLevel.get(entry.notification.getLevel()).pollFirst();
+  }
+
+  private static List<UserNotification> toNotifications(Deque<Entry> entries) {
+    List<UserNotification> result = new ArrayList<>(entries.size());
+    for (Entry entry : entries) {
+      result.add(entry.notification);
+    }
+    return result;
+  }
+
   /**
    * Emits an event for the given message.
    *
@@ -223,4 +331,24 @@ public class NotificationBuffer {
     messageEventListener.onEvent(event);
     messageEventListener.onEvent(new NotificationPublicationEvent(message));
   }
+
+  /**
+   * A message with its sequence number.
+   */
+  private static class Entry {
+
+    /**
+     * The message's sequence number.
+     */
+    private final long sequenceNumber;
+    /**
+     * The message.
+     */
+    private final UserNotification notification;
+
+    Entry(long sequenceNumber, UserNotification notification) {
+      this.sequenceNumber = sequenceNumber;
+      this.notification = notification;
+    }
+  }
 }
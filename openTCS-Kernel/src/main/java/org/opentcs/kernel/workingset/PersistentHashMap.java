@@ -0,0 +1,427 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.Arrays;
+import static java.util.Objects.requireNonNull;
+import java.util.function.BiConsumer;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable hash map (a hash array mapped trie) that shares structure with the map it was
+ * derived from.
+ * <p>
+ * Adding or removing an entry creates a new map in O(log<sub>32</sub>(n)), copying only the path
+ * from the trie's root to the modified entry. All other nodes are shared, which makes it cheap to
+ * keep older versions of the map around as long as they are needed.
+ * </p>
+ * <p>
+ * Neither <code>null</code> keys nor <code>null</code> values are supported.
+ * </p>
+ *
+ * @author The openTCS Authors
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+final class PersistentHashMap<K, V> {
+
+  /**
+   * The number of hash bits consumed per trie level.
+   */
+  private static final int BITS_PER_LEVEL = 5;
+  /**
+   * The mask for extracting a single level's hash bits.
+   */
+  private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+  /**
+   * The empty map.
+   */
+  private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+  /**
+   * The trie's root node, or <code>null</code>, if this map is empty.
+   */
+  private final Node<K, V> root;
+  /**
+   * The number of entries in this map.
+   */
+  private final int size;
+
+  private PersistentHashMap(Node<K, V> root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Returns the empty map.
+   *
+   * @param <K> The type of the keys.
+   * @param <V> The type of the values.
+   * @return The empty map.
+   */
+  @SuppressWarnings("unchecked")
+  @Nonnull
+  public static <K, V> PersistentHashMap<K, V> empty() {
+    return (PersistentHashMap<K, V>) EMPTY;
+  }
+
+  /**
+   * Returns the value mapped to the given key.
+   *
+   * @param key The key.
+   * @return The value mapped to the given key, or <code>null</code>, if there is none.
+   */
+  @Nullable
+  public V get(@Nonnull Object key) {
+    requireNonNull(key, "key");
+    return root == null ? null : root.get(key, hash(key), 0);
+  }
+
+  /**
+   * Returns a map with the given key mapped to the given value, replacing any previous mapping.
+   *
+   * @param key The key.
+   * @param value The value.
+   * @return A map with the given mapping. If the mapping already exists, this map is returned.
+   */
+  @Nonnull
+  public PersistentHashMap<K, V> plus(@Nonnull K key, @Nonnull V value) {
+    requireNonNull(key, "key");
+    requireNonNull(value, "value");
+
+    Leaf<K, V> leaf = new Leaf<>(hash(key), key, value);
+    if (root == null) {
+      return new PersistentHashMap<>(leaf, 1);
+    }
+    Node<K, V> newRoot = root.plus(leaf, 0);
+    if (newRoot == root) {
+      return this;
+    }
+    return new PersistentHashMap<>(newRoot, root.get(key, leaf.hash, 0) == null ? size + 1 : size);
+  }
+
+  /**
+   * Returns a map without a mapping for the given key.
+   *
+   * @param key The key.
+   * @return A map without a mapping for the given key. If there is no such mapping, this map is
+   * returned.
+   */
+  @Nonnull
+  public PersistentHashMap<K, V> minus(@Nonnull Object key) {
+    requireNonNull(key, "key");
+
+    if (root == null) {
+      return this;
+    }
+    Node<K, V> newRoot = root.minus(key, hash(key), 0);
+    if (newRoot == root) {
+      return this;
+    }
+    return new PersistentHashMap<>(newRoot, size - 1);
+  }
+
+  /**
+   * Returns the number of entries in this map.
+   *
+   * @return The number of entries in this map.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether this map is empty.
+   *
+   * @return <code>true</code> if, and only if, this map is empty.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Performs the given action for each entry in this map, in no particular order.
+   *
+   * @param action The action.
+   */
+  public void forEach(@Nonnull BiConsumer<? super K, ? super V> action) {
+    requireNonNull(action, "action");
+    if (root != null) {
+      root.forEach(action);
+    }
+  }
+
+  private static int hash(Object key) {
+    int hash = key.hashCode();
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int levelIndex(int hash, int shift) {
+    return (hash >>> shift) & LEVEL_MASK;
+  }
+
+  /**
+   * Creates a node containing both of the given nodes, which have different hashes.
+   */
+  private static <K, V> Node<K, V> merge(Node<K, V> node1, int hash1,
+                                         Node<K, V> node2, int hash2,
+                                         int shift) {
+    int index1 = levelIndex(hash1, shift);
+    int index2 = levelIndex(hash2, shift);
+    if (index1 == index2) {
+      return new Branch<>(1 << index1,
+                          nodes(merge(node1, hash1, node2, hash2, shift + BITS_PER_LEVEL)));
+    }
+    return index1 < index2
+        ? new Branch<>((1 << index1) | (1 << index2), nodes(node1, node2))
+        : new Branch<>((1 << index1) | (1 << index2), nodes(node2, node1));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, V> Node<K, V>[] nodes(Node<K, V> node) {
+    return (Node<K, V>[]) new Node<?, ?>[] {node};
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, V> Node<K, V>[] nodes(Node<K, V> node1, Node<K, V> node2) {
+    return (Node<K, V>[]) new Node<?, ?>[] {node1, node2};
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, V> Leaf<K, V>[] leaves(Leaf<K, V> leaf1, Leaf<K, V> leaf2) {
+    return (Leaf<K, V>[]) new Leaf<?, ?>[] {leaf1, leaf2};
+  }
+
+  /**
+   * A node of the trie.
+   */
+  private abstract static class Node<K, V> {
+
+    /**
+     * Returns the value mapped to the given key in this subtree, or <code>null</code>.
+     */
+    abstract V get(Object key, int hash, int shift);
+
+    /**
+     * Returns this subtree with the given leaf added or replacing the one with the same key.
+     * Returns this node if the subtree already contains an equal mapping.
+     */
+    abstract Node<K, V> plus(Leaf<K, V> leaf, int shift);
+
+    /**
+     * Returns this subtree without the given key (<code>null</code> if the subtree becomes empty).
+     * Returns this node if the subtree does not contain the key.
+     */
+    abstract Node<K, V> minus(Object key, int hash, int shift);
+
+    abstract void forEach(BiConsumer<? super K, ? super V> action);
+  }
+
+  /**
+   * A single entry.
+   */
+  private static final class Leaf<K, V>
+      extends Node<K, V> {
+
+    private final int hash;
+    private final K key;
+    private final V value;
+
+    Leaf(int hash, K key, V value) {
+      this.hash = hash;
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    V get(Object key, int hash, int shift) {
+      return this.key.equals(key) ? value : null;
+    }
+
+    @Override
+    Node<K, V> plus(Leaf<K, V> leaf, int shift) {
+      if (key.equals(leaf.key)) {
+        return value == leaf.value ? this : leaf;
+      }
+      if (hash == leaf.hash) {
+        return new Collision<>(hash, leaves(this, leaf));
+      }
+      return merge(this, hash, leaf, leaf.hash, shift);
+    }
+
+    @Override
+    Node<K, V> minus(Object key, int hash, int shift) {
+      return this.key.equals(key) ? null : this;
+    }
+
+    @Override
+    void forEach(BiConsumer<? super K, ? super V> action) {
+      action.accept(key, value);
+    }
+  }
+
+  /**
+   * Entries with different keys but identical hashes.
+   */
+  private static final class Collision<K, V>
+      extends Node<K, V> {
+
+    private final int hash;
+    private final Leaf<K, V>[] leaves;
+
+    Collision(int hash, Leaf<K, V>[] leaves) {
+      this.hash = hash;
+      this.leaves = leaves;
+    }
+
+    @Override
+    V get(Object key, int hash, int shift) {
+      if (this.hash != hash) {
+        return null;
+      }
+      for (Leaf<K, V> leaf : leaves) {
+        if (leaf.key.equals(key)) {
+          return leaf.value;
+        }
+      }
+      return null;
+    }
+
+    @Override
+    Node<K, V> plus(Leaf<K, V> leaf, int shift) {
+      if (hash != leaf.hash) {
+        return merge(this, hash, leaf, leaf.hash, shift);
+      }
+      for (int i = 0; i < leaves.length; i++) {
+        if (leaves[i].key.equals(leaf.key)) {
+          if (leaves[i].value == leaf.value) {
+            return this;
+          }
+          Leaf<K, V>[] newLeaves = leaves.clone();
+          newLeaves[i] = leaf;
+          return new Collision<>(hash, newLeaves);
+        }
+      }
+      Leaf<K, V>[] newLeaves = Arrays.copyOf(leaves, leaves.length + 1);
+      newLeaves[leaves.length] = leaf;
+      return new Collision<>(hash, newLeaves);
+    }
+
+    @Override
+    Node<K, V> minus(Object key, int hash, int shift) {
+      if (this.hash != hash) {
+        return this;
+      }
+      for (int i = 0; i < leaves.length; i++) {
+        if (leaves[i].key.equals(key)) {
+          if (leaves.length == 2) {
+            return leaves[1 - i];
+          }
+          Leaf<K, V>[] newLeaves = Arrays.copyOf(leaves, leaves.length - 1);
+          System.arraycopy(leaves, i + 1, newLeaves, i, leaves.length - i - 1);
+          return new Collision<>(hash, newLeaves);
+        }
+      }
+      return this;
+    }
+
+    @Override
+    void forEach(BiConsumer<? super K, ? super V> action) {
+      for (Leaf<K, V> leaf : leaves) {
+        leaf.forEach(action);
+      }
+    }
+  }
+
+  /**
+   * An inner node with up to 32 children, indexed by a bitmap.
+   */
+  private static final class Branch<K, V>
+      extends Node<K, V> {
+
+    private final int bitmap;
+    private final Node<K, V>[] children;
+
+    Branch(int bitmap, Node<K, V>[] children) {
+      this.bitmap = bitmap;
+      this.children = children;
+    }
+
+    @Override
+    V get(Object key, int hash, int shift) {
+      int bit = 1 << levelIndex(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      return children[childIndex(bit)].get(key, hash, shift + BITS_PER_LEVEL);
+    }
+
+    @Override
+    Node<K, V> plus(Leaf<K, V> leaf, int shift) {
+      int bit = 1 << levelIndex(leaf.hash, shift);
+      int index = childIndex(bit);
+      if ((bitmap & bit) == 0) {
+        Node<K, V>[] newChildren = Arrays.copyOf(children, children.length + 1);
+        System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+        newChildren[index] = leaf;
+        return new Branch<>(bitmap | bit, newChildren);
+      }
+      Node<K, V> child = children[index];
+      Node<K, V> newChild = child.plus(leaf, shift + BITS_PER_LEVEL);
+      if (newChild == child) {
+        return this;
+      }
+      Node<K, V>[] newChildren = children.clone();
+      newChildren[index] = newChild;
+      return new Branch<>(bitmap, newChildren);
+    }
+
+    @Override
+    Node<K, V> minus(Object key, int hash, int shift) {
+      int bit = 1 << levelIndex(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int index = childIndex(bit);
+      Node<K, V> child = children[index];
+      Node<K, V> newChild = child.minus(key, hash, shift + BITS_PER_LEVEL);
+      if (newChild == child) {
+        return this;
+      }
+      if (newChild != null) {
+        // Pull single entries up to keep the trie shallow.
+        if (children.length == 1 && !(newChild instanceof Branch)) {
+          return newChild;
+        }
+        Node<K, V>[] newChildren = children.clone();
+        newChildren[index] = newChild;
+        return new Branch<>(bitmap, newChildren);
+      }
+      if (children.length == 1) {
+        return null;
+      }
+      if (children.length == 2 && !(children[1 - index] instanceof Branch)) {
+        return children[1 - index];
+      }
+      Node<K, V>[] newChildren = Arrays.copyOf(children, children.length - 1);
+      System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+      return new Branch<>(bitmap & ~bit, newChildren);
+    }
+
+    @Override
+    void forEach(BiConsumer<? super K, ? super V> action) {
+      for (Node<K, V> child : children) {
+        child.forEach(action);
+      }
+    }
+
+    private int childIndex(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+  }
+}
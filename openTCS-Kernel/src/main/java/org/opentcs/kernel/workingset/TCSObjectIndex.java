@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.data.TCSObject;
+
+/**
+ * A secondary index on the objects of a specific type kept in a {@link TCSObjectPool}, mapping
+ * keys derived from each object (e.g. its state or the members of a block) to the objects
+ * currently having these keys.
+ * <p>
+ * Instances are created via {@link TCSObjectPool#registerIndex(java.lang.Class,
+ * java.util.function.Function)} or {@link TCSObjectPool#registerMultiKeyIndex(java.lang.Class,
+ * java.util.function.Function)} and are kept up to date by the pool whenever an object is added,
+ * replaced or removed.
+ * </p>
+ *
+ * @author The openTCS Authors
+ * @param <T> The type of the indexed objects.
+ * @param <K> The type of the index keys.
+ */
+public class TCSObjectIndex<T extends TCSObject<T>, K> {
+
+  /**
+   * Represents a <code>null</code> key, which the backing concurrent maps cannot hold.
+   */
+  private static final Object NULL_KEY = new Object();
+  /**
+   * The class of the indexed objects.
+   */
+  private final Class<T> clazz;
+  /**
+   * Extracts the index keys from an object.
+   */
+  private final Function<? super T, ? extends Collection<? extends K>> keysMapper;
+  /**
+   * The indexed objects, grouped by their keys and mapped by their names.
+   */
+  private final Map<Object, Map<String, T>> objectsByKey = new ConcurrentHashMap<>();
+  /**
+   * The keys the indexed objects were last indexed with, mapped by the objects' names.
+   */
+  private final Map<String, Set<Object>> keysByName = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clazz The class of the indexed objects.
+   * @param keysMapper Extracts the index keys from an object.
+   */
+  TCSObjectIndex(@Nonnull Class<T> clazz,
+                 @Nonnull Function<? super T, ? extends Collection<? extends K>> keysMapper) {
+    this.clazz = requireNonNull(clazz, "clazz");
+    this.keysMapper = requireNonNull(keysMapper, "keysMapper");
+  }
+
+  /**
+   * Returns the class of the objects in this index.
+   *
+   * @return The class of the objects in this index.
+   */
+  @Nonnull
+  public Class<T> getIndexedClass() {
+    return clazz;
+  }
+
+  /**
+   * Returns all objects currently having the given key.
+   *
+   * @param key The key.
+   * @return All objects currently having the given key. If there are no such objects, the returned
+   * set is empty.
+   */
+  @Nonnull
+  public Set<T> getObjects(@Nullable K key) {
+    Map<String, T> objects = objectsByKey.get(wrap(key));
+    return objects == null ? new HashSet<>() : new HashSet<>(objects.values());
+  }
+
+  /**
+   * Returns the number of objects currently having the given key.
+   *
+   * @param key The key.
+   * @return The number of objects currently having the given key.
+   */
+  public int count(@Nullable K key) {
+    Map<String, T> objects = objectsByKey.get(wrap(key));
+    return objects == null ? 0 : objects.size();
+  }
+
+  /**
+   * Adds the given object to this index or updates its entry, if it is of the indexed type.
+   *
+   * @param object The object.
+   */
+  void update(@Nonnull TCSObject<?> object) {
+    if (!clazz.isInstance(object)) {
+      return;
+    }
+    T typedObject = clazz.cast(object);
+    Set<Object> newKeys = keysMapper.apply(typedObject).stream()
+        .map(key -> wrap(key))
+        .collect(Collectors.toSet());
+    Set<Object> oldKeys = keysByName.put(typedObject.getName(), newKeys);
+    if (oldKeys != null) {
+      for (Object oldKey : oldKeys) {
+        if (!newKeys.contains(oldKey)) {
+          removeFromBucket(oldKey, typedObject.getName());
+        }
+      }
+    }
+    for (Object newKey : newKeys) {
+      objectsByKey.compute(newKey, (key, objects) -> {
+                         Map<String, T> result = objects == null
+                             ? new ConcurrentHashMap<>()
+                             : objects;
+                         result.put(typedObject.getName(), typedObject);
+                         return result;
+                       });
+    }
+  }
+
+  /**
+   * Removes the object with the given name from this index.
+   *
+   * @param name The object's name.
+   */
+  void remove(@Nonnull String name) {
+    Set<Object> oldKeys = keysByName.remove(name);
+    if (oldKeys != null) {
+      for (Object oldKey : oldKeys) {
+        removeFromBucket(oldKey, name);
+      }
+    }
+  }
+
+  private void removeFromBucket(Object key, String name) {
+    // Remove the bucket atomically when it becomes empty, as objects with the same key may be
+    // updated concurrently.
+    objectsByKey.computeIfPresent(key, (k, objects) -> {
+                                objects.remove(name);
+                                return objects.isEmpty() ? null : objects;
+                              });
+  }
+
+  private static Object wrap(Object key) {
+    return key == null ? NULL_KEY : key;
+  }
+}
@@ -7,16 +7,25 @@
  */
 package org.opentcs.kernel.workingset;
 
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -26,6 +35,7 @@ import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.kernel.StripedKernelLock;
 import static org.opentcs.util.Assertions.checkArgument;
 import org.opentcs.util.UniqueStringGenerator;
 import org.opentcs.util.annotations.ScheduledApiChange;
@@ -50,6 +60,31 @@ public class TCSObjectPool {
    * The objects contained in this pool, mapped by their names.
    */
   private final Map<String, TCSObject<?>> objectsByName = new ConcurrentHashMap<>();
+  /**
+   * The objects contained in this pool, grouped by their (exact) classes and mapped by their names.
+   */
+  private final Map<Class<?>, Map<String, TCSObject<?>>> objectsByClass
+      = new ConcurrentHashMap<>();
+  /**
+   * The secondary indexes registered with this pool.
+   */
+  private final List<TCSObjectIndex<?, ?>> indexes = new CopyOnWriteArrayList<>();
+  /**
+   * The most recent immutable version of this pool's contents, including changes of modifications
+   * that are still in progress.
+   */
+  private final AtomicReference<TCSObjectPoolSnapshot> latestSnapshot
+      = new AtomicReference<>(TCSObjectPoolSnapshot.EMPTY);
+  /**
+   * The immutable version of this pool's contents reflecting all completed modifications.
+   */
+  private final AtomicReference<TCSObjectPoolSnapshot> publishedSnapshot
+      = new AtomicReference<>(TCSObjectPoolSnapshot.EMPTY);
+  /**
+   * The changes the current thread made within a modification that is still in progress.
+   */
+  private final ThreadLocal<List<UnaryOperator<TCSObjectPoolSnapshot>>> pendingChanges
+      = ThreadLocal.withInitial(ArrayList::new);
   /**
    * A set of bits representing the IDs used in this object pool. Each bit in
    * the set represents the ID equivalent to the bit's index.
@@ -57,21 +92,46 @@ public class TCSObjectPool {
   private final BitSet idBits = new BitSet();
   /**
    * The generator providing unique names for objects in this pool.
+   * Names of removed objects are not reused, which also keeps generating names for e.g. transport
+   * orders cheap regardless of the number of objects in the pool.
    */
-  private final UniqueStringGenerator<?> objectNameGenerator = new UniqueStringGenerator<>();
+  private final UniqueStringGenerator<?> objectNameGenerator
+      = new UniqueStringGenerator<>(UniqueStringGenerator.SuffixMode.MONOTONIC);
   /**
    * A handler we should emit object events to.
    */
   private final EventHandler eventHandler;
+  /**
+   * The lock modifications of this pool are synchronized with, or <code>null</code>, if every
+   * change is to be published immediately.
+   */
+  @Nullable
+  private final StripedKernelLock kernelLock;
+
+  /**
+   * Creates a new instance that uses the given event handler and publishes every change
+   * immediately.
+   *
+   * @param eventHandler The event handler to publish events to.
+   */
+  public TCSObjectPool(EventHandler eventHandler) {
+    this.eventHandler = requireNonNull(eventHandler, "eventHandler");
+    this.kernelLock = null;
+  }
 
   /**
-   * Creates a new instance that uses the given event handler.
+   * Creates a new instance that uses the given event handler and publishes changes when the
+   * modifying thread releases the kernel lock.
    *
    * @param eventHandler The event handler to publish events to.
+   * @param kernelLock The lock modifications of this pool are synchronized with.
    */
   @Inject
-  public TCSObjectPool(@ApplicationEventBus EventHandler eventHandler) {
+  public TCSObjectPool(@ApplicationEventBus EventHandler eventHandler,
+                       StripedKernelLock kernelLock) {
     this.eventHandler = requireNonNull(eventHandler, "eventHandler");
+    this.kernelLock = requireNonNull(kernelLock, "kernelLock");
+    kernelLock.addReleaseListener(this::publishPendingChanges);
   }
 
   /**
@@ -89,20 +149,113 @@ public class TCSObjectPool {
       throw new ObjectExistsException("Object name " + newObject.getName() + " already exists.");
     }
     objectsByName.put(newObject.getName(), newObject);
+    addToIndexes(newObject);
     idBits.set(extractId(newObject.getReference()));
     objectNameGenerator.addString(newObject.getName());
   }
 
-  public <E extends TCSObject<E>> E replaceObject(E object) {
+  /**
+   * Replaces an object in the pool with the given one (i.e. a modified copy of it) and updates
+   * all indexes accordingly.
+   *
+   * @param <E> The object's type.
+   * @param object The object replacing the one with the same name.
+   * @return The given object.
+   * @throws IllegalArgumentException If the pool does not contain an object with the given
+   * object's name.
+   */
+  public <E extends TCSObject<E>> E replaceObject(E object)
+      throws IllegalArgumentException {
     requireNonNull(object, "object");
     checkArgument(objectsByName.containsKey(object.getName()),
                   "Object named '%s' does not exist",
                   object.getName());
 
     objectsByName.put(object.getName(), object);
+    addToIndexes(object);
     return object;
   }
 
+  /**
+   * Registers a secondary index on objects of the given class with this pool.
+   * The returned index contains all matching objects currently in the pool and is updated
+   * whenever objects are added, replaced or removed.
+   * <p>
+   * Note that modifications of (mutable) objects that are not followed by a call to
+   * {@link #replaceObject(org.opentcs.data.TCSObject)} are not reflected by the index.
+   * </p>
+   *
+   * @param <T> The type of the indexed objects.
+   * @param <K> The type of the index keys.
+   * @param clazz The class of the indexed objects.
+   * @param keyMapper Extracts the index key from an object.
+   * @return The new index.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>, K> TCSObjectIndex<T, K> registerIndex(
+      @Nonnull Class<T> clazz,
+      @Nonnull Function<? super T, ? extends K> keyMapper) {
+    requireNonNull(keyMapper, "keyMapper");
+    return registerMultiKeyIndex(clazz, obj -> Collections.singleton(keyMapper.apply(obj)));
+  }
+
+  /**
+   * Registers a secondary index on objects of the given class with this pool, with each object
+   * being indexed with any number of keys (e.g. a block with each of its members).
+   * The returned index contains all matching objects currently in the pool and is updated
+   * whenever objects are added, replaced or removed.
+   *
+   * @param <T> The type of the indexed objects.
+   * @param <K> The type of the index keys.
+   * @param clazz The class of the indexed objects.
+   * @param keysMapper Extracts the index keys from an object.
+   * @return The new index.
+   * @see #registerIndex(java.lang.Class, java.util.function.Function)
+   */
+  @Nonnull
+  public <T extends TCSObject<T>, K> TCSObjectIndex<T, K> registerMultiKeyIndex(
+      @Nonnull Class<T> clazz,
+      @Nonnull Function<? super T, ? extends Collection<? extends K>> keysMapper) {
+    TCSObjectIndex<T, K> index = new TCSObjectIndex<>(clazz, keysMapper);
+    streamObjects(clazz).forEach(obj -> index.update(obj));
+    indexes.add(index);
+    return index;
+  }
+
+  /**
+   * Returns an immutable view of this pool's contents, reflecting all completed modifications.
+   * This method returns in constant time, as the snapshot is maintained incrementally whenever
+   * objects are added, replaced or removed.
+   * <p>
+   * Changes made while holding the kernel lock are published when the modifying thread releases
+   * the last lock it holds. Thus, the snapshot never reflects a modification spanning several
+   * objects only partially, and the modifying thread itself does not see its own changes in it
+   * before releasing the lock.
+   * </p>
+   * <p>
+   * Note that modifications of (mutable) objects that are not followed by a call to
+   * {@link #replaceObject(org.opentcs.data.TCSObject)} are visible in all snapshots containing the
+   * respective object.
+   * </p>
+   *
+   * @return An immutable view of this pool's current contents.
+   */
+  @Nonnull
+  public TCSObjectPoolSnapshot snapshot() {
+    return publishedSnapshot.get();
+  }
+
+  /**
+   * Returns an immutable view of this pool's most recent contents, including changes of
+   * modifications that are still in progress.
+   *
+   * @return An immutable view of this pool's most recent contents.
+   */
+  @Nonnull
+  public TCSObjectPoolSnapshot latestSnapshot() {
+    return latestSnapshot.get();
+  }
+
   /**
    * Returns an object from the pool.
    *
@@ -303,15 +456,12 @@ public class TCSObjectPool {
   public <T extends TCSObject<T>> Set<T> getObjects(Class<T> clazz, Pattern regexp) {
     requireNonNull(clazz, "clazz");
 
-    Set<T> result = new HashSet<>();
-    for (TCSObject<?> curObject : objectsByName.values()) {
-      if (clazz.isInstance(curObject)
-          && (regexp == null
-              || regexp.matcher(curObject.getName()).matches())) {
-        result.add(clazz.cast(curObject));
-      }
+    if (regexp == null) {
+      return streamObjects(clazz).collect(Collectors.toSet());
     }
-    return result;
+    return streamObjects(clazz)
+        .filter(obj -> regexp.matcher(obj.getName()).matches())
+        .collect(Collectors.toSet());
   }
 
   /**
@@ -328,9 +478,7 @@ public class TCSObjectPool {
     requireNonNull(clazz, "clazz");
     requireNonNull(predicate, "predicate");
 
-    return objectsByName.values().stream()
-        .filter(obj -> clazz.isInstance(obj))
-        .map(obj -> clazz.cast(obj))
+    return streamObjects(clazz)
         .filter(predicate)
         .collect(Collectors.toSet());
   }
@@ -366,9 +514,11 @@ public class TCSObjectPool {
     }
     // Perform the renaming.
     objectsByName.remove(object.getName());
+    removeFromIndexes(object);
     objectNameGenerator.removeString(object.getName());
     object.setName(newName);
     objectsByName.put(newName, object);
+    addToIndexes(object);
     objectNameGenerator.addString(newName);
 
     // Emit an event for the modified object.
@@ -406,6 +556,7 @@ public class TCSObjectPool {
     if (rmObject == null) {
       throw new ObjectUnknownException(ref);
     }
+    removeFromIndexes(rmObject);
     idBits.clear(extractId(ref));
     objectNameGenerator.removeString(rmObject.getName());
     return rmObject;
@@ -426,6 +577,7 @@ public class TCSObjectPool {
       TCSObject<?> removedObject = objectsByName.remove(curName);
       if (removedObject != null) {
         result.add(removedObject);
+        removeFromIndexes(removedObject);
         idBits.clear(extractId(removedObject.getReference()));
         objectNameGenerator.removeString(removedObject.getName());
       }
@@ -451,14 +603,15 @@ public class TCSObjectPool {
     if (object == null) {
       throw new ObjectUnknownException("No object with name " + ref.getName());
     }
-    TCSObject<?> previousState = object.clone();
+    TCSObject<?> previousState = object;
     LOG.debug("Setting property on object named '{}': key='{}', value='{}'",
               ref.getName(),
               key,
               value);
     object = object.withProperty(key, value);
     objectsByName.put(object.getName(), object);
-    emitObjectEvent(object.clone(),
+    addToIndexes(object);
+    emitObjectEvent(object,
                     previousState,
                     TCSObjectEvent.Type.OBJECT_MODIFIED);
   }
@@ -478,10 +631,11 @@ public class TCSObjectPool {
     if (object == null) {
       throw new ObjectUnknownException("No object with name " + ref.getName());
     }
-    TCSObject<?> previousState = object.clone();
+    TCSObject<?> previousState = object;
     object = object.withProperties(new HashMap<>());
     objectsByName.put(object.getName(), object);
-    emitObjectEvent(object.clone(),
+    addToIndexes(object);
+    emitObjectEvent(object,
                     previousState,
                     TCSObjectEvent.Type.OBJECT_MODIFIED);
   }
@@ -551,6 +705,66 @@ public class TCSObjectPool {
     eventHandler.onEvent(new TCSObjectEvent(currentObjectState, previousObjectState, evtType));
   }
 
+  /**
+   * Returns a stream of all objects in this pool that are instances of the given class.
+   * Only the class buckets matching the given class are visited.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects.
+   * @return A stream of all objects that are instances of the given class.
+   */
+  private <T extends TCSObject<T>> Stream<T> streamObjects(Class<T> clazz) {
+    return objectsByClass.entrySet().stream()
+        .filter(entry -> clazz.isAssignableFrom(entry.getKey()))
+        .flatMap(entry -> entry.getValue().values().stream())
+        .map(obj -> clazz.cast(obj));
+  }
+
+  private void addToIndexes(TCSObject<?> object) {
+    objectsByClass.computeIfAbsent(object.getClass(), clazz -> new ConcurrentHashMap<>())
+        .put(object.getName(), object);
+    recordChange(snapshot -> snapshot.withObject(object));
+    for (TCSObjectIndex<?, ?> index : indexes) {
+      index.update(object);
+    }
+  }
+
+  private void removeFromIndexes(TCSObject<?> object) {
+    Map<String, TCSObject<?>> objects = objectsByClass.get(object.getClass());
+    if (objects != null) {
+      objects.remove(object.getName());
+    }
+    recordChange(snapshot -> snapshot.withoutObject(object));
+    for (TCSObjectIndex<?, ?> index : indexes) {
+      index.remove(object.getName());
+    }
+  }
+
+  private void recordChange(UnaryOperator<TCSObjectPoolSnapshot> change) {
+    latestSnapshot.updateAndGet(change);
+    if (kernelLock != null && kernelLock.isHeldByCurrentThread()) {
+      pendingChanges.get().add(change);
+    }
+    else {
+      publishedSnapshot.updateAndGet(change);
+    }
+  }
+
+  private void publishPendingChanges() {
+    List<UnaryOperator<TCSObjectPoolSnapshot>> changes = pendingChanges.get();
+    if (changes.isEmpty()) {
+      return;
+    }
+    publishedSnapshot.updateAndGet(snapshot -> {
+      TCSObjectPoolSnapshot result = snapshot;
+      for (UnaryOperator<TCSObjectPoolSnapshot> change : changes) {
+        result = change.apply(result);
+      }
+      return result;
+    });
+    changes.clear();
+  }
+
   @SuppressWarnings("deprecation")
   private int extractId(TCSObjectReference<?> ref) {
     return ref.getId();
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.HashSet;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * An immutable version of the contents of a {@link TCSObjectPool}.
+ * <p>
+ * Instances share their structure with the versions they were derived from, so deriving a new
+ * version for a single added, replaced or removed object is cheap.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public final class TCSObjectPoolSnapshot
+    implements TCSObjectSnapshot {
+
+  /**
+   * The snapshot of an empty pool.
+   */
+  static final TCSObjectPoolSnapshot EMPTY
+      = new TCSObjectPoolSnapshot(0, PersistentHashMap.empty(), PersistentHashMap.empty());
+  /**
+   * This snapshot's version.
+   */
+  private final long version;
+  /**
+   * The objects, mapped by their names.
+   */
+  private final PersistentHashMap<String, TCSObject<?>> objectsByName;
+  /**
+   * The objects, grouped by their (exact) classes and mapped by their names.
+   */
+  private final PersistentHashMap<Class<?>, PersistentHashMap<String, TCSObject<?>>> objectsByClass;
+
+  private TCSObjectPoolSnapshot(
+      long version,
+      PersistentHashMap<String, TCSObject<?>> objectsByName,
+      PersistentHashMap<Class<?>, PersistentHashMap<String, TCSObject<?>>> objectsByClass) {
+    this.version = version;
+    this.objectsByName = objectsByName;
+    this.objectsByClass = objectsByClass;
+  }
+
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
+  @Override
+  public <T extends TCSObject<T>> T fetchObject(@Nonnull Class<T> clazz,
+                                                @Nullable TCSObjectReference<T> ref) {
+    return ref == null ? null : fetchObject(clazz, ref.getName());
+  }
+
+  @Override
+  public <T extends TCSObject<T>> T fetchObject(@Nonnull Class<T> clazz, @Nullable String name) {
+    requireNonNull(clazz, "clazz");
+    if (name == null) {
+      return null;
+    }
+    TCSObject<?> object = objectsByName.get(name);
+    return clazz.isInstance(object) ? clazz.cast(object) : null;
+  }
+
+  @Override
+  public <T extends TCSObject<T>> Set<T> fetchObjects(@Nonnull Class<T> clazz) {
+    return fetchObjects(clazz, object -> true);
+  }
+
+  @Override
+  public <T extends TCSObject<T>> Set<T> fetchObjects(@Nonnull Class<T> clazz,
+                                                      @Nonnull Predicate<? super T> predicate) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(predicate, "predicate");
+
+    Set<T> result = new HashSet<>();
+    objectsByClass.forEach((objClass, objects) -> {
+      if (clazz.isAssignableFrom(objClass)) {
+        objects.forEach((name, object) -> {
+          T typedObject = clazz.cast(object);
+          if (predicate.test(typedObject)) {
+            result.add(typedObject);
+          }
+        });
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Returns the number of objects in this snapshot.
+   *
+   * @return The number of objects in this snapshot.
+   */
+  public int size() {
+    return objectsByName.size();
+  }
+
+  /**
+   * Returns a new version of this snapshot containing the given object, replacing any object with
+   * the same name.
+   *
+   * @param object The object.
+   * @return The new version.
+   */
+  @Nonnull
+  TCSObjectPoolSnapshot withObject(@Nonnull TCSObject<?> object) {
+    requireNonNull(object, "object");
+
+    PersistentHashMap<String, TCSObject<?>> classObjects = objectsByClass.get(object.getClass());
+    if (classObjects == null) {
+      classObjects = PersistentHashMap.empty();
+    }
+    return new TCSObjectPoolSnapshot(
+        version + 1,
+        objectsByName.plus(object.getName(), object),
+        objectsByClass.plus(object.getClass(), classObjects.plus(object.getName(), object)));
+  }
+
+  /**
+   * Returns a new version of this snapshot without the given object.
+   *
+   * @param object The object.
+   * @return The new version.
+   */
+  @Nonnull
+  TCSObjectPoolSnapshot withoutObject(@Nonnull TCSObject<?> object) {
+    requireNonNull(object, "object");
+
+    PersistentHashMap<String, TCSObject<?>> classObjects = objectsByClass.get(object.getClass());
+    if (classObjects == null) {
+      return this;
+    }
+    classObjects = classObjects.minus(object.getName());
+    return new TCSObjectPoolSnapshot(
+        version + 1,
+        objectsByName.minus(object.getName()),
+        classObjects.isEmpty()
+            ? objectsByClass.minus(object.getClass())
+            : objectsByClass.plus(object.getClass(), classObjects));
+  }
+}
@@ -12,6 +12,7 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -59,6 +60,22 @@ public class TransportOrderPool {
    * The system's global object pool.
    */
   private final TCSObjectPool objectPool;
+  /**
+   * An index of the transport orders in the object pool by their states.
+   */
+  private final TCSObjectIndex<TransportOrder, TransportOrder.State> ordersByState;
+  /**
+   * An index of the transport orders in the object pool by their intended vehicles.
+   */
+  private final TCSObjectIndex<TransportOrder, TCSObjectReference<Vehicle>> ordersByIntendedVehicle;
+  /**
+   * An index of the transport orders in the object pool by their processing vehicles.
+   */
+  private final TCSObjectIndex<TransportOrder, TCSObjectReference<Vehicle>> ordersByProcessingVehicle;
+  /**
+   * An index of the transport orders in the object pool by their wrapping sequences.
+   */
+  private final TCSObjectIndex<TransportOrder, TCSObjectReference<OrderSequence>> ordersBySequence;
 
   /**
    * Creates a new TransportOrderPool.
@@ -69,6 +86,13 @@ public class TransportOrderPool {
   @Inject
   public TransportOrderPool(TCSObjectPool globalPool) {
     objectPool = Objects.requireNonNull(globalPool);
+    ordersByState = objectPool.registerIndex(TransportOrder.class, TransportOrder::getState);
+    ordersByIntendedVehicle = objectPool.registerIndex(TransportOrder.class,
+                                                       TransportOrder::getIntendedVehicle);
+    ordersByProcessingVehicle = objectPool.registerIndex(TransportOrder.class,
+                                                         TransportOrder::getProcessingVehicle);
+    ordersBySequence = objectPool.registerIndex(TransportOrder.class,
+                                                TransportOrder::getWrappingSequence);
   }
 
   /**
@@ -88,13 +112,12 @@ public class TransportOrderPool {
    */
   public void clear() {
     LOG.debug("method entry");
-    Set<TCSObject<?>> objects = objectPool.getObjects((Pattern) null);
     Set<String> removableNames = new HashSet<>();
-    for (TCSObject<?> curObject : objects) {
-      if (curObject instanceof TransportOrder
-          || curObject instanceof OrderSequence) {
-        removableNames.add(curObject.getName());
-      }
+    for (TransportOrder curOrder : objectPool.getObjects(TransportOrder.class)) {
+      removableNames.add(curOrder.getName());
+    }
+    for (OrderSequence curSequence : objectPool.getObjects(OrderSequence.class)) {
+      removableNames.add(curSequence.getName());
     }
     objectPool.removeObjects(removableNames);
   }
@@ -127,7 +150,7 @@ public class TransportOrderPool {
       throw new IllegalStateException(
           "Allegedly unique object name already exists: " + orderName, exc);
     }
-    objectPool.emitObjectEvent(newOrder.clone(),
+    objectPool.emitObjectEvent(newOrder,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created transport order.
@@ -159,14 +182,14 @@ public class TransportOrderPool {
         .withDependencies(getDependencies(to))
         .withProperties(to.getProperties());
     objectPool.addObject(newOrder);
-    objectPool.emitObjectEvent(newOrder.clone(), null, TCSObjectEvent.Type.OBJECT_CREATED);
+    objectPool.emitObjectEvent(newOrder, null, TCSObjectEvent.Type.OBJECT_CREATED);
 
     if (newOrder.getWrappingSequence() != null) {
       OrderSequence sequence = objectPool.getObject(OrderSequence.class,
                                                     newOrder.getWrappingSequence());
-      OrderSequence prevSeq = sequence.clone();
+      OrderSequence prevSeq = sequence;
       sequence = objectPool.replaceObject(sequence.withOrder(newOrder.getReference()));
-      objectPool.emitObjectEvent(sequence.clone(), prevSeq, TCSObjectEvent.Type.OBJECT_MODIFIED);
+      objectPool.emitObjectEvent(sequence, prevSeq, TCSObjectEvent.Type.OBJECT_MODIFIED);
     }
 
     // Return the newly created transport order.
@@ -236,13 +259,66 @@ public class TransportOrderPool {
     if (state == null) {
       throw new NullPointerException("state is null");
     }
-    Set<TransportOrder> result = new HashSet<>();
-    for (TransportOrder order : objectPool.getObjects(TransportOrder.class)) {
-      if (order.hasState(state)) {
-        result.add(order);
-      }
-    }
-    return result;
+    return getTransportOrdersByState(state);
+  }
+
+  /**
+   * Returns all transport orders currently in the given state.
+   * <p>
+   * In contrast to filtering all transport orders in the object pool, this is answered from an
+   * index and does not depend on the total number of transport orders.
+   * </p>
+   *
+   * @param state The state.
+   * @return All transport orders currently in the given state. If there are no such transport
+   * orders, the returned set is empty.
+   */
+  @Nonnull
+  public Set<TransportOrder> getTransportOrdersByState(@Nonnull TransportOrder.State state) {
+    requireNonNull(state, "state");
+    return ordersByState.getObjects(state);
+  }
+
+  /**
+   * Returns all transport orders intended to be processed by the referenced vehicle.
+   *
+   * @param vehicleRef A reference to the vehicle, or <code>null</code> to get all transport
+   * orders without an intended vehicle.
+   * @return All transport orders intended to be processed by the referenced vehicle. If there are
+   * no such transport orders, the returned set is empty.
+   */
+  @Nonnull
+  public Set<TransportOrder> getTransportOrdersByIntendedVehicle(
+      @Nullable TCSObjectReference<Vehicle> vehicleRef) {
+    return ordersByIntendedVehicle.getObjects(vehicleRef);
+  }
+
+  /**
+   * Returns all transport orders currently being processed by the referenced vehicle.
+   *
+   * @param vehicleRef A reference to the vehicle, or <code>null</code> to get all transport
+   * orders without a processing vehicle.
+   * @return All transport orders currently being processed by the referenced vehicle. If there are
+   * no such transport orders, the returned set is empty.
+   */
+  @Nonnull
+  public Set<TransportOrder> getTransportOrdersByProcessingVehicle(
+      @Nullable TCSObjectReference<Vehicle> vehicleRef) {
+    return ordersByProcessingVehicle.getObjects(vehicleRef);
+  }
+
+  /**
+   * Returns all transport orders belonging to the referenced order sequence.
+   *
+   * @param seqRef A reference to the order sequence, or <code>null</code> to get all transport
+   * orders not belonging to any order sequence.
+   * @return All transport orders belonging to the referenced order sequence. If there are no such
+   * transport orders, the returned set is empty.
+   */
+  @Nonnull
+  public Set<TransportOrder> getTransportOrdersByWrappingSequence(
+      @Nullable TCSObjectReference<OrderSequence> seqRef) {
+    return ordersBySequence.getObjects(seqRef);
   }
 
   /**
@@ -279,9 +355,11 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(ref);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = order.clone();
     order.setDeadline(deadline);
-    objectPool.emitObjectEvent(order.clone(),
+    order = objectPool.replaceObject(order);
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -302,9 +380,9 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     TransportOrder order = objectPool.getObject(TransportOrder.class, ref);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     order = objectPool.replaceObject(order.withState(newState));
-    objectPool.emitObjectEvent(order.clone(),
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -331,7 +409,8 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = order.clone();
     if (vehicleRef == null) {
       order.setIntendedVehicle(null);
     }
@@ -342,7 +421,8 @@ public class TransportOrderPool {
       }
       order.setIntendedVehicle(vehicle.getReference());
     }
-    objectPool.emitObjectEvent(order.clone(),
+    order = objectPool.replaceObject(order);
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -369,7 +449,7 @@ public class TransportOrderPool {
       List<DriveOrder> driveOrders)
       throws ObjectUnknownException, IllegalArgumentException {
     TransportOrder order = objectPool.getObject(TransportOrder.class, orderRef);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     if (vehicleRef == null) {
       order = objectPool.replaceObject(order.withProcessingVehicle(null));
     }
@@ -385,7 +465,7 @@ public class TransportOrderPool {
             order.withCurrentDriveOrderState(DriveOrder.State.TRAVELLING));
       }
     }
-    objectPool.emitObjectEvent(order.clone(),
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -410,7 +490,7 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     TransportOrder order = objectPool.getObject(TransportOrder.class, orderRef);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     if (vehicleRef == null) {
       order = objectPool.replaceObject(order.withProcessingVehicle(null));
     }
@@ -418,7 +498,7 @@ public class TransportOrderPool {
       Vehicle vehicle = objectPool.getObject(Vehicle.class, vehicleRef);
       order = objectPool.replaceObject(order.withProcessingVehicle(vehicle.getReference()));
     }
-    objectPool.emitObjectEvent(order.clone(),
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -444,9 +524,9 @@ public class TransportOrderPool {
       throws ObjectUnknownException, IllegalArgumentException {
     LOG.debug("method entry");
     TransportOrder order = objectPool.getObject(TransportOrder.class, orderRef);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     order = objectPool.replaceObject(order.withDriveOrders(newOrders));
-    objectPool.emitObjectEvent(order.clone(),
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -476,13 +556,13 @@ public class TransportOrderPool {
     checkState(order.getCurrentDriveOrderIndex() < 0, "currentDriveOrder already set");
     checkState(!order.getAllDriveOrders().isEmpty(), "driveOrders is empty");
 
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     order = objectPool.replaceObject(order.withCurrentDriveOrderIndex(0));
     if (order.getCurrentDriveOrder() != null) {
       order = objectPool.replaceObject(
           order.withCurrentDriveOrderState(DriveOrder.State.TRAVELLING));
     }
-    objectPool.emitObjectEvent(order.clone(),
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -506,35 +586,32 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     TransportOrder order = objectPool.getObject(TransportOrder.class, ref);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     // First, mark the current drive order as FINISHED and send an event.
     // Then, shift drive orders and send a second event.
     // Then, mark the current drive order as TRAVELLING and send another event.
     if (order.getCurrentDriveOrder() != null) {
       order = objectPool.replaceObject(order.withCurrentDriveOrderState(DriveOrder.State.FINISHED));
-      TransportOrder newState = order.clone();
-      objectPool.emitObjectEvent(newState,
+      objectPool.emitObjectEvent(order,
                                  previousState,
                                  TCSObjectEvent.Type.OBJECT_MODIFIED);
-      previousState = newState;
+      previousState = order;
       order = objectPool.replaceObject(
           order.withCurrentDriveOrderIndex(order.getCurrentDriveOrderIndex() + 1));
-      newState = order.clone();
-      objectPool.emitObjectEvent(newState,
+      objectPool.emitObjectEvent(order,
                                  previousState,
                                  TCSObjectEvent.Type.OBJECT_MODIFIED);
-      previousState = newState;
+      previousState = order;
       if (order.getCurrentDriveOrder() != null) {
         order = objectPool.replaceObject(
             order.withCurrentDriveOrderState(DriveOrder.State.TRAVELLING));
-        newState = order.clone();
-        objectPool.emitObjectEvent(newState,
+        objectPool.emitObjectEvent(order,
                                    previousState,
                                    TCSObjectEvent.Type.OBJECT_MODIFIED);
-        previousState = newState;
+        previousState = order;
       }
     }
-    objectPool.emitObjectEvent(order.clone(),
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -561,14 +638,16 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = order.clone();
     TransportOrder newDep = objectPool.getObjectOrNull(TransportOrder.class,
                                                        newDepRef);
     if (newDep == null) {
       throw new ObjectUnknownException(newDepRef);
     }
     order.addDependency(newDep.getReference());
-    objectPool.emitObjectEvent(order.clone(),
+    order = objectPool.replaceObject(order);
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -596,13 +675,15 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = order.clone();
     TransportOrder rmDep = objectPool.getObjectOrNull(TransportOrder.class, rmDepRef);
     if (rmDep == null) {
       throw new ObjectUnknownException(rmDepRef);
     }
     order.removeDependency(rmDep.getReference());
-    objectPool.emitObjectEvent(order.clone(),
+    order = objectPool.replaceObject(order);
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -624,9 +705,9 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     TransportOrder order = objectPool.getObject(TransportOrder.class, orderRef);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     order = objectPool.replaceObject(order.withRejection(newRejection));
-    objectPool.emitObjectEvent(order.clone(),
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -653,7 +734,8 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = order.clone();
     if (seqRef == null) {
       order.setWrappingSequence(null);
     }
@@ -665,7 +747,8 @@ public class TransportOrderPool {
       }
       order.setWrappingSequence(orderSequence.getReference());
     }
-    objectPool.emitObjectEvent(order.clone(),
+    order = objectPool.replaceObject(order);
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -691,9 +774,11 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = order.clone();
     order.setDispensable(dispensable);
-    objectPool.emitObjectEvent(order.clone(),
+    order = objectPool.replaceObject(order);
+    objectPool.emitObjectEvent(order,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
@@ -718,7 +803,7 @@ public class TransportOrderPool {
                   order.getName());
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               order.clone(),
+                               order,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return order;
   }
@@ -745,7 +830,7 @@ public class TransportOrderPool {
       throw new IllegalStateException(
           "Allegedly unique object name already exists: " + orderName);
     }
-    objectPool.emitObjectEvent(newSequence.clone(),
+    objectPool.emitObjectEvent(newSequence,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created transport order.
@@ -769,13 +854,48 @@ public class TransportOrderPool {
         .withFailureFatal(to.isFailureFatal())
         .withProperties(to.getProperties());
     objectPool.addObject(newSequence);
-    objectPool.emitObjectEvent(newSequence.clone(),
+    objectPool.emitObjectEvent(newSequence,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created transport order.
     return newSequence;
   }
 
+  /**
+   * Adds a transport order that has been restored from persistent storage to the pool, e.g. after
+   * a restart of the kernel.
+   * Unlike transport orders created from transfer objects, the given order is added as it is,
+   * i.e. with its state and all of its references.
+   *
+   * @param order The transport order.
+   * @return The transport order.
+   * @throws ObjectExistsException If an object with the order's name already exists.
+   */
+  public TransportOrder restoreTransportOrder(@Nonnull TransportOrder order)
+      throws ObjectExistsException {
+    requireNonNull(order, "order");
+    objectPool.addObject(order);
+    objectPool.emitObjectEvent(order, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    return order;
+  }
+
+  /**
+   * Adds an order sequence that has been restored from persistent storage to the pool, e.g. after
+   * a restart of the kernel.
+   *
+   * @param sequence The order sequence.
+   * @return The order sequence.
+   * @throws ObjectExistsException If an object with the sequence's name already exists.
+   * @see #restoreTransportOrder(org.opentcs.data.order.TransportOrder)
+   */
+  public OrderSequence restoreOrderSequence(@Nonnull OrderSequence sequence)
+      throws ObjectExistsException {
+    requireNonNull(sequence, "sequence");
+    objectPool.addObject(sequence);
+    objectPool.emitObjectEvent(sequence, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    return sequence;
+  }
+
   /**
    * Returns the referenced order sequence.
    *
@@ -877,16 +997,20 @@ public class TransportOrderPool {
           + " and transport order " + order.getName()
           + " have different intended vehicles.");
     }
-    OrderSequence previousSeqState = sequence.clone();
-    TransportOrder previousOrderState = order.clone();
+    OrderSequence previousSeqState = sequence;
+    sequence = sequence.clone();
+    TransportOrder previousOrderState = order;
+    order = order.clone();
     // Add the order's reference to the sequence.
     sequence.addOrder(order.getReference());
-    objectPool.emitObjectEvent(sequence.clone(),
+    sequence = objectPool.replaceObject(sequence);
+    objectPool.emitObjectEvent(sequence,
                                previousSeqState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     // Set the back reference to the sequence in the order, too.
     order.setWrappingSequence(sequence.getReference());
-    objectPool.emitObjectEvent(order.clone(),
+    order = objectPool.replaceObject(order);
+    objectPool.emitObjectEvent(order,
                                previousOrderState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
@@ -916,9 +1040,11 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
+    sequence = sequence.clone();
     sequence.removeOrder(orderRef);
-    objectPool.emitObjectEvent(sequence.clone(),
+    sequence = objectPool.replaceObject(sequence);
+    objectPool.emitObjectEvent(sequence,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
@@ -939,9 +1065,9 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, seqRef);
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     sequence = objectPool.replaceObject(sequence.withFinishedIndex(index));
-    objectPool.emitObjectEvent(sequence.clone(),
+    objectPool.emitObjectEvent(sequence,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
@@ -961,9 +1087,9 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, seqRef);
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     sequence = objectPool.replaceObject(sequence.withComplete(true));
-    objectPool.emitObjectEvent(sequence.clone(),
+    objectPool.emitObjectEvent(sequence,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
@@ -982,9 +1108,9 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, seqRef);
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     sequence = objectPool.replaceObject(sequence.withFinished(true));
-    objectPool.emitObjectEvent(sequence.clone(),
+    objectPool.emitObjectEvent(sequence,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
@@ -1011,9 +1137,11 @@ public class TransportOrderPool {
     if (sequence == null) {
       throw new ObjectUnknownException(seqRef);
     }
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
+    sequence = sequence.clone();
     sequence.setFailureFatal(fatal);
-    objectPool.emitObjectEvent(sequence.clone(),
+    sequence = objectPool.replaceObject(sequence);
+    objectPool.emitObjectEvent(sequence,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
@@ -1041,7 +1169,8 @@ public class TransportOrderPool {
     if (sequence == null) {
       throw new ObjectUnknownException(seqRef);
     }
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
+    sequence = sequence.clone();
     if (vehicleRef == null) {
       sequence.setIntendedVehicle(vehicleRef);
     }
@@ -1052,7 +1181,8 @@ public class TransportOrderPool {
       }
       sequence.setIntendedVehicle(vehicle.getReference());
     }
-    objectPool.emitObjectEvent(sequence.clone(),
+    sequence = objectPool.replaceObject(sequence);
+    objectPool.emitObjectEvent(sequence,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
@@ -1074,7 +1204,7 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, seqRef);
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     if (vehicleRef == null) {
       sequence = objectPool.replaceObject(sequence.withProcessingVehicle(null));
     }
@@ -1082,7 +1212,7 @@ public class TransportOrderPool {
       Vehicle vehicle = objectPool.getObject(Vehicle.class, vehicleRef);
       sequence = objectPool.replaceObject(sequence.withProcessingVehicle(vehicle.getReference()));
     }
-    objectPool.emitObjectEvent(sequence.clone(),
+    objectPool.emitObjectEvent(sequence,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
@@ -1100,7 +1230,7 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, ref);
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     // XXX Any sanity checks here?
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
@@ -1121,7 +1251,7 @@ public class TransportOrderPool {
       throws ObjectUnknownException, IllegalArgumentException {
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, ref);
     checkArgument(sequence.isFinished(), "Order sequence %s is not finished", sequence.getName());
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null, previousState, TCSObjectEvent.Type.OBJECT_REMOVED);
     // Also remove all orders in the sequence.
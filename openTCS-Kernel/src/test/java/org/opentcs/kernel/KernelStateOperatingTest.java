@@ -30,6 +30,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.extensions.xmlhost.orders.ScriptFileManager;
 import org.opentcs.kernel.persistence.ModelPersister;
+import org.opentcs.kernel.persistence.TransportOrderJournal;
 import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
 import org.opentcs.kernel.workingset.Model;
 import org.opentcs.kernel.workingset.NotificationBuffer;
@@ -155,7 +156,7 @@ public class KernelStateOperatingTest {
     when(executorMock.scheduleAtFixedRate(any(), anyLong(), anyLong(), any()))
         .thenReturn(mock(ScheduledFuture.class));
 
-    return spy(new KernelStateOperating(new Object(),
+    return spy(new KernelStateOperating(new StripedKernelLock(16),
                                         objectPool,
                                         mock(Model.class),
                                         new TransportOrderPool(objectPool),
@@ -169,6 +170,7 @@ public class KernelStateOperatingTest {
                                         controllerPool,
                                         mock(ScriptFileManager.class),
                                         executorMock,
+                                        mock(TransportOrderJournal.class),
                                         mock(OrderCleanerTask.class),
                                         extensions,
                                         attachmentManager,
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.components.kernel.KernelExecutorLanes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Unit tests for {@link MultiLaneKernelExecutor}.
+ *
+ * @author The openTCS Authors
+ */
+public class MultiLaneKernelExecutorTest {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(MultiLaneKernelExecutorTest.class);
+
+  private MultiLaneKernelExecutor executor;
+
+  @After
+  public void tearDown() {
+    if (executor != null) {
+      for (MultiLaneKernelExecutor.Lane lane : executor.getLanes()) {
+        lane.shutdownNow();
+      }
+    }
+  }
+
+  @Test
+  public void mapDedicatedKeysToLanesOfTheirOwn() {
+    executor = new MultiLaneKernelExecutor(4);
+
+    assertEquals(0, executor.laneIndex(KernelExecutorLanes.GLOBAL));
+    assertEquals(1, executor.laneIndex(KernelExecutorLanes.DISPATCHING));
+    assertEquals(2, executor.laneIndex(KernelExecutorLanes.SCHEDULING));
+    assertSame(executor.globalLane(), executor.lane(KernelExecutorLanes.GLOBAL));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(3, executor.laneIndex("vehicle-" + i));
+    }
+  }
+
+  @Test
+  public void mapAllKeysToGlobalLaneWithSingleLane() {
+    executor = new MultiLaneKernelExecutor(1);
+
+    assertEquals(0, executor.laneIndex(KernelExecutorLanes.GLOBAL));
+    assertEquals(0, executor.laneIndex(KernelExecutorLanes.DISPATCHING));
+    assertEquals(0, executor.laneIndex(KernelExecutorLanes.SCHEDULING));
+    assertEquals(0, executor.laneIndex("vehicle-1"));
+  }
+
+  @Test
+  public void mapOtherKeysToGlobalLaneWithoutRemainingLanes() {
+    executor = new MultiLaneKernelExecutor(3);
+
+    assertEquals(1, executor.laneIndex(KernelExecutorLanes.DISPATCHING));
+    assertEquals(2, executor.laneIndex(KernelExecutorLanes.SCHEDULING));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(0, executor.laneIndex("vehicle-" + i));
+    }
+  }
+
+  @Test
+  public void mapEqualKeysToSameLane() {
+    executor = new MultiLaneKernelExecutor(8);
+
+    Set<Integer> usedLanes = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      String key = "vehicle-" + i;
+      assertSame(executor.lane(key), executor.lane(new String(key)));
+      usedLanes.add(executor.laneIndex(key));
+    }
+    assertFalse(usedLanes.contains(0));
+    assertFalse(usedLanes.contains(1));
+    assertFalse(usedLanes.contains(2));
+    assertTrue(usedLanes.size() > 1);
+  }
+
+  @Test
+  public void executeTasksForSameKeyInOrder()
+      throws Exception {
+    executor = new MultiLaneKernelExecutor(4);
+    List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch done = new CountDownLatch(1);
+
+    ScheduledExecutorService lane = executor.lane(KernelExecutorLanes.SCHEDULING);
+    for (int i = 0; i < 1000; i++) {
+      int value = i;
+      lane.submit(() -> executed.add(value));
+    }
+    lane.submit(done::countDown);
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, executed.get(i).intValue());
+    }
+  }
+
+  @Test
+  public void doNotDelayTasksInOtherLanes()
+      throws Exception {
+    executor = new MultiLaneKernelExecutor(4);
+    CountDownLatch blocker = new CountDownLatch(1);
+    CountDownLatch schedulingDone = new CountDownLatch(1);
+
+    // Block the dispatching lane, as a long-running dispatcher run would.
+    executor.lane(KernelExecutorLanes.DISPATCHING).submit(() -> {
+      blocker.await();
+      return null;
+    });
+    executor.lane(KernelExecutorLanes.SCHEDULING).submit(schedulingDone::countDown);
+
+    assertTrue(schedulingDone.await(5, TimeUnit.SECONDS));
+    blocker.countDown();
+  }
+
+  @Test
+  public void recordQueueWaitTimes()
+      throws Exception {
+    executor = new MultiLaneKernelExecutor(4);
+    CountDownLatch done = new CountDownLatch(1);
+
+    ScheduledExecutorService lane = executor.lane(KernelExecutorLanes.DISPATCHING);
+    lane.submit(() -> {
+      Thread.sleep(50);
+      return null;
+    });
+    lane.submit(done::countDown);
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    MultiLaneKernelExecutor.Lane dispatchingLane = executor.getLanes().get(1);
+    LOG.info("Dispatching lane after blocking task: {}", dispatchingLane);
+    assertEquals(2, dispatchingLane.getExecutedTaskCount());
+    assertTrue(dispatchingLane.getMaxQueueWaitTime(TimeUnit.MILLISECONDS) >= 40);
+    assertEquals(0, executor.getLanes().get(2).getExecutedTaskCount());
+  }
+
+  @Test
+  public void shutDownAllLanesWithGlobalLane()
+      throws Exception {
+    executor = new MultiLaneKernelExecutor(4);
+
+    executor.globalLane().shutdown();
+    assertTrue(executor.globalLane().awaitTermination(5, TimeUnit.SECONDS));
+    for (MultiLaneKernelExecutor.Lane lane : executor.getLanes()) {
+      assertTrue(lane.awaitTermination(5, TimeUnit.SECONDS));
+    }
+  }
+}
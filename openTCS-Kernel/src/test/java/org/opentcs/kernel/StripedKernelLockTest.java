@@ -0,0 +1,300 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.StripedKernelLock.ObjectLock;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Unit tests for {@link StripedKernelLock}.
+ *
+ * @author The openTCS Authors
+ */
+public class StripedKernelLockTest {
+
+  private StripedKernelLock kernelLock;
+
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    kernelLock = new StripedKernelLock(16);
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void allowConcurrentReaders()
+      throws Exception {
+    kernelLock.readLock().lock();
+    try {
+      Future<Boolean> otherReader = executor.submit(() -> {
+        boolean locked = kernelLock.readLock().tryLock();
+        if (locked) {
+          kernelLock.readLock().unlock();
+        }
+        return locked;
+      });
+      assertTrue(otherReader.get(1, TimeUnit.SECONDS));
+    }
+    finally {
+      kernelLock.readLock().unlock();
+    }
+  }
+
+  @Test
+  public void allowConcurrentModificationOfUnrelatedObjects()
+      throws Exception {
+    Vehicle vehicle = new Vehicle("Vehicle-0001");
+
+    ObjectLock lock = kernelLock.objectLock(vehicle.getReference());
+    lock.lock();
+    try {
+      // With 16 stripes, at least one of the other vehicles must map to a different stripe.
+      Future<Boolean> otherModifier = executor.submit(() -> {
+        for (int i = 2; i <= 20; i++) {
+          ObjectLock otherLock = kernelLock.objectLock(new Vehicle("Vehicle-" + i).getReference());
+          if (otherLock.tryLock()) {
+            otherLock.unlock();
+            return true;
+          }
+        }
+        return false;
+      });
+      assertTrue(otherModifier.get(1, TimeUnit.SECONDS));
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  @Test
+  public void blockConcurrentModificationOfSameObject()
+      throws Exception {
+    Vehicle vehicle = new Vehicle("Vehicle-0001");
+
+    ObjectLock lock = kernelLock.objectLock(vehicle.getReference());
+    lock.lock();
+    try {
+      Future<Boolean> otherModifier = executor.submit(() -> {
+        ObjectLock otherLock = kernelLock.objectLock(vehicle.getReference());
+        boolean locked = otherLock.tryLock();
+        if (locked) {
+          otherLock.unlock();
+        }
+        return locked;
+      });
+      assertFalse(otherModifier.get(1, TimeUnit.SECONDS));
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  @Test
+  public void blockObjectLocksButNotReadersWhileAllObjectsLocked()
+      throws Exception {
+    ObjectLock lock = kernelLock.allObjectsLock();
+    lock.lock();
+    try {
+      Future<Boolean> otherModifier = executor.submit(() -> {
+        ObjectLock otherLock = kernelLock.objectLock(new Vehicle("Vehicle-0001").getReference());
+        boolean locked = otherLock.tryLock();
+        if (locked) {
+          otherLock.unlock();
+        }
+        return locked;
+      });
+      assertFalse(otherModifier.get(1, TimeUnit.SECONDS));
+
+      Future<Boolean> otherReader = executor.submit(() -> {
+        boolean locked = kernelLock.readLock().tryLock();
+        if (locked) {
+          kernelLock.readLock().unlock();
+        }
+        return locked;
+      });
+      assertTrue(otherReader.get(1, TimeUnit.SECONDS));
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  @Test
+  public void blockObjectLocksWhileWriteLocked()
+      throws Exception {
+    Vehicle vehicle = new Vehicle("Vehicle-0001");
+
+    kernelLock.writeLock().lock();
+    CountDownLatch acquired = new CountDownLatch(1);
+    try {
+      executor.submit(() -> {
+        ObjectLock otherLock = kernelLock.objectLock(vehicle.getReference());
+        otherLock.lock();
+        try {
+          acquired.countDown();
+        }
+        finally {
+          otherLock.unlock();
+        }
+      });
+      assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+    }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
+    assertTrue(acquired.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void allowReentrantLocking() {
+    Vehicle vehicle = new Vehicle("Vehicle-0001");
+    Point point = new Point("Point-0001");
+
+    kernelLock.writeLock().lock();
+    try {
+      kernelLock.readLock().lock();
+      try {
+        ObjectLock lock = kernelLock.objectLock(vehicle.getReference(), point.getReference());
+        lock.lock();
+        try {
+          ObjectLock innerLock = kernelLock.objectLock(vehicle.getReference());
+          innerLock.lock();
+          innerLock.unlock();
+        }
+        finally {
+          lock.unlock();
+        }
+      }
+      finally {
+        kernelLock.readLock().unlock();
+      }
+    }
+    finally {
+      kernelLock.writeLock().unlock();
+    }
+    assertFalse(kernelLock.isWriteLockedByCurrentThread());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void refuseUpgradingReadLock() {
+    kernelLock.readLock().lock();
+    try {
+      kernelLock.writeLock().lock();
+    }
+    finally {
+      kernelLock.readLock().unlock();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void refuseUpgradingObjectLock() {
+    ObjectLock lock = kernelLock.objectLock(new Vehicle("Vehicle-0001").getReference());
+    lock.lock();
+    try {
+      kernelLock.writeLock().lock();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  @Test
+  public void deliverEventsForEachObjectInModificationOrder()
+      throws Exception {
+    int threadCount = 8;
+    int modificationsPerThread = 2000;
+    ExecutorService modifierExecutor = Executors.newFixedThreadPool(threadCount);
+    List<TCSObjectReference<Vehicle>> refs = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      refs.add(new Vehicle("Vehicle-" + i).getReference());
+    }
+    Map<String, Integer> versions = new HashMap<>();
+    List<ModificationEvent> deliveredEvents = new ArrayList<>();
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.subscribe(event -> {
+      synchronized (deliveredEvents) {
+        deliveredEvents.add((ModificationEvent) event);
+      }
+    });
+
+    try {
+      List<Future<?>> modifiers = new ArrayList<>();
+      for (int i = 0; i < threadCount; i++) {
+        modifiers.add(modifierExecutor.submit(() -> {
+          for (int j = 0; j < modificationsPerThread; j++) {
+            TCSObjectReference<Vehicle> ref = refs.get(j % refs.size());
+            // Modify the object and emit an event for it, as the kernel's services do.
+            ObjectLock lock = kernelLock.objectLock(ref);
+            lock.lock();
+            try {
+              int version;
+              synchronized (versions) {
+                version = versions.merge(ref.getName(), 1, Integer::sum);
+              }
+              eventBus.onEvent(new ModificationEvent(ref.getName(), version));
+            }
+            finally {
+              lock.unlock();
+            }
+          }
+        }));
+      }
+      for (Future<?> modifier : modifiers) {
+        modifier.get(10, TimeUnit.SECONDS);
+      }
+    }
+    finally {
+      modifierExecutor.shutdownNow();
+    }
+
+    assertEquals(threadCount * modificationsPerThread, deliveredEvents.size());
+    Map<String, Integer> lastDeliveredVersions = new HashMap<>();
+    for (ModificationEvent event : deliveredEvents) {
+      int lastVersion = lastDeliveredVersions.getOrDefault(event.objectName, 0);
+      assertEquals("Unexpected version for " + event.objectName, lastVersion + 1, event.version);
+      lastDeliveredVersions.put(event.objectName, event.version);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void refuseNonPositiveStripeCount() {
+    new StripedKernelLock(0);
+  }
+
+  private static class ModificationEvent {
+
+    private final String objectName;
+
+    private final int version;
+
+    ModificationEvent(String objectName, int version) {
+      this.objectName = objectName;
+      this.version = version;
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.persistence;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.opentcs.TestEnvironment;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.FileSystems;
+
+/**
+ * Unit tests for {@link OrderArchive}.
+ *
+ * @author The openTCS Authors
+ */
+public class OrderArchiveTest {
+
+  private File archiveDirectory;
+
+  @Before
+  public void setUp() {
+    archiveDirectory = new File(TestEnvironment.getKernelHomeDirectory(), "order-archive-test");
+    FileSystems.deleteRecursively(archiveDirectory);
+  }
+
+  @After
+  public void tearDown() {
+    FileSystems.deleteRecursively(archiveDirectory);
+  }
+
+  @Test
+  public void shouldFindArchivedObjectsByName() {
+    OrderArchive archive = new OrderArchive(archiveDirectory, 1024 * 1024, 0);
+    TransportOrder order1 = createOrder("TOrder-00001", 1000);
+    TransportOrder order2 = createOrder("TOrder-00002", 2000);
+    OrderSequence sequence = new OrderSequence("OrderSeq-00001")
+        .withOrder(order2.getReference())
+        .withFinished(true);
+
+    archive.archiveTransportOrders(Collections.singletonList(order1));
+    archive.archiveOrderSequence(sequence, Collections.singletonList(order2));
+
+    assertEquals(1000, archive.getTransportOrder("TOrder-00001").getCreationTime());
+    assertEquals(2000, archive.getTransportOrder("TOrder-00002").getCreationTime());
+    OrderSequence archivedSequence = archive.getOrderSequence("OrderSeq-00001");
+    assertNotNull(archivedSequence);
+    assertEquals(Collections.singletonList(order2.getReference()), archivedSequence.getOrders());
+    assertNull(archive.getTransportOrder("TOrder-00003"));
+    // An order sequence is not a transport order, even if the name matches.
+    assertNull(archive.getTransportOrder("OrderSeq-00001"));
+  }
+
+  @Test
+  public void shouldFindArchivedObjectsByTimeRange() {
+    OrderArchive archive = new OrderArchive(archiveDirectory, 1024 * 1024, 0);
+    archive.archiveTransportOrders(Arrays.asList(createOrder("TOrder-00003", 3000),
+                                                 createOrder("TOrder-00001", 1000),
+                                                 createOrder("TOrder-00002", 2000)));
+    archive.archiveOrderSequence(new OrderSequence("OrderSeq-00001"),
+                                 Arrays.asList(createOrder("TOrder-00004", 4000),
+                                               createOrder("TOrder-00005", 1500)));
+
+    assertEquals(Arrays.asList("TOrder-00005", "TOrder-00002", "TOrder-00003"),
+                 names(archive.getTransportOrders(Instant.ofEpochMilli(1500),
+                                                  Instant.ofEpochMilli(4000))));
+    assertEquals(1, archive.getOrderSequences(Instant.ofEpochMilli(1000),
+                                              Instant.ofEpochMilli(2000)).size());
+    assertTrue(archive.getOrderSequences(Instant.ofEpochMilli(2000),
+                                         Instant.ofEpochMilli(5000)).isEmpty());
+  }
+
+  @Test
+  public void shouldSpreadRecordsOverSegmentsAndReloadThem() {
+    OrderArchive archive = new OrderArchive(archiveDirectory, 4096, 0);
+    List<TransportOrder> orders = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      orders.add(createOrder(String.format("TOrder-%05d", i), i));
+    }
+    archive.archiveTransportOrders(orders);
+
+    File[] segmentFiles = archiveDirectory.listFiles();
+    assertNotNull(segmentFiles);
+    assertTrue(segmentFiles.length > 1);
+
+    OrderArchive reopenedArchive = new OrderArchive(archiveDirectory, 4096, 0);
+    assertEquals(100, reopenedArchive.getTransportOrders(Instant.EPOCH,
+                                                         Instant.ofEpochMilli(100)).size());
+    assertEquals(42, reopenedArchive.getTransportOrder("TOrder-00042").getCreationTime());
+    assertEquals(99, reopenedArchive.getTransportOrder("TOrder-00099").getCreationTime());
+  }
+
+  @Test
+  public void shouldRemoveExpiredSegments() {
+    OrderArchive archive = new OrderArchive(archiveDirectory, 1, 60000);
+    long now = System.currentTimeMillis();
+    archive.archiveTransportOrders(Arrays.asList(createOrder("TOrder-00001", now - 120000),
+                                                 createOrder("TOrder-00002", now)));
+
+    assertNull(archive.getTransportOrder("TOrder-00001"));
+    assertNotNull(archive.getTransportOrder("TOrder-00002"));
+  }
+
+  @Test
+  public void shouldNotKeepRecordsOfFailedAppends() {
+    OrderArchive archive = new OrderArchive(archiveDirectory, 1, 0);
+    archive.archiveTransportOrders(Collections.singletonList(createOrder("TOrder-00001", 1000)));
+    // With each record in a segment of its own, the third segment cannot be written.
+    assertTrue(new File(archiveDirectory, String.format("segment-%020d.log", 3)).mkdir());
+
+    try {
+      archive.archiveTransportOrders(Arrays.asList(createOrder("TOrder-00002", 2000),
+                                                   createOrder("TOrder-00003", 3000)));
+      Assert.fail("Appending to the archive should have failed.");
+    }
+    catch (IllegalStateException exc) {
+      // Expected.
+    }
+
+    assertNotNull(archive.getTransportOrder("TOrder-00001"));
+    assertNull(archive.getTransportOrder("TOrder-00002"));
+    assertNull(archive.getTransportOrder("TOrder-00003"));
+    OrderArchive reopenedArchive = new OrderArchive(archiveDirectory, 1, 0);
+    assertEquals(1, reopenedArchive.getTransportOrders(Instant.EPOCH,
+                                                       Instant.ofEpochMilli(5000)).size());
+
+    archive.archiveTransportOrders(Arrays.asList(createOrder("TOrder-00002", 2000),
+                                                 createOrder("TOrder-00003", 3000)));
+    assertNotNull(archive.getTransportOrder("TOrder-00003"));
+  }
+
+  private TransportOrder createOrder(String name, long creationTime) {
+    return new TransportOrder(name, Collections.emptyList())
+        .withState(TransportOrder.State.FINISHED)
+        .withCreationTime(Instant.ofEpochMilli(creationTime));
+  }
+
+  private List<String> names(List<TransportOrder> orders) {
+    return orders.stream().map(order -> order.getName()).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.persistence;
+
+import java.io.File;
+import java.util.Arrays;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.opentcs.TestEnvironment;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.StripedKernelLock;
+import org.opentcs.kernel.workingset.Model;
+import org.opentcs.kernel.workingset.TCSObjectPool;
+import org.opentcs.kernel.workingset.TransportOrderPool;
+import org.opentcs.util.FileSystems;
+import org.opentcs.util.event.SimpleEventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Unit tests for {@link TransportOrderJournal}.
+ *
+ * @author The openTCS Authors
+ */
+public class TransportOrderJournalTest {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(TransportOrderJournalTest.class);
+
+  private File journalDirectory;
+
+  private TransportOrderPool orderPool;
+
+  private Vehicle vehicle;
+
+  @Before
+  public void setUp() {
+    journalDirectory = new File(TestEnvironment.getKernelHomeDirectory(), "order-journal-test");
+    FileSystems.deleteRecursively(journalDirectory);
+  }
+
+  @After
+  public void tearDown() {
+    FileSystems.deleteRecursively(journalDirectory);
+  }
+
+  @Test
+  public void shouldRestoreJournaledModifications() {
+    TransportOrderJournal journal = createJournal();
+    journal.initialize();
+
+    OrderSequence seq = orderPool.createOrderSequence(new OrderSequenceCreationTO("Seq-00001"));
+    TransportOrder order1 = createOrder("TOrder-00001", seq.getName());
+    TransportOrder order2 = createOrder("TOrder-00002", null);
+    TransportOrder order3 = createOrder("TOrder-00003", null);
+    orderPool.setTransportOrderState(order1.getReference(), TransportOrder.State.FINISHED);
+    orderPool.setTransportOrderState(order2.getReference(), TransportOrder.State.BEING_PROCESSED);
+    orderPool.setTransportOrderProcessingVehicle(order2.getReference(),
+                                                 vehicle.getReference(),
+                                                 order2.getAllDriveOrders());
+    orderPool.setTransportOrderState(order3.getReference(), TransportOrder.State.FAILED);
+    orderPool.removeTransportOrder(order3.getReference());
+    journal.terminate();
+
+    journal = createJournal();
+    journal.initialize();
+    journal.terminate();
+
+    TCSObjectPool objectPool = orderPool.getObjectPool();
+    assertNotNull(objectPool.getObjectOrNull(OrderSequence.class, "Seq-00001"));
+    assertEquals(1,
+                 objectPool.getObject(OrderSequence.class, "Seq-00001").getOrders().size());
+    assertEquals(TransportOrder.State.FINISHED,
+                 objectPool.getObject(TransportOrder.class, "TOrder-00001").getState());
+    // Orders that were being processed cannot be continued after a restart.
+    TransportOrder restoredOrder2 = objectPool.getObject(TransportOrder.class, "TOrder-00002");
+    assertEquals(TransportOrder.State.FAILED, restoredOrder2.getState());
+    assertNull(restoredOrder2.getProcessingVehicle());
+    assertNull(objectPool.getObjectOrNull(TransportOrder.class, "TOrder-00003"));
+  }
+
+  @Test
+  public void shouldRestoreFromSnapshotAndJournal() {
+    // Snapshots are written immediately on initialization.
+    TransportOrderJournal journal = createJournal();
+    journal.initialize();
+    createOrder("TOrder-00001", null);
+    journal.terminate();
+
+    journal = createJournal();
+    journal.initialize();
+    createOrder("TOrder-00002", null);
+    journal.terminate();
+
+    journal = createJournal();
+    journal.initialize();
+    journal.terminate();
+
+    assertNotNull(orderPool.getObjectPool().getObjectOrNull(TransportOrder.class, "TOrder-00001"));
+    assertNotNull(orderPool.getObjectPool().getObjectOrNull(TransportOrder.class, "TOrder-00002"));
+  }
+
+  @Test
+  public void shouldFinishSequencesOfInterruptedOrders() {
+    TransportOrderJournal journal = createJournal();
+    journal.initialize();
+
+    OrderSequence seq1 = orderPool.createOrderSequence(new OrderSequenceCreationTO("Seq-00001"));
+    TransportOrder order1 = createOrder("TOrder-00001", seq1.getName());
+    orderPool.setOrderSequenceComplete(seq1.getReference());
+    orderPool.setTransportOrderState(order1.getReference(), TransportOrder.State.BEING_PROCESSED);
+    orderPool.setOrderSequenceProcessingVehicle(seq1.getReference(), vehicle.getReference());
+
+    OrderSequence seq2 = orderPool.createOrderSequence(
+        new OrderSequenceCreationTO("Seq-00002").withFailureFatal(true));
+    TransportOrder order2 = createOrder("TOrder-00002", seq2.getName());
+    createOrder("TOrder-00003", seq2.getName());
+    orderPool.setTransportOrderState(order2.getReference(), TransportOrder.State.BEING_PROCESSED);
+    journal.terminate();
+
+    journal = createJournal();
+    journal.initialize();
+    journal.terminate();
+
+    TCSObjectPool objectPool = orderPool.getObjectPool();
+    OrderSequence restoredSeq1 = objectPool.getObject(OrderSequence.class, "Seq-00001");
+    assertTrue(restoredSeq1.isFinished());
+    assertEquals(0, restoredSeq1.getFinishedIndex());
+    // A fatal failure fails the remaining orders and completes the sequence.
+    OrderSequence restoredSeq2 = objectPool.getObject(OrderSequence.class, "Seq-00002");
+    assertTrue(restoredSeq2.isComplete());
+    assertTrue(restoredSeq2.isFinished());
+    assertEquals(TransportOrder.State.FAILED,
+                 objectPool.getObject(TransportOrder.class, "TOrder-00003").getState());
+  }
+
+  @Test
+  public void shouldRestoreOrdersOnlyOnce() {
+    TransportOrderJournal journal = createJournal();
+    journal.initialize();
+    createOrder("TOrder-00001", null);
+    journal.terminate();
+
+    journal = createJournal();
+    journal.initialize();
+    journal.terminate();
+    assertNotNull(orderPool.getObjectPool().getObjectOrNull(TransportOrder.class, "TOrder-00001"));
+
+    // Leaving the operating state removes all orders from the working set.
+    orderPool.clear();
+    journal.initialize();
+    journal.terminate();
+    assertNull(orderPool.getObjectPool().getObjectOrNull(TransportOrder.class, "TOrder-00001"));
+  }
+
+  @Test
+  public void shouldNotRestoreDiscardedOrders() {
+    TransportOrderJournal journal = createJournal();
+    journal.initialize();
+    createOrder("TOrder-00001", null);
+    journal.terminate();
+    journal.discard();
+
+    journal = createJournal();
+    journal.initialize();
+    journal.terminate();
+
+    assertNull(orderPool.getObjectPool().getObjectOrNull(TransportOrder.class, "TOrder-00001"));
+  }
+
+  @Test
+  public void shouldRestoreManyOrders() {
+    int orderCount = 50000;
+    TransportOrderJournal journal = createJournal();
+    journal.initialize();
+    for (int i = 0; i < orderCount; i++) {
+      createOrder(String.format("TOrder-%05d", i), null);
+    }
+    journal.terminate();
+
+    long startTime = System.currentTimeMillis();
+    journal = createJournal();
+    journal.initialize();
+    LOG.info("Restored {} transport orders in {} ms",
+             orderCount,
+             System.currentTimeMillis() - startTime);
+    journal.terminate();
+
+    assertEquals(orderCount, orderPool.getObjectPool().getObjects(TransportOrder.class).size());
+  }
+
+  /**
+   * Creates a journal working on a fresh, empty working set.
+   */
+  private TransportOrderJournal createJournal() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    TCSObjectPool objectPool = new TCSObjectPool(eventBus);
+    Model model = new Model(objectPool);
+    model.createPoint(new PointCreationTO("Point-00001"));
+    vehicle = model.createVehicle(new VehicleCreationTO("Vehicle-00001"));
+    orderPool = new TransportOrderPool(objectPool);
+
+    return new TransportOrderJournal(journalDirectory,
+                                     true,
+                                     3600000,
+                                     new StripedKernelLock(16),
+                                     orderPool,
+                                     eventBus);
+  }
+
+  private TransportOrder createOrder(String name, String sequence) {
+    return orderPool.createTransportOrder(
+        new TransportOrderCreationTO(name,
+                                     Arrays.asList(new DestinationCreationTO("Point-00001",
+                                                                             "NOP")))
+            .withWrappingSequence(sequence));
+  }
+}
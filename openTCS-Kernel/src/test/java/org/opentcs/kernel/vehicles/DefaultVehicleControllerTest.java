@@ -39,6 +39,8 @@ import org.opentcs.drivers.vehicle.LoadHandlingDevice;
 import org.opentcs.drivers.vehicle.VehicleCommAdapter;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterEvent;
 import org.opentcs.drivers.vehicle.VehicleProcessModel;
+import org.opentcs.drivers.vehicle.VehicleStateUpdate;
+import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
 import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
 import org.opentcs.strategies.basic.scheduling.DummyScheduler;
 import org.opentcs.util.event.EventBus;
@@ -216,6 +218,27 @@ public class DefaultVehicleControllerTest {
                  event.getAppendix());
   }
 
+  @Test
+  public void shouldPublishSingleProcessModelEventForStateUpdate() {
+    final List<ProcessModelEvent> eventsReceived = new LinkedList<>();
+
+    eventBus.subscribe((event) -> {
+      if (event instanceof ProcessModelEvent) {
+        eventsReceived.add((ProcessModelEvent) event);
+      }
+    });
+
+    VehicleStateUpdate update = new VehicleStateUpdate()
+        .withEnergyLevel(80)
+        .withState(Vehicle.State.EXECUTING);
+    vehicleModel.applyStateUpdate(update);
+
+    assertEquals("Did not receive exactly one event", 1, eventsReceived.size());
+    assertEquals(VehicleProcessModel.Attribute.STATE_UPDATE.name(),
+                 eventsReceived.get(0).getAttributeChanged());
+    verify(vehicleService).updateVehicle(vehicle.getReference(), update);
+  }
+
   // Test cases for implementation of interface VehicleController start here.
   @Test
   public void shouldHaveIdempotentEnabledState() {
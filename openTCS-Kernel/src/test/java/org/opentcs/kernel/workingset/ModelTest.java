@@ -11,17 +11,26 @@
  */
 package org.opentcs.kernel.workingset;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import org.opentcs.access.to.model.PathCreationTO;
 import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.drivers.vehicle.VehicleStateUpdate;
+import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.SimpleEventBus;
 
 /**
@@ -39,9 +48,17 @@ public class ModelTest {
    */
   private TCSObjectPool globalPool;
 
+  /**
+   * The events emitted by the object pool.
+   */
+  private List<TCSObjectEvent> events;
+
   @Before
   public void setUp() {
-    globalPool = new TCSObjectPool(new SimpleEventBus());
+    events = new ArrayList<>();
+    EventBus eventBus = new SimpleEventBus();
+    eventBus.subscribe(event -> events.add((TCSObjectEvent) event));
+    globalPool = new TCSObjectPool(eventBus);
     model = new Model(globalPool);
   }
 
@@ -49,6 +66,40 @@ public class ModelTest {
   public void tearDown() {
     model = null;
     globalPool = null;
+    events = null;
+  }
+
+  /**
+   * Verify that modifying a vehicle's position does not copy any objects, i.e. that the emitted
+   * events carry the replaced and the replacing instances from the pool.
+   */
+  @Test
+  public void shouldEmitPoolInstancesWhenSettingVehiclePosition() {
+    Point point1 = model.createPoint(new PointCreationTO("Point-00001"));
+    Point point2 = model.createPoint(new PointCreationTO("Point-00002"));
+    Vehicle vehicle = model.createVehicle(new VehicleCreationTO("Vehicle-00001"));
+    model.setVehiclePosition(vehicle.getReference(), point1.getReference());
+    point1 = globalPool.getObject(Point.class, point1.getReference());
+    vehicle = globalPool.getObject(Vehicle.class, vehicle.getReference());
+    events.clear();
+
+    Vehicle modifiedVehicle = model.setVehiclePosition(vehicle.getReference(),
+                                                       point2.getReference());
+
+    assertEquals(3, events.size());
+    // Previous point of the vehicle
+    assertSame(point1, events.get(0).getPreviousObjectState());
+    assertSame(globalPool.getObject(point1.getReference()),
+               events.get(0).getCurrentObjectState());
+    // New point of the vehicle
+    assertSame(point2, events.get(1).getPreviousObjectState());
+    assertSame(globalPool.getObject(point2.getReference()),
+               events.get(1).getCurrentObjectState());
+    // The vehicle itself
+    assertSame(vehicle, events.get(2).getPreviousObjectState());
+    assertSame(modifiedVehicle, events.get(2).getCurrentObjectState());
+    assertSame(modifiedVehicle, globalPool.getObject(vehicle.getReference()));
+    assertEquals(point2.getReference(), modifiedVehicle.getCurrentPosition());
   }
 
   /**
@@ -87,4 +138,32 @@ public class ModelTest {
     assertTrue("globalPool is not empty after removing all objects",
                globalPool.isEmpty());
   }
+
+  /**
+   * Verify that a batched vehicle state update modifies all attributes at once and emits a single
+   * event, and that an update not changing anything does not emit an event at all.
+   */
+  @Test
+  public void shouldEmitSingleEventForVehicleStateUpdate() {
+    Vehicle vehicle = model.createVehicle(new VehicleCreationTO("Vehicle-00001"));
+    events.clear();
+
+    VehicleStateUpdate update = new VehicleStateUpdate()
+        .withPrecisePosition(new Triple(1, 2, 3))
+        .withOrientationAngle(90.0)
+        .withEnergyLevel(42)
+        .withState(Vehicle.State.IDLE);
+    model.applyVehicleStateUpdate(vehicle.getReference(), update);
+
+    assertEquals(1, events.size());
+    Vehicle updatedVehicle = (Vehicle) events.get(0).getCurrentOrPreviousObjectState();
+    assertEquals(new Triple(1, 2, 3), updatedVehicle.getPrecisePosition());
+    assertEquals(90.0, updatedVehicle.getOrientationAngle(), 0.0);
+    assertEquals(42, updatedVehicle.getEnergyLevel());
+    assertEquals(Vehicle.State.IDLE, updatedVehicle.getState());
+
+    events.clear();
+    model.applyVehicleStateUpdate(vehicle.getReference(), update);
+    assertTrue(events.isEmpty());
+  }
 }
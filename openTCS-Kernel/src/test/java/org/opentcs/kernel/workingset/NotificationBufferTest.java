@@ -14,6 +14,9 @@ package org.opentcs.kernel.workingset;
 import java.util.List;
 import org.junit.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.opentcs.components.kernel.services.UserNotificationBatch;
 import org.opentcs.data.notification.UserNotification;
 import org.opentcs.util.event.SimpleEventBus;
 
@@ -83,4 +86,77 @@ public class NotificationBufferTest {
       testBuffer.clear();
     }
   }
+
+  /**
+   * Verify that the oldest messages are removed when the capacity is exceeded.
+   */
+  @Test
+  public void shouldKeepNewestMessages() {
+    testBuffer.setCutBackCount(CAPACITY / 2);
+    for (int i = 1; i <= CAPACITY + 1; i++) {
+      testBuffer.addNotification(new UserNotification("message " + i,
+                                                      UserNotification.Level.INFORMATIONAL));
+    }
+    List<UserNotification> messages = testBuffer.getNotifications();
+    assertEquals(CAPACITY / 2, messages.size());
+    assertEquals("message " + (CAPACITY + 1), messages.get(messages.size() - 1).getText());
+    assertEquals("message " + (CAPACITY / 2 + 2), messages.get(0).getText());
+  }
+
+  @Test
+  public void shouldReturnMessagesBySourceAndLevel() {
+    testBuffer.setCapacity(3);
+    testBuffer.setCutBackCount(2);
+    testBuffer.addNotification(new UserNotification("source-1", "message 1",
+                                                    UserNotification.Level.INFORMATIONAL));
+    testBuffer.addNotification(new UserNotification("source-2", "message 2",
+                                                    UserNotification.Level.IMPORTANT));
+    testBuffer.addNotification(new UserNotification("source-1", "message 3",
+                                                    UserNotification.Level.IMPORTANT));
+    assertEquals(2, testBuffer.getNotificationsBySource("source-1").size());
+    assertEquals(2, testBuffer.getNotificationsByLevel(UserNotification.Level.IMPORTANT).size());
+
+    // Exceeding the capacity removes messages 1 and 2 from the indexes, too.
+    testBuffer.addNotification(new UserNotification(null, "message 4",
+                                                    UserNotification.Level.INFORMATIONAL));
+    assertEquals(1, testBuffer.getNotificationsBySource("source-1").size());
+    assertTrue(testBuffer.getNotificationsBySource("source-2").isEmpty());
+    assertEquals(1, testBuffer.getNotificationsBySource(null).size());
+    assertEquals("message 4",
+                 testBuffer.getNotificationsByLevel(UserNotification.Level.INFORMATIONAL)
+                     .get(0).getText());
+  }
+
+  @Test
+  public void shouldReturnMessagesSinceSequenceNumber() {
+    testBuffer.setCutBackCount(CAPACITY / 2);
+    UserNotificationBatch batch = testBuffer.getNotificationsSince(0);
+    assertTrue(batch.getNotifications().isEmpty());
+    assertTrue(batch.isComplete());
+
+    testBuffer.addNotification(new UserNotification("message 1",
+                                                    UserNotification.Level.INFORMATIONAL));
+    testBuffer.addNotification(new UserNotification("message 2",
+                                                    UserNotification.Level.INFORMATIONAL));
+    batch = testBuffer.getNotificationsSince(batch.getLatestSequenceNumber());
+    assertEquals(2, batch.getNotifications().size());
+    assertEquals("message 1", batch.getNotifications().get(0).getText());
+    assertEquals(2, batch.getLatestSequenceNumber());
+    assertTrue(batch.isComplete());
+
+    testBuffer.addNotification(new UserNotification("message 3",
+                                                    UserNotification.Level.INFORMATIONAL));
+    batch = testBuffer.getNotificationsSince(batch.getLatestSequenceNumber());
+    assertEquals(1, batch.getNotifications().size());
+    assertEquals("message 3", batch.getNotifications().get(0).getText());
+
+    // Let messages be removed before they are retrieved.
+    for (int i = 0; i < CAPACITY; i++) {
+      testBuffer.addNotification(new UserNotification("message text",
+                                                      UserNotification.Level.INFORMATIONAL));
+    }
+    batch = testBuffer.getNotificationsSince(batch.getLatestSequenceNumber());
+    assertEquals(testBuffer.getMessageCount(), batch.getNotifications().size());
+    assertFalse(batch.isComplete());
+  }
 }
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link PersistentHashMap}.
+ *
+ * @author The openTCS Authors
+ */
+public class PersistentHashMapTest {
+
+  @Test
+  public void leaveOriginalUnmodified() {
+    PersistentHashMap<String, Integer> map1 = PersistentHashMap.<String, Integer>empty()
+        .plus("a", 1)
+        .plus("b", 2);
+    PersistentHashMap<String, Integer> map2 = map1.plus("a", 3).minus("b").plus("c", 4);
+
+    assertEquals(2, map1.size());
+    assertEquals(Integer.valueOf(1), map1.get("a"));
+    assertEquals(Integer.valueOf(2), map1.get("b"));
+    assertNull(map1.get("c"));
+
+    assertEquals(2, map2.size());
+    assertEquals(Integer.valueOf(3), map2.get("a"));
+    assertNull(map2.get("b"));
+    assertEquals(Integer.valueOf(4), map2.get("c"));
+  }
+
+  @Test
+  public void returnSameMapForNoOps() {
+    Integer value = 1;
+    PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+        .plus("a", value);
+
+    assertSame(map, map.plus("a", value));
+    assertSame(map, map.minus("b"));
+  }
+
+  @Test
+  public void handleHashCollisions() {
+    // "Aa" and "BB" have the same hash code.
+    PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+        .plus("Aa", 1)
+        .plus("BB", 2)
+        .plus("C", 3);
+
+    assertEquals(3, map.size());
+    assertEquals(Integer.valueOf(1), map.get("Aa"));
+    assertEquals(Integer.valueOf(2), map.get("BB"));
+
+    map = map.minus("Aa");
+    assertEquals(2, map.size());
+    assertNull(map.get("Aa"));
+    assertEquals(Integer.valueOf(2), map.get("BB"));
+  }
+
+  @Test
+  public void behaveLikeHashMapForRandomOperations() {
+    Random random = new Random(4711);
+    Map<Integer, Integer> expected = new HashMap<>();
+    PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+
+    for (int i = 0; i < 20000; i++) {
+      Integer key = random.nextInt(2000) * (random.nextBoolean() ? 1 : 65536);
+      if (random.nextInt(3) == 0) {
+        expected.remove(key);
+        map = map.minus(key);
+      }
+      else {
+        expected.put(key, i);
+        map = map.plus(key, i);
+      }
+      assertEquals(expected.size(), map.size());
+    }
+
+    Map<Integer, Integer> actual = new HashMap<>();
+    map.forEach((key, value) -> actual.put(key, value));
+    assertEquals(expected, actual);
+    for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+      assertEquals(entry.getValue(), map.get(entry.getKey()));
+    }
+
+    for (Integer key : expected.keySet()) {
+      map = map.minus(key);
+    }
+    assertTrue(map.isEmpty());
+  }
+}
@@ -11,6 +11,7 @@
  */
 package org.opentcs.kernel.workingset;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -22,8 +23,12 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.kernel.StripedKernelLock;
+import org.opentcs.kernel.StripedKernelLock.ObjectLock;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.SimpleEventBus;
 
@@ -141,6 +146,133 @@ public class TCSObjectPoolTest {
     assertTrue(points.contains(point2));
   }
 
+  @Test
+  public void shouldReturnObjectsByClassAfterReplaceAndRemove() {
+    Point point1 = new Point("Point-00001");
+    pool.addObject(point1);
+    Point point2 = new Point("Point-00002");
+    pool.addObject(point2);
+    Path path1 = new Path("Path-00001", point1.getReference(), point2.getReference());
+    pool.addObject(path1);
+
+    Point point1Modified = pool.replaceObject(point1.withType(Point.Type.PARK_POSITION));
+    pool.removeObject(point2.getReference());
+
+    Set<Point> points = pool.getObjects(Point.class);
+    assertEquals(1, points.size());
+    assertTrue(points.contains(point1Modified));
+    assertEquals(Point.Type.PARK_POSITION, points.iterator().next().getType());
+    assertEquals(1, pool.getObjects(Path.class).size());
+  }
+
+  @Test
+  public void shouldKeepRegisteredIndexUpToDate() {
+    Point point1 = new Point("Point-00001");
+    pool.addObject(point1);
+    TCSObjectIndex<Point, Point.Type> pointsByType
+        = pool.registerIndex(Point.class, Point::getType);
+    Point point2 = new Point("Point-00002").withType(Point.Type.PARK_POSITION);
+    pool.addObject(point2);
+
+    assertEquals(1, pointsByType.count(Point.Type.HALT_POSITION));
+    assertTrue(pointsByType.getObjects(Point.Type.PARK_POSITION).contains(point2));
+
+    pool.replaceObject(point1.withType(Point.Type.PARK_POSITION));
+    assertEquals(0, pointsByType.count(Point.Type.HALT_POSITION));
+    assertEquals(2, pointsByType.count(Point.Type.PARK_POSITION));
+
+    pool.removeObject(point2.getReference());
+    assertEquals(1, pointsByType.count(Point.Type.PARK_POSITION));
+    assertTrue(pointsByType.getObjects(Point.Type.REPORT_POSITION).isEmpty());
+  }
+
+  @Test
+  public void shouldIndexObjectsUnderAllOfTheirKeys() {
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002");
+    Point point3 = new Point("Point-00003");
+    TCSObjectIndex<Block, TCSResourceReference<?>> blocksByMember
+        = pool.registerMultiKeyIndex(Block.class, Block::getMembers);
+    Block block1 = new Block("Block-00001")
+        .withMembers(new HashSet<>(Arrays.asList(point1.getReference(), point2.getReference())));
+    pool.addObject(block1);
+    Block block2 = new Block("Block-00002")
+        .withMembers(new HashSet<>(Arrays.asList(point2.getReference())));
+    pool.addObject(block2);
+
+    assertEquals(1, blocksByMember.count(point1.getReference()));
+    assertEquals(2, blocksByMember.count(point2.getReference()));
+    assertTrue(blocksByMember.getObjects(point3.getReference()).isEmpty());
+
+    pool.replaceObject(
+        block1.withMembers(new HashSet<>(Arrays.asList(point2.getReference(),
+                                                       point3.getReference()))));
+    assertTrue(blocksByMember.getObjects(point1.getReference()).isEmpty());
+    assertEquals(2, blocksByMember.count(point2.getReference()));
+    assertEquals(1, blocksByMember.count(point3.getReference()));
+
+    pool.removeObject(block2.getReference());
+    assertEquals(1, blocksByMember.count(point2.getReference()));
+  }
+
+  @Test
+  public void shouldNotReflectLaterModificationsInSnapshot() {
+    Point point1 = new Point("Point-00001");
+    pool.addObject(point1);
+    Point point2 = new Point("Point-00002");
+    pool.addObject(point2);
+
+    TCSObjectPoolSnapshot snapshot = pool.snapshot();
+    pool.replaceObject(point1.withType(Point.Type.PARK_POSITION));
+    pool.removeObject(point2.getReference());
+    pool.addObject(new Path("Path-00001", point1.getReference(), point2.getReference()));
+
+    assertEquals(2, snapshot.fetchObjects(Point.class).size());
+    assertEquals(Point.Type.HALT_POSITION,
+                 snapshot.fetchObject(Point.class, point1.getReference()).getType());
+    assertEquals(point2, snapshot.fetchObject(Point.class, "Point-00002"));
+    assertTrue(snapshot.fetchObjects(Path.class).isEmpty());
+
+    TCSObjectPoolSnapshot newSnapshot = pool.snapshot();
+    assertTrue(newSnapshot.getVersion() > snapshot.getVersion());
+    assertEquals(2, newSnapshot.size());
+    assertEquals(Point.Type.PARK_POSITION,
+                 newSnapshot.fetchObject(Point.class, point1.getReference()).getType());
+    assertNull(newSnapshot.fetchObject(Point.class, "Point-00002"));
+    assertNull(newSnapshot.fetchObject(Path.class, "Point-00001"));
+    assertEquals(1, newSnapshot.fetchObjects(Path.class).size());
+  }
+
+  @Test
+  public void shouldPublishModificationsWhenReleasingKernelLock() {
+    StripedKernelLock kernelLock = new StripedKernelLock(4);
+    pool = new TCSObjectPool(new SimpleEventBus(), kernelLock);
+    Point point1 = new Point("Point-00001");
+    pool.addObject(point1);
+    Point point2 = new Point("Point-00002");
+    pool.addObject(point2);
+
+    ObjectLock lock = kernelLock.objectLock(point1.getReference(), point2.getReference());
+    lock.lock();
+    try {
+      pool.replaceObject(point1.withType(Point.Type.PARK_POSITION));
+      pool.replaceObject(point2.withType(Point.Type.PARK_POSITION));
+
+      assertEquals(Point.Type.HALT_POSITION,
+                   pool.snapshot().fetchObject(Point.class, "Point-00001").getType());
+      assertEquals(Point.Type.PARK_POSITION,
+                   pool.latestSnapshot().fetchObject(Point.class, "Point-00001").getType());
+    }
+    finally {
+      lock.unlock();
+    }
+
+    assertEquals(Point.Type.PARK_POSITION,
+                 pool.snapshot().fetchObject(Point.class, "Point-00001").getType());
+    assertEquals(Point.Type.PARK_POSITION,
+                 pool.snapshot().fetchObject(Point.class, "Point-00002").getType());
+  }
+
   @Test
   public void shouldRemoveObjectByRef() {
     Point point1 = new Point("Point-00001");
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Unit tests for {@link TransportOrderPool}.
+ *
+ * @author The openTCS Authors
+ */
+public class TransportOrderPoolTest {
+
+  private Model model;
+
+  private TransportOrderPool orderPool;
+
+  private Vehicle vehicle1;
+
+  private Vehicle vehicle2;
+
+  @Before
+  public void setUp() {
+    TCSObjectPool globalPool = new TCSObjectPool(new SimpleEventBus());
+    model = new Model(globalPool);
+    orderPool = new TransportOrderPool(globalPool);
+
+    model.createPoint(new PointCreationTO("Point-00001"));
+    vehicle1 = model.createVehicle(new VehicleCreationTO("Vehicle-00001"));
+    vehicle2 = model.createVehicle(new VehicleCreationTO("Vehicle-00002"));
+  }
+
+  @Test
+  public void shouldReturnTransportOrdersByIntendedVehicle() {
+    TransportOrder order1 = createOrder("TOrder-00001", vehicle1.getName(), null);
+    TransportOrder order2 = createOrder("TOrder-00002", vehicle1.getName(), null);
+    TransportOrder order3 = createOrder("TOrder-00003", null, null);
+
+    assertEquals(2, orderPool.getTransportOrdersByIntendedVehicle(vehicle1.getReference()).size());
+    assertTrue(orderPool.getTransportOrdersByIntendedVehicle(vehicle1.getReference())
+        .containsAll(Arrays.asList(order1, order2)));
+    assertTrue(orderPool.getTransportOrdersByIntendedVehicle(vehicle2.getReference()).isEmpty());
+    assertEquals(Collections.singleton(order3), orderPool.getTransportOrdersByIntendedVehicle(null));
+  }
+
+  @Test
+  public void shouldKeepStateAndProcessingVehicleIndexesUpToDate() {
+    TransportOrder order = createOrder("TOrder-00001", null, null);
+    assertEquals(Collections.singleton(order),
+                 orderPool.getTransportOrdersByState(TransportOrder.State.RAW));
+
+    orderPool.setTransportOrderState(order.getReference(), TransportOrder.State.BEING_PROCESSED);
+    orderPool.setTransportOrderProcessingVehicle(order.getReference(),
+                                                 vehicle2.getReference(),
+                                                 order.getAllDriveOrders());
+
+    assertTrue(orderPool.getTransportOrdersByState(TransportOrder.State.RAW).isEmpty());
+    assertEquals(1, orderPool.getTransportOrdersByState(TransportOrder.State.BEING_PROCESSED).size());
+    assertEquals(1, orderPool.getTransportOrdersByProcessingVehicle(vehicle2.getReference()).size());
+    assertTrue(orderPool.getTransportOrdersByProcessingVehicle(null).isEmpty());
+
+    orderPool.setTransportOrderState(order.getReference(), TransportOrder.State.FINISHED);
+    assertTrue(orderPool.getTransportOrdersByState(TransportOrder.State.BEING_PROCESSED).isEmpty());
+
+    orderPool.removeTransportOrder(order.getReference());
+    assertTrue(orderPool.getTransportOrdersByState(TransportOrder.State.FINISHED).isEmpty());
+    assertTrue(orderPool.getTransportOrdersByProcessingVehicle(vehicle2.getReference()).isEmpty());
+  }
+
+  @Test
+  public void shouldReturnTransportOrdersByWrappingSequence() {
+    OrderSequence seq = orderPool.createOrderSequence(new OrderSequenceCreationTO("Seq-00001"));
+    createOrder("TOrder-00001", null, seq.getName());
+    createOrder("TOrder-00002", null, seq.getName());
+    TransportOrder order3 = createOrder("TOrder-00003", null, null);
+
+    assertEquals(2, orderPool.getTransportOrdersByWrappingSequence(seq.getReference()).size());
+    assertEquals(Collections.singleton(order3),
+                 orderPool.getTransportOrdersByWrappingSequence(null));
+  }
+
+  private TransportOrder createOrder(String name, String intendedVehicle, String sequence) {
+    return orderPool.createTransportOrder(
+        new TransportOrderCreationTO(name,
+                                     Arrays.asList(new DestinationCreationTO("Point-00001",
+                                                                             "NOP")))
+            .withIntendedVehicleName(intendedVehicle)
+            .withWrappingSequence(sequence));
+  }
+}
@@ -272,7 +272,9 @@ public class DetailPanel
     else if (Objects.equals(evt.getAttributeChanged(), VehicleProcessModel.Attribute.POSITION.name())) {
       updateVehiclePosition(evt.getUpdatedProcessModel().getVehiclePosition());
     }
-    else if (Objects.equals(evt.getAttributeChanged(), VehicleProcessModel.Attribute.STATE.name())) {
+    else if (Objects.equals(evt.getAttributeChanged(), VehicleProcessModel.Attribute.STATE.name())
+        || Objects.equals(evt.getAttributeChanged(),
+                          VehicleProcessModel.Attribute.STATE_UPDATE.name())) {
       updateVehicleState(evt.getUpdatedProcessModel().getVehicleState());
     }
     else if (Objects.equals(evt.getAttributeChanged(),
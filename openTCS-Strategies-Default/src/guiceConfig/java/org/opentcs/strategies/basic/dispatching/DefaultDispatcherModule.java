@@ -103,6 +103,10 @@ public class DefaultDispatcherModule
 
     bind(OrderReservationPool.class)
         .in(Singleton.class);
+    bind(DispatchChangeTracker.class)
+        .in(Singleton.class);
+    bind(CandidateComputationPool.class)
+        .in(Singleton.class);
 
     bind(org.opentcs.components.kernel.ParkingPositionSupplier.class)
         .to(DefaultParkingPositionSupplier.class)
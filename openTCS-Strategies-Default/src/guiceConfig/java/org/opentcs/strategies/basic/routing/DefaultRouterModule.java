@@ -8,7 +8,11 @@
 package org.opentcs.strategies.basic.routing;
 
 import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.strategies.basic.routing.jgrapht.AStarPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.AltPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.BellmanFordPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.CompactGraphPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.ContractionHierarchyPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.DefaultModelGraphMapper;
 import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.EdgeEvaluator;
@@ -71,6 +75,22 @@ public class DefaultRouterModule
         bind(PointRouterFactory.class)
             .to(FloydWarshallPointRouterFactory.class);
         break;
+      case COMPACT_DIJKSTRA:
+        bind(PointRouterFactory.class)
+            .to(CompactGraphPointRouterFactory.class);
+        break;
+      case A_STAR:
+        bind(PointRouterFactory.class)
+            .to(AStarPointRouterFactory.class);
+        break;
+      case ALT:
+        bind(PointRouterFactory.class)
+            .to(AltPointRouterFactory.class);
+        break;
+      case CONTRACTION_HIERARCHIES:
+        bind(PointRouterFactory.class)
+            .to(ContractionHierarchyPointRouterFactory.class);
+        break;
       default:
         LOG.warn("Unhandled algorithm selected ({}), falling back to Dijkstra's algorithm.",
                  spConfiguration.algorithm());
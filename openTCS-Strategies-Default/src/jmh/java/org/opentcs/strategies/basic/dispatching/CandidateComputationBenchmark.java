@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+import org.opentcs.strategies.basic.routing.GridPlantModel;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the computation of assignment candidates scales with the number of threads used.
+ * <p>
+ * Like {@link org.opentcs.strategies.basic.dispatching.phase.assignment.AssignFreeOrdersPhase}
+ * does when looking for an order for a vehicle, every operation routes one vehicle to all
+ * available transport orders. Routing costs are not cached, so every candidate requires its own
+ * shortest path computations.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandidateComputationBenchmark {
+
+  /**
+   * The number of threads computing candidates.
+   */
+  @Param({"1", "2", "4", "8", "16"})
+  public int parallelism;
+  /**
+   * The number of transport orders to be routed to.
+   */
+  @Param({"50"})
+  public int orderCount;
+  /**
+   * The pool computing candidates.
+   */
+  private CandidateComputationPool pool;
+  /**
+   * The router.
+   */
+  private DefaultRouter router;
+  /**
+   * The vehicle looking for a transport order.
+   */
+  private Vehicle vehicle;
+  /**
+   * The vehicle's position.
+   */
+  private Point vehiclePosition;
+  /**
+   * The available transport orders.
+   */
+  private List<TransportOrder> orders;
+
+  @Setup
+  public void setUp() {
+    GridPlantModel model = new GridPlantModel(50, 50, 1, 4711);
+    router = model.createRouter(ShortestPathConfiguration.Algorithm.COMPACT_DIJKSTRA,
+                                ShortestPathConfiguration.CostCaching.NONE);
+    vehicle = model.getVehicles().get(0);
+    vehiclePosition = model.getPosition(vehicle);
+    orders = model.createTransportOrders(orderCount, 2);
+
+    pool = new CandidateComputationPool(parallelism);
+    pool.initialize();
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.terminate();
+    router.terminate();
+  }
+
+  @Benchmark
+  public List<List<DriveOrder>> computeCandidates() {
+    return pool.computeAll(orders, order -> router.getRoute(vehicle, vehiclePosition, order));
+  }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+import org.opentcs.strategies.basic.routing.GridPlantModel;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the greedy assignment of transport orders to vehicles with the optimal one computed by
+ * {@link OptimalAssignmentPhase}.
+ * <p>
+ * The costs of assigning an order to a vehicle are the routing costs from the vehicle's position
+ * to the order's first destination, i.e. the vehicle's empty travel. The greedy assignment handles
+ * the orders one after the other, assigning each to the available vehicle with the lowest costs,
+ * like {@link AssignFreeOrdersPhase} does with vehicle candidates prioritized by their initial
+ * routing costs. The total empty travel of both assignments is printed during the setup; the
+ * benchmarks measure the time needed for computing the costs and the assignments.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssignmentBenchmark {
+
+  /**
+   * The number of vehicles, which is also the number of transport orders.
+   */
+  @Param({"10", "50", "100"})
+  public int vehicleCount;
+  /**
+   * The router.
+   */
+  private DefaultRouter router;
+  /**
+   * The plant model.
+   */
+  private GridPlantModel model;
+  /**
+   * The available vehicles.
+   */
+  private List<Vehicle> vehicles;
+  /**
+   * The transport orders to be assigned.
+   */
+  private List<TransportOrder> orders;
+  /**
+   * The costs of assigning the orders to the vehicles, indexed by vehicle and order.
+   */
+  private long[][] costs;
+
+  @Setup
+  public void setUp() {
+    model = new GridPlantModel(50, 50, vehicleCount, 4711);
+    router = model.createRouter(ShortestPathConfiguration.Algorithm.COMPACT_DIJKSTRA,
+                                ShortestPathConfiguration.CostCaching.LAZY);
+    vehicles = model.getVehicles();
+    orders = model.createTransportOrders(vehicleCount, 2);
+    costs = computeCosts();
+
+    System.out.printf("%nTotal empty travel for %d vehicles: greedy %d, optimal %d%n",
+                      vehicleCount,
+                      totalCosts(greedyAssignment()),
+                      totalCosts(optimalAssignment()));
+  }
+
+  @Benchmark
+  public long[][] computeCosts() {
+    long[][] result = new long[vehicles.size()][orders.size()];
+    for (int i = 0; i < vehicles.size(); i++) {
+      Vehicle vehicle = vehicles.get(i);
+      for (int j = 0; j < orders.size(); j++) {
+        result[i][j] = router.getRoute(vehicle, model.getPosition(vehicle), orders.get(j))
+            .map(driveOrders -> driveOrders.get(0).getRoute().getCosts())
+            .orElse(MinCostAssignment.FORBIDDEN);
+      }
+    }
+    return result;
+  }
+
+  @Benchmark
+  public int[] greedyAssignment() {
+    int[] result = new int[vehicles.size()];
+    Arrays.fill(result, -1);
+    for (int j = 0; j < orders.size(); j++) {
+      int bestVehicle = -1;
+      for (int i = 0; i < vehicles.size(); i++) {
+        if (result[i] < 0
+            && costs[i][j] != MinCostAssignment.FORBIDDEN
+            && (bestVehicle < 0 || costs[i][j] < costs[bestVehicle][j])) {
+          bestVehicle = i;
+        }
+      }
+      if (bestVehicle >= 0) {
+        result[bestVehicle] = j;
+      }
+    }
+    return result;
+  }
+
+  @Benchmark
+  public int[] optimalAssignment() {
+    return MinCostAssignment.solve(costs);
+  }
+
+  private long totalCosts(int[] assignment) {
+    long result = 0;
+    for (int i = 0; i < assignment.length; i++) {
+      if (assignment[i] >= 0) {
+        result += costs[i][assignment[i]];
+      }
+    }
+    return result;
+  }
+}
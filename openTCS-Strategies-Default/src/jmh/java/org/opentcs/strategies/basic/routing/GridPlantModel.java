@@ -0,0 +1,309 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import static java.util.Objects.requireNonNull;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.jgrapht.AStarPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.AltPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.BellmanFordPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.CompactGraphPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.ContractionHierarchyPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.DefaultModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.EdgeEvaluatorDistance;
+import org.opentcs.strategies.basic.routing.jgrapht.FloydWarshallPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.ModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+
+/**
+ * A plant model for benchmarks, laid out as a grid of points connected by bidirectional paths of
+ * random lengths.
+ * <p>
+ * Every 2x2 block of points starting at an even row and column has a location linked to all four
+ * of its points. Vehicles are placed at random points.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class GridPlantModel
+    implements TCSObjectService {
+
+  /**
+   * The distance between neighbouring points (in mm).
+   */
+  private static final int POINT_DISTANCE = 1000;
+  /**
+   * All objects in the model, mapped by their classes and names.
+   */
+  private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+  /**
+   * The locations, in the order they were created.
+   */
+  private final List<Location> locations = new ArrayList<>();
+  /**
+   * The vehicles, in the order they were created.
+   */
+  private final List<Vehicle> vehicles = new ArrayList<>();
+  /**
+   * The source of randomness, seeded for reproducible models.
+   */
+  private final Random random;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param rows The number of rows of points.
+   * @param columns The number of columns of points.
+   * @param vehicleCount The number of vehicles.
+   * @param seed The seed for the random path lengths and vehicle positions.
+   */
+  public GridPlantModel(int rows, int columns, int vehicleCount, long seed) {
+    this.random = new Random(seed);
+
+    Point[][] points = new Point[rows][columns];
+    for (int row = 0; row < rows; row++) {
+      for (int column = 0; column < columns; column++) {
+        points[row][column] = add(
+            new Point(String.format("Point-%03d-%03d", row, column))
+                .withPosition(new Triple(column * POINT_DISTANCE, row * POINT_DISTANCE, 0)));
+      }
+    }
+    for (int row = 0; row < rows; row++) {
+      for (int column = 0; column < columns; column++) {
+        if (column + 1 < columns) {
+          connect(points[row][column], points[row][column + 1]);
+        }
+        if (row + 1 < rows) {
+          connect(points[row][column], points[row + 1][column]);
+        }
+      }
+    }
+
+    LocationType locationType = add(new LocationType("LocationType"));
+    for (int row = 0; row + 1 < rows; row += 2) {
+      for (int column = 0; column + 1 < columns; column += 2) {
+        Location location = new Location(String.format("Location-%03d-%03d", row, column),
+                                         locationType.getReference());
+        Set<Location.Link> links = new HashSet<>();
+        for (Point point : Arrays.asList(points[row][column],
+                                         points[row][column + 1],
+                                         points[row + 1][column],
+                                         points[row + 1][column + 1])) {
+          links.add(new Location.Link(location.getReference(), point.getReference()));
+        }
+        locations.add(add(location.withAttachedLinks(links)));
+      }
+    }
+
+    for (int i = 0; i < vehicleCount; i++) {
+      Point position = points[random.nextInt(rows)][random.nextInt(columns)];
+      vehicles.add(add(new Vehicle(String.format("Vehicle-%03d", i))
+          .withCurrentPosition(position.getReference())));
+    }
+  }
+
+  @Override
+  public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, TCSObjectReference<T> ref) {
+    return fetchObject(clazz, ref.getName());
+  }
+
+  @Override
+  public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
+    return clazz.cast(objects.getOrDefault(clazz, Collections.emptyMap()).get(name));
+  }
+
+  @Override
+  public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
+    return fetchObjects(clazz, object -> true);
+  }
+
+  @Override
+  public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz,
+                                                      Predicate<? super T> predicate) {
+    return objects.getOrDefault(clazz, Collections.emptyMap()).values().stream()
+        .map(object -> clazz.cast(object))
+        .filter(predicate)
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public void updateObjectProperty(TCSObjectReference<?> ref, String key, String value) {
+    throw new UnsupportedOperationException("The benchmark model is read-only.");
+  }
+
+  /**
+   * Returns the locations, in the order they were created.
+   *
+   * @return The locations.
+   */
+  public List<Location> getLocations() {
+    return locations;
+  }
+
+  /**
+   * Returns the vehicles, in the order they were created.
+   *
+   * @return The vehicles.
+   */
+  public List<Vehicle> getVehicles() {
+    return vehicles;
+  }
+
+  /**
+   * Returns the current position of the given vehicle.
+   *
+   * @param vehicle The vehicle.
+   * @return The vehicle's current position.
+   */
+  public Point getPosition(Vehicle vehicle) {
+    return fetchObject(Point.class, vehicle.getCurrentPosition());
+  }
+
+  /**
+   * Creates transport orders with random destination locations.
+   *
+   * @param count The number of transport orders.
+   * @param destinationCount The number of destinations of every transport order.
+   * @return The transport orders.
+   */
+  public List<TransportOrder> createTransportOrders(int count, int destinationCount) {
+    List<TransportOrder> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      List<DriveOrder> driveOrders = new ArrayList<>(destinationCount);
+      for (int j = 0; j < destinationCount; j++) {
+        Location location = locations.get(random.nextInt(locations.size()));
+        driveOrders.add(new DriveOrder(
+            new DriveOrder.Destination(location.getReference())
+                .withOperation(DriveOrder.Destination.OP_NOP)));
+      }
+      result.add(new TransportOrder(String.format("TOrder-%05d", i), driveOrders));
+    }
+    return result;
+  }
+
+  /**
+   * Creates a point router factory for this model.
+   *
+   * @param algorithm The algorithm to be used.
+   * @param costCaching How routing costs are cached.
+   * @return The point router factory.
+   */
+  public PointRouterFactory createPointRouterFactory(ShortestPathConfiguration.Algorithm algorithm,
+                                                     ShortestPathConfiguration.CostCaching costCaching) {
+    ShortestPathConfiguration configuration = new Configuration(algorithm, costCaching);
+    ModelGraphMapper mapper = new DefaultModelGraphMapper(new EdgeEvaluatorDistance(),
+                                                          configuration);
+    switch (algorithm) {
+      case DIJKSTRA:
+        return new DijkstraPointRouterFactory(this, mapper, configuration);
+      case BELLMAN_FORD:
+        return new BellmanFordPointRouterFactory(this, mapper, configuration);
+      case FLOYD_WARSHALL:
+        return new FloydWarshallPointRouterFactory(this, mapper, configuration);
+      case COMPACT_DIJKSTRA:
+        return new CompactGraphPointRouterFactory(this, mapper, configuration);
+      case A_STAR:
+        return new AStarPointRouterFactory(this, mapper, configuration);
+      case ALT:
+        return new AltPointRouterFactory(this, mapper, configuration);
+      case CONTRACTION_HIERARCHIES:
+        return new ContractionHierarchyPointRouterFactory(this, mapper, configuration);
+      default:
+        throw new IllegalArgumentException("Unhandled algorithm: " + algorithm);
+    }
+  }
+
+  /**
+   * Creates and initializes a router for this model.
+   *
+   * @param algorithm The algorithm to be used.
+   * @param costCaching How routing costs are cached.
+   * @return The router.
+   */
+  public DefaultRouter createRouter(ShortestPathConfiguration.Algorithm algorithm,
+                                    ShortestPathConfiguration.CostCaching costCaching) {
+    DefaultRouter router = new DefaultRouter(this,
+                                             createPointRouterFactory(algorithm, costCaching),
+                                             () -> false);
+    router.initialize();
+    return router;
+  }
+
+  private void connect(Point point1, Point point2) {
+    add(new Path(point1.getName() + " --- " + point2.getName(),
+                 point1.getReference(),
+                 point2.getReference())
+        .withLength(POINT_DISTANCE + random.nextInt(2 * POINT_DISTANCE))
+        .withMaxVelocity(1000)
+        .withMaxReverseVelocity(1000));
+  }
+
+  private <T extends TCSObject<T>> T add(T object) {
+    objects.computeIfAbsent(object.getClass(), clazz -> new HashMap<>())
+        .put(object.getName(), object);
+    return object;
+  }
+
+  /**
+   * The shortest path configuration used.
+   */
+  private static class Configuration
+      implements ShortestPathConfiguration {
+
+    private final Algorithm algorithm;
+
+    private final CostCaching costCaching;
+
+    Configuration(Algorithm algorithm, CostCaching costCaching) {
+      this.algorithm = requireNonNull(algorithm, "algorithm");
+      this.costCaching = requireNonNull(costCaching, "costCaching");
+    }
+
+    @Override
+    public Algorithm algorithm() {
+      return algorithm;
+    }
+
+    @Override
+    public List<EvaluatorType> edgeEvaluators() {
+      return Collections.singletonList(EvaluatorType.DISTANCE);
+    }
+
+    @Override
+    public CostCaching costCaching() {
+      return costCaching;
+    }
+
+    @Override
+    public int altLandmarkCount() {
+      return 16;
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import static org.opentcs.util.Assertions.checkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the computation of transport order routes by {@link DefaultRouter} with the exhaustive
+ * search over all combinations of destination points it replaced.
+ * <p>
+ * The orders have multiple stops at locations with four access points each. Every operation
+ * routes a single order from the vehicle's position.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderRoutingBenchmark {
+
+  /**
+   * The number of transport orders routed in turn.
+   */
+  private static final int ORDER_COUNT = 20;
+  /**
+   * The number of stops of every transport order.
+   */
+  @Param({"2", "4"})
+  public int stopCount;
+  /**
+   * How routing costs are cached.
+   */
+  @Param({"LAZY", "NONE"})
+  public ShortestPathConfiguration.CostCaching costCaching;
+  /**
+   * The plant model.
+   */
+  private GridPlantModel model;
+  /**
+   * The router.
+   */
+  private DefaultRouter router;
+  /**
+   * The exhaustive search for comparison.
+   */
+  private ExhaustiveOrderRouter exhaustiveRouter;
+  /**
+   * The vehicle being routed.
+   */
+  private Vehicle vehicle;
+  /**
+   * The vehicle's position.
+   */
+  private Point vehiclePosition;
+  /**
+   * The transport orders being routed.
+   */
+  private List<TransportOrder> orders;
+  /**
+   * The index of the transport order to be routed next.
+   */
+  private int nextOrderIndex;
+
+  @Setup
+  public void setUp() {
+    model = new GridPlantModel(40, 40, 1, 4711);
+    router = model.createRouter(ShortestPathConfiguration.Algorithm.COMPACT_DIJKSTRA,
+                                costCaching);
+    vehicle = model.getVehicles().get(0);
+    vehiclePosition = model.getPosition(vehicle);
+    exhaustiveRouter = new ExhaustiveOrderRouter(
+        model.createPointRouterFactory(ShortestPathConfiguration.Algorithm.COMPACT_DIJKSTRA,
+                                       costCaching)
+            .createPointRouter(vehicle));
+    orders = model.createTransportOrders(ORDER_COUNT, stopCount);
+
+    for (TransportOrder order : orders) {
+      checkState(totalCosts(router.getRoute(vehicle, vehiclePosition, order))
+          == totalCosts(exhaustiveRouter.getRoute(vehiclePosition, order)),
+                 "Different costs for %s",
+                 order.getName());
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    router.terminate();
+  }
+
+  @Benchmark
+  public Optional<List<DriveOrder>> dynamicProgramming() {
+    return router.getRoute(vehicle, vehiclePosition, nextOrder());
+  }
+
+  @Benchmark
+  public Optional<List<DriveOrder>> exhaustiveSearch() {
+    return exhaustiveRouter.getRoute(vehiclePosition, nextOrder());
+  }
+
+  private TransportOrder nextOrder() {
+    nextOrderIndex = (nextOrderIndex + 1) % orders.size();
+    return orders.get(nextOrderIndex);
+  }
+
+  private static long totalCosts(Optional<List<DriveOrder>> driveOrders) {
+    return driveOrders
+        .map(orders -> orders.stream().mapToLong(order -> order.getRoute().getCosts()).sum())
+        .orElse(Long.MAX_VALUE);
+  }
+
+  /**
+   * Computes order routes like {@link DefaultRouter} did before, by recursing over every
+   * combination of destination points and building the route steps for every partial combination.
+   */
+  private class ExhaustiveOrderRouter {
+
+    /**
+     * The point router to use.
+     */
+    private final PointRouter pointRouter;
+    /**
+     * The (possibly partial) route currently being examined.
+     */
+    private DriveOrder[] currentRoute;
+    /**
+     * The costs of the route currently being examined.
+     */
+    private long currentCosts;
+    /**
+     * The best route found so far.
+     */
+    private DriveOrder[] bestRoute;
+    /**
+     * The costs of the best route found so far.
+     */
+    private long bestCosts;
+
+    ExhaustiveOrderRouter(PointRouter pointRouter) {
+      this.pointRouter = pointRouter;
+    }
+
+    public Optional<List<DriveOrder>> getRoute(Point sourcePoint, TransportOrder order) {
+      DriveOrder[] driveOrders = order.getFutureDriveOrders().toArray(new DriveOrder[0]);
+      currentRoute = new DriveOrder[driveOrders.length];
+      currentCosts = 0;
+      bestRoute = new DriveOrder[driveOrders.length];
+      bestCosts = Long.MAX_VALUE;
+      computeCheapestOrderRoute(sourcePoint, driveOrders, 0);
+      return bestCosts == Long.MAX_VALUE
+          ? Optional.empty()
+          : Optional.of(Arrays.asList(bestRoute));
+    }
+
+    private void computeCheapestOrderRoute(Point startPoint,
+                                           DriveOrder[] driveOrders,
+                                           int hopIndex) {
+      if (hopIndex < driveOrders.length) {
+        final long currentRouteCosts = currentCosts;
+        Set<Point> destPoints = getDestinationPoints(driveOrders[hopIndex]);
+        if (destPoints.contains(startPoint)) {
+          destPoints.clear();
+          destPoints.add(startPoint);
+        }
+        boolean routable = false;
+        for (Point curDestPoint : destPoints) {
+          final long hopCosts = pointRouter.getCosts(startPoint, curDestPoint);
+          if (hopCosts == PointRouter.INFINITE_COSTS) {
+            continue;
+          }
+          List<Route.Step> steps = pointRouter.getRouteSteps(startPoint, curDestPoint);
+          if (steps.isEmpty()) {
+            steps = new ArrayList<>(1);
+            steps.add(new Route.Step(null,
+                                     null,
+                                     startPoint,
+                                     Vehicle.Orientation.UNDEFINED,
+                                     0));
+          }
+          Route hopRoute = new Route(steps, hopCosts);
+          currentRoute[hopIndex] = driveOrders[hopIndex].withRoute(hopRoute);
+          currentCosts = currentRouteCosts + hopRoute.getCosts();
+          computeCheapestOrderRoute(curDestPoint, driveOrders, hopIndex + 1);
+          routable = true;
+        }
+        if (!routable) {
+          currentCosts = Long.MAX_VALUE;
+        }
+      }
+      else if (currentCosts < bestCosts) {
+        System.arraycopy(currentRoute, 0, bestRoute, 0, currentRoute.length);
+        bestCosts = currentCosts;
+      }
+    }
+
+    private Set<Point> getDestinationPoints(DriveOrder driveOrder) {
+      Location location = model.fetchObject(Location.class,
+                                            driveOrder.getDestination().getDestination().getName());
+      Set<Point> result = new HashSet<>();
+      for (Location.Link link : location.getAttachedLinks()) {
+        result.add(model.fetchObject(Point.class, link.getPoint()));
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.GridPlantModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the preprocessing time and the query latency of contraction hierarchies.
+ * <p>
+ * The plant models are square grids with about 5,000 and 20,000 points. The hierarchy created
+ * during the setup, including its number of shortcuts and its approximate memory usage, is printed
+ * to the output. For the query latency of Dijkstra's algorithm on the same models, see
+ * {@link org.opentcs.strategies.basic.routing.PointRouterBenchmark}.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ContractionHierarchyBenchmark {
+
+  /**
+   * The number of pairs of points to be routed between in turn.
+   */
+  private static final int PAIR_COUNT = 1024;
+  /**
+   * The number of rows and columns of the grid.
+   */
+  @Param({"71", "142"})
+  public int gridSize;
+  /**
+   * The point router.
+   */
+  private ContractionHierarchyPointRouter pointRouter;
+  /**
+   * The hierarchy used by the point router.
+   */
+  private ContractionHierarchy hierarchy;
+  /**
+   * The source points to be routed from.
+   */
+  private final List<Point> sourcePoints = new ArrayList<>();
+  /**
+   * The destination points to be routed to.
+   */
+  private final List<Point> destinationPoints = new ArrayList<>();
+  /**
+   * The index of the pair of points to be routed between next.
+   */
+  private int nextPairIndex;
+
+  @Setup
+  public void setUp() {
+    GridPlantModel model = new GridPlantModel(gridSize, gridSize, 1, 4711);
+    pointRouter = (ContractionHierarchyPointRouter) model
+        .createPointRouterFactory(ShortestPathConfiguration.Algorithm.CONTRACTION_HIERARCHIES,
+                                  ShortestPathConfiguration.CostCaching.NONE)
+        .createPointRouter(model.getVehicles().get(0));
+    hierarchy = pointRouter.getHierarchy();
+    System.out.printf("%n%s%n", hierarchy);
+
+    List<Point> points = new ArrayList<>(model.fetchObjects(Point.class));
+    points.sort((point1, point2) -> point1.getName().compareTo(point2.getName()));
+    Random random = new Random(4711);
+    for (int i = 0; i < PAIR_COUNT; i++) {
+      sourcePoints.add(points.get(random.nextInt(points.size())));
+      destinationPoints.add(points.get(random.nextInt(points.size())));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public ContractionHierarchy preprocess() {
+    return new ContractionHierarchy(hierarchy.getGraph());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public ContractionHierarchy preprocessInPreviousOrder() {
+    return new ContractionHierarchy(hierarchy.getGraph(), hierarchy);
+  }
+
+  @Benchmark
+  public long getCosts() {
+    nextPairIndex = (nextPairIndex + 1) % PAIR_COUNT;
+    return pointRouter.getCosts(sourcePoints.get(nextPairIndex),
+                                destinationPoints.get(nextPairIndex));
+  }
+
+  @Benchmark
+  public List<Route.Step> getRouteSteps() {
+    nextPairIndex = (nextPairIndex + 1) % PAIR_COUNT;
+    return pointRouter.getRouteSteps(sourcePoints.get(nextPairIndex),
+                                     destinationPoints.get(nextPairIndex));
+  }
+}
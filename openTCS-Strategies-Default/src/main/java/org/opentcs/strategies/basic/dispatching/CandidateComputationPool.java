@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.components.Lifecycle;
+import static org.opentcs.util.Assertions.checkInRange;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes assignment candidates (or other results of expensive computations like routing) for a
+ * number of inputs, in parallel if configured so.
+ * <p>
+ * Computations are executed by a dedicated fork-join pool with the configured parallelism. With a
+ * parallelism of 1, they are executed sequentially by the calling thread. In any case, results are
+ * returned in the order of the respective inputs, so callers get the same results regardless of
+ * the parallelism. The computations must be safe to be executed concurrently, i.e. they should only
+ * read from a consistent snapshot of the objects involved.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class CandidateComputationPool
+    implements Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CandidateComputationPool.class);
+  /**
+   * The number of threads to use for computations.
+   */
+  private final int parallelism;
+  /**
+   * The pool executing computations, or <code>null</code>, if computations are executed
+   * sequentially.
+   */
+  private ForkJoinPool pool;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The dispatcher configuration.
+   */
+  @Inject
+  public CandidateComputationPool(DefaultDispatcherConfiguration configuration) {
+    this(configuration.candidateComputationParallelism());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param parallelism The number of threads to use for computations, or 0 to use as many threads
+   * as there are processors available.
+   */
+  public CandidateComputationPool(int parallelism) {
+    checkInRange(parallelism, 0, Integer.MAX_VALUE, "parallelism");
+    this.parallelism = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    if (parallelism > 1) {
+      LOG.debug("Computing candidates with {} threads.", parallelism);
+      pool = new ForkJoinPool(parallelism,
+                              (forkJoinPool) -> {
+                                ForkJoinWorkerThread thread = ForkJoinPool
+                                    .defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                                thread.setName("candidateComputation-" + thread.getPoolIndex());
+                                return thread;
+                              },
+                              new UncaughtExceptionLogger(false),
+                              false);
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (pool != null) {
+      pool.shutdownNow();
+      pool = null;
+    }
+
+    initialized = false;
+  }
+
+  /**
+   * Returns the number of threads used for computations.
+   *
+   * @return The number of threads used for computations.
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Applies the given computation to all of the given inputs and returns the results present.
+   *
+   * @param <T> The type of the inputs.
+   * @param <R> The type of the results.
+   * @param inputs The inputs.
+   * @param computation The computation to apply to every input.
+   * @return The results present, in the order of the respective inputs.
+   */
+  @Nonnull
+  public <T, R> List<R> computeAll(@Nonnull List<T> inputs,
+                                   @Nonnull Function<? super T, Optional<R>> computation) {
+    requireNonNull(inputs, "inputs");
+    requireNonNull(computation, "computation");
+
+    ForkJoinPool currentPool = pool;
+    if (currentPool == null || inputs.size() < 2) {
+      return collectPresent(inputs.stream().map(computation));
+    }
+
+    try {
+      // Parallel streams started from within a pool's task are executed by that pool.
+      return currentPool.submit(() -> collectPresent(inputs.parallelStream().map(computation)))
+          .get();
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while computing candidates", exc);
+    }
+    catch (ExecutionException exc) {
+      if (exc.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exc.getCause();
+      }
+      throw new IllegalStateException("Exception computing candidates", exc.getCause());
+    }
+  }
+
+  private static <R> List<R> collectPresent(Stream<Optional<R>> results) {
+    return results
+        .filter(result -> result.isPresent())
+        .map(result -> result.get())
+        .collect(Collectors.toList());
+  }
+}
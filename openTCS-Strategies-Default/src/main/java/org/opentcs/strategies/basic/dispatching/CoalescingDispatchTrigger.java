@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.annotation.Nonnull;
+import static org.opentcs.util.Assertions.checkInRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces requests for dispatch runs, so that at most one run is pending at any time.
+ * <p>
+ * The first request arriving while no run is pending schedules a run to be executed after the
+ * dispatch delay, but not earlier than the minimum dispatch interval after the start of the
+ * previous run. Requests arriving while a run is pending are merged into it and do not postpone it,
+ * so the latency of a request is bounded by the greater of the two values (plus the time the
+ * executor needs to get to the run). Requests arriving while a run is being executed schedule
+ * another run, as the current one may have missed the changes they were made for.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class CoalescingDispatchTrigger {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CoalescingDispatchTrigger.class);
+  /**
+   * Executes the dispatch runs.
+   */
+  private final ScheduledExecutorService executor;
+  /**
+   * Performs a dispatch run.
+   */
+  private final Runnable dispatchTask;
+  /**
+   * The time (in ms) to wait after a request before executing a run.
+   */
+  private final long dispatchDelay;
+  /**
+   * The minimum time (in ms) between the start of two runs.
+   */
+  private final long minDispatchInterval;
+  /**
+   * Provides the current time (in ms).
+   */
+  private final LongSupplier clock;
+  /**
+   * The future for the pending run, or <code>null</code>.
+   */
+  private ScheduledFuture<?> pendingRun;
+  /**
+   * The time the last run was started (in ms).
+   */
+  private long lastRunStartTime = Long.MIN_VALUE;
+  /**
+   * The number of requests received.
+   */
+  private long requestCount;
+  /**
+   * The number of runs executed.
+   */
+  private long runCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor Executes the dispatch runs.
+   * @param dispatchTask Performs a dispatch run.
+   * @param dispatchDelay The time (in ms) to wait after a request before executing a run.
+   * @param minDispatchInterval The minimum time (in ms) between the start of two runs.
+   */
+  public CoalescingDispatchTrigger(@Nonnull ScheduledExecutorService executor,
+                                   @Nonnull Runnable dispatchTask,
+                                   long dispatchDelay,
+                                   long minDispatchInterval) {
+    this(executor,
+         dispatchTask,
+         dispatchDelay,
+         minDispatchInterval,
+         () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor Executes the dispatch runs.
+   * @param dispatchTask Performs a dispatch run.
+   * @param dispatchDelay The time (in ms) to wait after a request before executing a run.
+   * @param minDispatchInterval The minimum time (in ms) between the start of two runs.
+   * @param clock Provides the current time (in ms).
+   */
+  CoalescingDispatchTrigger(@Nonnull ScheduledExecutorService executor,
+                            @Nonnull Runnable dispatchTask,
+                            long dispatchDelay,
+                            long minDispatchInterval,
+                            @Nonnull LongSupplier clock) {
+    this.executor = requireNonNull(executor, "executor");
+    this.dispatchTask = requireNonNull(dispatchTask, "dispatchTask");
+    this.dispatchDelay = checkInRange(dispatchDelay, 0, Long.MAX_VALUE, "dispatchDelay");
+    this.minDispatchInterval = checkInRange(minDispatchInterval,
+                                            0,
+                                            Long.MAX_VALUE,
+                                            "minDispatchInterval");
+    this.clock = requireNonNull(clock, "clock");
+  }
+
+  /**
+   * Requests a dispatch run.
+   */
+  public synchronized void requestDispatch() {
+    requestCount++;
+    if (pendingRun != null) {
+      LOG.debug("Dispatch run already pending, coalescing request.");
+      return;
+    }
+
+    long delay = dispatchDelay;
+    if (lastRunStartTime != Long.MIN_VALUE) {
+      delay = Math.max(delay, lastRunStartTime + minDispatchInterval - clock.getAsLong());
+    }
+    LOG.debug("Scheduling dispatch run with a delay of {} ms...", delay);
+    pendingRun = executor.schedule(this::executeRun, delay, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Cancels the pending run, if any.
+   */
+  public synchronized void cancel() {
+    if (pendingRun != null) {
+      pendingRun.cancel(false);
+      pendingRun = null;
+    }
+  }
+
+  /**
+   * Returns the number of requests received.
+   *
+   * @return The number of requests received.
+   */
+  public synchronized long getRequestCount() {
+    return requestCount;
+  }
+
+  /**
+   * Returns the number of runs executed.
+   *
+   * @return The number of runs executed.
+   */
+  public synchronized long getRunCount() {
+    return runCount;
+  }
+
+  /**
+   * Returns the average number of requests handled by a single run.
+   *
+   * @return The average number of requests handled by a single run, or 0, if no runs have been
+   * executed, yet.
+   */
+  public synchronized double getCoalescingRatio() {
+    return runCount == 0 ? 0.0 : (double) requestCount / runCount;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "CoalescingDispatchTrigger{"
+        + "requestCount=" + requestCount
+        + ", runCount=" + runCount
+        + ", coalescingRatio=" + String.format("%.2f", getCoalescingRatio())
+        + '}';
+  }
+
+  private void executeRun() {
+    synchronized (this) {
+      // Requests from now on may not be covered by this run any more.
+      pendingRun = null;
+      lastRunStartTime = clock.getAsLong();
+      runCount++;
+    }
+    dispatchTask.run();
+  }
+}
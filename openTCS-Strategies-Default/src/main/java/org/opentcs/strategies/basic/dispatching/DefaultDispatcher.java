@@ -15,10 +15,10 @@ import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import org.opentcs.components.kernel.Dispatcher;
+import org.opentcs.components.kernel.KernelExecutorLanes;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.customizations.ApplicationEventBus;
-import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import static org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.RerouteTrigger.TOPOLOGY_CHANGE;
@@ -59,7 +59,7 @@ public class DefaultDispatcher
    */
   private final EventSource eventSource;
   /**
-   * The kernel's executor.
+   * Executes dispatching tasks.
    */
   private final ScheduledExecutorService kernelExecutor;
 
@@ -70,6 +70,14 @@ public class DefaultDispatcher
   private final DefaultDispatcherConfiguration configuration;
 
   private final RerouteTask rerouteTask;
+  /**
+   * Keeps track of the vehicles and transport orders to be considered in a dispatch run.
+   */
+  private final DispatchChangeTracker changeTracker;
+  /**
+   * Coalesces requests for full dispatch runs.
+   */
+  private final CoalescingDispatchTrigger dispatchTrigger;
   /**
    *
    */
@@ -89,7 +97,7 @@ public class DefaultDispatcher
    * @param transportOrderService The transport order service.
    * @param vehicleService The vehicle service.
    * @param eventSource Where this instance registers for application events.
-   * @param kernelExecutor Executes dispatching tasks.
+   * @param executorLanes Provides the lane executing dispatching tasks.
    */
   @Inject
   public DefaultDispatcher(OrderReservationPool orderReservationPool,
@@ -97,22 +105,29 @@ public class DefaultDispatcher
                            InternalTransportOrderService transportOrderService,
                            InternalVehicleService vehicleService,
                            @ApplicationEventBus EventSource eventSource,
-                           @KernelExecutor ScheduledExecutorService kernelExecutor,
+                           KernelExecutorLanes executorLanes,
                            FullDispatchTask fullDispatchTask,
                            Provider<PeriodicVehicleRedispatchingTask> periodicDispatchTaskProvider,
                            DefaultDispatcherConfiguration configuration,
-                           RerouteTask rerouteTask) {
+                           RerouteTask rerouteTask,
+                           DispatchChangeTracker changeTracker) {
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
     this.transportOrderService = requireNonNull(transportOrderService, "transportOrderService");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.eventSource = requireNonNull(eventSource, "eventSource");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.kernelExecutor = requireNonNull(executorLanes, "executorLanes")
+        .lane(KernelExecutorLanes.DISPATCHING);
     this.fullDispatchTask = requireNonNull(fullDispatchTask, "fullDispatchTask");
     this.periodicDispatchTaskProvider = requireNonNull(periodicDispatchTaskProvider,
                                                        "periodicDispatchTaskProvider");
     this.configuration = requireNonNull(configuration, "configuration");
     this.rerouteTask = requireNonNull(rerouteTask, "rerouteTask");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
+    this.dispatchTrigger = new CoalescingDispatchTrigger(this.kernelExecutor,
+                                                         fullDispatchTask,
+                                                         configuration.dispatchDelay(),
+                                                         configuration.minDispatchInterval());
   }
 
   @Override
@@ -157,6 +172,9 @@ public class DefaultDispatcher
     eventSource.unsubscribe(implicitDispatchTrigger);
     implicitDispatchTrigger = null;
 
+    dispatchTrigger.cancel();
+    LOG.info("Dispatch statistics: {}", dispatchTrigger);
+
     fullDispatchTask.terminate();
 
     initialized = false;
@@ -170,8 +188,8 @@ public class DefaultDispatcher
   @Override
   public void dispatch() {
     LOG.debug("Scheduling dispatch task...");
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(fullDispatchTask);
+    // Schedule this to be executed by the kernel executor, unless a run is pending already.
+    dispatchTrigger.requestDispatch();
   }
 
   @Override
@@ -290,6 +308,8 @@ public class DefaultDispatcher
 
   @Override
   public void topologyChanged() {
+    // Routes and thus possible assignments may have changed for all vehicles and orders.
+    changeTracker.requestFullRun();
     if (configuration.rerouteTrigger() == TOPOLOGY_CHANGE) {
       LOG.debug("Scheduling reroute task...");
       kernelExecutor.submit(rerouteTask);
@@ -76,6 +76,19 @@ public interface DefaultDispatcherConfiguration {
       orderKey = "0_assign_special_0")
   long deadlineAtRiskPeriod();
 
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+        "The strategy to use for assigning free transport orders to vehicles.",
+        "Possible values:",
+        "GREEDY: Assign the best transport order to one vehicle after another (or the best vehicle "
+        + "to one transport order after another), based on the configured priorities.",
+        "OPTIMAL: Assign transport orders to vehicles so that the total costs of the vehicles' "
+        + "empty travel are minimal, preferring transport orders with deadlines at risk."
+      },
+      orderKey = "0_assign_special_1")
+  OrderAssignmentStrategy orderAssignmentStrategy();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether orders to the current position with no operation should be assigned.",
@@ -152,6 +165,47 @@ public interface DefaultDispatcherConfiguration {
       orderKey = "9_misc")
   long idleVehicleRedispatchingInterval();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {"The time (in ms) to wait after a dispatch request before dispatching.",
+                     "Further requests arriving in the meantime are handled by the same run."},
+      orderKey = "9_misc_1")
+  long dispatchDelay();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The minimum time (in ms) between the start of two dispatch runs.",
+      orderKey = "9_misc_2")
+  long minDispatchInterval();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {"Whether to dispatch incrementally.",
+                     "If true, dispatch runs only consider vehicles and transport orders that "
+                     + "changed since the previous run, except for periodic full runs."},
+      orderKey = "9_misc_3")
+  boolean incrementalDispatching();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum time (in ms) between two full dispatch runs when dispatching "
+      + "incrementally.",
+      orderKey = "9_misc_4")
+  long fullDispatchInterval();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {"The number of threads to use for computing assignment candidates.",
+                     "1: Compute candidates sequentially in the dispatcher's thread.",
+                     "0: Use as many threads as there are processors available."},
+      orderKey = "9_misc_5")
+  int candidateComputationParallelism();
+
+  enum OrderAssignmentStrategy {
+    GREEDY,
+    OPTIMAL;
+  }
+
   enum RerouteTrigger {
     NONE,
     DRIVE_ORDER_FINISHED,
@@ -0,0 +1,242 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.Collections;
+import java.util.HashSet;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventFilter;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the vehicles and transport orders that changed since the last dispatch run, so
+ * that dispatch runs can be restricted to them.
+ * <p>
+ * With incremental dispatching enabled, each dispatch run is either a full run, considering all
+ * vehicles and transport orders, or an incremental one, in which phases only need to consider
+ * vehicles and transport orders that changed since the previous run started. A full run is done
+ * for the first run, after topology changes and whenever the configured full dispatch interval has
+ * passed since the previous full run. With incremental dispatching disabled, every run is a full
+ * run.
+ * </p>
+ * <p>
+ * {@link #startRun()} and the methods querying the current run's scope are expected to be called
+ * by the dispatcher's executor, only.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class DispatchChangeTracker
+    implements EventHandler,
+               Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DispatchChangeTracker.class);
+  /**
+   * Where we register for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * The names of vehicles changed since the current run was started.
+   */
+  private Set<String> pendingVehicleNames = new HashSet<>();
+  /**
+   * The names of transport orders changed since the current run was started.
+   */
+  private Set<String> pendingOrderNames = new HashSet<>();
+  /**
+   * Whether a full run was requested.
+   */
+  private boolean fullRunRequested = true;
+  /**
+   * The names of vehicles to be considered in the current run.
+   */
+  private Set<String> changedVehicleNames = Collections.emptySet();
+  /**
+   * The names of transport orders to be considered in the current run.
+   */
+  private Set<String> changedOrderNames = Collections.emptySet();
+  /**
+   * Whether the current run is a full run.
+   */
+  private boolean fullRun = true;
+  /**
+   * The time the last full run was started (in ms).
+   */
+  private long lastFullRunTime;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventSource Where this instance registers for application events.
+   * @param configuration The dispatcher configuration.
+   */
+  @Inject
+  public DispatchChangeTracker(@ApplicationEventBus EventSource eventSource,
+                               DefaultDispatcherConfiguration configuration) {
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    requestFullRun();
+    if (configuration.incrementalDispatching()) {
+      eventSource.subscribe(this,
+                            EventFilter.forObjectClass(Vehicle.class)
+                                .withObjectClass(TransportOrder.class)
+                                .withObjectClass(OrderSequence.class));
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
+      return;
+    }
+    TCSObject<?> object = ((TCSObjectEvent) event).getCurrentOrPreviousObjectState();
+    synchronized (this) {
+      if (object instanceof Vehicle) {
+        pendingVehicleNames.add(object.getName());
+      }
+      else if (object instanceof TransportOrder) {
+        pendingOrderNames.add(object.getName());
+      }
+      else if (object instanceof OrderSequence) {
+        // Whether an order in a sequence may be assigned depends on the sequence's state.
+        for (TCSObjectReference<TransportOrder> orderRef : ((OrderSequence) object).getOrders()) {
+          pendingOrderNames.add(orderRef.getName());
+        }
+      }
+    }
+  }
+
+  /**
+   * Requests the next run to be a full run, e.g. because the topology changed.
+   */
+  public synchronized void requestFullRun() {
+    fullRunRequested = true;
+  }
+
+  /**
+   * Starts a new dispatch run, determining whether it is a full or an incremental one and which
+   * vehicles and transport orders it has to consider.
+   */
+  public void startRun() {
+    long now = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    synchronized (this) {
+      fullRun = !configuration.incrementalDispatching()
+          || fullRunRequested
+          || now - lastFullRunTime >= configuration.fullDispatchInterval();
+      changedVehicleNames = pendingVehicleNames;
+      changedOrderNames = pendingOrderNames;
+      pendingVehicleNames = new HashSet<>();
+      pendingOrderNames = new HashSet<>();
+      fullRunRequested = false;
+    }
+    if (fullRun) {
+      lastFullRunTime = now;
+      LOG.debug("Starting full dispatch run.");
+    }
+    else {
+      LOG.debug("Starting incremental dispatch run for {} vehicles and {} transport orders.",
+                changedVehicleNames.size(),
+                changedOrderNames.size());
+    }
+  }
+
+  /**
+   * Indicates whether the current run is a full run.
+   *
+   * @return <code>true</code> if, and only if, the current run has to consider all vehicles and
+   * transport orders.
+   */
+  public boolean isFullRun() {
+    return fullRun;
+  }
+
+  /**
+   * Indicates whether the given vehicle has to be considered in the current run.
+   *
+   * @param vehicle The vehicle.
+   * @return <code>true</code> if, and only if, the current run is a full run or the vehicle
+   * changed since the previous run.
+   */
+  public boolean isAffected(@Nonnull Vehicle vehicle) {
+    return fullRun || changedVehicleNames.contains(vehicle.getName());
+  }
+
+  /**
+   * Indicates whether the given transport order has to be considered in the current run.
+   *
+   * @param order The transport order.
+   * @return <code>true</code> if, and only if, the current run is a full run or the transport order
+   * changed since the previous run.
+   */
+  public boolean isAffected(@Nonnull TransportOrder order) {
+    return fullRun || changedOrderNames.contains(order.getName());
+  }
+
+  /**
+   * Returns the names of the transport orders that changed since the previous run.
+   * Only meaningful for incremental runs.
+   *
+   * @return The names of the transport orders that changed since the previous run.
+   */
+  @Nonnull
+  public Set<String> getChangedOrderNames() {
+    return Collections.unmodifiableSet(changedOrderNames);
+  }
+}
@@ -10,12 +10,14 @@ package org.opentcs.strategies.basic.dispatching;
 import static java.util.Objects.requireNonNull;
 import javax.inject.Inject;
 import org.opentcs.components.Lifecycle;
+import static org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.OrderAssignmentStrategy.OPTIMAL;
 import org.opentcs.strategies.basic.dispatching.phase.AssignReservedOrdersPhase;
 import org.opentcs.strategies.basic.dispatching.phase.AssignSequenceSuccessorsPhase;
 import org.opentcs.strategies.basic.dispatching.phase.CheckNewOrdersPhase;
 import org.opentcs.strategies.basic.dispatching.phase.FinishWithdrawalsPhase;
 import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignFreeOrdersPhase;
 import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignNextDriveOrdersPhase;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.OptimalAssignmentPhase;
 import org.opentcs.strategies.basic.dispatching.phase.parking.ParkIdleVehiclesPhase;
 import org.opentcs.strategies.basic.dispatching.phase.parking.PrioritizedParkingPhase;
 import org.opentcs.strategies.basic.dispatching.phase.parking.PrioritizedReparkPhase;
@@ -43,10 +45,23 @@ public class FullDispatchTask
   private final AssignReservedOrdersPhase assignReservedOrdersPhase;
   private final AssignSequenceSuccessorsPhase assignSequenceSuccessorsPhase;
   private final AssignFreeOrdersPhase assignFreeOrdersPhase;
+  private final OptimalAssignmentPhase optimalAssignmentPhase;
   private final RechargeIdleVehiclesPhase rechargeIdleVehiclesPhase;
   private final PrioritizedReparkPhase prioritizedReparkPhase;
   private final PrioritizedParkingPhase prioritizedParkingPhase;
   private final ParkIdleVehiclesPhase parkIdleVehiclesPhase;
+  /**
+   * Keeps track of the vehicles and transport orders to be considered in a dispatch run.
+   */
+  private final DispatchChangeTracker changeTracker;
+  /**
+   * Computes assignment candidates for the phases.
+   */
+  private final CandidateComputationPool candidateComputationPool;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
   /**
    * Indicates whether this component is enabled.
    */
@@ -59,10 +74,14 @@ public class FullDispatchTask
                           AssignReservedOrdersPhase assignReservedOrdersPhase,
                           AssignSequenceSuccessorsPhase assignSequenceSuccessorsPhase,
                           AssignFreeOrdersPhase assignFreeOrdersPhase,
+                          OptimalAssignmentPhase optimalAssignmentPhase,
                           RechargeIdleVehiclesPhase rechargeIdleVehiclesPhase,
                           PrioritizedReparkPhase prioritizedReparkPhase,
                           PrioritizedParkingPhase prioritizedParkingPhase,
-                          ParkIdleVehiclesPhase parkIdleVehiclesPhase) {
+                          ParkIdleVehiclesPhase parkIdleVehiclesPhase,
+                          DispatchChangeTracker changeTracker,
+                          CandidateComputationPool candidateComputationPool,
+                          DefaultDispatcherConfiguration configuration) {
     this.checkNewOrdersPhase = requireNonNull(checkNewOrdersPhase, "checkNewOrdersPhase");
     this.finishWithdrawalsPhase = requireNonNull(finishWithdrawalsPhase, "finishWithdrawalsPhase");
     this.assignNextDriveOrdersPhase = requireNonNull(assignNextDriveOrdersPhase,
@@ -72,12 +91,17 @@ public class FullDispatchTask
     this.assignSequenceSuccessorsPhase = requireNonNull(assignSequenceSuccessorsPhase,
                                                         "assignSequenceSuccessorsPhase");
     this.assignFreeOrdersPhase = requireNonNull(assignFreeOrdersPhase, "assignFreeOrdersPhase");
+    this.optimalAssignmentPhase = requireNonNull(optimalAssignmentPhase, "optimalAssignmentPhase");
     this.rechargeIdleVehiclesPhase = requireNonNull(rechargeIdleVehiclesPhase,
                                                     "rechargeIdleVehiclesPhase");
     this.prioritizedReparkPhase = requireNonNull(prioritizedReparkPhase, "prioritizedReparkPhase");
     this.prioritizedParkingPhase = requireNonNull(prioritizedParkingPhase,
                                                   "prioritizedParkingPhase");
     this.parkIdleVehiclesPhase = requireNonNull(parkIdleVehiclesPhase, "parkIdleVehiclesPhase");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
+    this.candidateComputationPool = requireNonNull(candidateComputationPool,
+                                                   "candidateComputationPool");
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   @Override
@@ -86,12 +110,15 @@ public class FullDispatchTask
       return;
     }
 
+    changeTracker.initialize();
+    candidateComputationPool.initialize();
     checkNewOrdersPhase.initialize();
     finishWithdrawalsPhase.initialize();
     assignNextDriveOrdersPhase.initialize();
     assignReservedOrdersPhase.initialize();
     assignSequenceSuccessorsPhase.initialize();
     assignFreeOrdersPhase.initialize();
+    optimalAssignmentPhase.initialize();
     rechargeIdleVehiclesPhase.initialize();
     prioritizedReparkPhase.initialize();
     prioritizedParkingPhase.initialize();
@@ -112,10 +139,13 @@ public class FullDispatchTask
     assignReservedOrdersPhase.terminate();
     assignSequenceSuccessorsPhase.terminate();
     assignFreeOrdersPhase.terminate();
+    optimalAssignmentPhase.terminate();
     rechargeIdleVehiclesPhase.terminate();
     prioritizedReparkPhase.terminate();
     prioritizedParkingPhase.terminate();
     parkIdleVehiclesPhase.terminate();
+    candidateComputationPool.terminate();
+    changeTracker.terminate();
 
     initialized = false;
   }
@@ -128,6 +158,8 @@ public class FullDispatchTask
   @Override
   public final void run() {
     LOG.debug("Starting full dispatch run...");
+    // Determine whether phases have to consider all vehicles and orders or only changed ones.
+    changeTracker.startRun();
 
     checkNewOrdersPhase.run();
     // Check what vehicles involved in a process should do.
@@ -145,12 +177,18 @@ public class FullDispatchTask
   /**
    * Assignment of orders to vehicles.
    * <p>
-   * Default: Assigns reserved and then free orders to vehicles.
+   * Default: Assigns reserved and then free orders to vehicles, the latter using the configured
+   * assignment strategy.
    * </p>
    */
   protected void assignOrders() {
     assignReservedOrdersPhase.run();
-    assignFreeOrdersPhase.run();
+    if (configuration.orderAssignmentStrategy() == OPTIMAL) {
+      optimalAssignmentPhase.run();
+    }
+    else {
+      assignFreeOrdersPhase.run();
+    }
   }
 
   /**
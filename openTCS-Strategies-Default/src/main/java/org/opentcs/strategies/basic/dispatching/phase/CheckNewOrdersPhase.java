@@ -10,7 +10,7 @@ package org.opentcs.strategies.basic.dispatching.phase;
 import static java.util.Objects.requireNonNull;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Router;
-import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.Phase;
@@ -26,9 +26,9 @@ public class CheckNewOrdersPhase
     implements Phase {
 
   /**
-   * The object service
+   * The transport order service.
    */
-  private final TCSObjectService objectService;
+  private final TransportOrderService orderService;
   /**
    * The Router instance calculating route costs.
    */
@@ -44,11 +44,11 @@ public class CheckNewOrdersPhase
   private boolean initialized;
 
   @Inject
-  public CheckNewOrdersPhase(TCSObjectService objectService,
+  public CheckNewOrdersPhase(TransportOrderService orderService,
                              Router router,
                              TransportOrderUtil transportOrderUtil,
                              DefaultDispatcherConfiguration configuration) {
-    this.objectService = requireNonNull(objectService, "objectService");
+    this.orderService = requireNonNull(orderService, "orderService");
     this.router = requireNonNull(router, "router");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
     this.configuration = requireNonNull(configuration, "configuration");
@@ -77,7 +77,7 @@ public class CheckNewOrdersPhase
 
   @Override
   public void run() {
-    objectService.fetchObjects(TransportOrder.class, this::inRawState).stream()
+    orderService.fetchTransportOrdersByState(TransportOrder.State.RAW).stream()
         .forEach(order -> checkRawTransportOrder(order));
   }
 
@@ -100,8 +100,4 @@ public class CheckNewOrdersPhase
                                                    TransportOrder.State.DISPATCHABLE);
     }
   }
-
-  private boolean inRawState(TransportOrder order) {
-    return order.hasState(TransportOrder.State.RAW);
-  }
 }
@@ -7,18 +7,23 @@
  */
 package org.opentcs.strategies.basic.dispatching.phase.assignment;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.Set;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Router;
-import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.CandidateComputationPool;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
@@ -48,7 +53,7 @@ public class AssignFreeOrdersPhase
   /**
    * The object service
    */
-  private final TCSObjectService objectService;
+  private final InternalTCSObjectService objectService;
   /**
    * The Router instance calculating route costs.
    */
@@ -87,6 +92,14 @@ public class AssignFreeOrdersPhase
   private final CompositeTransportOrderSelectionFilter transportOrderSelectionFilter;
 
   private final TransportOrderUtil transportOrderUtil;
+  /**
+   * Keeps track of the vehicles and transport orders to be considered in the current dispatch run.
+   */
+  private final DispatchChangeTracker changeTracker;
+  /**
+   * Computes the assignment candidates.
+   */
+  private final CandidateComputationPool candidateComputationPool;
 
   /**
    * Indicates whether this component is initialized.
@@ -95,7 +108,7 @@ public class AssignFreeOrdersPhase
 
   @Inject
   public AssignFreeOrdersPhase(
-      TCSObjectService objectService,
+      InternalTCSObjectService objectService,
       Router router,
       ProcessabilityChecker processabilityChecker,
       OrderReservationPool orderReservationPool,
@@ -105,12 +118,17 @@ public class AssignFreeOrdersPhase
       CompositeVehicleCandidateComparator vehicleCandidateComparator,
       CompositeVehicleSelectionFilter vehicleSelectionFilter,
       CompositeTransportOrderSelectionFilter transportOrderSelectionFilter,
-      TransportOrderUtil transportOrderUtil) {
+      TransportOrderUtil transportOrderUtil,
+      DispatchChangeTracker changeTracker,
+      CandidateComputationPool candidateComputationPool) {
     this.router = requireNonNull(router, "router");
     this.objectService = requireNonNull(objectService, "objectService");
     this.processabilityChecker = requireNonNull(processabilityChecker, "processabilityChecker");
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
+    this.candidateComputationPool = requireNonNull(candidateComputationPool,
+                                                   "candidateComputationPool");
     this.vehicleComparator = requireNonNull(vehicleComparator, "vehicleComparator");
     this.orderComparator = requireNonNull(orderComparator, "orderComparator");
     this.orderCandidateComparator = requireNonNull(orderCandidateComparator,
@@ -145,14 +163,18 @@ public class AssignFreeOrdersPhase
 
   @Override
   public void run() {
-    Set<Vehicle> availableVehicles = objectService.fetchObjects(Vehicle.class,
-                                                                vehicleSelectionFilter);
+    TCSObjectSnapshot snapshot = objectService.snapshot();
+    Set<Vehicle> availableVehicles = snapshot.fetchObjects(Vehicle.class, vehicleSelectionFilter);
     if (availableVehicles.isEmpty()) {
       LOG.debug("No vehicles available, skipping potentially expensive fetching of orders.");
       return;
     }
-    Set<TransportOrder> availableOrders = objectService.fetchObjects(TransportOrder.class,
-                                                                     transportOrderSelectionFilter);
+    if (!changeTracker.isFullRun()) {
+      runIncremental(snapshot, availableVehicles);
+      return;
+    }
+    Set<TransportOrder> availableOrders = snapshot.fetchObjects(TransportOrder.class,
+                                                                transportOrderSelectionFilter);
 
     LOG.debug("Available for dispatching: {} transport orders and {} vehicles.",
               availableOrders.size(),
@@ -170,17 +192,45 @@ public class AssignFreeOrdersPhase
     }
   }
 
+  /**
+   * Only considers assignments for vehicles and transport orders that changed since the previous
+   * dispatch run, as the assignments possible for all others have been evaluated before.
+   */
+  private void runIncremental(TCSObjectSnapshot snapshot, Set<Vehicle> availableVehicles) {
+    availableVehicles.stream()
+        .filter(vehicle -> changeTracker.isAffected(vehicle))
+        .sorted(vehicleComparator)
+        .forEach(vehicle -> tryAssignOrder(vehicle));
+
+    List<TransportOrder> changedOrders = new ArrayList<>();
+    for (String orderName : changeTracker.getChangedOrderNames()) {
+      TransportOrder order = snapshot.fetchObject(TransportOrder.class, orderName);
+      if (order != null && transportOrderSelectionFilter.test(order)) {
+        changedOrders.add(order);
+      }
+    }
+    LOG.debug("Incremental dispatching for {} changed transport orders.", changedOrders.size());
+    changedOrders.stream()
+        .sorted(orderComparator)
+        .forEach(order -> tryAssignVehicle(order));
+  }
+
   private void tryAssignOrder(Vehicle vehicle) {
     LOG.debug("Trying to find transport order for vehicle '{}'...", vehicle.getName());
 
-    Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
+    // Evaluate all candidates based on the same state of the orders. A new snapshot is taken for
+    // every vehicle, as the previous assignment may have changed orders' states.
+    TCSObjectSnapshot snapshot = objectService.snapshot();
+    Point vehiclePosition = snapshot.fetchObject(Point.class, vehicle.getCurrentPosition());
+    List<TransportOrder> orders
+        = new ArrayList<>(snapshot.fetchObjects(TransportOrder.class,
+                                                order -> dispatchableForVehicle(order, vehicle)));
 
-    objectService.fetchObjects(TransportOrder.class,
-                               order -> dispatchableForVehicle(order, vehicle))
+    // Routing may be done in parallel. As the comparators define a total order, the result does
+    // not depend on the order in which candidates are computed.
+    candidateComputationPool
+        .computeAll(orders, order -> computeCandidate(vehicle, vehiclePosition, order))
         .stream()
-        .map(order -> computeCandidate(vehicle, vehiclePosition, order))
-        .filter(optCandidate -> optCandidate.isPresent())
-        .map(optCandidate -> optCandidate.get())
         .filter(candidate -> processabilityChecker.checkProcessability(vehicle,
                                                                        candidate.getTransportOrder()))
         .sorted(orderCandidateComparator)
@@ -191,12 +241,20 @@ public class AssignFreeOrdersPhase
   private void tryAssignVehicle(TransportOrder order) {
     LOG.debug("Trying to find vehicle for transport order '{}'...", order.getName());
 
-    objectService.fetchObjects(Vehicle.class,
-                               vehicle -> availableForOrder(vehicle, order))
+    // Evaluate all candidates based on the same state of the vehicles. A new snapshot is taken for
+    // every order, as the previous assignment may have changed vehicles' states.
+    TCSObjectSnapshot snapshot = objectService.snapshot();
+    List<Vehicle> vehicles
+        = new ArrayList<>(snapshot.fetchObjects(Vehicle.class,
+                                                vehicle -> availableForOrder(vehicle, order)));
+
+    candidateComputationPool
+        .computeAll(vehicles,
+                    vehicle -> computeCandidate(vehicle,
+                                                snapshot.fetchObject(Point.class,
+                                                                     vehicle.getCurrentPosition()),
+                                                order))
         .stream()
-        .map(vehicle -> computeCandidate(vehicle, order))
-        .filter(optCandidate -> optCandidate.isPresent())
-        .map(optCandidate -> optCandidate.get())
         .filter(candidate -> processabilityChecker.checkProcessability(candidate.getVehicle(),
                                                                        order))
         .sorted(vehicleCandidateComparator)
@@ -227,12 +285,6 @@ public class AssignFreeOrdersPhase
     }
   }
 
-  private Optional<AssignmentCandidate> computeCandidate(Vehicle vehicle, TransportOrder order) {
-    return computeCandidate(vehicle, objectService.fetchObject(Point.class,
-                                                               vehicle.getCurrentPosition()),
-                            order);
-  }
-
   private Optional<AssignmentCandidate> computeCandidate(Vehicle vehicle,
                                                          Point vehiclePosition,
                                                          TransportOrder order) {
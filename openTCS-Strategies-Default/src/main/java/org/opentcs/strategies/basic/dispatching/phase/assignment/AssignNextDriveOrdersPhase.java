@@ -17,6 +17,7 @@ import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
 import static org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.RerouteTrigger.DRIVE_ORDER_FINISHED;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.RerouteTask;
@@ -56,6 +57,10 @@ public class AssignNextDriveOrdersPhase
    * The dispatcher configuration.
    */
   private final DefaultDispatcherConfiguration configuration;
+  /**
+   * Keeps track of the vehicles to be considered in the current dispatch run.
+   */
+  private final DispatchChangeTracker changeTracker;
   /**
    * Indicates whether this component is initialized.
    */
@@ -68,7 +73,8 @@ public class AssignNextDriveOrdersPhase
                                     VehicleControllerPool vehicleControllerPool,
                                     TransportOrderUtil transportOrderUtil,
                                     RerouteTask rerouteTask,
-                                    DefaultDispatcherConfiguration configuration) {
+                                    DefaultDispatcherConfiguration configuration,
+                                    DispatchChangeTracker changeTracker) {
     this.transportOrderService = requireNonNull(transportOrderService, "transportOrderService");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.router = requireNonNull(router, "router");
@@ -76,6 +82,7 @@ public class AssignNextDriveOrdersPhase
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
     this.rerouteTask = requireNonNull(rerouteTask, "rerouteTask");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
   }
 
   @Override
@@ -103,6 +110,7 @@ public class AssignNextDriveOrdersPhase
   public void run() {
     transportOrderService.fetchObjects(Vehicle.class).stream()
         .filter(vehicle -> vehicle.hasProcState(Vehicle.ProcState.AWAITING_ORDER))
+        .filter(vehicle -> changeTracker.isAffected(vehicle))
         .forEach(vehicle -> checkForNextDriveOrder(vehicle));
   }
 
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * Solves the (rectangular) assignment problem using the Hungarian method.
+ * <p>
+ * Given a matrix of costs for assigning rows to columns, computes an assignment of rows to columns
+ * in which every row and every column is used at most once, which
+ * </p>
+ * <ol>
+ * <li>contains as many permitted pairs as possible and</li>
+ * <li>among all such assignments, has the minimum total costs.</li>
+ * </ol>
+ * <p>
+ * Pairs that are not permitted are marked with {@link #FORBIDDEN} in the cost matrix. All other
+ * costs must not be negative. The runtime is in O(n<sup>2</sup>m) for n = min(rows, columns) and
+ * m = max(rows, columns).
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+final class MinCostAssignment {
+
+  /**
+   * Marks a pair that may not be part of an assignment.
+   */
+  static final long FORBIDDEN = Long.MAX_VALUE;
+  /**
+   * Stands for infinity in the algorithm's computations.
+   */
+  private static final long INFINITY = Long.MAX_VALUE / 2;
+
+  /**
+   * Prevents instantiation.
+   */
+  private MinCostAssignment() {
+  }
+
+  /**
+   * Computes an assignment for the given costs.
+   *
+   * @param costs The costs, indexed by row and column. All rows must have the same length.
+   * @return For every row, the index of the column assigned to it, or -1, if the row is not part of
+   * the assignment.
+   * @throws IllegalArgumentException If the cost matrix contains negative costs or if its costs are
+   * too high to be handled.
+   */
+  @Nonnull
+  static int[] solve(@Nonnull long[][] costs) {
+    int rowCount = costs.length;
+    int columnCount = rowCount == 0 ? 0 : costs[0].length;
+    int[] result = new int[rowCount];
+    Arrays.fill(result, -1);
+    if (rowCount == 0 || columnCount == 0) {
+      return result;
+    }
+
+    long maxCosts = 0;
+    for (long[] row : costs) {
+      checkArgument(row.length == columnCount, "Rows have different lengths");
+      for (long cost : row) {
+        checkArgument(cost >= 0, "Negative costs: %s", cost);
+        if (cost != FORBIDDEN) {
+          maxCosts = Math.max(maxCosts, cost);
+        }
+      }
+    }
+    // Using a forbidden pair must be more expensive than any combination of permitted pairs, so
+    // that assignments with fewer forbidden pairs are always preferred.
+    int pairCount = Math.min(rowCount, columnCount);
+    long forbiddenCosts;
+    try {
+      forbiddenCosts = Math.addExact(Math.multiplyExact(maxCosts, pairCount), 1);
+      checkArgument(Math.multiplyExact(forbiddenCosts, pairCount) < INFINITY,
+                    "Costs too high");
+    }
+    catch (ArithmeticException exc) {
+      throw new IllegalArgumentException("Costs too high", exc);
+    }
+
+    // The algorithm requires at most as many rows as columns.
+    boolean transposed = rowCount > columnCount;
+    int n = transposed ? columnCount : rowCount;
+    int m = transposed ? rowCount : columnCount;
+    long[][] matrix = new long[n][m];
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < m; j++) {
+        long cost = transposed ? costs[j][i] : costs[i][j];
+        matrix[i][j] = cost == FORBIDDEN ? forbiddenCosts : cost;
+      }
+    }
+
+    int[] rowForColumn = solveNotMoreRowsThanColumns(matrix, n, m);
+
+    for (int j = 1; j <= m; j++) {
+      int i = rowForColumn[j];
+      if (i == 0 || matrix[i - 1][j - 1] == forbiddenCosts) {
+        continue;
+      }
+      if (transposed) {
+        result[j - 1] = i - 1;
+      }
+      else {
+        result[i - 1] = j - 1;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Computes the assignment using potentials and shortest augmenting paths.
+   *
+   * @param matrix The costs, with n &lt;= m.
+   * @param n The number of rows.
+   * @param m The number of columns.
+   * @return For every column (indexed from 1), the row (indexed from 1) assigned to it, or 0.
+   */
+  private static int[] solveNotMoreRowsThanColumns(long[][] matrix, int n, int m) {
+    long[] rowPotentials = new long[n + 1];
+    long[] columnPotentials = new long[m + 1];
+    int[] rowForColumn = new int[m + 1];
+    int[] predecessors = new int[m + 1];
+    long[] minSlack = new long[m + 1];
+    boolean[] used = new boolean[m + 1];
+
+    for (int i = 1; i <= n; i++) {
+      rowForColumn[0] = i;
+      int currentColumn = 0;
+      Arrays.fill(minSlack, INFINITY);
+      Arrays.fill(used, false);
+      do {
+        used[currentColumn] = true;
+        int currentRow = rowForColumn[currentColumn];
+        long delta = INFINITY;
+        int nextColumn = 0;
+        for (int j = 1; j <= m; j++) {
+          if (used[j]) {
+            continue;
+          }
+          long slack = matrix[currentRow - 1][j - 1]
+              - rowPotentials[currentRow] - columnPotentials[j];
+          if (slack < minSlack[j]) {
+            minSlack[j] = slack;
+            predecessors[j] = currentColumn;
+          }
+          if (minSlack[j] < delta) {
+            delta = minSlack[j];
+            nextColumn = j;
+          }
+        }
+        for (int j = 0; j <= m; j++) {
+          if (used[j]) {
+            rowPotentials[rowForColumn[j]] += delta;
+            columnPotentials[j] -= delta;
+          }
+          else {
+            minSlack[j] -= delta;
+          }
+        }
+        currentColumn = nextColumn;
+      }
+      while (rowForColumn[currentColumn] != 0);
+      // Augment along the path found.
+      do {
+        int previousColumn = predecessors[currentColumn];
+        rowForColumn[currentColumn] = rowForColumn[previousColumn];
+        currentColumn = previousColumn;
+      }
+      while (currentColumn != 0);
+    }
+    return rowForColumn;
+  }
+}
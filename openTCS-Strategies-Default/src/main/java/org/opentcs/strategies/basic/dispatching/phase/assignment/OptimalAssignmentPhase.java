@@ -0,0 +1,321 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.inject.Inject;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.CandidateComputationPool;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
+import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.Phase;
+import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
+import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleComparator;
+import org.opentcs.strategies.basic.dispatching.selection.CompositeTransportOrderSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.CompositeVehicleSelectionFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Assigns transport orders to vehicles that are currently not processing any and are not bound to
+ * any order sequences, minimizing the total costs of all assignments made in a dispatch run.
+ * <p>
+ * In contrast to {@link AssignFreeOrdersPhase}, which assigns the locally best transport order to
+ * one vehicle after another, this phase computes the routing costs for all pairs of available
+ * vehicles and transport orders and assigns them based on a minimum-cost bipartite matching. The
+ * costs of a pair are the costs for the vehicle to reach the transport order's first destination,
+ * i.e. the costs of the vehicle's empty travel. Intended vehicles and processability are respected
+ * by excluding the respective pairs from the matching. Transport orders with deadlines at risk are
+ * preferred over all others, i.e. the matching contains as many of them as possible.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class OptimalAssignmentPhase
+    implements Phase {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(OptimalAssignmentPhase.class);
+  /**
+   * The object service
+   */
+  private final InternalTCSObjectService objectService;
+  /**
+   * The Router instance calculating route costs.
+   */
+  private final Router router;
+  /**
+   * Checks processability of transport orders for vehicles.
+   */
+  private final ProcessabilityChecker processabilityChecker;
+  /**
+   * Stores reservations of orders for vehicles.
+   */
+  private final OrderReservationPool orderReservationPool;
+  /**
+   * Defines a stable order of the vehicles in the cost matrix.
+   */
+  private final Comparator<Vehicle> vehicleComparator;
+  /**
+   * Defines a stable order of the transport orders in the cost matrix.
+   */
+  private final Comparator<TransportOrder> orderComparator;
+  /**
+   * A collection of predicates for filtering vehicles.
+   */
+  private final CompositeVehicleSelectionFilter vehicleSelectionFilter;
+  /**
+   * A collection of predicates for filtering transport orders.
+   */
+  private final CompositeTransportOrderSelectionFilter transportOrderSelectionFilter;
+
+  private final TransportOrderUtil transportOrderUtil;
+  /**
+   * Keeps track of the vehicles and transport orders to be considered in the current dispatch run.
+   */
+  private final DispatchChangeTracker changeTracker;
+  /**
+   * Computes the assignment candidates.
+   */
+  private final CandidateComputationPool candidateComputationPool;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  @Inject
+  public OptimalAssignmentPhase(
+      InternalTCSObjectService objectService,
+      Router router,
+      ProcessabilityChecker processabilityChecker,
+      OrderReservationPool orderReservationPool,
+      CompositeVehicleComparator vehicleComparator,
+      CompositeOrderComparator orderComparator,
+      CompositeVehicleSelectionFilter vehicleSelectionFilter,
+      CompositeTransportOrderSelectionFilter transportOrderSelectionFilter,
+      TransportOrderUtil transportOrderUtil,
+      DispatchChangeTracker changeTracker,
+      CandidateComputationPool candidateComputationPool,
+      DefaultDispatcherConfiguration configuration) {
+    this.router = requireNonNull(router, "router");
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.processabilityChecker = requireNonNull(processabilityChecker, "processabilityChecker");
+    this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
+    this.vehicleComparator = requireNonNull(vehicleComparator, "vehicleComparator");
+    this.orderComparator = requireNonNull(orderComparator, "orderComparator");
+    this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
+    this.transportOrderSelectionFilter = requireNonNull(transportOrderSelectionFilter,
+                                                        "transportOrderSelectionFilter");
+    this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
+    this.candidateComputationPool = requireNonNull(candidateComputationPool,
+                                                   "candidateComputationPool");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+    initialized = false;
+  }
+
+  @Override
+  public void run() {
+    TCSObjectSnapshot snapshot = objectService.snapshot();
+    List<Vehicle> vehicles = snapshot.fetchObjects(Vehicle.class, vehicleSelectionFilter).stream()
+        .sorted(vehicleComparator)
+        .collect(Collectors.toList());
+    if (vehicles.isEmpty()) {
+      LOG.debug("No vehicles available, skipping potentially expensive fetching of orders.");
+      return;
+    }
+    List<TransportOrder> orders = snapshot.fetchObjects(TransportOrder.class,
+                                                        transportOrderSelectionFilter).stream()
+        .sorted(orderComparator)
+        .collect(Collectors.toList());
+    if (orders.isEmpty()) {
+      LOG.debug("No transport orders available.");
+      return;
+    }
+    // The possible assignments only change if any of the vehicles or orders involved changed.
+    if (vehicles.stream().noneMatch(vehicle -> changeTracker.isAffected(vehicle))
+        && orders.stream().noneMatch(order -> changeTracker.isAffected(order))) {
+      LOG.debug("No changes to available vehicles or transport orders, skipping assignment.");
+      return;
+    }
+
+    LOG.debug("Computing optimal assignment for {} transport orders and {} vehicles.",
+              orders.size(),
+              vehicles.size());
+
+    AssignmentCandidate[][] candidates = computeCandidates(snapshot, vehicles, orders);
+    int[] assignment;
+    try {
+      assignment = MinCostAssignment.solve(costMatrix(candidates));
+    }
+    catch (IllegalArgumentException exc) {
+      LOG.warn("Could not compute an optimal assignment, skipping assignment.", exc);
+      return;
+    }
+
+    for (int i = 0; i < assignment.length; i++) {
+      if (assignment[i] >= 0) {
+        assignOrder(candidates[i][assignment[i]]);
+      }
+    }
+  }
+
+  private AssignmentCandidate[][] computeCandidates(TCSObjectSnapshot snapshot,
+                                                    List<Vehicle> vehicles,
+                                                    List<TransportOrder> orders) {
+    // Routing may be done in parallel, with the rows being returned in the vehicles' order.
+    AssignmentCandidate[][] candidates = candidateComputationPool
+        .computeAll(vehicles, vehicle -> Optional.of(routeCandidates(snapshot, vehicle, orders)))
+        .toArray(new AssignmentCandidate[vehicles.size()][]);
+
+    // Processability is checked sequentially, as it involves the vehicles' controllers.
+    for (AssignmentCandidate[] row : candidates) {
+      for (int j = 0; j < row.length; j++) {
+        if (row[j] != null
+            && !processabilityChecker.checkProcessability(row[j].getVehicle(),
+                                                          row[j].getTransportOrder())) {
+          row[j] = null;
+        }
+      }
+    }
+    return candidates;
+  }
+
+  private AssignmentCandidate[] routeCandidates(TCSObjectSnapshot snapshot,
+                                                Vehicle vehicle,
+                                                List<TransportOrder> orders) {
+    Point vehiclePosition = snapshot.fetchObject(Point.class, vehicle.getCurrentPosition());
+    AssignmentCandidate[] row = new AssignmentCandidate[orders.size()];
+    for (int j = 0; j < orders.size(); j++) {
+      TransportOrder order = orders.get(j);
+      if (orderAssignableToVehicle(order, vehicle)) {
+        row[j] = router.getRoute(vehicle, vehiclePosition, order)
+            .map(driveOrders -> new AssignmentCandidate(vehicle, order, driveOrders))
+            .orElse(null);
+      }
+    }
+    return row;
+  }
+
+  /**
+   * Returns the costs of all candidates.
+   * Candidates for orders whose deadlines are not at risk are penalized with more than the total
+   * costs of any assignment, so that orders with deadlines at risk are always preferred.
+   */
+  private long[][] costMatrix(AssignmentCandidate[][] candidates) {
+    int vehicleCount = candidates.length;
+    int orderCount = candidates[0].length;
+    long maxCosts = 0;
+    for (AssignmentCandidate[] row : candidates) {
+      for (AssignmentCandidate candidate : row) {
+        if (candidate != null) {
+          maxCosts = Math.max(maxCosts, candidate.getInitialRoutingCosts());
+        }
+      }
+    }
+    long noRiskPenalty;
+    try {
+      noRiskPenalty = Math.addExact(
+          Math.multiplyExact(maxCosts, Math.min(vehicleCount, orderCount)),
+          1);
+    }
+    catch (ArithmeticException exc) {
+      throw new IllegalArgumentException("Costs too high", exc);
+    }
+
+    long currentTime = System.currentTimeMillis();
+    long[][] costs = new long[vehicleCount][orderCount];
+    for (int i = 0; i < vehicleCount; i++) {
+      for (int j = 0; j < orderCount; j++) {
+        AssignmentCandidate candidate = candidates[i][j];
+        if (candidate == null) {
+          costs[i][j] = MinCostAssignment.FORBIDDEN;
+        }
+        else if (deadlineAtRisk(candidate.getTransportOrder(), currentTime)) {
+          costs[i][j] = candidate.getInitialRoutingCosts();
+        }
+        else {
+          costs[i][j] = candidate.getInitialRoutingCosts() + noRiskPenalty;
+        }
+      }
+    }
+    return costs;
+  }
+
+  private void assignOrder(AssignmentCandidate candidate) {
+    // If the vehicle currently has a (dispensable) order, we may not assign the new one here
+    // directly, but must abort the old one (DefaultDispatcher.abortOrder()) and wait for the
+    // vehicle's ProcState to become IDLE.
+    if (candidate.getVehicle().getTransportOrder() == null) {
+      LOG.debug("Assigning transport order '{}' to vehicle '{}'...",
+                candidate.getTransportOrder().getName(),
+                candidate.getVehicle().getName());
+      transportOrderUtil.assignTransportOrder(candidate.getVehicle(),
+                                              candidate.getTransportOrder(),
+                                              candidate.getDriveOrders());
+    }
+    else {
+      LOG.debug("Reserving transport order '{}' for vehicle '{}' ",
+                candidate.getTransportOrder().getName(),
+                candidate.getVehicle().getName());
+      // Remember that the new order is reserved for this vehicle.
+      orderReservationPool.addReservation(candidate.getTransportOrder().getReference(),
+                                          candidate.getVehicle().getReference());
+      transportOrderUtil.abortOrder(candidate.getVehicle(), false, false, false);
+    }
+  }
+
+  private boolean deadlineAtRisk(TransportOrder order, long currentTime) {
+    return order.getDeadline() - configuration.deadlineAtRiskPeriod() < currentTime;
+  }
+
+  private boolean orderAssignableToVehicle(TransportOrder order, Vehicle vehicle) {
+    return order.getIntendedVehicle() == null
+        || Objects.equals(order.getIntendedVehicle(), vehicle.getReference());
+  }
+}
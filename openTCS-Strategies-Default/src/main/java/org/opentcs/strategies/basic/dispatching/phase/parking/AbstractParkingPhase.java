@@ -15,13 +15,16 @@ import java.util.UUID;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -44,6 +47,10 @@ public abstract class AbstractParkingPhase
    * The transport order service.
    */
   private final InternalTransportOrderService orderService;
+  /**
+   * The object service providing snapshots of the kernel's objects.
+   */
+  private final InternalTCSObjectService objectService;
   /**
    * The strategy used for finding suitable parking positions.
    */
@@ -65,6 +72,10 @@ public abstract class AbstractParkingPhase
    * The dispatcher configuration.
    */
   private final DefaultDispatcherConfiguration configuration;
+  /**
+   * Keeps track of the vehicles to be considered in the current dispatch run.
+   */
+  private final DispatchChangeTracker changeTracker;
   /**
    * Indicates whether this component is initialized.
    */
@@ -73,17 +84,21 @@ public abstract class AbstractParkingPhase
   @SuppressWarnings("deprecation")
   public AbstractParkingPhase(
       InternalTransportOrderService orderService,
+      InternalTCSObjectService objectService,
       org.opentcs.components.kernel.ParkingPositionSupplier parkingPosSupplier,
       Router router,
       ProcessabilityChecker processabilityChecker,
       TransportOrderUtil transportOrderUtil,
-      DefaultDispatcherConfiguration configuration) {
+      DefaultDispatcherConfiguration configuration,
+      DispatchChangeTracker changeTracker) {
     this.router = requireNonNull(router, "router");
     this.orderService = requireNonNull(orderService, "orderService");
+    this.objectService = requireNonNull(objectService, "objectService");
     this.parkingPosSupplier = requireNonNull(parkingPosSupplier, "parkingPosSupplier");
     this.processabilityChecker = requireNonNull(processabilityChecker, "processabilityChecker");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
   }
 
   @Override
@@ -117,12 +132,20 @@ public abstract class AbstractParkingPhase
     return orderService;
   }
 
+  public InternalTCSObjectService getObjectService() {
+    return objectService;
+  }
+
   public DefaultDispatcherConfiguration getConfiguration() {
     return configuration;
   }
 
-  protected void createParkingOrder(Vehicle vehicle) {
-    Point vehiclePosition = orderService.fetchObject(Point.class, vehicle.getCurrentPosition());
+  public DispatchChangeTracker getChangeTracker() {
+    return changeTracker;
+  }
+
+  protected void createParkingOrder(Vehicle vehicle, TCSObjectSnapshot snapshot) {
+    Point vehiclePosition = snapshot.fetchObject(Point.class, vehicle.getCurrentPosition());
 
     // Get a suitable parking position for the vehicle.
     Optional<Point> parkPos = parkingPosSupplier.findParkingPosition(vehicle);
@@ -10,9 +10,12 @@ package org.opentcs.strategies.basic.dispatching.phase.parking;
 import static java.util.Objects.requireNonNull;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
 import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.selection.CompositeParkVehicleSelectionFilter;
@@ -42,18 +45,22 @@ public class ParkIdleVehiclesPhase
   @SuppressWarnings("deprecation")
   public ParkIdleVehiclesPhase(
       InternalTransportOrderService orderService,
+      InternalTCSObjectService objectService,
       org.opentcs.components.kernel.ParkingPositionSupplier parkingPosSupplier,
       Router router,
       ProcessabilityChecker processabilityChecker,
       TransportOrderUtil transportOrderUtil,
       DefaultDispatcherConfiguration configuration,
+      DispatchChangeTracker changeTracker,
       CompositeParkVehicleSelectionFilter vehicleSelectionFilter) {
     super(orderService,
+          objectService,
           parkingPosSupplier,
           router,
           processabilityChecker,
           transportOrderUtil,
-          configuration);
+          configuration,
+          changeTracker);
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
   }
 
@@ -65,8 +72,13 @@ public class ParkIdleVehiclesPhase
 
     LOG.debug("Looking for vehicles to send to parking positions...");
 
-    for (Vehicle vehicle : getOrderService().fetchObjects(Vehicle.class, vehicleSelectionFilter)) {
-      createParkingOrder(vehicle);
+    TCSObjectSnapshot snapshot = getObjectService().snapshot();
+    for (Vehicle vehicle : snapshot.fetchObjects(Vehicle.class, this::parkable)) {
+      createParkingOrder(vehicle, snapshot);
     }
   }
+
+  private boolean parkable(Vehicle vehicle) {
+    return getChangeTracker().isAffected(vehicle) && vehicleSelectionFilter.test(vehicle);
+  }
 }
@@ -11,10 +11,13 @@ import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
 import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.selection.CompositeReparkVehicleSelectionFilter;
@@ -40,19 +43,23 @@ public class PrioritizedReparkPhase
 
   @Inject
   public PrioritizedReparkPhase(InternalTransportOrderService orderService,
+                                InternalTCSObjectService objectService,
                                 PrioritizedParkingPositionSupplier parkingPosSupplier,
                                 Router router,
                                 ProcessabilityChecker processabilityChecker,
                                 TransportOrderUtil transportOrderUtil,
                                 DefaultDispatcherConfiguration configuration,
+                                DispatchChangeTracker changeTracker,
                                 CompositeReparkVehicleSelectionFilter vehicleSelectionFilter,
                                 ParkingPositionPriorityComparator priorityComparator) {
     super(orderService,
+          objectService,
           parkingPosSupplier,
           router,
           processabilityChecker,
           transportOrderUtil,
-          configuration);
+          configuration,
+          changeTracker);
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
     this.priorityComparator = requireNonNull(priorityComparator, "priorityComparator");
   }
@@ -67,14 +74,18 @@ public class PrioritizedReparkPhase
 
     LOG.debug("Looking for parking vehicles to send to higher prioritized parking positions...");
 
-    Set<Vehicle> vehicles = getOrderService().fetchObjects(Vehicle.class, vehicleSelectionFilter);
+    TCSObjectSnapshot snapshot = getObjectService().snapshot();
+    Set<Vehicle> vehicles = snapshot.fetchObjects(
+        Vehicle.class,
+        vehicle -> getChangeTracker().isAffected(vehicle) && vehicleSelectionFilter.test(vehicle)
+    );
     vehicles.stream()
         .sorted((vehicle1, vehicle2) -> {
           // Sort the vehicles based on the priority of the parking position they occupy
-          Point point1 = getOrderService().fetchObject(Point.class, vehicle1.getCurrentPosition());
-          Point point2 = getOrderService().fetchObject(Point.class, vehicle2.getCurrentPosition());
+          Point point1 = snapshot.fetchObject(Point.class, vehicle1.getCurrentPosition());
+          Point point2 = snapshot.fetchObject(Point.class, vehicle2.getCurrentPosition());
           return priorityComparator.compare(point1, point2);
         })
-        .forEach(vehicle -> createParkingOrder(vehicle));
+        .forEach(vehicle -> createParkingOrder(vehicle, snapshot));
   }
 }
@@ -16,12 +16,15 @@ import javax.inject.Inject;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -45,6 +48,10 @@ public class RechargeIdleVehiclesPhase
    * The transport order service.
    */
   private final InternalTransportOrderService orderService;
+  /**
+   * The object service providing snapshots of the kernel's objects.
+   */
+  private final InternalTCSObjectService objectService;
   /**
    * The strategy used for finding suitable recharge locations.
    */
@@ -66,6 +73,10 @@ public class RechargeIdleVehiclesPhase
    * The dispatcher configuration.
    */
   private final DefaultDispatcherConfiguration configuration;
+  /**
+   * Keeps track of the vehicles to be considered in the current dispatch run.
+   */
+  private final DispatchChangeTracker changeTracker;
   /**
    * Indicates whether this component is initialized.
    */
@@ -75,19 +86,23 @@ public class RechargeIdleVehiclesPhase
   @SuppressWarnings("deprecation")
   public RechargeIdleVehiclesPhase(
       InternalTransportOrderService orderService,
+      InternalTCSObjectService objectService,
       org.opentcs.components.kernel.RechargePositionSupplier rechargePosSupplier,
       Router router,
       ProcessabilityChecker processabilityChecker,
       CompositeRechargeVehicleSelectionFilter vehicleSelectionFilter,
       TransportOrderUtil transportOrderUtil,
-      DefaultDispatcherConfiguration configuration) {
+      DefaultDispatcherConfiguration configuration,
+      DispatchChangeTracker changeTracker) {
     this.router = requireNonNull(router, "router");
     this.orderService = requireNonNull(orderService, "orderService");
+    this.objectService = requireNonNull(objectService, "objectService");
     this.rechargePosSupplier = requireNonNull(rechargePosSupplier, "rechargePosSupplier");
     this.processabilityChecker = requireNonNull(processabilityChecker, "processabilityChecker");
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.changeTracker = requireNonNull(changeTracker, "changeTracker");
   }
 
   @Override
@@ -123,12 +138,17 @@ public class RechargeIdleVehiclesPhase
       return;
     }
 
-    for (Vehicle vehicle : orderService.fetchObjects(Vehicle.class, vehicleSelectionFilter)) {
-      createRechargeOrder(vehicle);
+    TCSObjectSnapshot snapshot = objectService.snapshot();
+    for (Vehicle vehicle : snapshot.fetchObjects(Vehicle.class, this::rechargeable)) {
+      createRechargeOrder(vehicle, snapshot);
     }
   }
 
-  private void createRechargeOrder(Vehicle vehicle) {
+  private boolean rechargeable(Vehicle vehicle) {
+    return changeTracker.isAffected(vehicle) && vehicleSelectionFilter.test(vehicle);
+  }
+
+  private void createRechargeOrder(Vehicle vehicle, TCSObjectSnapshot snapshot) {
     List<DriveOrder.Destination> rechargeDests = rechargePosSupplier.findRechargeSequence(vehicle);
     LOG.debug("Recharge sequence for {}: {}", vehicle, rechargeDests);
 
@@ -152,7 +172,7 @@ public class RechargeIdleVehiclesPhase
             .withDispensable(!vehicle.isEnergyLevelCritical())
     );
 
-    Point vehiclePosition = orderService.fetchObject(Point.class, vehicle.getCurrentPosition());
+    Point vehiclePosition = snapshot.fetchObject(Point.class, vehicle.getCurrentPosition());
     Optional<List<DriveOrder>> driveOrders
         = router.getRoute(vehicle, vehiclePosition, rechargeOrder);
     if (processabilityChecker.checkProcessability(vehicle, rechargeOrder)
@@ -105,12 +105,12 @@ public class DefaultRouter
     try {
       rwLock.writeLock().lock();
       routesByVehicle.clear();
-      updateRoutingTables();
-      initialized = true;
     }
     finally {
       rwLock.writeLock().unlock();
     }
+    topologyChanged();
+    initialized = true;
   }
 
   @Override
@@ -135,23 +135,42 @@ public class DefaultRouter
   }
 
   @Override
-  @Deprecated
-  public void updateRoutingTables() {
+  public synchronized void topologyChanged() {
+    // Create the new point routers without holding the lock, so routes can still be computed with
+    // the current ones in the meantime. Existing point routers are passed to the factory, which
+    // may reuse the parts not affected by the change.
+    Map<Integer, PointRouter> newPointRouters = new HashMap<>();
+    for (Vehicle curVehicle : objectService.fetchObjects(Vehicle.class)) {
+      int currentGroup = getRoutingGroupOfVehicle(curVehicle);
+      if (!newPointRouters.containsKey(currentGroup)) {
+        PointRouter oldPointRouter = pointRoutersByVehicleGroup.get(currentGroup);
+        newPointRouters.put(currentGroup,
+                            oldPointRouter == null
+                                ? pointRouterFactory.createPointRouter(curVehicle)
+                                : pointRouterFactory.updatePointRouter(curVehicle, oldPointRouter));
+      }
+    }
+
     try {
       rwLock.writeLock().lock();
-      pointRoutersByVehicleGroup.clear();
-      for (Vehicle curVehicle : objectService.fetchObjects(Vehicle.class)) {
-        int currentGroup = getRoutingGroupOfVehicle(curVehicle);
-        if (!pointRoutersByVehicleGroup.containsKey(currentGroup)) {
-          pointRoutersByVehicleGroup.put(currentGroup,
-                                         pointRouterFactory.createPointRouter(curVehicle));
-        }
+      for (Map.Entry<Integer, PointRouter> entry : pointRoutersByVehicleGroup.entrySet()) {
+        LOG.debug("Discarding point router for routing group {}: {}",
+                  entry.getKey(),
+                  entry.getValue());
       }
-      LOG.debug("Number of point routers created: {}", pointRoutersByVehicleGroup.size());
+      pointRoutersByVehicleGroup.clear();
+      pointRoutersByVehicleGroup.putAll(newPointRouters);
     }
     finally {
       rwLock.writeLock().unlock();
     }
+    LOG.debug("Number of point routers created: {}", newPointRouters.size());
+  }
+
+  @Override
+  @Deprecated
+  public void updateRoutingTables() {
+    topologyChanged();
   }
 
   @Override
@@ -192,15 +211,10 @@ public class DefaultRouter
 
     try {
       rwLock.readLock().lock();
-      List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
-      DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
       PointRouter pointRouter = pointRoutersByVehicleGroup.get(getRoutingGroupOfVehicle(vehicle));
-      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
-      OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
-      computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
-          ? Optional.empty()
-          : Optional.of(Arrays.asList(resultStruct.bestRoute));
+      return computeCheapestOrderRoute(sourcePoint,
+                                       transportOrder.getFutureDriveOrders(),
+                                       pointRouter);
     }
     finally {
       rwLock.readLock().unlock();
@@ -391,77 +405,114 @@ public class DefaultRouter
   }
 
   /**
-   * Compute the cheapest route along a list of drive orders/checkpoints.
+   * Computes the cheapest route along a list of drive orders/checkpoints.
+   * <p>
+   * The destination points acceptable for the drive orders form consecutive layers, with every
+   * point of a layer being connected to every point of the next one by the cheapest route between
+   * them. The cheapest chain of points through all layers is found by dynamic programming over the
+   * layers, requiring O(n * p<sup>2</sup>) cost lookups for n drive orders with p destination
+   * points each. Route steps are only computed for the cheapest chain.
+   * </p>
    *
-   * @param startPoint The current checkpoint which to start at.
-   * @param params A struct describing parameters for the route to be computed.
-   * @param hopIndex The current index in the list of drive orders/checkpoints.
-   * @param result A struct for keeping the (partial) result in.
+   * @param sourcePoint The point at which the route is supposed to start.
+   * @param driveOrders The drive orders, in the order they are to be processed.
+   * @param pointRouter The point router to use.
+   * @return The drive orders with their routes, or an empty optional, if there is no route.
    */
-  private void computeCheapestOrderRoute(Point startPoint,
-                                         OrderRouteParameterStruct params,
-                                         int hopIndex,
-                                         OrderRouteResultStruct result) {
-    assert startPoint != null;
-    assert params != null;
-    assert result != null;
-    // If we haven't reached the final drive order in the list, yet...
-    if (hopIndex < params.driveOrders.length) {
-      // ...try every possible destination point of the current drive order as
-      // the next checkpoint and recursively route from there.
-      final long currentRouteCosts = result.currentCosts;
-      Set<Point> destPoints = getDestinationPoints(params.driveOrders[hopIndex]);
-      // If the set of destination points contains the starting point, keep only
-      // that one. This is just a shortcut - it is the cheapest way to go.
-      if (!configuration.routeToCurrentPosition() && destPoints.contains(startPoint)) {
-        LOG.debug("Shortcutting route to {}", startPoint);
-        destPoints.clear();
-        destPoints.add(startPoint);
-      }
-      boolean routable = false;
-      for (Point curDestPoint : destPoints) {
-        final long hopCosts = params.pointRouter.getCosts(startPoint, curDestPoint);
-        if (hopCosts == INFINITE_COSTS) {
+  private Optional<List<DriveOrder>> computeCheapestOrderRoute(Point sourcePoint,
+                                                               List<DriveOrder> driveOrders,
+                                                               PointRouter pointRouter) {
+    assert sourcePoint != null;
+    assert driveOrders != null;
+    assert pointRouter != null;
+
+    int layerCount = driveOrders.size();
+    // Layer 0 consists of the source point only, layer i of the destination points of the i-th
+    // drive order.
+    Point[][] layerPoints = new Point[layerCount + 1][];
+    // For every point of a layer, the index of its predecessor in the cheapest chain reaching it.
+    int[][] predecessors = new int[layerCount + 1][];
+    layerPoints[0] = new Point[]{sourcePoint};
+    // The costs of the cheapest chains reaching the points of the current layer.
+    long[] costs = new long[]{0};
+
+    for (int layer = 1; layer <= layerCount; layer++) {
+      Set<Point> destPoints = getDestinationPoints(driveOrders.get(layer - 1));
+      Point[] points = destPoints.toArray(new Point[destPoints.size()]);
+      Point[] prevPoints = layerPoints[layer - 1];
+      long[] layerCosts = new long[points.length];
+      int[] layerPredecessors = new int[points.length];
+      Arrays.fill(layerCosts, INFINITE_COSTS);
+      Arrays.fill(layerPredecessors, -1);
+
+      for (int k = 0; k < prevPoints.length; k++) {
+        if (costs[k] == INFINITE_COSTS) {
           continue;
         }
-        // Get the list of steps for the route of the current drive order.
-        List<Route.Step> steps = params.pointRouter.getRouteSteps(startPoint, curDestPoint);
-        if (steps.isEmpty()) {
-          // If the list of steps returned is empty, we're already at the
-          // destination point of the drive order - create a single step
-          // without a path.
-          steps = new ArrayList<>(1);
-          steps.add(new Route.Step(null,
-                                   null,
-                                   startPoint,
-                                   Vehicle.Orientation.UNDEFINED,
-                                   0));
+        // If the destination points contain the previous checkpoint, staying there is the
+        // cheapest way to go - don't consider any others.
+        boolean shortcut = !configuration.routeToCurrentPosition()
+            && destPoints.contains(prevPoints[k]);
+        for (int j = 0; j < points.length; j++) {
+          if (shortcut && !points[j].equals(prevPoints[k])) {
+            continue;
+          }
+          long hopCosts = pointRouter.getCosts(prevPoints[k], points[j]);
+          if (hopCosts == INFINITE_COSTS) {
+            continue;
+          }
+          long totalCosts = costs[k] + hopCosts;
+          if (totalCosts < layerCosts[j]) {
+            layerCosts[j] = totalCosts;
+            layerPredecessors[j] = k;
+          }
         }
-        // Create a route from the list of steps gathered.
-        Route hopRoute = new Route(steps, hopCosts);
-        // Copy the current drive order, add the computed route to it and
-        // place it in the result struct.
-        DriveOrder hopOrder = params.driveOrders[hopIndex].withRoute(hopRoute);
-        result.currentRoute[hopIndex] = hopOrder;
-        // Calculate the costs for the route so far, too.
-        result.currentCosts = currentRouteCosts + hopRoute.getCosts();
-        computeCheapestOrderRoute(curDestPoint, params, hopIndex + 1, result);
-        // Remember that we did find at least one route that works.
-        routable = true;
       }
-      if (!routable) {
-        // Setting currentCosts is not strictly necessary for this algorithm,
-        // but might help with debugging.
-        result.currentCosts = Long.MAX_VALUE;
+
+      layerPoints[layer] = points;
+      predecessors[layer] = layerPredecessors;
+      costs = layerCosts;
+    }
+
+    int bestIndex = -1;
+    for (int j = 0; j < costs.length; j++) {
+      if (costs[j] != INFINITE_COSTS && (bestIndex < 0 || costs[j] < costs[bestIndex])) {
+        bestIndex = j;
       }
     }
-    // If we have reached the final drive order, ...
-    else // If the route computed is cheaper than the best route found so far,
-    // replace the latter.
-    if (result.currentCosts < result.bestCosts) {
-      System.arraycopy(result.currentRoute, 0, result.bestRoute, 0, result.currentRoute.length);
-      result.bestCosts = result.currentCosts;
+    if (bestIndex < 0) {
+      return Optional.empty();
+    }
+
+    // Follow the cheapest chain back to the source point, computing the routes along the way.
+    DriveOrder[] result = new DriveOrder[layerCount];
+    int index = bestIndex;
+    for (int layer = layerCount; layer > 0; layer--) {
+      int prevIndex = predecessors[layer][index];
+      Route hopRoute = createHopRoute(layerPoints[layer - 1][prevIndex],
+                                      layerPoints[layer][index],
+                                      pointRouter);
+      result[layer - 1] = driveOrders.get(layer - 1).withRoute(hopRoute);
+      index = prevIndex;
     }
+    return Optional.of(Arrays.asList(result));
+  }
+
+  private Route createHopRoute(Point startPoint, Point destPoint, PointRouter pointRouter) {
+    // Get the list of steps for the route of the current drive order.
+    List<Route.Step> steps = pointRouter.getRouteSteps(startPoint, destPoint);
+    if (steps.isEmpty()) {
+      // If the list of steps returned is empty, we're already at the
+      // destination point of the drive order - create a single step
+      // without a path.
+      steps = new ArrayList<>(1);
+      steps.add(new Route.Step(null,
+                               null,
+                               startPoint,
+                               Vehicle.Orientation.UNDEFINED,
+                               0));
+    }
+    return new Route(steps, pointRouter.getCosts(startPoint, destPoint));
   }
 
   /**
@@ -556,69 +607,4 @@ public class DefaultRouter
     }
     return routingGroup;
   }
-
-  /**
-   * Contains parameters for a route to be computed.
-   */
-  private static final class OrderRouteParameterStruct {
-
-    /**
-     * The drive orders containing the route's checkpoints.
-     */
-    private final DriveOrder[] driveOrders;
-    /**
-     * The point router for the vehicle type.
-     */
-    private final PointRouter pointRouter;
-
-    /**
-     * Creates a new OrderRouteParameterStruct.
-     *
-     * @param driveOrders A list of drive orders to be processed as checkpoints
-     * of the route to be computed.
-     * @param pointRouter The point router for the vehicle type.
-     */
-    public OrderRouteParameterStruct(DriveOrder[] driveOrders,
-                                     PointRouter pointRouter) {
-      this.driveOrders = requireNonNull(driveOrders, "driveOrders");
-      this.pointRouter = requireNonNull(pointRouter, "pointRouter");
-    }
-  }
-
-  /**
-   * A struct supporting cheapest route calculation.
-   */
-  private static final class OrderRouteResultStruct {
-
-    /**
-     * The (possibly partial) route currently being examined.
-     */
-    private DriveOrder[] currentRoute;
-    /**
-     * The costs of the route currently being examined.
-     */
-    private long currentCosts;
-    /**
-     * The best route found so far.
-     */
-    private DriveOrder[] bestRoute;
-    /**
-     * The costs of the best route found so far.
-     */
-    private long bestCosts;
-
-    /**
-     * Creates a new OrderRouteResultStruct.
-     *
-     * @param driveOrderCount The number of <code>DriveOrder</code>s in the
-     * <code>TransportOrder</code> for which this struct is to store the
-     * routing result.
-     */
-    public OrderRouteResultStruct(int driveOrderCount) {
-      currentRoute = new DriveOrder[driveOrderCount];
-      currentCosts = 0;
-      bestRoute = new DriveOrder[driveOrderCount];
-      bestCosts = Long.MAX_VALUE;
-    }
-  }
 }
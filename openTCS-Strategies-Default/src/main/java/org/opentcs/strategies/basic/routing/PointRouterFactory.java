@@ -23,4 +23,21 @@ public interface PointRouterFactory {
    * @return The point router.
    */
   PointRouter createPointRouter(Vehicle vehicle);
+
+  /**
+   * Creates a point router for the given vehicle after a change in the topology, e.g. after a path
+   * has been locked or unlocked.
+   * Implementations may reuse data of the given point router that is not affected by the change.
+   * The given point router must remain usable while the new one is being created.
+   * <p>
+   * This default implementation simply creates a new point router.
+   * </p>
+   *
+   * @param vehicle The vehicle.
+   * @param pointRouter The point router previously created for the vehicle's routing group.
+   * @return The point router.
+   */
+  default PointRouter updatePointRouter(Vehicle vehicle, PointRouter pointRouter) {
+    return createPointRouter(vehicle);
+  }
 }
@@ -11,6 +11,7 @@ import java.util.Iterator;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
 import org.opentcs.components.kernel.services.TCSObjectService;
@@ -42,31 +43,71 @@ public abstract class AbstractPointRouterFactory
    * Maps the plant model to a graph.
    */
   private final ModelGraphMapper mapper;
+  /**
+   * The configuration.
+   */
+  private final ShortestPathConfiguration configuration;
 
   /**
    * Creates a new instance.
    *
    * @param objectService The object service providing model data.
    * @param mapper Maps the plant model to a graph.
+   * @param configuration The configuration.
    */
   public AbstractPointRouterFactory(@Nonnull TCSObjectService objectService,
-                                    @Nonnull ModelGraphMapper mapper) {
+                                    @Nonnull ModelGraphMapper mapper,
+                                    @Nonnull ShortestPathConfiguration configuration) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.mapper = requireNonNull(mapper, "mapper");
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   @Override
   public PointRouter createPointRouter(Vehicle vehicle) {
     requireNonNull(vehicle, "vehicle");
 
+    return createPointRouter(vehicle, null);
+  }
+
+  @Override
+  public PointRouter updatePointRouter(Vehicle vehicle, PointRouter pointRouter) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(pointRouter, "pointRouter");
+
+    return createPointRouter(vehicle,
+                             pointRouter instanceof ShortestPathPointRouter
+                                 ? (ShortestPathPointRouter) pointRouter
+                                 : null);
+  }
+
+  private PointRouter createPointRouter(Vehicle vehicle,
+                                        @Nullable ShortestPathPointRouter previousRouter) {
     long timeStampBefore = System.currentTimeMillis();
 
     Set<Point> points = objectService.fetchObjects(Point.class);
     Graph<String, ModelEdge> graph = mapper.translateModel(points,
                                                            objectService.fetchObjects(Path.class),
                                                            vehicle);
+    GraphChanges changes = previousRouter == null
+        ? null
+        : previousRouter.getGraph()
+            .map(previousGraph -> GraphChanges.between(previousGraph, graph))
+            .orElse(null);
 
-    PointRouter router = new ShortestPathPointRouter(createShortestPathAlgorithm(graph), points);
+    ShortestPathAlgorithm<String, ModelEdge> algo;
+    RoutingCostCache costCache;
+    if (changes == null) {
+      algo = createShortestPathAlgorithm(graph);
+      costCache = createCostCache(algo, graph);
+    }
+    else {
+      algo = updateShortestPathAlgorithm(previousRouter.getAlgorithm(), changes);
+      costCache = previousRouter.getCostCache().isPresent()
+          ? updateCostCache(previousRouter.getCostCache().get(), algo, changes)
+          : createCostCache(algo, graph);
+    }
+    PointRouter router = new ShortestPathPointRouter(algo, graph, points, costCache);
     // Make a single request for a route from one point to a different one to make sure the
     // point router is primed. (Some implementations are initialized lazily.)
     if (points.size() >= 2) {
@@ -74,13 +115,53 @@ public abstract class AbstractPointRouterFactory
       router.getRouteSteps(pointIter.next(), pointIter.next());
     }
 
-    LOG.debug("Created point router for {} in {} milliseconds.",
+    LOG.debug("Created point router for {} in {} milliseconds (changes: {}).",
               vehicle.getName(),
-              System.currentTimeMillis() - timeStampBefore);
+              System.currentTimeMillis() - timeStampBefore,
+              changes);
 
     return router;
   }
 
+  @Nullable
+  private RoutingCostCache createCostCache(ShortestPathAlgorithm<String, ModelEdge> algo,
+                                           Graph<String, ModelEdge> graph) {
+    switch (configuration.costCaching()) {
+      case NONE:
+        return null;
+      case LAZY:
+        return new RoutingCostCache(algo, graph.vertexSet());
+      case PRECOMPUTED:
+        RoutingCostCache costCache = new RoutingCostCache(algo, graph.vertexSet());
+        costCache.precompute();
+        LOG.debug("Precomputed routing costs: {}", costCache);
+        return costCache;
+      default:
+        throw new IllegalArgumentException("Unhandled cost caching: "
+            + configuration.costCaching());
+    }
+  }
+
+  @Nullable
+  private RoutingCostCache updateCostCache(RoutingCostCache previousCostCache,
+                                           ShortestPathAlgorithm<String, ModelEdge> algo,
+                                           GraphChanges changes) {
+    switch (configuration.costCaching()) {
+      case NONE:
+        return null;
+      case LAZY:
+        return previousCostCache.withChanges(algo, changes);
+      case PRECOMPUTED:
+        RoutingCostCache costCache = previousCostCache.withChanges(algo, changes);
+        costCache.precompute();
+        LOG.debug("Precomputed routing costs: {}", costCache);
+        return costCache;
+      default:
+        throw new IllegalArgumentException("Unhandled cost caching: "
+            + configuration.costCaching());
+    }
+  }
+
   /**
    * Returns a shortest path algorithm implementation working on the given graph.
    *
@@ -89,4 +170,23 @@ public abstract class AbstractPointRouterFactory
    */
   protected abstract ShortestPathAlgorithm<String, ModelEdge> createShortestPathAlgorithm(
       Graph<String, ModelEdge> graph);
+
+  /**
+   * Returns a shortest path algorithm implementation working on a modified version of the graph
+   * the given algorithm works on.
+   * Subclasses may override this to reuse data of the given algorithm that is not affected by the
+   * changes.
+   * <p>
+   * This default implementation simply creates a new algorithm implementation for the new graph.
+   * </p>
+   *
+   * @param previousAlgo The algorithm implementation working on the previous version of the graph.
+   * @param changes The changes from the previous version of the graph to the new one.
+   * @return A shortest path algorithm implementation working on the new graph.
+   */
+  protected ShortestPathAlgorithm<String, ModelEdge> updateShortestPathAlgorithm(
+      ShortestPathAlgorithm<String, ModelEdge> previousAlgo,
+      GraphChanges changes) {
+    return createShortestPathAlgorithm(changes.getNewGraph());
+  }
 }
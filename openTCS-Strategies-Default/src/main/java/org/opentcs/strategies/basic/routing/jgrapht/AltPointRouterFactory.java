@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Creates {@link PointRouter} instances based on the A* algorithm with a heuristic based on
+ * landmarks.
+ *
+ * @author The openTCS Authors
+ */
+public class AltPointRouterFactory
+    extends CompactGraphPointRouterFactory {
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service providing model data.
+   * @param mapper Maps the plant model to a graph.
+   * @param configuration The configuration.
+   */
+  @Inject
+  public AltPointRouterFactory(@Nonnull TCSObjectService objectService,
+                               @Nonnull ModelGraphMapper mapper,
+                               @Nonnull ShortestPathConfiguration configuration) {
+    super(objectService, mapper, configuration);
+  }
+
+  @Override
+  protected SearchHeuristic createHeuristic(@Nonnull CompactRoutingGraph graph,
+                                            @Nonnull Set<Point> points) {
+    return new LandmarkSearchHeuristic(graph, getConfiguration().altLandmarkCount());
+  }
+
+}
@@ -0,0 +1,431 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes routes between points using Dijkstra's algorithm on a {@link CompactRoutingGraph}, or
+ * A* if a {@link SearchHeuristic} is given.
+ * <p>
+ * Searches work on primitive arrays only. The arrays are allocated once per thread and reused for
+ * subsequent searches, and route steps are created only for the final path. If enabled, the costs
+ * from a source point to all other points are computed with a single search when the first route
+ * from that point is requested and cached afterwards.
+ * </p>
+ * <p>
+ * <em>Note that this implementation does not integrate static routes.</em>
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class CompactGraphPointRouter
+    implements PointRouter {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CompactGraphPointRouter.class);
+  /**
+   * The graph to compute routes on.
+   */
+  private final CompactRoutingGraph graph;
+  /**
+   * The points, in the order of the graph's vertex indices.
+   */
+  private final Point[] points;
+  /**
+   * The state of searches, per thread.
+   */
+  private final ThreadLocal<CompactGraphSearch> searches;
+  /**
+   * Estimates the remaining costs in point-to-point searches, or <code>null</code>.
+   */
+  @Nullable
+  private final SearchHeuristic heuristic;
+  /**
+   * The costs from every source point to all points, or <code>null</code> for source points not
+   * computed, yet, or <code>null</code>, if costs are not cached.
+   */
+  private final AtomicReferenceArray<long[]> costsBySource;
+  /**
+   * The number of point-to-point searches performed.
+   */
+  private final LongAdder searchCount = new LongAdder();
+  /**
+   * The number of vertices settled in point-to-point searches.
+   */
+  private final LongAdder settledVertexCount = new LongAdder();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to compute routes on.
+   * @param points The points in the graph.
+   * @param cachingCosts Whether to cache the costs from source points to all other points.
+   */
+  public CompactGraphPointRouter(@Nonnull CompactRoutingGraph graph,
+                                 @Nonnull Collection<Point> points,
+                                 boolean cachingCosts) {
+    this(graph, points, cachingCosts, null);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to compute routes on.
+   * @param points The points in the graph.
+   * @param cachingCosts Whether to cache the costs from source points to all other points.
+   * @param heuristic Estimates the remaining costs in point-to-point searches. May be
+   * <code>null</code>, in which case Dijkstra's algorithm is used.
+   */
+  public CompactGraphPointRouter(@Nonnull CompactRoutingGraph graph,
+                                 @Nonnull Collection<Point> points,
+                                 boolean cachingCosts,
+                                 @Nullable SearchHeuristic heuristic) {
+    this.graph = requireNonNull(graph, "graph");
+    requireNonNull(points, "points");
+
+    this.points = new Point[graph.getVertexCount()];
+    for (Point point : points) {
+      int index = graph.indexOf(point.getName());
+      if (index >= 0) {
+        this.points[index] = point;
+      }
+    }
+    this.searches = ThreadLocal.withInitial(() -> new CompactGraphSearch(graph.getVertexCount()));
+    this.heuristic = heuristic;
+    this.costsBySource = cachingCosts ? new AtomicReferenceArray<>(graph.getVertexCount()) : null;
+  }
+
+  /**
+   * Returns the graph this router computes routes on.
+   *
+   * @return The graph this router computes routes on.
+   */
+  @Nonnull
+  public CompactRoutingGraph getGraph() {
+    return graph;
+  }
+
+  /**
+   * Returns the number of point-to-point searches performed.
+   *
+   * @return The number of point-to-point searches performed.
+   */
+  public long getSearchCount() {
+    return searchCount.sum();
+  }
+
+  /**
+   * Returns the number of vertices settled in point-to-point searches.
+   *
+   * @return The number of vertices settled in point-to-point searches.
+   */
+  public long getSettledVertexCount() {
+    return settledVertexCount.sum();
+  }
+
+  /**
+   * Returns the number of source points for which the costs to all points are cached.
+   *
+   * @return The number of source points for which the costs to all points are cached.
+   */
+  public int getCachedCostsCount() {
+    if (costsBySource == null) {
+      return 0;
+    }
+    int result = 0;
+    for (int i = 0; i < costsBySource.length(); i++) {
+      if (costsBySource.get(i) != null) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Creates a point router working on the given graph, which is a modified version of this
+   * router's graph, e.g. with edges removed for locked paths.
+   * Cached costs from source points that are not affected by the modifications are taken over.
+   * <p>
+   * The edges removed from the graph and the ones added to it (with edges whose weights changed
+   * counting as both) are determined by comparing the graphs. The costs from a source point remain
+   * valid if no removed edge was on a shortest path from it and no added edge shortens any path
+   * from it.
+   * </p>
+   *
+   * @param newGraph The modified graph. If its vertex indices differ from the ones of this router's
+   * graph, no costs are taken over.
+   * @param points The points in the modified graph.
+   * @param heuristic Estimates the remaining costs in point-to-point searches on the modified
+   * graph. May be <code>null</code>, in which case Dijkstra's algorithm is used.
+   * @return A point router working on the given graph.
+   */
+  @Nonnull
+  public CompactGraphPointRouter withGraph(@Nonnull CompactRoutingGraph newGraph,
+                                           @Nonnull Collection<Point> points,
+                                           @Nullable SearchHeuristic heuristic) {
+    requireNonNull(newGraph, "newGraph");
+    requireNonNull(points, "points");
+
+    CompactGraphPointRouter result
+        = new CompactGraphPointRouter(newGraph, points, costsBySource != null, heuristic);
+    if (costsBySource == null || !graph.hasSameVertexIndices(newGraph)) {
+      return result;
+    }
+
+    List<int[]> removedEdges = new ArrayList<>();
+    List<int[]> addedEdges = new ArrayList<>();
+    collectChangedEdges(graph, newGraph, removedEdges, addedEdges);
+
+    int keptCount = 0;
+    int discardedCount = 0;
+    for (int i = 0; i < costsBySource.length(); i++) {
+      long[] costs = costsBySource.get(i);
+      if (costs == null) {
+        continue;
+      }
+      if (mayBeAffected(costs, graph, removedEdges) || mayBeAffected(costs, newGraph, addedEdges)) {
+        discardedCount++;
+      }
+      else {
+        // The arrays are never modified after being cached, so they can be shared.
+        result.costsBySource.set(i, costs);
+        keptCount++;
+      }
+    }
+
+    LOG.debug("Kept costs from {} source points, discarded {} ({} edges removed, {} added).",
+              keptCount,
+              discardedCount,
+              removedEdges.size(),
+              addedEdges.size());
+
+    return result;
+  }
+
+  /**
+   * Computes and caches the costs for all pairs of points.
+   * Does nothing if costs are not cached.
+   */
+  public void precomputeCosts() {
+    if (costsBySource == null) {
+      return;
+    }
+    for (int i = 0; i < graph.getVertexCount(); i++) {
+      if (costsBySource.get(i) == null) {
+        computeCostsFrom(i);
+      }
+    }
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    long timeBefore = System.currentTimeMillis();
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    int srcIndex = graph.indexOf(srcPoint.getName());
+    int destIndex = graph.indexOf(destPoint.getName());
+    if (srcIndex < 0 || destIndex < 0) {
+      return null;
+    }
+
+    CompactGraphSearch search = searchPointToPoint(srcIndex, destIndex);
+    if (!search.isReached(destIndex)) {
+      return null;
+    }
+
+    List<Route.Step> result = translateToSteps(search, destIndex);
+
+    LOG.debug("Looking up route from {} to {} took {} milliseconds.",
+              srcPoint.getName(),
+              destPoint.getName(),
+              System.currentTimeMillis() - timeBefore);
+
+    return result;
+  }
+
+  @Override
+  public long getCosts(TCSObjectReference<Point> srcPointRef,
+                       TCSObjectReference<Point> destPointRef) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    int srcIndex = graph.indexOf(srcPointRef.getName());
+    int destIndex = graph.indexOf(destPointRef.getName());
+    if (srcIndex < 0 || destIndex < 0) {
+      return INFINITE_COSTS;
+    }
+
+    if (costsBySource != null) {
+      long[] costs = costsBySource.get(srcIndex);
+      if (costs == null) {
+        costs = computeCostsFrom(srcIndex);
+      }
+      return costs[destIndex];
+    }
+
+    return searchPointToPoint(srcIndex, destIndex).getCosts(destIndex);
+  }
+
+  @Override
+  public String toString() {
+    return "CompactGraphPointRouter{"
+        + "graph=" + graph
+        + ", cachingCosts=" + (costsBySource != null)
+        + ", heuristic=" + heuristic
+        + ", searchCount=" + getSearchCount()
+        + ", settledVertexCount=" + getSettledVertexCount()
+        + '}';
+  }
+
+  private CompactGraphSearch searchPointToPoint(int srcIndex, int destIndex) {
+    CompactGraphSearch search = searches.get();
+    search.search(graph, srcIndex, destIndex, heuristic);
+    searchCount.increment();
+    settledVertexCount.add(search.getSettledVertexCount());
+    return search;
+  }
+
+  private long[] computeCostsFrom(int srcIndex) {
+    CompactGraphSearch search = searches.get();
+    search.search(graph, srcIndex, -1, null);
+    long[] costs = new long[graph.getVertexCount()];
+    for (int i = 0; i < costs.length; i++) {
+      costs[i] = search.getCosts(i);
+    }
+    // If another thread computed the same costs in the meantime, just keep the ones it stored.
+    costsBySource.compareAndSet(srcIndex, null, costs);
+    return costs;
+  }
+
+  /**
+   * Compares the outgoing edges of every vertex in the given graphs, which must have the same
+   * vertex indices.
+   *
+   * @param oldGraph The old graph.
+   * @param newGraph The new graph.
+   * @param removedEdges Receives the source vertex and index of every edge in the old graph without
+   * an equivalent edge (with the same target and weight) in the new graph.
+   * @param addedEdges Receives the source vertex and index of every edge in the new graph without
+   * an equivalent edge in the old graph.
+   */
+  private static void collectChangedEdges(CompactRoutingGraph oldGraph,
+                                          CompactRoutingGraph newGraph,
+                                          List<int[]> removedEdges,
+                                          List<int[]> addedEdges) {
+    for (int vertex = 0; vertex < oldGraph.getVertexCount(); vertex++) {
+      int oldEnd = oldGraph.edgeOffset(vertex + 1);
+      int newFirst = newGraph.edgeOffset(vertex);
+      int newEnd = newGraph.edgeOffset(vertex + 1);
+      boolean[] matched = new boolean[newEnd - newFirst];
+      for (int oldEdge = oldGraph.edgeOffset(vertex); oldEdge < oldEnd; oldEdge++) {
+        int match = -1;
+        for (int newEdge = newFirst; newEdge < newEnd && match < 0; newEdge++) {
+          if (!matched[newEdge - newFirst]
+              && oldGraph.edgeTarget(oldEdge) == newGraph.edgeTarget(newEdge)
+              && oldGraph.edgeWeight(oldEdge) == newGraph.edgeWeight(newEdge)) {
+            match = newEdge;
+          }
+        }
+        if (match < 0) {
+          removedEdges.add(new int[]{vertex, oldEdge});
+        }
+        else {
+          matched[match - newFirst] = true;
+        }
+      }
+      for (int newEdge = newFirst; newEdge < newEnd; newEdge++) {
+        if (!matched[newEdge - newFirst]) {
+          addedEdges.add(new int[]{vertex, newEdge});
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks whether any of the given edges may be on a shortest path with the given costs, or
+   * shorten one of the paths.
+   * That is the case if the costs to the edge's source vertex plus its weight are not higher than
+   * the costs to its target vertex. As costs are truncated distances, a tolerance of one is
+   * applied.
+   *
+   * @param costs The costs from a source vertex to all vertices.
+   * @param graph The graph containing the edges.
+   * @param edges The source vertex and index of every edge to be checked.
+   * @return <code>true</code> if, and only if, any of the edges may affect the given costs.
+   */
+  private static boolean mayBeAffected(long[] costs, CompactRoutingGraph graph, List<int[]> edges) {
+    for (int[] edge : edges) {
+      long sourceCosts = costs[edge[0]];
+      long targetCosts = costs[graph.edgeTarget(edge[1])];
+      if (sourceCosts != INFINITE_COSTS
+          && (targetCosts == INFINITE_COSTS
+              || sourceCosts + graph.edgeWeight(edge[1]) < targetCosts + 1)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private List<Route.Step> translateToSteps(CompactGraphSearch search, int destIndex) {
+    int edgeCount = 0;
+    for (int vertex = destIndex; search.getPredecessorEdge(vertex) >= 0;
+         vertex = search.getPredecessorVertex(vertex)) {
+      edgeCount++;
+    }
+
+    Route.Step[] steps = new Route.Step[edgeCount];
+    int vertex = destIndex;
+    for (int routeIndex = edgeCount - 1; routeIndex >= 0; routeIndex--) {
+      int predecessor = search.getPredecessorVertex(vertex);
+      ModelEdge edge = graph.modelEdge(search.getPredecessorEdge(vertex));
+      Point sourcePoint = points[predecessor];
+      steps[routeIndex] = new Route.Step(edge.getModelPath(),
+                                         sourcePoint,
+                                         points[vertex],
+                                         orientation(edge, sourcePoint),
+                                         routeIndex);
+      vertex = predecessor;
+    }
+
+    return new ArrayList<>(Arrays.asList(steps));
+  }
+
+  private Vehicle.Orientation orientation(ModelEdge edge, Point graphSourcePoint) {
+    return Objects.equals(edge.getModelPath().getSourcePoint(), graphSourcePoint.getReference())
+        ? Vehicle.Orientation.FORWARD
+        : Vehicle.Orientation.BACKWARD;
+  }
+}
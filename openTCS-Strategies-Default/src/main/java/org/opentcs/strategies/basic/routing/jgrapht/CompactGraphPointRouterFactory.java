@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Iterator;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import static org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration.CostCaching.NONE;
+import static org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration.CostCaching.PRECOMPUTED;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link CompactGraphPointRouter} instances using Dijkstra's algorithm.
+ * The graph created by the {@link ModelGraphMapper} is compiled into a {@link CompactRoutingGraph}
+ * once per point router.
+ * Subclasses may provide a {@link SearchHeuristic} to use A* instead, or create different point
+ * routers working on the compact graph.
+ * When updating a {@link CompactGraphPointRouter} after a change in the topology, cached costs not
+ * affected by the change are taken over to the new point router. Subclasses creating different
+ * point routers may reuse their data by overriding {@link #getUpdatableGraph(PointRouter)} and
+ * {@link #updatePointRouter(PointRouter, CompactRoutingGraph, Set)}.
+ *
+ * @author The openTCS Authors
+ */
+public class CompactGraphPointRouterFactory
+    implements PointRouterFactory {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CompactGraphPointRouterFactory.class);
+  /**
+   * The object service providing the model data.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Maps the plant model to a graph.
+   */
+  private final ModelGraphMapper mapper;
+  /**
+   * The configuration.
+   */
+  private final ShortestPathConfiguration configuration;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service providing model data.
+   * @param mapper Maps the plant model to a graph.
+   * @param configuration The configuration.
+   */
+  @Inject
+  public CompactGraphPointRouterFactory(@Nonnull TCSObjectService objectService,
+                                        @Nonnull ModelGraphMapper mapper,
+                                        @Nonnull ShortestPathConfiguration configuration) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.mapper = requireNonNull(mapper, "mapper");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public PointRouter createPointRouter(Vehicle vehicle) {
+    requireNonNull(vehicle, "vehicle");
+
+    return createPointRouter(vehicle, null);
+  }
+
+  @Override
+  public PointRouter updatePointRouter(Vehicle vehicle, PointRouter pointRouter) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(pointRouter, "pointRouter");
+
+    return createPointRouter(vehicle, pointRouter);
+  }
+
+  private PointRouter createPointRouter(Vehicle vehicle, @Nullable PointRouter previousRouter) {
+    long timeStampBefore = System.currentTimeMillis();
+
+    CompactRoutingGraph previousGraph
+        = previousRouter == null ? null : getUpdatableGraph(previousRouter);
+    Set<Point> points = objectService.fetchObjects(Point.class);
+    CompactRoutingGraph graph
+        = new CompactRoutingGraph(mapper.translateModel(points,
+                                                        objectService.fetchObjects(Path.class),
+                                                        vehicle),
+                                  previousGraph);
+
+    PointRouter router = previousGraph == null
+        ? createPointRouter(graph, points)
+        : updatePointRouter(previousRouter, graph, points);
+    // Make a single request for a route from one point to a different one to make sure the
+    // calling thread's search state is allocated.
+    if (points.size() >= 2) {
+      Iterator<Point> pointIter = points.iterator();
+      router.getRouteSteps(pointIter.next(), pointIter.next());
+    }
+
+    LOG.debug("Created point router for {} in {} milliseconds: {}",
+              vehicle.getName(),
+              System.currentTimeMillis() - timeStampBefore,
+              router);
+
+    return router;
+  }
+
+  /**
+   * Creates a point router working on the given graph.
+   *
+   * @param graph The graph.
+   * @param points The points in the graph.
+   * @return A point router working on the given graph.
+   */
+  protected PointRouter createPointRouter(@Nonnull CompactRoutingGraph graph,
+                                          @Nonnull Set<Point> points) {
+    CompactGraphPointRouter router
+        = new CompactGraphPointRouter(graph,
+                                      points,
+                                      configuration.costCaching() != NONE,
+                                      createHeuristic(graph, points));
+    if (configuration.costCaching() == PRECOMPUTED) {
+      router.precomputeCosts();
+    }
+    return router;
+  }
+
+  /**
+   * Returns the graph the given point router works on, if this factory can update the point router
+   * via {@link #updatePointRouter(PointRouter, CompactRoutingGraph, Set)}.
+   *
+   * @param pointRouter The point router.
+   * @return The graph the given point router works on, or <code>null</code>, if this factory cannot
+   * update the point router.
+   */
+  @Nullable
+  protected CompactRoutingGraph getUpdatableGraph(@Nonnull PointRouter pointRouter) {
+    return pointRouter instanceof CompactGraphPointRouter
+        ? ((CompactGraphPointRouter) pointRouter).getGraph()
+        : null;
+  }
+
+  /**
+   * Creates a point router working on the given graph, reusing data of the given point router,
+   * which works on a previous version of the graph.
+   *
+   * @param previousRouter The point router working on the previous version of the graph, for which
+   * {@link #getUpdatableGraph(PointRouter)} returned the previous graph.
+   * @param graph The graph.
+   * @param points The points in the graph.
+   * @return A point router working on the given graph.
+   */
+  protected PointRouter updatePointRouter(@Nonnull PointRouter previousRouter,
+                                          @Nonnull CompactRoutingGraph graph,
+                                          @Nonnull Set<Point> points) {
+    CompactGraphPointRouter router = ((CompactGraphPointRouter) previousRouter)
+        .withGraph(graph, points, createHeuristic(graph, points));
+    if (configuration.costCaching() == PRECOMPUTED) {
+      router.precomputeCosts();
+    }
+    return router;
+  }
+
+  /**
+   * Returns the configuration.
+   *
+   * @return The configuration.
+   */
+  protected ShortestPathConfiguration getConfiguration() {
+    return configuration;
+  }
+
+  /**
+   * Returns a heuristic for point-to-point searches on the given graph.
+   *
+   * @param graph The graph.
+   * @param points The points in the graph.
+   * @return A heuristic for point-to-point searches on the given graph, or <code>null</code> to use
+   * Dijkstra's algorithm.
+   */
+  @Nullable
+  protected SearchHeuristic createHeuristic(@Nonnull CompactRoutingGraph graph,
+                                            @Nonnull Set<Point> points) {
+    return null;
+  }
+}
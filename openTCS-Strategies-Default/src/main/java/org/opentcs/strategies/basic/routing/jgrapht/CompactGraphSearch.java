@@ -0,0 +1,308 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
+
+/**
+ * The reusable state of shortest path searches on a {@link CompactRoutingGraph}, including a binary
+ * heap of vertex indices ordered by their keys.
+ * <p>
+ * Searches are performed with Dijkstra's algorithm, or with A* if a heuristic is given.
+ * Instead of resetting all arrays before every search, every search gets a new generation number
+ * and entries are only valid if they were written in the current generation.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+class CompactGraphSearch {
+
+  /**
+   * The distance of every vertex from the source vertex.
+   */
+  private final double[] distances;
+  /**
+   * The key of every vertex in the heap, i.e. its distance plus its estimated remaining costs.
+   */
+  private final double[] keys;
+  /**
+   * The edge via which every vertex was reached, or -1 for the source vertex.
+   */
+  private final int[] predecessorEdges;
+  /**
+   * The vertex from which every vertex was reached, or -1 for the source vertex.
+   */
+  private final int[] predecessorVertices;
+  /**
+   * The generation in which every vertex was reached.
+   */
+  private final int[] generations;
+  /**
+   * The position of every vertex in the heap, or -1 for vertices already settled.
+   */
+  private final int[] heapPositions;
+  /**
+   * The heap of vertices reached but not settled, yet.
+   */
+  private final int[] heap;
+  /**
+   * The vertices reached in the current search, in the order they were reached.
+   */
+  private final int[] reachedVertices;
+  /**
+   * The number of vertices in the heap.
+   */
+  private int heapSize;
+  /**
+   * The number of vertices reached in the current search.
+   */
+  private int reachedVertexCount;
+  /**
+   * The current generation.
+   */
+  private int generation;
+  /**
+   * The number of vertices settled in the last search.
+   */
+  private int settledVertexCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param vertexCount The number of vertices in the graphs to be searched.
+   */
+  CompactGraphSearch(int vertexCount) {
+    distances = new double[vertexCount];
+    keys = new double[vertexCount];
+    predecessorEdges = new int[vertexCount];
+    predecessorVertices = new int[vertexCount];
+    generations = new int[vertexCount];
+    heapPositions = new int[vertexCount];
+    heap = new int[vertexCount];
+    reachedVertices = new int[vertexCount];
+  }
+
+  /**
+   * Searches the shortest paths from the given source vertex.
+   *
+   * @param graph The graph to search in.
+   * @param srcIndex The source vertex's index.
+   * @param destIndex The destination vertex's index, at which the search stops, or -1 to search
+   * the shortest paths to all vertices.
+   * @param heuristic Estimates the remaining costs to the destination vertex. Must be consistent,
+   * and may return infinity for vertices from which the destination cannot be reached.
+   * May be <code>null</code>, and is ignored if the destination vertex's index is -1.
+   */
+  void search(CompactRoutingGraph graph,
+              int srcIndex,
+              int destIndex,
+              @Nullable SearchHeuristic heuristic) {
+    if (destIndex < 0) {
+      heuristic = null;
+    }
+    nextGeneration();
+    heapSize = 0;
+    reachedVertexCount = 0;
+    settledVertexCount = 0;
+    reach(srcIndex, 0.0, estimate(heuristic, srcIndex, destIndex), -1, -1);
+
+    while (heapSize > 0) {
+      int vertex = poll();
+      settledVertexCount++;
+      if (vertex == destIndex) {
+        return;
+      }
+      double distance = distances[vertex];
+      int edgeEnd = graph.edgeOffset(vertex + 1);
+      for (int edge = graph.edgeOffset(vertex); edge < edgeEnd; edge++) {
+        int target = graph.edgeTarget(edge);
+        double targetDistance = distance + graph.edgeWeight(edge);
+        if (generations[target] != generation) {
+          double estimate = estimate(heuristic, target, destIndex);
+          // Vertices from which the destination cannot be reached don't need to be searched.
+          if (!Double.isInfinite(estimate)) {
+            reach(target, targetDistance, targetDistance + estimate, edge, vertex);
+          }
+        }
+        else if (heapPositions[target] >= 0 && targetDistance < distances[target]) {
+          keys[target] = targetDistance + (keys[target] - distances[target]);
+          distances[target] = targetDistance;
+          predecessorEdges[target] = edge;
+          predecessorVertices[target] = vertex;
+          siftUp(heapPositions[target]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Indicates whether the given vertex was reached in the last search.
+   *
+   * @param vertexIndex The vertex's index.
+   * @return <code>true</code> if, and only if, the given vertex was reached.
+   */
+  boolean isReached(int vertexIndex) {
+    return generations[vertexIndex] == generation;
+  }
+
+  /**
+   * Returns the distance of the given vertex from the last search's source vertex.
+   *
+   * @param vertexIndex The vertex's index.
+   * @return The distance, or {@link Double#POSITIVE_INFINITY} if the vertex was not reached.
+   */
+  double getDistance(int vertexIndex) {
+    return isReached(vertexIndex) ? distances[vertexIndex] : Double.POSITIVE_INFINITY;
+  }
+
+  /**
+   * Returns the costs for travelling from the last search's source vertex to the given vertex.
+   *
+   * @param vertexIndex The vertex's index.
+   * @return The costs, or {@link org.opentcs.strategies.basic.routing.PointRouter#INFINITE_COSTS}
+   * if the vertex was not reached.
+   */
+  long getCosts(int vertexIndex) {
+    return isReached(vertexIndex) ? (long) distances[vertexIndex] : INFINITE_COSTS;
+  }
+
+  /**
+   * Returns the edge via which the given vertex was reached.
+   *
+   * @param vertexIndex The vertex's index.
+   * @return The edge's index, or -1 for the source vertex.
+   */
+  int getPredecessorEdge(int vertexIndex) {
+    return predecessorEdges[vertexIndex];
+  }
+
+  /**
+   * Returns the vertex from which the given vertex was reached.
+   *
+   * @param vertexIndex The vertex's index.
+   * @return The predecessor's index, or -1 for the source vertex.
+   */
+  int getPredecessorVertex(int vertexIndex) {
+    return predecessorVertices[vertexIndex];
+  }
+
+  /**
+   * Returns the number of vertices reached in the last search.
+   *
+   * @return The number of vertices reached in the last search.
+   */
+  int getReachedVertexCount() {
+    return reachedVertexCount;
+  }
+
+  /**
+   * Returns a vertex reached in the last search.
+   *
+   * @param position The position of the vertex in the order the vertices were reached.
+   * @return The index of the vertex at the given position.
+   */
+  int getReachedVertex(int position) {
+    return reachedVertices[position];
+  }
+
+  /**
+   * Returns the number of vertices settled in the last search.
+   *
+   * @return The number of vertices settled in the last search.
+   */
+  int getSettledVertexCount() {
+    return settledVertexCount;
+  }
+
+  private static double estimate(@Nullable SearchHeuristic heuristic,
+                                 int vertexIndex,
+                                 int destIndex) {
+    return heuristic == null ? 0.0 : heuristic.estimateCosts(vertexIndex, destIndex);
+  }
+
+  private void nextGeneration() {
+    generation++;
+    if (generation == 0) {
+      // The generation counter overflowed - make sure no stale entry appears valid.
+      Arrays.fill(generations, 0);
+      generation = 1;
+    }
+  }
+
+  private void reach(int vertex, double distance, double key, int edge, int predecessor) {
+    generations[vertex] = generation;
+    distances[vertex] = distance;
+    keys[vertex] = key;
+    predecessorEdges[vertex] = edge;
+    predecessorVertices[vertex] = predecessor;
+    reachedVertices[reachedVertexCount] = vertex;
+    reachedVertexCount++;
+    heap[heapSize] = vertex;
+    heapPositions[vertex] = heapSize;
+    heapSize++;
+    siftUp(heapSize - 1);
+  }
+
+  private int poll() {
+    int result = heap[0];
+    heapPositions[result] = -1;
+    heapSize--;
+    if (heapSize > 0) {
+      heap[0] = heap[heapSize];
+      heapPositions[heap[0]] = 0;
+      siftDown(0);
+    }
+    return result;
+  }
+
+  private void siftUp(int position) {
+    int vertex = heap[position];
+    double key = keys[vertex];
+    while (position > 0) {
+      int parentPosition = (position - 1) / 2;
+      int parent = heap[parentPosition];
+      if (keys[parent] <= key) {
+        break;
+      }
+      heap[position] = parent;
+      heapPositions[parent] = position;
+      position = parentPosition;
+    }
+    heap[position] = vertex;
+    heapPositions[vertex] = position;
+  }
+
+  private void siftDown(int position) {
+    int vertex = heap[position];
+    double key = keys[vertex];
+    while (true) {
+      int childPosition = 2 * position + 1;
+      if (childPosition >= heapSize) {
+        break;
+      }
+      if (childPosition + 1 < heapSize
+          && keys[heap[childPosition + 1]] < keys[heap[childPosition]]) {
+        childPosition++;
+      }
+      int child = heap[childPosition];
+      if (keys[child] >= key) {
+        break;
+      }
+      heap[position] = child;
+      heapPositions[child] = position;
+      position = childPosition;
+    }
+    heap[position] = vertex;
+    heapPositions[vertex] = position;
+  }
+}
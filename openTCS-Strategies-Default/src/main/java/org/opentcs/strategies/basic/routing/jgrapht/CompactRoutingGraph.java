@@ -0,0 +1,278 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.jgrapht.Graph;
+
+/**
+ * An immutable, compact representation of a routing graph.
+ * <p>
+ * Vertices are mapped to consecutive indices. The outgoing edges of all vertices are stored in
+ * compressed sparse row format: The edges of vertex <code>v</code> occupy the index range
+ * <code>[edgeOffset(v), edgeOffset(v + 1))</code> in primitive arrays holding the edges' target
+ * vertices and weights.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class CompactRoutingGraph {
+
+  /**
+   * The vertices' names, in the order of their indices.
+   */
+  private final String[] vertexNames;
+  /**
+   * The vertices' indices, mapped by the vertices' names.
+   */
+  private final Map<String, Integer> indicesByName;
+  /**
+   * The index of every vertex's first outgoing edge, followed by the total number of edges.
+   */
+  private final int[] edgeOffsets;
+  /**
+   * The index of every edge's target vertex.
+   */
+  private final int[] edgeTargets;
+  /**
+   * Every edge's weight.
+   */
+  private final double[] edgeWeights;
+  /**
+   * The model edges, in the order of the edges' indices.
+   */
+  private final ModelEdge[] modelEdges;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to be compiled into the compact representation.
+   */
+  public CompactRoutingGraph(@Nonnull Graph<String, ModelEdge> graph) {
+    this(graph, null);
+  }
+
+  /**
+   * Creates a new instance.
+   * If the given graph contains exactly the same vertices as the given layout graph, the vertices
+   * are assigned the same indices as in the layout graph, so data computed for the layout graph
+   * can be related to the new one.
+   *
+   * @param graph The graph to be compiled into the compact representation.
+   * @param layout A graph whose vertex indices are to be kept. May be <code>null</code>.
+   */
+  public CompactRoutingGraph(@Nonnull Graph<String, ModelEdge> graph,
+                             @Nullable CompactRoutingGraph layout) {
+    requireNonNull(graph, "graph");
+
+    if (layout != null
+        && layout.vertexNames.length == graph.vertexSet().size()
+        && graph.vertexSet().containsAll(layout.indicesByName.keySet())) {
+      vertexNames = layout.vertexNames;
+      indicesByName = layout.indicesByName;
+    }
+    else {
+      vertexNames = graph.vertexSet().toArray(new String[graph.vertexSet().size()]);
+      indicesByName = new HashMap<>();
+      for (int i = 0; i < vertexNames.length; i++) {
+        indicesByName.put(vertexNames[i], i);
+      }
+    }
+
+    int edgeCount = graph.edgeSet().size();
+    edgeOffsets = new int[vertexNames.length + 1];
+    edgeTargets = new int[edgeCount];
+    edgeWeights = new double[edgeCount];
+    modelEdges = new ModelEdge[edgeCount];
+
+    int edgeIndex = 0;
+    for (int i = 0; i < vertexNames.length; i++) {
+      edgeOffsets[i] = edgeIndex;
+      for (ModelEdge edge : graph.outgoingEdgesOf(vertexNames[i])) {
+        edgeTargets[edgeIndex] = indicesByName.get(graph.getEdgeTarget(edge));
+        edgeWeights[edgeIndex] = graph.getEdgeWeight(edge);
+        modelEdges[edgeIndex] = edge;
+        edgeIndex++;
+      }
+    }
+    edgeOffsets[vertexNames.length] = edgeIndex;
+  }
+
+  private CompactRoutingGraph(String[] vertexNames,
+                              Map<String, Integer> indicesByName,
+                              int[] edgeOffsets,
+                              int[] edgeTargets,
+                              double[] edgeWeights,
+                              ModelEdge[] modelEdges) {
+    this.vertexNames = vertexNames;
+    this.indicesByName = indicesByName;
+    this.edgeOffsets = edgeOffsets;
+    this.edgeTargets = edgeTargets;
+    this.edgeWeights = edgeWeights;
+    this.modelEdges = modelEdges;
+  }
+
+  /**
+   * Returns a graph with the same vertices (and vertex indices) as this one, but with all edges
+   * reversed.
+   * The reversed edges keep their weights and model edges.
+   *
+   * @return A graph with all edges reversed.
+   */
+  @Nonnull
+  public CompactRoutingGraph reverse() {
+    int vertexCount = vertexNames.length;
+    int[] reverseOffsets = new int[vertexCount + 1];
+    for (int edge = 0; edge < edgeTargets.length; edge++) {
+      reverseOffsets[edgeTargets[edge] + 1]++;
+    }
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      reverseOffsets[vertex + 1] += reverseOffsets[vertex];
+    }
+
+    int[] reverseTargets = new int[edgeTargets.length];
+    double[] reverseWeights = new double[edgeTargets.length];
+    ModelEdge[] reverseModelEdges = new ModelEdge[edgeTargets.length];
+    int[] nextPositions = Arrays.copyOf(reverseOffsets, vertexCount);
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      for (int edge = edgeOffsets[vertex]; edge < edgeOffsets[vertex + 1]; edge++) {
+        int position = nextPositions[edgeTargets[edge]]++;
+        reverseTargets[position] = vertex;
+        reverseWeights[position] = edgeWeights[edge];
+        reverseModelEdges[position] = modelEdges[edge];
+      }
+    }
+
+    return withEdges(reverseOffsets, reverseTargets, reverseWeights, reverseModelEdges);
+  }
+
+  /**
+   * Returns a graph with the same vertices (and vertex indices) as this one, but with the given
+   * edges.
+   *
+   * @param offsets The index of every vertex's first outgoing edge, followed by the total number
+   * of edges.
+   * @param targets The index of every edge's target vertex.
+   * @param weights Every edge's weight.
+   * @param edges The model edges, in the order of the edges' indices. May contain
+   * <code>null</code> elements for graphs that are only searched, but not translated to routes.
+   * @return A graph with the given edges.
+   */
+  CompactRoutingGraph withEdges(int[] offsets, int[] targets, double[] weights, ModelEdge[] edges) {
+    return new CompactRoutingGraph(vertexNames, indicesByName, offsets, targets, weights, edges);
+  }
+
+  /**
+   * Checks whether the given graph contains the same vertices with the same indices as this one.
+   *
+   * @param other The other graph.
+   * @return <code>true</code> if, and only if, the given graph has the same vertex indices.
+   */
+  public boolean hasSameVertexIndices(@Nonnull CompactRoutingGraph other) {
+    requireNonNull(other, "other");
+
+    return vertexNames == other.vertexNames || Arrays.equals(vertexNames, other.vertexNames);
+  }
+
+  /**
+   * Returns the number of vertices in this graph.
+   *
+   * @return The number of vertices in this graph.
+   */
+  public int getVertexCount() {
+    return vertexNames.length;
+  }
+
+  /**
+   * Returns the number of edges in this graph.
+   *
+   * @return The number of edges in this graph.
+   */
+  public int getEdgeCount() {
+    return edgeTargets.length;
+  }
+
+  /**
+   * Returns the index of the vertex with the given name.
+   *
+   * @param vertexName The vertex's name.
+   * @return The index of the vertex with the given name, or -1, if there is no such vertex.
+   */
+  public int indexOf(@Nonnull String vertexName) {
+    Integer index = indicesByName.get(vertexName);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Returns the name of the vertex with the given index.
+   *
+   * @param vertexIndex The vertex's index.
+   * @return The name of the vertex with the given index.
+   */
+  @Nonnull
+  public String getVertexName(int vertexIndex) {
+    return vertexNames[vertexIndex];
+  }
+
+  /**
+   * Returns the index of the given vertex's first outgoing edge.
+   * The outgoing edges of a vertex <code>v</code> are the ones with indices in the range
+   * <code>[edgeOffset(v), edgeOffset(v + 1))</code>.
+   *
+   * @param vertexIndex The vertex's index, or the number of vertices.
+   * @return The index of the given vertex's first outgoing edge, or the number of edges, if the
+   * given index is the number of vertices.
+   */
+  public int edgeOffset(int vertexIndex) {
+    return edgeOffsets[vertexIndex];
+  }
+
+  /**
+   * Returns the index of the given edge's target vertex.
+   *
+   * @param edgeIndex The edge's index.
+   * @return The index of the given edge's target vertex.
+   */
+  public int edgeTarget(int edgeIndex) {
+    return edgeTargets[edgeIndex];
+  }
+
+  /**
+   * Returns the given edge's weight.
+   *
+   * @param edgeIndex The edge's index.
+   * @return The given edge's weight.
+   */
+  public double edgeWeight(int edgeIndex) {
+    return edgeWeights[edgeIndex];
+  }
+
+  /**
+   * Returns the model edge with the given index.
+   *
+   * @param edgeIndex The edge's index.
+   * @return The model edge with the given index.
+   */
+  @Nonnull
+  public ModelEdge modelEdge(int edgeIndex) {
+    return modelEdges[edgeIndex];
+  }
+
+  @Override
+  public String toString() {
+    return "CompactRoutingGraph{"
+        + "vertexCount=" + getVertexCount()
+        + ", edgeCount=" + getEdgeCount()
+        + '}';
+  }
+}
@@ -0,0 +1,739 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+import static java.util.Objects.requireNonNull;
+import java.util.PriorityQueue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A contraction hierarchy for a {@link CompactRoutingGraph}.
+ * <p>
+ * During preprocessing, all vertices are contracted one after another, ordered by the number of
+ * shortcut edges their contraction requires. Contracting a vertex removes it from the remaining
+ * graph and adds shortcuts between its neighbours wherever the path via the vertex is the only
+ * shortest one (as determined by local witness searches). The order of contraction defines the
+ * vertices' ranks. A hierarchy for a modified version of a graph may be created with the order of
+ * contraction of the previous version's hierarchy, which saves determining the order again. (The
+ * shortcuts are still determined for the modified graph, so the hierarchy is correct, though
+ * possibly with more shortcuts than with a fresh order.)
+ * </p>
+ * <p>
+ * A query then consists of two small searches that only follow edges towards vertices of higher
+ * rank: a forward search from the source vertex and a backward search from the destination vertex.
+ * The shortest path is the cheapest combination of both searches meeting at a common vertex.
+ * Shortcuts in a path found are unpacked recursively into the original edges they represent.
+ * </p>
+ * <p>
+ * Instances are immutable and safe to be used by multiple threads; the states of queries are held
+ * by {@link Query} instances, which are not thread-safe.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class ContractionHierarchy {
+
+  /**
+   * The maximum number of vertices settled in a single witness search.
+   * If a witness search reaches this limit before finding a witness, a shortcut is added, which is
+   * always correct but may be unnecessary.
+   */
+  private static final int WITNESS_SEARCH_SETTLE_LIMIT = 100;
+  /**
+   * The graph this hierarchy was created for.
+   */
+  private final CompactRoutingGraph graph;
+  /**
+   * The index of every edge's source vertex.
+   * Indices in <code>[0, graph.getEdgeCount())</code> refer to the graph's original edges, higher
+   * indices refer to shortcuts.
+   */
+  private final int[] edgeSources;
+  /**
+   * The index of every edge's target vertex.
+   */
+  private final int[] edgeTargets;
+  /**
+   * For every shortcut, the first of the two edges it represents, indexed by
+   * <code>shortcut - graph.getEdgeCount()</code>.
+   */
+  private final int[] shortcutFirstEdges;
+  /**
+   * For every shortcut, the second of the two edges it represents, indexed by
+   * <code>shortcut - graph.getEdgeCount()</code>.
+   */
+  private final int[] shortcutSecondEdges;
+  /**
+   * The edges leading from every vertex to vertices with a higher rank.
+   */
+  private final CompactRoutingGraph upwardGraph;
+  /**
+   * The index of the edge represented by every edge in the upward graph.
+   */
+  private final int[] upwardEdges;
+  /**
+   * The edges leading to every vertex from vertices with a higher rank, reversed.
+   */
+  private final CompactRoutingGraph downwardGraph;
+  /**
+   * The index of the edge represented by every edge in the downward graph.
+   */
+  private final int[] downwardEdges;
+  /**
+   * The rank of every vertex, i.e. the position in the order of contraction.
+   */
+  private final int[] ranks;
+  /**
+   * Whether the order of contraction was taken over from a previous hierarchy.
+   */
+  private final boolean previousOrder;
+  /**
+   * The time spent on preprocessing (in milliseconds).
+   */
+  private final long preprocessingTime;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to create the hierarchy for. Must not contain edges with negative
+   * weights.
+   */
+  public ContractionHierarchy(@Nonnull CompactRoutingGraph graph) {
+    this(graph, null);
+  }
+
+  /**
+   * Creates a new instance, contracting the vertices in the same order as the given hierarchy if it
+   * was created for a graph with the same vertex indices.
+   *
+   * @param graph The graph to create the hierarchy for. Must not contain edges with negative
+   * weights.
+   * @param previousHierarchy The hierarchy for a previous version of the graph. May be
+   * <code>null</code>, in which case the order of contraction is determined from scratch.
+   */
+  public ContractionHierarchy(@Nonnull CompactRoutingGraph graph,
+                              @Nullable ContractionHierarchy previousHierarchy) {
+    this.graph = requireNonNull(graph, "graph");
+
+    long timeBefore = System.currentTimeMillis();
+
+    Contractor contractor = new Contractor(graph);
+    previousOrder = previousHierarchy != null
+        && previousHierarchy.graph.hasSameVertexIndices(graph);
+    if (previousOrder) {
+      contractor.contractInOrder(previousHierarchy.ranks);
+    }
+    else {
+      contractor.contractAll();
+    }
+    ranks = contractor.ranks;
+    edgeSources = Arrays.copyOf(contractor.edgeSources, contractor.edgeCount);
+    edgeTargets = Arrays.copyOf(contractor.edgeTargets, contractor.edgeCount);
+    shortcutFirstEdges = Arrays.copyOfRange(contractor.firstEdges,
+                                            graph.getEdgeCount(),
+                                            contractor.edgeCount);
+    shortcutSecondEdges = Arrays.copyOfRange(contractor.secondEdges,
+                                             graph.getEdgeCount(),
+                                             contractor.edgeCount);
+
+    int upwardEdgeCount = 0;
+    for (int edge = 0; edge < contractor.edgeCount; edge++) {
+      if (isUpward(contractor, edge)) {
+        upwardEdgeCount++;
+      }
+    }
+    upwardEdges = new int[upwardEdgeCount];
+    upwardGraph = createSearchGraph(contractor, true, upwardEdges);
+    downwardEdges = new int[countNonLoops(contractor) - upwardEdgeCount];
+    downwardGraph = createSearchGraph(contractor, false, downwardEdges);
+
+    preprocessingTime = System.currentTimeMillis() - timeBefore;
+  }
+
+  /**
+   * Returns the graph this hierarchy was created for.
+   *
+   * @return The graph this hierarchy was created for.
+   */
+  @Nonnull
+  public CompactRoutingGraph getGraph() {
+    return graph;
+  }
+
+  /**
+   * Returns the number of shortcuts added during preprocessing.
+   *
+   * @return The number of shortcuts added during preprocessing.
+   */
+  public int getShortcutCount() {
+    return shortcutFirstEdges.length;
+  }
+
+  /**
+   * Indicates whether the order of contraction was taken over from a previous hierarchy.
+   *
+   * @return <code>true</code> if, and only if, the order of contraction was taken over from a
+   * previous hierarchy.
+   */
+  public boolean isPreviousOrder() {
+    return previousOrder;
+  }
+
+  /**
+   * Returns the time spent on preprocessing.
+   *
+   * @return The time spent on preprocessing (in milliseconds).
+   */
+  public long getPreprocessingTime() {
+    return preprocessingTime;
+  }
+
+  /**
+   * Returns the (approximate) number of bytes used by this hierarchy, excluding the original graph.
+   *
+   * @return The (approximate) number of bytes used by this hierarchy.
+   */
+  public long getMemoryUsage() {
+    long searchGraphEdges = upwardEdges.length + downwardEdges.length;
+    return (long) Integer.BYTES * (edgeSources.length
+                                   + edgeTargets.length
+                                   + shortcutFirstEdges.length
+                                   + shortcutSecondEdges.length)
+        + searchGraphEdges * (2 * Integer.BYTES + Double.BYTES + Long.BYTES)
+        + 2L * (graph.getVertexCount() + 1) * Integer.BYTES;
+  }
+
+  /**
+   * Creates a new query state for this hierarchy.
+   *
+   * @return A new query state.
+   */
+  @Nonnull
+  public Query createQuery() {
+    return new Query();
+  }
+
+  @Override
+  public String toString() {
+    return "ContractionHierarchy{"
+        + "vertexCount=" + graph.getVertexCount()
+        + ", edgeCount=" + graph.getEdgeCount()
+        + ", shortcutCount=" + getShortcutCount()
+        + ", previousOrder=" + previousOrder
+        + ", preprocessingTime=" + preprocessingTime
+        + ", memoryUsage=" + getMemoryUsage()
+        + '}';
+  }
+
+  private static boolean isUpward(Contractor contractor, int edge) {
+    return contractor.ranks[contractor.edgeSources[edge]]
+        < contractor.ranks[contractor.edgeTargets[edge]];
+  }
+
+  private static int countNonLoops(Contractor contractor) {
+    int result = 0;
+    for (int edge = 0; edge < contractor.edgeCount; edge++) {
+      if (contractor.edgeSources[edge] != contractor.edgeTargets[edge]) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  private CompactRoutingGraph createSearchGraph(Contractor contractor,
+                                                boolean upward,
+                                                int[] representedEdges) {
+    int vertexCount = graph.getVertexCount();
+    int[] offsets = new int[vertexCount + 1];
+    for (int edge = 0; edge < contractor.edgeCount; edge++) {
+      if (contractor.edgeSources[edge] != contractor.edgeTargets[edge]
+          && isUpward(contractor, edge) == upward) {
+        offsets[searchGraphSource(contractor, edge, upward) + 1]++;
+      }
+    }
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      offsets[vertex + 1] += offsets[vertex];
+    }
+
+    int[] targets = new int[representedEdges.length];
+    double[] weights = new double[representedEdges.length];
+    int[] nextPositions = Arrays.copyOf(offsets, vertexCount);
+    for (int edge = 0; edge < contractor.edgeCount; edge++) {
+      if (contractor.edgeSources[edge] != contractor.edgeTargets[edge]
+          && isUpward(contractor, edge) == upward) {
+        int position = nextPositions[searchGraphSource(contractor, edge, upward)]++;
+        targets[position] = upward ? contractor.edgeTargets[edge] : contractor.edgeSources[edge];
+        weights[position] = contractor.edgeWeights[edge];
+        representedEdges[position] = edge;
+      }
+    }
+
+    return graph.withEdges(offsets, targets, weights, new ModelEdge[representedEdges.length]);
+  }
+
+  private static int searchGraphSource(Contractor contractor, int edge, boolean upward) {
+    return upward ? contractor.edgeSources[edge] : contractor.edgeTargets[edge];
+  }
+
+  /**
+   * The state of queries on the hierarchy.
+   */
+  public class Query {
+
+    /**
+     * The search from the source vertex.
+     */
+    private final CompactGraphSearch forwardSearch
+        = new CompactGraphSearch(graph.getVertexCount());
+    /**
+     * The search from the destination vertex.
+     */
+    private final CompactGraphSearch backwardSearch
+        = new CompactGraphSearch(graph.getVertexCount());
+    /**
+     * The vertex at which the searches of the last query met, or -1.
+     */
+    private int meetingVertex = -1;
+    /**
+     * The distance from the source vertex to the destination vertex found in the last query.
+     */
+    private double distance = Double.POSITIVE_INFINITY;
+
+    private Query() {
+    }
+
+    /**
+     * Searches the shortest path between the given vertices.
+     *
+     * @param srcIndex The index of the source vertex.
+     * @param destIndex The index of the destination vertex.
+     */
+    public void search(int srcIndex, int destIndex) {
+      forwardSearch.search(upwardGraph, srcIndex, -1, null);
+      backwardSearch.search(downwardGraph, destIndex, -1, null);
+
+      meetingVertex = -1;
+      distance = Double.POSITIVE_INFINITY;
+      for (int i = 0; i < forwardSearch.getReachedVertexCount(); i++) {
+        int vertex = forwardSearch.getReachedVertex(i);
+        if (backwardSearch.isReached(vertex)) {
+          double candidate = forwardSearch.getDistance(vertex) + backwardSearch.getDistance(vertex);
+          if (candidate < distance) {
+            distance = candidate;
+            meetingVertex = vertex;
+          }
+        }
+      }
+    }
+
+    /**
+     * Indicates whether the last query found a path.
+     *
+     * @return <code>true</code> if, and only if, the last query found a path.
+     */
+    public boolean isPathFound() {
+      return meetingVertex >= 0;
+    }
+
+    /**
+     * Returns the distance found in the last query.
+     *
+     * @return The distance found in the last query, or {@link Double#POSITIVE_INFINITY} if no path
+     * was found.
+     */
+    public double getDistance() {
+      return distance;
+    }
+
+    /**
+     * Returns the number of vertices settled in the last query.
+     *
+     * @return The number of vertices settled in the last query.
+     */
+    public int getSettledVertexCount() {
+      return forwardSearch.getSettledVertexCount() + backwardSearch.getSettledVertexCount();
+    }
+
+    /**
+     * Returns the edges of the path found in the last query.
+     *
+     * @return The indices of the original graph's edges on the path found in the last query, in
+     * the order they are to be travelled.
+     */
+    @Nonnull
+    public int[] getPathEdges() {
+      if (meetingVertex < 0) {
+        return new int[0];
+      }
+
+      IntList hierarchyEdges = new IntList();
+      for (int vertex = meetingVertex; forwardSearch.getPredecessorEdge(vertex) >= 0;
+           vertex = forwardSearch.getPredecessorVertex(vertex)) {
+        hierarchyEdges.add(upwardEdges[forwardSearch.getPredecessorEdge(vertex)]);
+      }
+      hierarchyEdges.reverse();
+      for (int vertex = meetingVertex; backwardSearch.getPredecessorEdge(vertex) >= 0;
+           vertex = backwardSearch.getPredecessorVertex(vertex)) {
+        hierarchyEdges.add(downwardEdges[backwardSearch.getPredecessorEdge(vertex)]);
+      }
+
+      IntList result = new IntList();
+      IntList stack = new IntList();
+      for (int i = 0; i < hierarchyEdges.size(); i++) {
+        stack.add(hierarchyEdges.get(i));
+        while (stack.size() > 0) {
+          int edge = stack.removeLast();
+          if (edge < graph.getEdgeCount()) {
+            result.add(edge);
+          }
+          else {
+            stack.add(shortcutSecondEdges[edge - graph.getEdgeCount()]);
+            stack.add(shortcutFirstEdges[edge - graph.getEdgeCount()]);
+          }
+        }
+      }
+      return result.toArray();
+    }
+  }
+
+  /**
+   * Performs the contraction of all vertices.
+   */
+  private static class Contractor {
+
+    /**
+     * The graph being contracted.
+     */
+    private final CompactRoutingGraph graph;
+    /**
+     * The number of edges, including shortcuts.
+     */
+    private int edgeCount;
+    /**
+     * The index of every edge's source vertex.
+     */
+    private int[] edgeSources;
+    /**
+     * The index of every edge's target vertex.
+     */
+    private int[] edgeTargets;
+    /**
+     * Every edge's weight.
+     */
+    private double[] edgeWeights;
+    /**
+     * For every shortcut, the first of the two edges it represents, or -1 for original edges.
+     */
+    private int[] firstEdges;
+    /**
+     * For every shortcut, the second of the two edges it represents, or -1 for original edges.
+     */
+    private int[] secondEdges;
+    /**
+     * The edges leaving every vertex.
+     */
+    private final IntList[] outgoingEdges;
+    /**
+     * The edges entering every vertex.
+     */
+    private final IntList[] incomingEdges;
+    /**
+     * Whether every vertex has been contracted.
+     */
+    private final boolean[] contracted;
+    /**
+     * The number of contracted neighbours of every vertex.
+     */
+    private final int[] contractedNeighbours;
+    /**
+     * The level of every vertex in the hierarchy, i.e. the highest level of its contracted
+     * neighbours plus one.
+     */
+    private final int[] levels;
+    /**
+     * The rank of every vertex, i.e. the position in the order of contraction.
+     */
+    private final int[] ranks;
+    /**
+     * The distances in witness searches.
+     */
+    private final double[] witnessDistances;
+    /**
+     * The witness search in which every vertex was reached.
+     */
+    private final int[] witnessGenerations;
+    /**
+     * The current witness search.
+     */
+    private int witnessGeneration;
+
+    Contractor(CompactRoutingGraph graph) {
+      this.graph = graph;
+      int vertexCount = graph.getVertexCount();
+      int capacity = Math.max(16, graph.getEdgeCount() * 2);
+      edgeSources = new int[capacity];
+      edgeTargets = new int[capacity];
+      edgeWeights = new double[capacity];
+      firstEdges = new int[capacity];
+      secondEdges = new int[capacity];
+      outgoingEdges = new IntList[vertexCount];
+      incomingEdges = new IntList[vertexCount];
+      for (int vertex = 0; vertex < vertexCount; vertex++) {
+        outgoingEdges[vertex] = new IntList();
+        incomingEdges[vertex] = new IntList();
+      }
+      contracted = new boolean[vertexCount];
+      contractedNeighbours = new int[vertexCount];
+      levels = new int[vertexCount];
+      ranks = new int[vertexCount];
+      witnessDistances = new double[vertexCount];
+      witnessGenerations = new int[vertexCount];
+
+      // The compact graph's edges are ordered by their source vertices, so the indices match.
+      for (int vertex = 0; vertex < vertexCount; vertex++) {
+        for (int edge = graph.edgeOffset(vertex); edge < graph.edgeOffset(vertex + 1); edge++) {
+          addEdge(vertex, graph.edgeTarget(edge), graph.edgeWeight(edge), -1, -1);
+        }
+      }
+    }
+
+    void contractAll() {
+      // Entries are pairs of priority and vertex, with priorities being updated lazily.
+      PriorityQueue<int[]> queue = new PriorityQueue<>(
+          Math.max(1, graph.getVertexCount()),
+          (entry1, entry2) -> entry1[0] != entry2[0]
+              ? Integer.compare(entry1[0], entry2[0])
+              : Integer.compare(entry1[1], entry2[1])
+      );
+      for (int vertex = 0; vertex < graph.getVertexCount(); vertex++) {
+        queue.add(new int[]{priority(vertex), vertex});
+      }
+
+      int rank = 0;
+      while (!queue.isEmpty()) {
+        int vertex = queue.poll()[1];
+        int priority = priority(vertex);
+        if (!queue.isEmpty() && priority > queue.peek()[0]) {
+          queue.add(new int[]{priority, vertex});
+          continue;
+        }
+        contract(vertex, rank);
+        rank++;
+      }
+    }
+
+    void contractInOrder(int[] previousRanks) {
+      int[] order = new int[graph.getVertexCount()];
+      for (int vertex = 0; vertex < order.length; vertex++) {
+        order[previousRanks[vertex]] = vertex;
+      }
+      for (int rank = 0; rank < order.length; rank++) {
+        contract(order[rank], rank);
+      }
+    }
+
+    private void contract(int vertex, int rank) {
+      processShortcuts(vertex, true);
+      contracted[vertex] = true;
+      ranks[vertex] = rank;
+      for (int i = 0; i < outgoingEdges[vertex].size(); i++) {
+        updateNeighbour(vertex, edgeTargets[outgoingEdges[vertex].get(i)]);
+      }
+      for (int i = 0; i < incomingEdges[vertex].size(); i++) {
+        updateNeighbour(vertex, edgeSources[incomingEdges[vertex].get(i)]);
+      }
+    }
+
+    private void updateNeighbour(int vertex, int neighbour) {
+      contractedNeighbours[neighbour]++;
+      levels[neighbour] = Math.max(levels[neighbour], levels[vertex] + 1);
+    }
+
+    private int priority(int vertex) {
+      int activeEdges = 0;
+      for (int i = 0; i < outgoingEdges[vertex].size(); i++) {
+        if (!contracted[edgeTargets[outgoingEdges[vertex].get(i)]]) {
+          activeEdges++;
+        }
+      }
+      for (int i = 0; i < incomingEdges[vertex].size(); i++) {
+        if (!contracted[edgeSources[incomingEdges[vertex].get(i)]]) {
+          activeEdges++;
+        }
+      }
+      return 2 * processShortcuts(vertex, false) - activeEdges + contractedNeighbours[vertex]
+          + levels[vertex];
+    }
+
+    /**
+     * Determines the shortcuts required for contracting the given vertex.
+     *
+     * @param vertex The vertex.
+     * @param adding Whether to actually add the shortcuts.
+     * @return The number of shortcuts required.
+     */
+    private int processShortcuts(int vertex, boolean adding) {
+      int result = 0;
+      IntList incoming = incomingEdges[vertex];
+      IntList outgoing = outgoingEdges[vertex];
+      for (int i = 0; i < incoming.size(); i++) {
+        int inEdge = incoming.get(i);
+        int source = edgeSources[inEdge];
+        if (contracted[source] || source == vertex) {
+          continue;
+        }
+
+        double maxDistance = -1.0;
+        for (int j = 0; j < outgoing.size(); j++) {
+          int outEdge = outgoing.get(j);
+          int target = edgeTargets[outEdge];
+          if (!contracted[target] && target != vertex && target != source) {
+            maxDistance = Math.max(maxDistance, edgeWeights[inEdge] + edgeWeights[outEdge]);
+          }
+        }
+        if (maxDistance < 0) {
+          continue;
+        }
+
+        witnessSearch(source, vertex, maxDistance);
+        for (int j = 0; j < outgoing.size(); j++) {
+          int outEdge = outgoing.get(j);
+          int target = edgeTargets[outEdge];
+          if (contracted[target] || target == vertex || target == source) {
+            continue;
+          }
+          double shortcutWeight = edgeWeights[inEdge] + edgeWeights[outEdge];
+          if (witnessGenerations[target] != witnessGeneration
+              || witnessDistances[target] > shortcutWeight) {
+            result++;
+            if (adding) {
+              addEdge(source, target, shortcutWeight, inEdge, outEdge);
+              // Let subsequent witness searches take the new shortcut into account.
+              witnessGenerations[target] = witnessGeneration;
+              witnessDistances[target] = shortcutWeight;
+            }
+          }
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Searches the shortest paths from the given source vertex in the remaining graph, ignoring
+     * the given vertex and stopping at the given distance or the settle limit.
+     * Every distance recorded corresponds to an actual path, even if the search stopped early, so
+     * stopping early can only result in unnecessary shortcuts, not in missing ones.
+     */
+    private void witnessSearch(int source, int ignoredVertex, double maxDistance) {
+      witnessGeneration++;
+      if (witnessGeneration == 0) {
+        Arrays.fill(witnessGenerations, 0);
+        witnessGeneration = 1;
+      }
+      // A heap with lazy deletion, holding pairs of distance and vertex.
+      PriorityQueue<double[]> queue
+          = new PriorityQueue<>((entry1, entry2) -> Double.compare(entry1[0], entry2[0]));
+      witnessGenerations[source] = witnessGeneration;
+      witnessDistances[source] = 0.0;
+      queue.add(new double[]{0.0, source});
+      int settled = 0;
+      while (!queue.isEmpty() && settled < WITNESS_SEARCH_SETTLE_LIMIT) {
+        double[] entry = queue.poll();
+        int vertex = (int) entry[1];
+        if (entry[0] > witnessDistances[vertex]) {
+          continue;
+        }
+        if (entry[0] > maxDistance) {
+          return;
+        }
+        settled++;
+        IntList outgoing = outgoingEdges[vertex];
+        for (int i = 0; i < outgoing.size(); i++) {
+          int edge = outgoing.get(i);
+          int target = edgeTargets[edge];
+          if (contracted[target] || target == ignoredVertex) {
+            continue;
+          }
+          double distance = entry[0] + edgeWeights[edge];
+          if (witnessGenerations[target] != witnessGeneration
+              || distance < witnessDistances[target]) {
+            witnessGenerations[target] = witnessGeneration;
+            witnessDistances[target] = distance;
+            queue.add(new double[]{distance, target});
+          }
+        }
+      }
+    }
+
+    private void addEdge(int source, int target, double weight, int firstEdge, int secondEdge) {
+      if (edgeCount == edgeSources.length) {
+        int capacity = edgeCount * 2;
+        edgeSources = Arrays.copyOf(edgeSources, capacity);
+        edgeTargets = Arrays.copyOf(edgeTargets, capacity);
+        edgeWeights = Arrays.copyOf(edgeWeights, capacity);
+        firstEdges = Arrays.copyOf(firstEdges, capacity);
+        secondEdges = Arrays.copyOf(secondEdges, capacity);
+      }
+      edgeSources[edgeCount] = source;
+      edgeTargets[edgeCount] = target;
+      edgeWeights[edgeCount] = weight;
+      firstEdges[edgeCount] = firstEdge;
+      secondEdges[edgeCount] = secondEdge;
+      if (source != target) {
+        outgoingEdges[source].add(edgeCount);
+        incomingEdges[target].add(edgeCount);
+      }
+      edgeCount++;
+    }
+  }
+
+  /**
+   * A minimal growable list of primitive integers.
+   */
+  private static class IntList {
+
+    private int[] elements = new int[4];
+
+    private int size;
+
+    int size() {
+      return size;
+    }
+
+    int get(int index) {
+      return elements[index];
+    }
+
+    void add(int element) {
+      if (size == elements.length) {
+        elements = Arrays.copyOf(elements, size * 2);
+      }
+      elements[size] = element;
+      size++;
+    }
+
+    int removeLast() {
+      size--;
+      return elements[size];
+    }
+
+    void reverse() {
+      for (int i = 0, j = size - 1; i < j; i++, j--) {
+        int element = elements[i];
+        elements[i] = elements[j];
+        elements[j] = element;
+      }
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(elements, size);
+    }
+  }
+}
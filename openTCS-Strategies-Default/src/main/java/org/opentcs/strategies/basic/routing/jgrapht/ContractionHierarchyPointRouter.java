@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes routes between points using a {@link ContractionHierarchy}.
+ * <p>
+ * Queries only search small parts of the graph, so costs are not cached. Route steps are only
+ * created when requested, by unpacking the shortcuts on the path found.
+ * </p>
+ * <p>
+ * <em>Note that this implementation does not integrate static routes.</em>
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class ContractionHierarchyPointRouter
+    implements PointRouter {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(ContractionHierarchyPointRouter.class);
+  /**
+   * The hierarchy to compute routes with.
+   */
+  private final ContractionHierarchy hierarchy;
+  /**
+   * The points, in the order of the graph's vertex indices.
+   */
+  private final Point[] points;
+  /**
+   * The state of queries, per thread.
+   */
+  private final ThreadLocal<ContractionHierarchy.Query> queries;
+  /**
+   * The number of queries performed.
+   */
+  private final LongAdder queryCount = new LongAdder();
+  /**
+   * The time spent on queries (in nanoseconds).
+   */
+  private final LongAdder queryTime = new LongAdder();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param hierarchy The hierarchy to compute routes with.
+   * @param points The points in the hierarchy's graph.
+   */
+  public ContractionHierarchyPointRouter(@Nonnull ContractionHierarchy hierarchy,
+                                         @Nonnull Collection<Point> points) {
+    this.hierarchy = requireNonNull(hierarchy, "hierarchy");
+    requireNonNull(points, "points");
+
+    CompactRoutingGraph graph = hierarchy.getGraph();
+    this.points = new Point[graph.getVertexCount()];
+    for (Point point : points) {
+      int index = graph.indexOf(point.getName());
+      if (index >= 0) {
+        this.points[index] = point;
+      }
+    }
+    this.queries = ThreadLocal.withInitial(() -> hierarchy.createQuery());
+  }
+
+  /**
+   * Returns the hierarchy this router computes routes with.
+   *
+   * @return The hierarchy this router computes routes with.
+   */
+  @Nonnull
+  public ContractionHierarchy getHierarchy() {
+    return hierarchy;
+  }
+
+  /**
+   * Returns the number of queries performed.
+   *
+   * @return The number of queries performed.
+   */
+  public long getQueryCount() {
+    return queryCount.sum();
+  }
+
+  /**
+   * Returns the average time spent on a query, excluding the creation of route steps.
+   *
+   * @return The average time spent on a query (in nanoseconds), or 0, if there were no queries,
+   * yet.
+   */
+  public long getAverageQueryTime() {
+    long count = getQueryCount();
+    return count == 0 ? 0 : queryTime.sum() / count;
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    long timeBefore = System.currentTimeMillis();
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    ContractionHierarchy.Query query = query(srcPoint.getName(), destPoint.getName());
+    if (query == null || !query.isPathFound()) {
+      return null;
+    }
+
+    List<Route.Step> result = translateToSteps(hierarchy.getGraph().indexOf(srcPoint.getName()),
+                                               query.getPathEdges());
+
+    LOG.debug("Looking up route from {} to {} took {} milliseconds.",
+              srcPoint.getName(),
+              destPoint.getName(),
+              System.currentTimeMillis() - timeBefore);
+
+    return result;
+  }
+
+  @Override
+  public long getCosts(TCSObjectReference<Point> srcPointRef,
+                       TCSObjectReference<Point> destPointRef) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    ContractionHierarchy.Query query = query(srcPointRef.getName(), destPointRef.getName());
+    if (query == null || !query.isPathFound()) {
+      return INFINITE_COSTS;
+    }
+    return (long) query.getDistance();
+  }
+
+  @Override
+  public String toString() {
+    return "ContractionHierarchyPointRouter{"
+        + "hierarchy=" + hierarchy
+        + ", queryCount=" + getQueryCount()
+        + ", averageQueryTime=" + getAverageQueryTime()
+        + '}';
+  }
+
+  private ContractionHierarchy.Query query(String srcPointName, String destPointName) {
+    int srcIndex = hierarchy.getGraph().indexOf(srcPointName);
+    int destIndex = hierarchy.getGraph().indexOf(destPointName);
+    if (srcIndex < 0 || destIndex < 0) {
+      return null;
+    }
+
+    long timeBefore = System.nanoTime();
+    ContractionHierarchy.Query query = queries.get();
+    query.search(srcIndex, destIndex);
+    queryTime.add(System.nanoTime() - timeBefore);
+    queryCount.increment();
+    return query;
+  }
+
+  private List<Route.Step> translateToSteps(int srcIndex, int[] pathEdges) {
+    CompactRoutingGraph graph = hierarchy.getGraph();
+    List<Route.Step> result = new ArrayList<>(pathEdges.length);
+    int sourceIndex = srcIndex;
+    for (int routeIndex = 0; routeIndex < pathEdges.length; routeIndex++) {
+      int edgeIndex = pathEdges[routeIndex];
+      ModelEdge edge = graph.modelEdge(edgeIndex);
+      int targetIndex = graph.edgeTarget(edgeIndex);
+      Point sourcePoint = points[sourceIndex];
+      result.add(new Route.Step(edge.getModelPath(),
+                                sourcePoint,
+                                points[targetIndex],
+                                orientation(edge, sourcePoint),
+                                routeIndex));
+      sourceIndex = targetIndex;
+    }
+    return result;
+  }
+
+  private Vehicle.Orientation orientation(ModelEdge edge, Point graphSourcePoint) {
+    return Objects.equals(edge.getModelPath().getSourcePoint(), graphSourcePoint.getReference())
+        ? Vehicle.Orientation.FORWARD
+        : Vehicle.Orientation.BACKWARD;
+  }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link PointRouter} instances based on contraction hierarchies.
+ * After a change in the topology, the vertices are contracted again in the order determined for
+ * the previous hierarchy, which saves the computation of the contraction order.
+ *
+ * @author The openTCS Authors
+ */
+public class ContractionHierarchyPointRouterFactory
+    extends CompactGraphPointRouterFactory {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG
+      = LoggerFactory.getLogger(ContractionHierarchyPointRouterFactory.class);
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service providing model data.
+   * @param mapper Maps the plant model to a graph.
+   * @param configuration The configuration.
+   */
+  @Inject
+  public ContractionHierarchyPointRouterFactory(@Nonnull TCSObjectService objectService,
+                                                @Nonnull ModelGraphMapper mapper,
+                                                @Nonnull ShortestPathConfiguration configuration) {
+    super(objectService, mapper, configuration);
+  }
+
+  @Override
+  protected PointRouter createPointRouter(@Nonnull CompactRoutingGraph graph,
+                                          @Nonnull Set<Point> points) {
+    ContractionHierarchy hierarchy = new ContractionHierarchy(graph);
+    LOG.debug("Created contraction hierarchy: {}", hierarchy);
+    return new ContractionHierarchyPointRouter(hierarchy, points);
+  }
+
+  @Override
+  @Nullable
+  protected CompactRoutingGraph getUpdatableGraph(@Nonnull PointRouter pointRouter) {
+    return pointRouter instanceof ContractionHierarchyPointRouter
+        ? ((ContractionHierarchyPointRouter) pointRouter).getHierarchy().getGraph()
+        : null;
+  }
+
+  @Override
+  protected PointRouter updatePointRouter(@Nonnull PointRouter previousRouter,
+                                          @Nonnull CompactRoutingGraph graph,
+                                          @Nonnull Set<Point> points) {
+    ContractionHierarchy previousHierarchy
+        = ((ContractionHierarchyPointRouter) previousRouter).getHierarchy();
+    ContractionHierarchy hierarchy = new ContractionHierarchy(graph, previousHierarchy);
+    LOG.debug("Updated contraction hierarchy: {}", hierarchy);
+    return new ContractionHierarchyPointRouter(hierarchy, points);
+  }
+
+}
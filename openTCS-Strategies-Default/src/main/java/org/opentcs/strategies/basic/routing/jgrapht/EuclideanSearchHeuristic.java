@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Collection;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import org.opentcs.data.model.Point;
+
+/**
+ * Estimates costs based on the Euclidean distance between the points' positions.
+ * <p>
+ * The distance is scaled by the lowest ratio of weight to Euclidean distance of all edges in the
+ * graph. With a distance-based edge evaluator and path lengths matching the layout, this factor is
+ * close to 1; with a travel time-based edge evaluator, it reflects the inverse of the highest
+ * velocity allowed on any path. Since no edge is cheaper than its scaled Euclidean length, the
+ * estimates are consistent for every edge evaluator - though they are only helpful if the edge
+ * weights actually correlate with the plant's geometry.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class EuclideanSearchHeuristic
+    implements SearchHeuristic {
+
+  /**
+   * Reduces the scale a bit to compensate for rounding errors.
+   */
+  private static final double SCALE_TOLERANCE = 1.0 - 1.0E-9;
+  /**
+   * The x coordinates of all vertices, in the order of their indices.
+   */
+  private final double[] xs;
+  /**
+   * The y coordinates of all vertices, in the order of their indices.
+   */
+  private final double[] ys;
+  /**
+   * The z coordinates of all vertices, in the order of their indices.
+   */
+  private final double[] zs;
+  /**
+   * The factor by which Euclidean distances are multiplied.
+   */
+  private final double scale;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to estimate costs for.
+   * @param points The points in the graph.
+   */
+  public EuclideanSearchHeuristic(@Nonnull CompactRoutingGraph graph,
+                                  @Nonnull Collection<Point> points) {
+    requireNonNull(graph, "graph");
+    requireNonNull(points, "points");
+
+    xs = new double[graph.getVertexCount()];
+    ys = new double[graph.getVertexCount()];
+    zs = new double[graph.getVertexCount()];
+    for (Point point : points) {
+      int index = graph.indexOf(point.getName());
+      if (index >= 0) {
+        xs[index] = point.getPosition().getX();
+        ys[index] = point.getPosition().getY();
+        zs[index] = point.getPosition().getZ();
+      }
+    }
+    scale = computeScale(graph);
+  }
+
+  /**
+   * Returns the factor by which Euclidean distances are multiplied.
+   *
+   * @return The factor by which Euclidean distances are multiplied.
+   */
+  public double getScale() {
+    return scale;
+  }
+
+  @Override
+  public double estimateCosts(int srcIndex, int destIndex) {
+    return scale * distance(srcIndex, destIndex);
+  }
+
+  @Override
+  public String toString() {
+    return "EuclideanSearchHeuristic{" + "scale=" + scale + '}';
+  }
+
+  private double computeScale(CompactRoutingGraph graph) {
+    double result = Double.POSITIVE_INFINITY;
+    for (int vertex = 0; vertex < graph.getVertexCount(); vertex++) {
+      for (int edge = graph.edgeOffset(vertex); edge < graph.edgeOffset(vertex + 1); edge++) {
+        double distance = distance(vertex, graph.edgeTarget(edge));
+        if (distance > 0) {
+          result = Math.min(result, graph.edgeWeight(edge) / distance);
+        }
+      }
+    }
+    // Without any usable edge (or with edges not having positive weights), estimate nothing.
+    return Double.isInfinite(result) || result <= 0 ? 0.0 : result * SCALE_TOLERANCE;
+  }
+
+  private double distance(int vertex1, int vertex2) {
+    double dx = xs[vertex1] - xs[vertex2];
+    double dy = ys[vertex1] - ys[vertex2];
+    double dz = zs[vertex1] - zs[vertex2];
+    return Math.sqrt(dx * dx + dy * dy + dz * dz);
+  }
+}
@@ -11,12 +11,13 @@ import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
-import org.jgrapht.alg.shortestpath.FloydWarshallShortestPaths;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.strategies.basic.routing.PointRouter;
 
 /**
  * Creates {@link PointRouter} instances based on the Floyd-Warshall algorithm.
+ * After a change in the topology, the shortest paths are updated incrementally by
+ * {@link UpdatableFloydWarshallShortestPaths}.
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -28,17 +29,29 @@ public class FloydWarshallPointRouterFactory
    *
    * @param objectService The object service providing model data.
    * @param mapper Maps the plant model to a graph.
+   * @param configuration The configuration.
    */
   @Inject
   public FloydWarshallPointRouterFactory(@Nonnull TCSObjectService objectService,
-                                         @Nonnull ModelGraphMapper mapper) {
-    super(objectService, mapper);
+                                         @Nonnull ModelGraphMapper mapper,
+                                         @Nonnull ShortestPathConfiguration configuration) {
+    super(objectService, mapper, configuration);
   }
 
   @Override
   protected ShortestPathAlgorithm<String, ModelEdge> createShortestPathAlgorithm(
       Graph<String, ModelEdge> graph) {
-    return new FloydWarshallShortestPaths<>(graph);
+    return new UpdatableFloydWarshallShortestPaths(graph);
+  }
+
+  @Override
+  protected ShortestPathAlgorithm<String, ModelEdge> updateShortestPathAlgorithm(
+      ShortestPathAlgorithm<String, ModelEdge> previousAlgo,
+      GraphChanges changes) {
+    if (previousAlgo instanceof UpdatableFloydWarshallShortestPaths) {
+      return ((UpdatableFloydWarshallShortestPaths) previousAlgo).withChanges(changes);
+    }
+    return super.updateShortestPathAlgorithm(previousAlgo, changes);
   }
 
 }
@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.jgrapht.Graph;
+
+/**
+ * The differences between two versions of a graph with the same vertices, e.g. before and after a
+ * path was locked.
+ * <p>
+ * Edges are considered equivalent if they connect the same vertices in the same direction,
+ * represent the same path and have the same weight. Edges without an equivalent in the other graph
+ * count as removed from the old graph or added to the new one, so an edge whose weight changed
+ * counts as both.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public final class GraphChanges {
+
+  /**
+   * The old graph.
+   */
+  private final Graph<String, ModelEdge> oldGraph;
+  /**
+   * The new graph.
+   */
+  private final Graph<String, ModelEdge> newGraph;
+  /**
+   * The edges of the old graph without an equivalent in the new graph.
+   */
+  private final Set<ModelEdge> removedEdges = Collections.newSetFromMap(new IdentityHashMap<>());
+  /**
+   * The edges of the new graph without an equivalent in the old graph.
+   */
+  private final Set<ModelEdge> addedEdges = Collections.newSetFromMap(new IdentityHashMap<>());
+  /**
+   * The edges of the new graph, mapped by their equivalents in the old graph.
+   */
+  private final Map<ModelEdge, ModelEdge> keptEdges = new IdentityHashMap<>();
+
+  private GraphChanges(Graph<String, ModelEdge> oldGraph, Graph<String, ModelEdge> newGraph) {
+    this.oldGraph = oldGraph;
+    this.newGraph = newGraph;
+
+    for (String vertex : oldGraph.vertexSet()) {
+      List<ModelEdge> unmatchedEdges = new ArrayList<>(newGraph.outgoingEdgesOf(vertex));
+      for (ModelEdge oldEdge : oldGraph.outgoingEdgesOf(vertex)) {
+        ModelEdge match = null;
+        for (int i = 0; i < unmatchedEdges.size() && match == null; i++) {
+          if (isEquivalent(oldEdge, unmatchedEdges.get(i))) {
+            match = unmatchedEdges.remove(i);
+          }
+        }
+        if (match == null) {
+          removedEdges.add(oldEdge);
+        }
+        else {
+          keptEdges.put(oldEdge, match);
+        }
+      }
+      addedEdges.addAll(unmatchedEdges);
+    }
+  }
+
+  /**
+   * Determines the changes between the given graphs.
+   *
+   * @param oldGraph The old graph.
+   * @param newGraph The new graph.
+   * @return The changes, or <code>null</code>, if the graphs' vertices differ.
+   */
+  @Nullable
+  public static GraphChanges between(@Nonnull Graph<String, ModelEdge> oldGraph,
+                                     @Nonnull Graph<String, ModelEdge> newGraph) {
+    requireNonNull(oldGraph, "oldGraph");
+    requireNonNull(newGraph, "newGraph");
+
+    if (!oldGraph.vertexSet().equals(newGraph.vertexSet())) {
+      return null;
+    }
+    return new GraphChanges(oldGraph, newGraph);
+  }
+
+  /**
+   * Returns the old graph.
+   *
+   * @return The old graph.
+   */
+  @Nonnull
+  public Graph<String, ModelEdge> getOldGraph() {
+    return oldGraph;
+  }
+
+  /**
+   * Returns the new graph.
+   *
+   * @return The new graph.
+   */
+  @Nonnull
+  public Graph<String, ModelEdge> getNewGraph() {
+    return newGraph;
+  }
+
+  /**
+   * Returns the edges of the old graph without an equivalent in the new graph.
+   *
+   * @return The edges of the old graph without an equivalent in the new graph.
+   */
+  @Nonnull
+  public Set<ModelEdge> getRemovedEdges() {
+    return Collections.unmodifiableSet(removedEdges);
+  }
+
+  /**
+   * Returns the edges of the new graph without an equivalent in the old graph.
+   *
+   * @return The edges of the new graph without an equivalent in the old graph.
+   */
+  @Nonnull
+  public Set<ModelEdge> getAddedEdges() {
+    return Collections.unmodifiableSet(addedEdges);
+  }
+
+  /**
+   * Returns the equivalent of an edge of the old graph in the new graph.
+   *
+   * @param oldEdge The edge of the old graph.
+   * @return The equivalent edge of the new graph, or <code>null</code>, if the edge was removed.
+   */
+  @Nullable
+  public ModelEdge getNewEdge(@Nonnull ModelEdge oldEdge) {
+    return keptEdges.get(oldEdge);
+  }
+
+  /**
+   * Checks whether the graphs are equivalent, i.e. whether no edges were removed or added.
+   *
+   * @return <code>true</code> if, and only if, no edges were removed or added.
+   */
+  public boolean isEmpty() {
+    return removedEdges.isEmpty() && addedEdges.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "GraphChanges{"
+        + "removedEdges=" + removedEdges.size()
+        + ", addedEdges=" + addedEdges.size()
+        + '}';
+  }
+
+  private boolean isEquivalent(ModelEdge oldEdge, ModelEdge newEdge) {
+    return oldEdge.isTravellingReverse() == newEdge.isTravellingReverse()
+        && oldEdge.getModelPath().getName().equals(newEdge.getModelPath().getName())
+        && oldGraph.getEdgeTarget(oldEdge).equals(newGraph.getEdgeTarget(newEdge))
+        && oldGraph.getEdgeWeight(oldEdge) == newGraph.getEdgeWeight(newEdge);
+  }
+}
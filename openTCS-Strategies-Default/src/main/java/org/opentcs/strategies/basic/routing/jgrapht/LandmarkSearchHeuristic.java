@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * Estimates costs using precomputed distances from and to a set of landmark vertices (the ALT
+ * method, for "A*, landmarks, triangle inequality").
+ * <p>
+ * For a landmark <code>L</code>, the triangle inequality implies both
+ * <code>d(v, t) &gt;= d(L, t) - d(L, v)</code> and <code>d(v, t) &gt;= d(v, L) - d(t, L)</code>.
+ * The estimate is the maximum of these bounds over all landmarks. Since the bounds only depend on
+ * actual distances in the graph, they work with every edge evaluator.
+ * </p>
+ * <p>
+ * Landmarks are selected greedily, each one being the vertex farthest away from the ones selected
+ * before, which results in landmarks at the borders of the graph. The memory required is linear in
+ * the number of vertices and landmarks.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class LandmarkSearchHeuristic
+    implements SearchHeuristic {
+
+  /**
+   * Reduces the estimates a bit to compensate for rounding errors.
+   */
+  private static final double ESTIMATE_TOLERANCE = 1.0 - 1.0E-9;
+  /**
+   * The number of landmarks.
+   */
+  private final int landmarkCount;
+  /**
+   * The indices of the landmark vertices.
+   */
+  private final int[] landmarks;
+  /**
+   * The distances from all landmarks to every vertex, indexed by
+   * <code>vertex * landmarkCount + landmark</code>.
+   */
+  private final double[] distancesFromLandmarks;
+  /**
+   * The distances from every vertex to all landmarks, indexed by
+   * <code>vertex * landmarkCount + landmark</code>.
+   */
+  private final double[] distancesToLandmarks;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to estimate costs for.
+   * @param maxLandmarkCount The maximum number of landmarks to select.
+   */
+  public LandmarkSearchHeuristic(@Nonnull CompactRoutingGraph graph, int maxLandmarkCount) {
+    requireNonNull(graph, "graph");
+    checkArgument(maxLandmarkCount > 0, "maxLandmarkCount <= 0: %s", maxLandmarkCount);
+
+    int vertexCount = graph.getVertexCount();
+    landmarkCount = Math.min(maxLandmarkCount, vertexCount);
+    landmarks = new int[landmarkCount];
+    distancesFromLandmarks = new double[vertexCount * landmarkCount];
+    distancesToLandmarks = new double[vertexCount * landmarkCount];
+
+    CompactRoutingGraph reverseGraph = graph.reverse();
+    CompactGraphSearch search = new CompactGraphSearch(vertexCount);
+    // The distance of every vertex to the closest landmark selected so far.
+    double[] minDistances = new double[vertexCount];
+    int nextLandmark = 0;
+    if (vertexCount > 0) {
+      // Start with the vertex farthest away from an arbitrary one.
+      search.search(graph, 0, -1, null);
+      for (int vertex = 0; vertex < vertexCount; vertex++) {
+        minDistances[vertex] = search.getDistance(vertex);
+      }
+      nextLandmark = farthestVertex(minDistances);
+      Arrays.fill(minDistances, Double.POSITIVE_INFINITY);
+    }
+    for (int landmark = 0; landmark < landmarkCount; landmark++) {
+      landmarks[landmark] = nextLandmark;
+
+      search.search(graph, nextLandmark, -1, null);
+      for (int vertex = 0; vertex < vertexCount; vertex++) {
+        double distance = search.getDistance(vertex);
+        distancesFromLandmarks[vertex * landmarkCount + landmark] = distance;
+        minDistances[vertex] = Math.min(minDistances[vertex], distance);
+      }
+
+      search.search(reverseGraph, nextLandmark, -1, null);
+      for (int vertex = 0; vertex < vertexCount; vertex++) {
+        distancesToLandmarks[vertex * landmarkCount + landmark] = search.getDistance(vertex);
+      }
+
+      nextLandmark = farthestVertex(minDistances);
+    }
+  }
+
+  /**
+   * Returns the indices of the landmark vertices.
+   *
+   * @return The indices of the landmark vertices.
+   */
+  public int[] getLandmarks() {
+    return Arrays.copyOf(landmarks, landmarks.length);
+  }
+
+  @Override
+  public double estimateCosts(int srcIndex, int destIndex) {
+    int srcOffset = srcIndex * landmarkCount;
+    int destOffset = destIndex * landmarkCount;
+    double result = 0.0;
+    for (int landmark = 0; landmark < landmarkCount; landmark++) {
+      double fromLandmarkToSrc = distancesFromLandmarks[srcOffset + landmark];
+      double fromLandmarkToDest = distancesFromLandmarks[destOffset + landmark];
+      if (Double.isInfinite(fromLandmarkToDest)) {
+        if (!Double.isInfinite(fromLandmarkToSrc)) {
+          // The landmark reaches the source but not the destination, so the source can't reach
+          // the destination, either.
+          return Double.POSITIVE_INFINITY;
+        }
+      }
+      else if (!Double.isInfinite(fromLandmarkToSrc)) {
+        result = Math.max(result, fromLandmarkToDest - fromLandmarkToSrc);
+      }
+
+      double fromSrcToLandmark = distancesToLandmarks[srcOffset + landmark];
+      double fromDestToLandmark = distancesToLandmarks[destOffset + landmark];
+      if (!Double.isInfinite(fromDestToLandmark)) {
+        if (Double.isInfinite(fromSrcToLandmark)) {
+          // The destination reaches the landmark but the source doesn't, so it can't reach the
+          // destination, either.
+          return Double.POSITIVE_INFINITY;
+        }
+        result = Math.max(result, fromSrcToLandmark - fromDestToLandmark);
+      }
+    }
+    return result * ESTIMATE_TOLERANCE;
+  }
+
+  @Override
+  public String toString() {
+    return "LandmarkSearchHeuristic{" + "landmarkCount=" + landmarkCount + '}';
+  }
+
+  private static int farthestVertex(double[] minDistances) {
+    int result = 0;
+    for (int vertex = 1; vertex < minDistances.length; vertex++) {
+      // Vertices not reachable from any landmark are preferred, covering disconnected parts, too.
+      if (minDistances[vertex] > minDistances[result]) {
+        result = vertex;
+      }
+    }
+    return result;
+  }
+}
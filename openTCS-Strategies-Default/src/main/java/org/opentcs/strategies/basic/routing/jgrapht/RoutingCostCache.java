@@ -0,0 +1,294 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the costs of the shortest routes between points, computed by a shortest path algorithm.
+ * <p>
+ * Points are mapped to consecutive indices. For every source point, the costs to all points are
+ * computed at once with a single-source shortest path computation when the first route from that
+ * point is requested (or for all points when {@link #precompute()} is called) and stored in a
+ * primitive array indexed by the destination points' indices. Afterwards, looking up the costs for
+ * a pair of points takes constant time.
+ * </p>
+ * <p>
+ * An instance's content is based on a fixed graph. When the topology changes, a new instance has
+ * to be created for the new graph, which may take over the costs not affected by the change via
+ * {@link #withChanges(org.jgrapht.alg.interfaces.ShortestPathAlgorithm, GraphChanges)}.
+ * Instances are safe to be used by multiple threads.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class RoutingCostCache {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(RoutingCostCache.class);
+  /**
+   * The algorithm computing the routes.
+   */
+  private final ShortestPathAlgorithm<String, ModelEdge> algo;
+  /**
+   * The indices of the points, mapped by the points' names.
+   */
+  private final Map<String, Integer> indicesByName = new HashMap<>();
+  /**
+   * The points' names, in the order of their indices.
+   */
+  private final String[] names;
+  /**
+   * The costs from every source point to all points, or <code>null</code> for source points not
+   * computed, yet.
+   */
+  private final AtomicReferenceArray<long[]> costsBySource;
+  /**
+   * The number of lookups that could be answered from the cache.
+   */
+  private final LongAdder hitCount = new LongAdder();
+  /**
+   * The number of lookups that required costs to be computed.
+   */
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param algo The algorithm computing the routes.
+   * @param pointNames The names of all points in the graph the algorithm works on.
+   */
+  public RoutingCostCache(@Nonnull ShortestPathAlgorithm<String, ModelEdge> algo,
+                          @Nonnull Collection<String> pointNames) {
+    this.algo = requireNonNull(algo, "algo");
+    requireNonNull(pointNames, "pointNames");
+
+    this.names = pointNames.toArray(new String[pointNames.size()]);
+    for (int i = 0; i < names.length; i++) {
+      indicesByName.put(names[i], i);
+    }
+    this.costsBySource = new AtomicReferenceArray<>(names.length);
+  }
+
+  /**
+   * Returns the costs for travelling the shortest route from one point to another.
+   *
+   * @param srcPointName The name of the source point.
+   * @param destPointName The name of the destination point.
+   * @return The costs for travelling the shortest route from the source point to the destination
+   * point, or {@link org.opentcs.strategies.basic.routing.PointRouter#INFINITE_COSTS INFINITE_COSTS}
+   * if no route exists.
+   */
+  public long getCosts(@Nonnull String srcPointName, @Nonnull String destPointName) {
+    requireNonNull(srcPointName, "srcPointName");
+    requireNonNull(destPointName, "destPointName");
+
+    Integer srcIndex = indicesByName.get(srcPointName);
+    Integer destIndex = indicesByName.get(destPointName);
+    if (srcIndex == null || destIndex == null) {
+      // Not part of the graph - let the algorithm handle it as usual.
+      missCount.increment();
+      return toCosts(algo.getPathWeight(srcPointName, destPointName));
+    }
+
+    long[] costs = costsBySource.get(srcIndex);
+    if (costs == null) {
+      missCount.increment();
+      costs = computeCostsFrom(srcIndex);
+    }
+    else {
+      hitCount.increment();
+    }
+    return costs[destIndex];
+  }
+
+  /**
+   * Returns a cache for the given algorithm working on a modified version of the graph, taking over
+   * the costs from all source points that are not affected by the given changes.
+   * <p>
+   * The costs from a source point are taken over if no removed edge may be part of one of its
+   * shortest routes and no added edge may shorten one of them. If the new graph contains edges with
+   * negative weights, no costs are taken over.
+   * </p>
+   *
+   * @param newAlgo The algorithm computing the routes on the new graph.
+   * @param changes The changes from this cache's graph to the new one.
+   * @return A cache for the given algorithm.
+   */
+  @Nonnull
+  public RoutingCostCache withChanges(@Nonnull ShortestPathAlgorithm<String, ModelEdge> newAlgo,
+                                      @Nonnull GraphChanges changes) {
+    requireNonNull(newAlgo, "newAlgo");
+    requireNonNull(changes, "changes");
+    checkArgument(changes.getNewGraph().vertexSet().size() == names.length
+        && indicesByName.keySet().containsAll(changes.getNewGraph().vertexSet()),
+                  "changes do not refer to this cache's points");
+
+    RoutingCostCache result = new RoutingCostCache(newAlgo, Arrays.asList(names));
+    if (hasNegativeWeights(changes.getNewGraph())) {
+      return result;
+    }
+
+    int keptCount = 0;
+    int discardedCount = 0;
+    for (int i = 0; i < names.length; i++) {
+      long[] costs = costsBySource.get(i);
+      if (costs == null) {
+        continue;
+      }
+      if (mayBeAffected(costs, changes.getOldGraph(), changes.getRemovedEdges())
+          || mayBeAffected(costs, changes.getNewGraph(), changes.getAddedEdges())) {
+        discardedCount++;
+      }
+      else {
+        // The arrays are never modified after being cached, so they can be shared.
+        result.costsBySource.set(i, costs);
+        keptCount++;
+      }
+    }
+
+    LOG.debug("Kept costs from {} source points, discarded {} ({}).",
+              keptCount,
+              discardedCount,
+              changes);
+
+    return result;
+  }
+
+  /**
+   * Computes the costs for all pairs of points.
+   */
+  public void precompute() {
+    for (int i = 0; i < names.length; i++) {
+      if (costsBySource.get(i) == null) {
+        computeCostsFrom(i);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of source points for which costs have been computed.
+   *
+   * @return The number of source points for which costs have been computed.
+   */
+  public int getCachedSourceCount() {
+    int result = 0;
+    for (int i = 0; i < names.length; i++) {
+      if (costsBySource.get(i) != null) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the (approximate) number of bytes used for the cached costs.
+   *
+   * @return The (approximate) number of bytes used for the cached costs.
+   */
+  public long getMemoryUsage() {
+    return (long) getCachedSourceCount() * names.length * Long.BYTES;
+  }
+
+  /**
+   * Returns the number of lookups that could be answered from the cache.
+   *
+   * @return The number of lookups that could be answered from the cache.
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of lookups that required costs to be computed.
+   *
+   * @return The number of lookups that required costs to be computed.
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the ratio of lookups that could be answered from the cache.
+   *
+   * @return The ratio of lookups that could be answered from the cache, or 0, if there were no
+   * lookups, yet.
+   */
+  public double getHitRate() {
+    long hits = getHitCount();
+    long total = hits + getMissCount();
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+
+  @Override
+  public String toString() {
+    return "RoutingCostCache{"
+        + "pointCount=" + names.length
+        + ", cachedSourceCount=" + getCachedSourceCount()
+        + ", memoryUsage=" + getMemoryUsage()
+        + ", hitCount=" + getHitCount()
+        + ", missCount=" + getMissCount()
+        + ", hitRate=" + String.format("%.3f", getHitRate())
+        + '}';
+  }
+
+  private long[] computeCostsFrom(int srcIndex) {
+    ShortestPathAlgorithm.SingleSourcePaths<String, ModelEdge> paths
+        = algo.getPaths(names[srcIndex]);
+    long[] costs = new long[names.length];
+    for (int i = 0; i < names.length; i++) {
+      costs[i] = i == srcIndex ? 0 : toCosts(paths.getWeight(names[i]));
+    }
+    // If another thread computed the same costs in the meantime, just keep the ones it stored.
+    costsBySource.compareAndSet(srcIndex, null, costs);
+    return costs;
+  }
+
+  private boolean mayBeAffected(long[] costs,
+                                Graph<String, ModelEdge> graph,
+                                Collection<ModelEdge> edges) {
+    for (ModelEdge edge : edges) {
+      long sourceCosts = costs[indicesByName.get(graph.getEdgeSource(edge))];
+      long targetCosts = costs[indicesByName.get(graph.getEdgeTarget(edge))];
+      if (sourceCosts != INFINITE_COSTS
+          && (targetCosts == INFINITE_COSTS
+              || sourceCosts + graph.getEdgeWeight(edge) < targetCosts + 1)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasNegativeWeights(Graph<String, ModelEdge> graph) {
+    for (ModelEdge edge : graph.edgeSet()) {
+      if (graph.getEdgeWeight(edge) < 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long toCosts(double weight) {
+    return Double.isInfinite(weight) ? INFINITE_COSTS : (long) weight;
+  }
+}
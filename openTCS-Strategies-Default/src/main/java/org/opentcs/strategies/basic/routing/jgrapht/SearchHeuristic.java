@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+/**
+ * Estimates the costs for travelling between vertices of a {@link CompactRoutingGraph}, guiding
+ * point-to-point searches towards their destinations.
+ * <p>
+ * Implementations must be consistent, i.e. for every edge from <code>u</code> to <code>v</code>
+ * with weight <code>w</code>, the estimate for <code>u</code> must not exceed <code>w</code> plus
+ * the estimate for <code>v</code>, and the estimate for the destination vertex itself must be 0.
+ * This implies that estimates never exceed the actual costs, so searches still find shortest
+ * paths.
+ * </p>
+ * <p>
+ * Implementations must be safe to be used by multiple threads.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public interface SearchHeuristic {
+
+  /**
+   * Returns a lower bound for the costs for travelling from one vertex to another.
+   *
+   * @param srcIndex The index of the vertex to travel from.
+   * @param destIndex The index of the vertex to travel to.
+   * @return A lower bound for the costs for travelling from one vertex to the other.
+   */
+  double estimateCosts(int srcIndex, int destIndex);
+}
@@ -30,7 +30,20 @@ public interface ShortestPathConfiguration {
         "The routing algorithm to be used. Valid values:",
         "'DIJKSTRA': Routes are computed using Dijkstra's algorithm.",
         "'BELLMAN_FORD': Routes are computed using the Bellman-Ford algorithm.",
-        "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm."})
+        "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm.",
+        "'COMPACT_DIJKSTRA': Routes are computed using Dijkstra's algorithm on a compact, "
+        + "array-based representation of the routing graph.",
+        "'A_STAR': Like 'COMPACT_DIJKSTRA', but searches are guided towards their destinations by "
+        + "the Euclidean distance between the points' positions. Only helpful if the edge "
+        + "evaluators' costs correlate with the plant's geometry.",
+        "'ALT': Like 'COMPACT_DIJKSTRA', but searches are guided towards their destinations by "
+        + "precomputed distances from and to a number of landmark points.",
+        "'CONTRACTION_HIERARCHIES': Routes are computed using contraction hierarchies, which are "
+        + "created when the routing tables are updated. Queries are answered very quickly, so "
+        + "cost caching is not used with this algorithm.",
+        "Note that with cost caching enabled, 'COMPACT_DIJKSTRA', 'A_STAR' and 'ALT' compute "
+        + "route costs with Dijkstra's algorithm, as the costs from a point to all other points "
+        + "are cached at once. The other algorithms compute route costs with themselves."})
   Algorithm algorithm();
 
   @ConfigurationEntry(
@@ -43,10 +56,31 @@ public interface ShortestPathConfiguration {
         "'EXPLICIT': A route's cost is the sum of the explicitly given costs of its paths."})
   List<EvaluatorType> edgeEvaluators();
 
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+        "How to cache the costs of routes computed. Valid values:",
+        "'NONE': Costs are computed on every request.",
+        "'LAZY': Costs from a point to all other points are computed and cached when the first "
+        + "route from that point is requested. Cached costs are kept until the topology changes, "
+        + "so memory usage may grow quadratic in the number of points.",
+        "'PRECOMPUTED': Costs for all pairs of points are computed and cached in advance. Requires "
+        + "memory quadratic in the number of points."})
+  CostCaching costCaching();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of landmark points to be used with the 'ALT' algorithm.")
+  int altLandmarkCount();
+
   enum Algorithm {
     DIJKSTRA(false),
     BELLMAN_FORD(true),
-    FLOYD_WARSHALL(false);
+    FLOYD_WARSHALL(false),
+    COMPACT_DIJKSTRA(false),
+    A_STAR(false),
+    ALT(false),
+    CONTRACTION_HIERARCHIES(false);
 
     private final boolean handlingNegativeCosts;
 
@@ -59,6 +93,12 @@ public interface ShortestPathConfiguration {
     }
   }
 
+  enum CostCaching {
+    NONE,
+    LAZY,
+    PRECOMPUTED
+  }
+
   enum EvaluatorType {
     DISTANCE,
     TRAVELTIME,
@@ -14,6 +14,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import org.jgrapht.Graph;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
 import org.opentcs.data.TCSObjectReference;
@@ -41,18 +44,87 @@ public class ShortestPathPointRouter
   private static final Logger LOG = LoggerFactory.getLogger(ShortestPathPointRouter.class);
 
   private final ShortestPathAlgorithm<String, ModelEdge> algo;
+  /**
+   * The graph the algorithm works on, or <code>null</code>, if unknown.
+   */
+  @Nullable
+  private final Graph<String, ModelEdge> graph;
 
   private final Map<String, Point> points = new HashMap<>();
+  /**
+   * Caches the costs of routes computed by the algorithm, or <code>null</code>.
+   */
+  @Nullable
+  private final RoutingCostCache costCache;
 
   public ShortestPathPointRouter(ShortestPathAlgorithm<String, ModelEdge> algo,
                                  Collection<Point> points) {
+    this(algo, points, null);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param algo The algorithm computing the routes.
+   * @param points The points in the graph the algorithm works on.
+   * @param costCache Caches the costs of routes computed by the algorithm. May be
+   * <code>null</code>, in which case costs are computed on every request.
+   */
+  public ShortestPathPointRouter(ShortestPathAlgorithm<String, ModelEdge> algo,
+                                 Collection<Point> points,
+                                 @Nullable RoutingCostCache costCache) {
+    this(algo, null, points, costCache);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param algo The algorithm computing the routes.
+   * @param graph The graph the algorithm works on. May be <code>null</code>, in which case the
+   * point router cannot be updated incrementally after a change in the topology.
+   * @param points The points in the graph the algorithm works on.
+   * @param costCache Caches the costs of routes computed by the algorithm. May be
+   * <code>null</code>, in which case costs are computed on every request.
+   */
+  public ShortestPathPointRouter(ShortestPathAlgorithm<String, ModelEdge> algo,
+                                 @Nullable Graph<String, ModelEdge> graph,
+                                 Collection<Point> points,
+                                 @Nullable RoutingCostCache costCache) {
     this.algo = requireNonNull(algo, "algo");
+    this.graph = graph;
     requireNonNull(points, "points");
 
     for (Point point : points) {
       this.points.put(point.getName(), point);
     }
+    this.costCache = costCache;
+  }
 
+  /**
+   * Returns the algorithm computing the routes.
+   *
+   * @return The algorithm computing the routes.
+   */
+  public ShortestPathAlgorithm<String, ModelEdge> getAlgorithm() {
+    return algo;
+  }
+
+  /**
+   * Returns the graph the algorithm works on, if known.
+   *
+   * @return The graph the algorithm works on, if known.
+   */
+  public Optional<Graph<String, ModelEdge>> getGraph() {
+    return Optional.ofNullable(graph);
+  }
+
+  /**
+   * Returns the cache for the costs of routes, if any.
+   *
+   * @return The cache for the costs of routes, if any.
+   */
+  public Optional<RoutingCostCache> getCostCache() {
+    return Optional.ofNullable(costCache);
   }
 
   @Override
@@ -89,6 +161,9 @@ public class ShortestPathPointRouter
     if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
       return 0;
     }
+    if (costCache != null) {
+      return costCache.getCosts(srcPointRef.getName(), destPointRef.getName());
+    }
 
     GraphPath<String, ModelEdge> graphPath = algo.getPath(srcPointRef.getName(),
                                                           destPointRef.getName());
@@ -99,6 +174,14 @@ public class ShortestPathPointRouter
     return (long) graphPath.getWeight();
   }
 
+  @Override
+  public String toString() {
+    return "ShortestPathPointRouter{"
+        + "pointCount=" + points.size()
+        + ", costCache=" + costCache
+        + '}';
+  }
+
   private List<Route.Step> translateToSteps(GraphPath<String, ModelEdge> graphPath) {
     List<ModelEdge> edges = graphPath.getEdgeList();
     List<Route.Step> result = new ArrayList<>(edges.size());
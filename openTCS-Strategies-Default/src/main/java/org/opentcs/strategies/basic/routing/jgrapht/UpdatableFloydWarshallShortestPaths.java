@@ -0,0 +1,449 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.PriorityQueue;
+import javax.annotation.Nonnull;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.TreeSingleSourcePathsImpl;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.graph.GraphWalk;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes the shortest paths between all pairs of vertices with the Floyd-Warshall algorithm and
+ * can be updated for modified versions of the graph.
+ * <p>
+ * For every pair of vertices, the distance and the last edge of a shortest path are stored in
+ * matrices. When the graph is modified, e.g. because a path was locked,
+ * {@link #withChanges(org.opentcs.strategies.basic.routing.jgrapht.GraphChanges)} derives an
+ * instance for the new graph instead of running the algorithm again:
+ * </p>
+ * <ol>
+ * <li>Rows of source vertices whose shortest paths use a removed edge are recomputed with
+ * Dijkstra's algorithm, ignoring the added edges. All other rows remain valid and are shared with
+ * this instance.</li>
+ * <li>The added edges are inserted one after another, relaxing the distances of all pairs of
+ * vertices whose shortest paths become shorter via the inserted edge.</li>
+ * </ol>
+ * <p>
+ * Edges whose weights changed count as removed and added. If the new graph contains edges with
+ * negative weights, the distances are computed from scratch instead, as Dijkstra's algorithm
+ * cannot handle them.
+ * </p>
+ * <p>
+ * Instances are immutable and safe to be used by multiple threads.
+ * </p>
+ *
+ * @author The openTCS Authors
+ */
+public class UpdatableFloydWarshallShortestPaths
+    implements ShortestPathAlgorithm<String, ModelEdge> {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG
+      = LoggerFactory.getLogger(UpdatableFloydWarshallShortestPaths.class);
+  /**
+   * Marks the absence of an edge in the matrix of last edges.
+   */
+  private static final int NO_EDGE = -1;
+  /**
+   * The graph.
+   */
+  private final Graph<String, ModelEdge> graph;
+  /**
+   * The vertices, in the order of their indices.
+   */
+  private final String[] vertices;
+  /**
+   * The indices of the vertices, mapped by the vertices.
+   */
+  private final Map<String, Integer> indicesByVertex;
+  /**
+   * The graph's edges, mapped by their IDs. Contains <code>null</code> for IDs of edges removed
+   * from previous versions of the graph.
+   */
+  private final ModelEdge[] edges;
+  /**
+   * The IDs of the graph's edges, mapped by the edges.
+   */
+  private final Map<ModelEdge, Integer> edgeIds;
+  /**
+   * The index of every edge's source vertex, indexed by the edge IDs.
+   */
+  private final int[] edgeSources;
+  /**
+   * The distances between all pairs of vertices, indexed by the source and target vertices.
+   * Rows are never modified after construction and may be shared with other instances.
+   */
+  private final double[][] distances;
+  /**
+   * The IDs of the last edges of the shortest paths between all pairs of vertices, indexed by the
+   * source and target vertices. Rows are never modified after construction and may be shared with
+   * other instances.
+   */
+  private final int[][] lastEdges;
+
+  /**
+   * Creates a new instance and computes the shortest paths between all pairs of vertices.
+   *
+   * @param graph The graph.
+   */
+  public UpdatableFloydWarshallShortestPaths(@Nonnull Graph<String, ModelEdge> graph) {
+    this.graph = requireNonNull(graph, "graph");
+
+    vertices = graph.vertexSet().toArray(new String[graph.vertexSet().size()]);
+    indicesByVertex = new HashMap<>();
+    for (int i = 0; i < vertices.length; i++) {
+      indicesByVertex.put(vertices[i], i);
+    }
+    edges = graph.edgeSet().toArray(new ModelEdge[graph.edgeSet().size()]);
+    edgeIds = new IdentityHashMap<>();
+    edgeSources = new int[edges.length];
+    for (int id = 0; id < edges.length; id++) {
+      edgeIds.put(edges[id], id);
+      edgeSources[id] = indicesByVertex.get(graph.getEdgeSource(edges[id]));
+    }
+    distances = new double[vertices.length][vertices.length];
+    lastEdges = new int[vertices.length][vertices.length];
+    computeAllPairs();
+  }
+
+  private UpdatableFloydWarshallShortestPaths(UpdatableFloydWarshallShortestPaths previous,
+                                              GraphChanges changes) {
+    this.graph = changes.getNewGraph();
+    this.vertices = previous.vertices;
+    this.indicesByVertex = previous.indicesByVertex;
+
+    // Kept edges keep their IDs, so the rows not affected by the changes remain valid.
+    edges = Arrays.copyOf(previous.edges,
+                          previous.edges.length + changes.getAddedEdges().size());
+    edgeSources = Arrays.copyOf(previous.edgeSources, edges.length);
+    boolean[] removedIds = new boolean[edges.length];
+    for (int id = 0; id < previous.edges.length; id++) {
+      if (previous.edges[id] != null) {
+        edges[id] = changes.getNewEdge(previous.edges[id]);
+        removedIds[id] = edges[id] == null;
+      }
+    }
+    int addedId = previous.edges.length;
+    for (ModelEdge edge : changes.getAddedEdges()) {
+      edges[addedId] = edge;
+      edgeSources[addedId] = indicesByVertex.get(graph.getEdgeSource(edge));
+      addedId++;
+    }
+    edgeIds = new IdentityHashMap<>();
+    for (int id = 0; id < edges.length; id++) {
+      if (edges[id] != null) {
+        edgeIds.put(edges[id], id);
+      }
+    }
+
+    distances = new double[vertices.length][];
+    lastEdges = new int[vertices.length][];
+    if (hasNegativeWeights()) {
+      for (int i = 0; i < vertices.length; i++) {
+        distances[i] = new double[vertices.length];
+        lastEdges[i] = new int[vertices.length];
+      }
+      computeAllPairs();
+      return;
+    }
+
+    int recomputedRows = 0;
+    int[][] adjacency = null;
+    for (int i = 0; i < vertices.length; i++) {
+      if (containsAny(previous.lastEdges[i], removedIds)) {
+        if (adjacency == null) {
+          adjacency = adjacency(previous.edges.length);
+        }
+        distances[i] = new double[vertices.length];
+        lastEdges[i] = new int[vertices.length];
+        computeRow(i, adjacency);
+        recomputedRows++;
+      }
+      else {
+        distances[i] = previous.distances[i];
+        lastEdges[i] = previous.lastEdges[i];
+      }
+    }
+
+    boolean[] ownRows = new boolean[vertices.length];
+    for (int id = previous.edges.length; id < edges.length; id++) {
+      insertEdge(id, ownRows);
+    }
+
+    LOG.debug("Updated shortest paths: {}, recomputed {} of {} rows.",
+              changes,
+              recomputedRows,
+              vertices.length);
+  }
+
+  /**
+   * Returns an instance for the new graph of the given changes, which must be a modified version of
+   * this instance's graph.
+   *
+   * @param changes The changes from this instance's graph to the new one.
+   * @return An instance for the new graph.
+   */
+  @Nonnull
+  public UpdatableFloydWarshallShortestPaths withChanges(@Nonnull GraphChanges changes) {
+    requireNonNull(changes, "changes");
+    checkArgument(changes.getOldGraph() == graph, "changes do not refer to this instance's graph");
+
+    return new UpdatableFloydWarshallShortestPaths(this, changes);
+  }
+
+  /**
+   * Returns the graph.
+   *
+   * @return The graph.
+   */
+  @Nonnull
+  public Graph<String, ModelEdge> getGraph() {
+    return graph;
+  }
+
+  @Override
+  public GraphPath<String, ModelEdge> getPath(String source, String sink) {
+    int srcIndex = indexOf(source);
+    int destIndex = indexOf(sink);
+
+    if (srcIndex == destIndex) {
+      return new GraphWalk<>(graph,
+                             source,
+                             sink,
+                             Collections.singletonList(source),
+                             Collections.emptyList(),
+                             0.0);
+    }
+    if (lastEdges[srcIndex][destIndex] == NO_EDGE) {
+      return null;
+    }
+
+    LinkedList<ModelEdge> edgeList = new LinkedList<>();
+    for (int vertex = destIndex; vertex != srcIndex;) {
+      int edge = lastEdges[srcIndex][vertex];
+      edgeList.addFirst(edges[edge]);
+      vertex = edgeSources[edge];
+    }
+    return new GraphWalk<>(graph, source, sink, edgeList, distances[srcIndex][destIndex]);
+  }
+
+  @Override
+  public double getPathWeight(String source, String sink) {
+    return distances[indexOf(source)][indexOf(sink)];
+  }
+
+  @Override
+  public SingleSourcePaths<String, ModelEdge> getPaths(String source) {
+    int srcIndex = indexOf(source);
+
+    Map<String, Pair<Double, ModelEdge>> paths = new HashMap<>();
+    paths.put(source, Pair.of(0.0, null));
+    for (int i = 0; i < vertices.length; i++) {
+      int edge = lastEdges[srcIndex][i];
+      if (i != srcIndex && edge != NO_EDGE) {
+        paths.put(vertices[i], Pair.of(distances[srcIndex][i], edges[edge]));
+      }
+    }
+    return new TreeSingleSourcePathsImpl<>(graph, source, paths);
+  }
+
+  @Override
+  public String toString() {
+    return "UpdatableFloydWarshallShortestPaths{"
+        + "vertexCount=" + vertices.length
+        + ", edgeCount=" + edgeIds.size()
+        + '}';
+  }
+
+  private int indexOf(String vertex) {
+    Integer index = indicesByVertex.get(vertex);
+    checkArgument(index != null, "Graph does not contain vertex %s", vertex);
+    return index;
+  }
+
+  private int targetOf(int edge) {
+    return indicesByVertex.get(graph.getEdgeTarget(edges[edge]));
+  }
+
+  private double weightOf(int edge) {
+    return graph.getEdgeWeight(edges[edge]);
+  }
+
+  private boolean hasNegativeWeights() {
+    for (int id = 0; id < edges.length; id++) {
+      if (edges[id] != null && weightOf(id) < 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void computeAllPairs() {
+    for (int i = 0; i < vertices.length; i++) {
+      Arrays.fill(distances[i], Double.POSITIVE_INFINITY);
+      Arrays.fill(lastEdges[i], NO_EDGE);
+      distances[i][i] = 0.0;
+    }
+    for (int id = 0; id < edges.length; id++) {
+      if (edges[id] == null) {
+        continue;
+      }
+      int source = edgeSources[id];
+      int target = targetOf(id);
+      double weight = weightOf(id);
+      if (source != target && weight < distances[source][target]) {
+        distances[source][target] = weight;
+        lastEdges[source][target] = id;
+      }
+    }
+    for (int k = 0; k < vertices.length; k++) {
+      double[] distancesFromK = distances[k];
+      for (int i = 0; i < vertices.length; i++) {
+        double distanceToK = distances[i][k];
+        if (distanceToK == Double.POSITIVE_INFINITY) {
+          continue;
+        }
+        double[] distancesFromI = distances[i];
+        for (int j = 0; j < vertices.length; j++) {
+          double candidate = distanceToK + distancesFromK[j];
+          if (candidate < distancesFromI[j]) {
+            distancesFromI[j] = candidate;
+            lastEdges[i][j] = lastEdges[k][j];
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the IDs of the edges leaving every vertex, considering only the edges with IDs lower
+   * than the given one.
+   *
+   * @param idLimit The lowest ID of edges to be ignored.
+   * @return The IDs of the edges leaving every vertex.
+   */
+  private int[][] adjacency(int idLimit) {
+    int[] counts = new int[vertices.length];
+    for (int id = 0; id < idLimit; id++) {
+      if (edges[id] != null) {
+        counts[edgeSources[id]]++;
+      }
+    }
+    int[][] result = new int[vertices.length][];
+    for (int i = 0; i < vertices.length; i++) {
+      result[i] = new int[counts[i]];
+      counts[i] = 0;
+    }
+    for (int id = 0; id < idLimit; id++) {
+      if (edges[id] != null) {
+        int source = edgeSources[id];
+        result[source][counts[source]++] = id;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Computes the shortest paths from the given source vertex with Dijkstra's algorithm.
+   *
+   * @param srcIndex The index of the source vertex.
+   * @param adjacency The IDs of the edges leaving every vertex.
+   */
+  private void computeRow(int srcIndex, int[][] adjacency) {
+    double[] rowDistances = distances[srcIndex];
+    int[] rowEdges = lastEdges[srcIndex];
+    Arrays.fill(rowDistances, Double.POSITIVE_INFINITY);
+    Arrays.fill(rowEdges, NO_EDGE);
+    rowDistances[srcIndex] = 0.0;
+
+    // A heap with lazy deletion, holding pairs of distance and vertex.
+    PriorityQueue<double[]> queue
+        = new PriorityQueue<>((entry1, entry2) -> Double.compare(entry1[0], entry2[0]));
+    queue.add(new double[]{0.0, srcIndex});
+    while (!queue.isEmpty()) {
+      double[] entry = queue.poll();
+      int vertex = (int) entry[1];
+      if (entry[0] > rowDistances[vertex]) {
+        continue;
+      }
+      for (int edge : adjacency[vertex]) {
+        int target = targetOf(edge);
+        double distance = entry[0] + weightOf(edge);
+        if (distance < rowDistances[target]) {
+          rowDistances[target] = distance;
+          rowEdges[target] = edge;
+          queue.add(new double[]{distance, target});
+        }
+      }
+    }
+  }
+
+  /**
+   * Relaxes the distances of all pairs of vertices whose shortest paths become shorter via the
+   * given edge.
+   *
+   * @param edge The ID of the edge.
+   * @param ownRows Indicates for every row whether it has already been copied from the previous
+   * instance, i.e. whether it may be modified.
+   */
+  private void insertEdge(int edge, boolean[] ownRows) {
+    int source = edgeSources[edge];
+    int target = targetOf(edge);
+    double weight = weightOf(edge);
+    if (source == target) {
+      return;
+    }
+
+    double[] distancesFromTarget = distances[target];
+    for (int i = 0; i < vertices.length; i++) {
+      double viaEdge = distances[i][source] + weight;
+      // If the edge does not shorten the path to its target, it does not shorten any other path.
+      if (!(viaEdge < distances[i][target])) {
+        continue;
+      }
+      if (!ownRows[i]) {
+        distances[i] = distances[i].clone();
+        lastEdges[i] = lastEdges[i].clone();
+        ownRows[i] = true;
+      }
+      double[] distancesFromI = distances[i];
+      for (int j = 0; j < vertices.length; j++) {
+        double candidate = viaEdge + distancesFromTarget[j];
+        if (candidate < distancesFromI[j]) {
+          distancesFromI[j] = candidate;
+          lastEdges[i][j] = j == target ? edge : lastEdges[target][j];
+        }
+      }
+    }
+  }
+
+  private static boolean containsAny(int[] rowEdges, boolean[] edgeSet) {
+    for (int edge : rowEdges) {
+      if (edge != NO_EDGE && edgeSet[edge]) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
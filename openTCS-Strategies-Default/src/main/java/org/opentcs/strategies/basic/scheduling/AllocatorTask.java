@@ -105,7 +105,11 @@ class AllocatorTask
   }
 
   private void checkAllocationsPrepared(Client client, Set<TCSResource<?>> resources) {
-    if (!allocationAdvisor.hasPreparedAllocation(client, resources)) {
+    boolean prepared;
+    synchronized (reservationPool) {
+      prepared = allocationAdvisor.hasPreparedAllocation(client, resources);
+    }
+    if (!prepared) {
       LOG.debug("{}: Preparation of resources not yet done.",
                 client.getId());
       // XXX remember the resources a client is waiting for preparation done?
@@ -162,7 +166,10 @@ class AllocatorTask
   }
 
   private void allocationsReleased(AllocatorCommand.AllocationsReleased command) {
-    allocationAdvisor.allocationReleased(command.getClient(), command.getResources());
+    // Modules may be accessed concurrently from outside the scheduling lane, too.
+    synchronized (reservationPool) {
+      allocationAdvisor.allocationReleased(command.getClient(), command.getResources());
+    }
   }
 
   /**
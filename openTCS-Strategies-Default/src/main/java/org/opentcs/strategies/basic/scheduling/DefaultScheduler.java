@@ -21,10 +21,10 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import org.opentcs.components.kernel.KernelExecutorLanes;
 import org.opentcs.components.kernel.ResourceAllocationException;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
-import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.strategies.basic.scheduling.AllocatorCommand.Allocate;
 import org.opentcs.strategies.basic.scheduling.AllocatorCommand.AllocationsReleased;
@@ -81,17 +81,19 @@ public class DefaultScheduler
    *
    * @param plantModelService The plant model service.
    * @param allocationAdvisor Takes care of modules.
-   * @param kernelExecutor Executes scheduling tasks.
+   * @param reservationPool The reservation pool.
+   * @param executorLanes Provides the lane executing scheduling tasks.
    */
   @Inject
   public DefaultScheduler(InternalPlantModelService plantModelService,
                           AllocationAdvisor allocationAdvisor,
                           ReservationPool reservationPool,
-                          @KernelExecutor ScheduledExecutorService kernelExecutor) {
+                          KernelExecutorLanes executorLanes) {
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.kernelExecutor = requireNonNull(executorLanes, "executorLanes")
+        .lane(KernelExecutorLanes.SCHEDULING);
   }
 
   @Override
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CandidateComputationPool}.
+ *
+ * @author The openTCS Authors
+ */
+public class CandidateComputationPoolTest {
+
+  private final List<Integer> inputs = IntStream.range(0, 1000)
+      .boxed()
+      .collect(Collectors.toList());
+
+  private CandidateComputationPool pool;
+
+  @After
+  public void tearDown() {
+    pool.terminate();
+  }
+
+  @Test
+  public void computeSequentiallyInCallingThread() {
+    pool = new CandidateComputationPool(1);
+    pool.initialize();
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    List<Integer> results = pool.computeAll(inputs, input -> evenSquare(input, threads));
+
+    assertEquals(expectedResults(), results);
+    assertEquals(1, threads.size());
+    assertTrue(threads.contains(Thread.currentThread()));
+  }
+
+  @Test
+  public void computeInParallelPreservingOrder() {
+    pool = new CandidateComputationPool(4);
+    pool.initialize();
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    for (int i = 0; i < 10; i++) {
+      List<Integer> results = pool.computeAll(inputs, input -> evenSquare(input, threads));
+
+      assertEquals(expectedResults(), results);
+    }
+    assertTrue(threads.stream().noneMatch(thread -> thread == Thread.currentThread()));
+  }
+
+  @Test
+  public void useAvailableProcessorsForParallelismZero() {
+    pool = new CandidateComputationPool(0);
+
+    assertEquals(Runtime.getRuntime().availableProcessors(), pool.getParallelism());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void propagateExceptionFromComputation() {
+    pool = new CandidateComputationPool(4);
+    pool.initialize();
+
+    pool.computeAll(inputs, input -> failAt500(input));
+  }
+
+  private static Optional<Integer> evenSquare(Integer input, Set<Thread> threads) {
+    threads.add(Thread.currentThread());
+    return input % 2 == 0 ? Optional.of(input * input) : Optional.empty();
+  }
+
+  private static Optional<Integer> failAt500(Integer input) {
+    if (input == 500) {
+      throw new IllegalStateException("Failed");
+    }
+    return Optional.of(input);
+  }
+
+  private List<Integer> expectedResults() {
+    List<Integer> result = new ArrayList<>();
+    for (Integer input : inputs) {
+      if (input % 2 == 0) {
+        result.add(input * input);
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link CoalescingDispatchTrigger}.
+ *
+ * @author The openTCS Authors
+ */
+public class CoalescingDispatchTriggerTest {
+
+  private static final long DISPATCH_DELAY = 10;
+
+  private static final long MIN_DISPATCH_INTERVAL = 50;
+
+  private ScheduledExecutorService executor;
+
+  private Runnable dispatchTask;
+
+  private ScheduledFuture<?> future;
+
+  private long currentTime;
+
+  private CoalescingDispatchTrigger trigger;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    executor = mock(ScheduledExecutorService.class);
+    future = mock(ScheduledFuture.class);
+    when(executor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .then(invocation -> future);
+    dispatchTask = mock(Runnable.class);
+    currentTime = 1000;
+    trigger = new CoalescingDispatchTrigger(executor,
+                                            dispatchTask,
+                                            DISPATCH_DELAY,
+                                            MIN_DISPATCH_INTERVAL,
+                                            () -> currentTime);
+  }
+
+  @Test
+  public void coalesceRequestsWhileRunIsPending() {
+    for (int i = 0; i < 200; i++) {
+      trigger.requestDispatch();
+    }
+
+    ArgumentCaptor<Runnable> runCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).schedule(runCaptor.capture(), eq(DISPATCH_DELAY), eq(TimeUnit.MILLISECONDS));
+    runCaptor.getValue().run();
+
+    verify(dispatchTask).run();
+    assertEquals(200, trigger.getRequestCount());
+    assertEquals(1, trigger.getRunCount());
+    assertEquals(200.0, trigger.getCoalescingRatio(), 0.001);
+  }
+
+  @Test
+  public void scheduleNewRunForRequestDuringRun() {
+    trigger.requestDispatch();
+    ArgumentCaptor<Runnable> runCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).schedule(runCaptor.capture(), anyLong(), any(TimeUnit.class));
+
+    // Let the dispatch task itself request another run.
+    doAnswer(invocation -> {
+      trigger.requestDispatch();
+      return null;
+    }).when(dispatchTask).run();
+    runCaptor.getValue().run();
+
+    verify(executor, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  public void respectMinimumDispatchInterval() {
+    trigger.requestDispatch();
+    ArgumentCaptor<Runnable> runCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).schedule(runCaptor.capture(), anyLong(), any(TimeUnit.class));
+    runCaptor.getValue().run();
+
+    // 20 ms after the run started, the next one must wait for another 30 ms.
+    currentTime += 20;
+    trigger.requestDispatch();
+    verify(executor).schedule(any(Runnable.class),
+                              eq(MIN_DISPATCH_INTERVAL - 20),
+                              eq(TimeUnit.MILLISECONDS));
+
+    trigger.cancel();
+    // Long after the last run, the dispatch delay applies again.
+    currentTime += 1000;
+    trigger.requestDispatch();
+    verify(executor, times(2)).schedule(any(Runnable.class),
+                                        eq(DISPATCH_DELAY),
+                                        eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void cancelPendingRun() {
+    trigger.requestDispatch();
+    trigger.cancel();
+
+    verify(future).cancel(false);
+    // With the pending run cancelled, a new request should schedule a new run.
+    trigger.requestDispatch();
+    verify(executor, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    verify(dispatchTask, never()).run();
+  }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.ArrayList;
+import org.junit.*;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventFilter;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Unit tests for {@link DispatchChangeTracker}.
+ *
+ * @author The openTCS Authors
+ */
+public class DispatchChangeTrackerTest {
+
+  private EventSource eventSource;
+
+  private DefaultDispatcherConfiguration configuration;
+
+  private DispatchChangeTracker tracker;
+
+  @Before
+  public void setUp() {
+    eventSource = mock(EventSource.class);
+    configuration = mock(DefaultDispatcherConfiguration.class);
+    when(configuration.incrementalDispatching()).thenReturn(true);
+    when(configuration.fullDispatchInterval()).thenReturn(Long.MAX_VALUE);
+    tracker = new DispatchChangeTracker(eventSource, configuration);
+    tracker.initialize();
+  }
+
+  @After
+  public void tearDown() {
+    tracker.terminate();
+  }
+
+  @Test
+  public void startWithFullRun() {
+    tracker.startRun();
+
+    assertTrue(tracker.isFullRun());
+    assertTrue(tracker.isAffected(new Vehicle("vehicle")));
+    assertTrue(tracker.isAffected(new TransportOrder("order", new ArrayList<>())));
+  }
+
+  @Test
+  public void considerOnlyChangedObjectsInIncrementalRun() {
+    tracker.startRun();
+    Vehicle changedVehicle = new Vehicle("changedVehicle");
+    TransportOrder changedOrder = new TransportOrder("changedOrder", new ArrayList<>());
+    tracker.onEvent(modified(changedVehicle));
+    tracker.onEvent(modified(changedOrder));
+
+    tracker.startRun();
+
+    assertFalse(tracker.isFullRun());
+    assertTrue(tracker.isAffected(changedVehicle));
+    assertTrue(tracker.isAffected(changedOrder));
+    assertFalse(tracker.isAffected(new Vehicle("otherVehicle")));
+    assertFalse(tracker.isAffected(new TransportOrder("otherOrder", new ArrayList<>())));
+
+    // Changes are only considered for one run.
+    tracker.startRun();
+    assertFalse(tracker.isAffected(changedVehicle));
+    assertFalse(tracker.isAffected(changedOrder));
+  }
+
+  @Test
+  public void considerOrdersOfChangedSequence() {
+    tracker.startRun();
+    TransportOrder order = new TransportOrder("order", new ArrayList<>());
+    OrderSequence sequence = new OrderSequence("sequence").withOrder(order.getReference());
+    tracker.onEvent(modified(sequence));
+
+    tracker.startRun();
+
+    assertTrue(tracker.isAffected(order));
+  }
+
+  @Test
+  public void doFullRunWhenRequested() {
+    tracker.startRun();
+    tracker.requestFullRun();
+
+    tracker.startRun();
+
+    assertTrue(tracker.isFullRun());
+  }
+
+  @Test
+  public void doFullRunAfterFullDispatchInterval() {
+    when(configuration.fullDispatchInterval()).thenReturn(0L);
+    tracker.startRun();
+
+    tracker.startRun();
+
+    assertTrue(tracker.isFullRun());
+  }
+
+  @Test
+  public void alwaysDoFullRunsIfNotIncremental() {
+    tracker.terminate();
+    when(configuration.incrementalDispatching()).thenReturn(false);
+    eventSource = mock(EventSource.class);
+    tracker = new DispatchChangeTracker(eventSource, configuration);
+    tracker.initialize();
+
+    tracker.startRun();
+    tracker.startRun();
+
+    assertTrue(tracker.isFullRun());
+    verify(eventSource, never()).subscribe(any(EventHandler.class), any(EventFilter.class));
+  }
+
+  private TCSObjectEvent modified(TCSObject<?> object) {
+    return new TCSObjectEvent(object, object, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
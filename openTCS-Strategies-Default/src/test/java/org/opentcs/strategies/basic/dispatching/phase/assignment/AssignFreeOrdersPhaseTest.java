@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.CandidateComputationPool;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
+import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
+import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleComparator;
+import org.opentcs.strategies.basic.dispatching.selection.CompositeTransportOrderSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.CompositeVehicleSelectionFilter;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Unit tests for {@link AssignFreeOrdersPhase}.
+ *
+ * @author The openTCS Authors
+ */
+public class AssignFreeOrdersPhaseTest {
+
+  private static final int VEHICLE_COUNT = 10;
+
+  private static final int ORDER_COUNT = 500;
+
+  private final Map<String, Vehicle> vehicles = new HashMap<>();
+
+  private final Map<String, TransportOrder> orders = new HashMap<>();
+
+  private Router router;
+
+  private DispatchChangeTracker changeTracker;
+
+  private AssignFreeOrdersPhase phase;
+
+  @Before
+  public void setUp() {
+    TCSObjectReference<Point> position = new Point("point").getReference();
+    for (int i = 0; i < VEHICLE_COUNT; i++) {
+      Vehicle vehicle = new Vehicle("vehicle-" + i).withCurrentPosition(position);
+      vehicles.put(vehicle.getName(), vehicle);
+    }
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      TransportOrder order = new TransportOrder("order-" + i, new ArrayList<>());
+      orders.put(order.getName(), order);
+    }
+
+    InternalTCSObjectService objectService = mock(InternalTCSObjectService.class);
+    when(objectService.snapshot()).thenAnswer(invocation -> new MapSnapshot());
+    router = mock(Router.class);
+    CompositeVehicleSelectionFilter vehicleSelectionFilter
+        = mock(CompositeVehicleSelectionFilter.class);
+    when(vehicleSelectionFilter.test(any())).thenReturn(true);
+    CompositeTransportOrderSelectionFilter orderSelectionFilter
+        = mock(CompositeTransportOrderSelectionFilter.class);
+    when(orderSelectionFilter.test(any())).thenReturn(true);
+    DefaultDispatcherConfiguration configuration = mock(DefaultDispatcherConfiguration.class);
+    when(configuration.incrementalDispatching()).thenReturn(true);
+    when(configuration.fullDispatchInterval()).thenReturn(Long.MAX_VALUE);
+    changeTracker = new DispatchChangeTracker(mock(EventSource.class), configuration);
+    changeTracker.initialize();
+
+    phase = new AssignFreeOrdersPhase(objectService,
+                                      router,
+                                      mock(ProcessabilityChecker.class),
+                                      mock(OrderReservationPool.class),
+                                      mock(CompositeVehicleComparator.class),
+                                      mock(CompositeOrderComparator.class),
+                                      mock(CompositeOrderCandidateComparator.class),
+                                      mock(CompositeVehicleCandidateComparator.class),
+                                      vehicleSelectionFilter,
+                                      orderSelectionFilter,
+                                      mock(TransportOrderUtil.class),
+                                      changeTracker,
+                                      new CandidateComputationPool(1));
+    phase.initialize();
+  }
+
+  @After
+  public void tearDown() {
+    phase.terminate();
+    changeTracker.terminate();
+  }
+
+  @Test
+  public void evaluateAllCandidatesInFullRun() {
+    changeTracker.startRun();
+    phase.run();
+
+    verifyRoutesComputed(VEHICLE_COUNT * ORDER_COUNT);
+  }
+
+  @Test
+  public void evaluateOnlyChangedCandidatesInIncrementalRun() {
+    changeTracker.startRun();
+    phase.run();
+    reset(router);
+
+    // Without any changes, nothing needs to be evaluated.
+    changeTracker.startRun();
+    phase.run();
+    verify(router, never()).getRoute(any(Vehicle.class),
+                                     nullable(Point.class),
+                                     any(TransportOrder.class));
+
+    // A changed vehicle needs to be evaluated with all orders.
+    changeTracker.onEvent(modified(vehicles.get("vehicle-3")));
+    changeTracker.startRun();
+    phase.run();
+    verifyRoutesComputed(ORDER_COUNT);
+    reset(router);
+
+    // A changed order needs to be evaluated with all vehicles.
+    changeTracker.onEvent(modified(orders.get("order-7")));
+    changeTracker.startRun();
+    phase.run();
+    verifyRoutesComputed(VEHICLE_COUNT);
+  }
+
+  private void verifyRoutesComputed(int count) {
+    verify(router, times(count)).getRoute(any(Vehicle.class),
+                                          nullable(Point.class),
+                                          any(TransportOrder.class));
+  }
+
+  private TCSObjectEvent modified(TCSObject<?> object) {
+    return new TCSObjectEvent(object, object, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
+  /**
+   * A snapshot of the test's vehicles and transport orders.
+   */
+  private class MapSnapshot
+      implements TCSObjectSnapshot {
+
+    @Override
+    public long getVersion() {
+      return 0;
+    }
+
+    @Override
+    public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, TCSObjectReference<T> ref) {
+      return ref == null ? null : fetchObject(clazz, ref.getName());
+    }
+
+    @Override
+    public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
+      Object object = objectsOf(clazz).get(name);
+      return clazz.isInstance(object) ? clazz.cast(object) : null;
+    }
+
+    @Override
+    public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
+      return fetchObjects(clazz, object -> true);
+    }
+
+    @Override
+    public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz,
+                                                        Predicate<? super T> predicate) {
+      return objectsOf(clazz).values().stream()
+          .map(object -> clazz.cast(object))
+          .filter(predicate)
+          .collect(Collectors.toSet());
+    }
+
+    private Map<String, ?> objectsOf(Class<?> clazz) {
+      if (clazz == Vehicle.class) {
+        return vehicles;
+      }
+      if (clazz == TransportOrder.class) {
+        return orders;
+      }
+      return new HashMap<>();
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.Random;
+import org.junit.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostAssignment.FORBIDDEN;
+
+/**
+ * Unit tests for {@link MinCostAssignment}.
+ *
+ * @author The openTCS Authors
+ */
+public class MinCostAssignmentTest {
+
+  @Test
+  public void returnEmptyAssignmentForEmptyMatrix() {
+    assertArrayEquals(new int[0], MinCostAssignment.solve(new long[0][0]));
+    assertArrayEquals(new int[]{-1, -1}, MinCostAssignment.solve(new long[2][0]));
+  }
+
+  @Test
+  public void minimizeTotalCosts() {
+    // Assigning the locally best pair (0, 0) first would result in total costs of 101.
+    long[][] costs = {{1, 2},
+                      {2, 100}};
+
+    assertArrayEquals(new int[]{1, 0}, MinCostAssignment.solve(costs));
+  }
+
+  @Test
+  public void handleMoreColumnsThanRows() {
+    long[][] costs = {{5, 1, 3}};
+
+    assertArrayEquals(new int[]{1}, MinCostAssignment.solve(costs));
+  }
+
+  @Test
+  public void handleMoreRowsThanColumns() {
+    long[][] costs = {{5},
+                      {1},
+                      {3}};
+
+    assertArrayEquals(new int[]{-1, 0, -1}, MinCostAssignment.solve(costs));
+  }
+
+  @Test
+  public void preferMorePairsOverLowerCosts() {
+    long[][] costs = {{1, 100},
+                      {5, FORBIDDEN}};
+
+    assertArrayEquals(new int[]{1, 0}, MinCostAssignment.solve(costs));
+  }
+
+  @Test
+  public void leaveRowsWithForbiddenPairsOnlyUnassigned() {
+    long[][] costs = {{FORBIDDEN, FORBIDDEN},
+                      {3, 4}};
+
+    assertArrayEquals(new int[]{-1, 0}, MinCostAssignment.solve(costs));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectNegativeCosts() {
+    MinCostAssignment.solve(new long[][]{{1, -1}});
+  }
+
+  @Test
+  public void findSameCostsAsExhaustiveSearch() {
+    Random random = new Random(4711);
+    for (int round = 0; round < 200; round++) {
+      int rowCount = 1 + random.nextInt(5);
+      int columnCount = 1 + random.nextInt(5);
+      long[][] costs = new long[rowCount][columnCount];
+      for (int i = 0; i < rowCount; i++) {
+        for (int j = 0; j < columnCount; j++) {
+          costs[i][j] = random.nextInt(5) == 0 ? FORBIDDEN : random.nextInt(1000);
+        }
+      }
+
+      int[] assignment = MinCostAssignment.solve(costs);
+
+      long[] expected = bestPairsAndCosts(costs, 0, new boolean[columnCount]);
+      assertEquals(expected[0], pairCount(assignment));
+      assertEquals(expected[1], totalCosts(costs, assignment));
+    }
+  }
+
+  /**
+   * Returns the maximum number of pairs and the minimum costs for them for the given rows.
+   */
+  private long[] bestPairsAndCosts(long[][] costs, int row, boolean[] usedColumns) {
+    if (row == costs.length) {
+      return new long[]{0, 0};
+    }
+    long[] best = bestPairsAndCosts(costs, row + 1, usedColumns);
+    for (int j = 0; j < usedColumns.length; j++) {
+      if (usedColumns[j] || costs[row][j] == FORBIDDEN) {
+        continue;
+      }
+      usedColumns[j] = true;
+      long[] rest = bestPairsAndCosts(costs, row + 1, usedColumns);
+      usedColumns[j] = false;
+      long pairs = rest[0] + 1;
+      long total = rest[1] + costs[row][j];
+      if (pairs > best[0] || (pairs == best[0] && total < best[1])) {
+        best = new long[]{pairs, total};
+      }
+    }
+    return best;
+  }
+
+  private long pairCount(int[] assignment) {
+    long count = 0;
+    for (int column : assignment) {
+      if (column >= 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private long totalCosts(long[][] costs, int[] assignment) {
+    long total = 0;
+    for (int i = 0; i < assignment.length; i++) {
+      if (assignment[i] >= 0) {
+        total += costs[i][assignment[i]];
+      }
+    }
+    return total;
+  }
+}
@@ -0,0 +1,249 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.CandidateComputationPool;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchChangeTracker;
+import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
+import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleComparator;
+import org.opentcs.strategies.basic.dispatching.selection.CompositeTransportOrderSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.CompositeVehicleSelectionFilter;
+
+/**
+ * Unit tests for {@link OptimalAssignmentPhase}.
+ *
+ * @author The openTCS Authors
+ */
+public class OptimalAssignmentPhaseTest {
+
+  private final Map<String, Vehicle> vehicles = new HashMap<>();
+
+  private final Map<String, TransportOrder> orders = new HashMap<>();
+
+  private final Point point = new Point("point");
+
+  private final Location location = new Location("location",
+                                                 new LocationType("locationType").getReference());
+
+  private Router router;
+
+  private TransportOrderUtil transportOrderUtil;
+
+  private DispatchChangeTracker changeTracker;
+
+  private OptimalAssignmentPhase phase;
+
+  @Before
+  public void setUp() {
+    InternalTCSObjectService objectService = mock(InternalTCSObjectService.class);
+    when(objectService.snapshot()).thenAnswer(invocation -> new MapSnapshot());
+    router = mock(Router.class);
+    ProcessabilityChecker processabilityChecker = mock(ProcessabilityChecker.class);
+    when(processabilityChecker.checkProcessability(any(), any())).thenReturn(true);
+    CompositeVehicleSelectionFilter vehicleSelectionFilter
+        = mock(CompositeVehicleSelectionFilter.class);
+    when(vehicleSelectionFilter.test(any())).thenReturn(true);
+    CompositeTransportOrderSelectionFilter orderSelectionFilter
+        = mock(CompositeTransportOrderSelectionFilter.class);
+    when(orderSelectionFilter.test(any())).thenReturn(true);
+    DefaultDispatcherConfiguration configuration = mock(DefaultDispatcherConfiguration.class);
+    when(configuration.deadlineAtRiskPeriod()).thenReturn(60000L);
+    changeTracker = mock(DispatchChangeTracker.class);
+    when(changeTracker.isAffected(any(Vehicle.class))).thenReturn(true);
+    when(changeTracker.isAffected(any(TransportOrder.class))).thenReturn(true);
+    transportOrderUtil = mock(TransportOrderUtil.class);
+
+    phase = new OptimalAssignmentPhase(objectService,
+                                       router,
+                                       processabilityChecker,
+                                       mock(OrderReservationPool.class),
+                                       mock(CompositeVehicleComparator.class),
+                                       mock(CompositeOrderComparator.class),
+                                       vehicleSelectionFilter,
+                                       orderSelectionFilter,
+                                       transportOrderUtil,
+                                       changeTracker,
+                                       new CandidateComputationPool(1),
+                                       configuration);
+    phase.initialize();
+  }
+
+  @After
+  public void tearDown() {
+    phase.terminate();
+  }
+
+  @Test
+  public void minimizeTotalEmptyTravel() {
+    Vehicle vehicle1 = addVehicle("vehicle1");
+    Vehicle vehicle2 = addVehicle("vehicle2");
+    TransportOrder order1 = addOrder(new TransportOrder("order1", new ArrayList<>()));
+    TransportOrder order2 = addOrder(new TransportOrder("order2", new ArrayList<>()));
+    // Greedily assigning order1 to vehicle1 first would result in costs of 101.
+    setCosts(vehicle1, order1, 1);
+    setCosts(vehicle1, order2, 2);
+    setCosts(vehicle2, order1, 2);
+    setCosts(vehicle2, order2, 100);
+
+    phase.run();
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle1), eq(order2), anyList());
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle2), eq(order1), anyList());
+  }
+
+  @Test
+  public void respectIntendedVehicle() {
+    Vehicle vehicle1 = addVehicle("vehicle1");
+    Vehicle vehicle2 = addVehicle("vehicle2");
+    TransportOrder order = addOrder(new TransportOrder("order", new ArrayList<>())
+        .withIntendedVehicle(vehicle2.getReference()));
+    setCosts(vehicle1, order, 1);
+    setCosts(vehicle2, order, 100);
+
+    phase.run();
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle2), eq(order), anyList());
+    verify(transportOrderUtil, never()).assignTransportOrder(eq(vehicle1), any(), anyList());
+  }
+
+  @Test
+  public void preferOrdersWithDeadlineAtRisk() {
+    Vehicle vehicle = addVehicle("vehicle");
+    TransportOrder order1 = addOrder(new TransportOrder("order1", new ArrayList<>()));
+    TransportOrder order2 = addOrder(new TransportOrder("order2", new ArrayList<>())
+        .withDeadline(Instant.now()));
+    setCosts(vehicle, order1, 1);
+    setCosts(vehicle, order2, 100);
+
+    phase.run();
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle), eq(order2), anyList());
+  }
+
+  @Test
+  public void skipAssignmentWithoutChanges() {
+    Vehicle vehicle = addVehicle("vehicle");
+    TransportOrder order = addOrder(new TransportOrder("order", new ArrayList<>()));
+    setCosts(vehicle, order, 1);
+    when(changeTracker.isAffected(any(Vehicle.class))).thenReturn(false);
+    when(changeTracker.isAffected(any(TransportOrder.class))).thenReturn(false);
+
+    phase.run();
+
+    verify(router, never()).getRoute(any(Vehicle.class),
+                                     nullable(Point.class),
+                                     any(TransportOrder.class));
+  }
+
+  private Vehicle addVehicle(String name) {
+    Vehicle vehicle = new Vehicle(name).withCurrentPosition(point.getReference());
+    vehicles.put(name, vehicle);
+    return vehicle;
+  }
+
+  private TransportOrder addOrder(TransportOrder order) {
+    orders.put(order.getName(), order);
+    return order;
+  }
+
+  private void setCosts(Vehicle vehicle, TransportOrder order, long costs) {
+    Route route = new Route(Arrays.asList(new Route.Step(null,
+                                                         null,
+                                                         point,
+                                                         Vehicle.Orientation.FORWARD,
+                                                         0)),
+                            costs);
+    List<DriveOrder> driveOrders = Arrays.asList(
+        new DriveOrder(new DriveOrder.Destination(location.getReference())).withRoute(route)
+    );
+    when(router.getRoute(eq(vehicle), nullable(Point.class), eq(order)))
+        .thenReturn(Optional.of(driveOrders));
+  }
+
+  /**
+   * A snapshot of the test's vehicles and transport orders.
+   */
+  private class MapSnapshot
+      implements TCSObjectSnapshot {
+
+    @Override
+    public long getVersion() {
+      return 0;
+    }
+
+    @Override
+    public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, TCSObjectReference<T> ref) {
+      return ref == null ? null : fetchObject(clazz, ref.getName());
+    }
+
+    @Override
+    public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
+      Object object = objectsOf(clazz).get(name);
+      return clazz.isInstance(object) ? clazz.cast(object) : null;
+    }
+
+    @Override
+    public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
+      return fetchObjects(clazz, object -> true);
+    }
+
+    @Override
+    public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz,
+                                                        Predicate<? super T> predicate) {
+      return objectsOf(clazz).values().stream()
+          .map(object -> clazz.cast(object))
+          .filter(predicate)
+          .collect(Collectors.toSet());
+    }
+
+    private Map<String, ?> objectsOf(Class<?> clazz) {
+      if (clazz == Vehicle.class) {
+        return vehicles;
+      }
+      if (clazz == TransportOrder.class) {
+        return orders;
+      }
+      return new HashMap<>();
+    }
+  }
+}
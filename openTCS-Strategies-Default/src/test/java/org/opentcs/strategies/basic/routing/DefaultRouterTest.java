@@ -7,9 +7,18 @@
  */
 package org.opentcs.strategies.basic.routing;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import org.junit.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -22,7 +31,14 @@ import org.mockito.invocation.InvocationOnMock;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
 
 /**
  * Test cases for the {@link DefaultRouter}.
@@ -56,6 +72,31 @@ public class DefaultRouterTest {
    */
   private DefaultRouterConfiguration configuration;
 
+  /**
+   * The point router created by the builder.
+   */
+  private PointRouter pointRouter;
+
+  /**
+   * The points in the model, mapped by their names.
+   */
+  private final Map<String, Point> points = new HashMap<>();
+
+  /**
+   * The locations in the model, mapped by their names.
+   */
+  private final Map<String, Location> locations = new HashMap<>();
+
+  /**
+   * The type of all locations.
+   */
+  private final LocationType locationType = new LocationType("locationType");
+
+  /**
+   * The costs between points, mapped by the points' names.
+   */
+  private final Map<String, Long> costs = new HashMap<>();
+
   @Before
   public void setUp() {
     objectService = mock(TCSObjectService.class);
@@ -110,6 +151,90 @@ public class DefaultRouterTest {
     verify(builder, times(15)).createPointRouter(any());
   }
 
+  @Test
+  public void shouldUpdateExistingPointRoutersWhenTopologyChanges() {
+    Vehicle vehicle = createVehicle("Vehicle-000", 1);
+    createVehicle("Vehicle-001", 2);
+    PointRouter updatedPointRouter = mock(PointRouter.class);
+    when(builder.updatePointRouter(any(), eq(pointRouter))).thenReturn(updatedPointRouter);
+    router.initialize();
+    router.topologyChanged();
+
+    verify(builder, times(2)).createPointRouter(any());
+    verify(builder, times(2)).updatePointRouter(any(), eq(pointRouter));
+
+    Point source = createPoint("S");
+    Point destination = createPoint("D");
+    router.getCosts(vehicle, source, destination);
+    verify(updatedPointRouter).getCosts(source, destination);
+  }
+
+  @Test
+  public void shouldRouteViaCheapestChainOfDestinationPoints() {
+    Point source = createPoint("S");
+    Location location1 = createLocation("L1", createPoint("A1"), createPoint("A2"));
+    Location location2 = createLocation("L2", createPoint("B1"), createPoint("B2"));
+    // Choosing the cheapest first hop (to A1) would result in total costs of 101.
+    setCosts("S", "A1", 1);
+    setCosts("S", "A2", 10);
+    setCosts("A1", "B1", 100);
+    setCosts("A1", "B2", 100);
+    setCosts("A2", "B1", 1);
+    setCosts("A2", "B2", 50);
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+    router.initialize();
+
+    Optional<List<DriveOrder>> result
+        = router.getRoute(vehicle, source, createTransportOrder(location1, location2));
+
+    assertTrue(result.isPresent());
+    assertEquals("A2", result.get().get(0).getRoute().getFinalDestinationPoint().getName());
+    assertEquals("B1", result.get().get(1).getRoute().getFinalDestinationPoint().getName());
+    assertEquals(11, result.get().stream().mapToLong(order -> order.getRoute().getCosts()).sum());
+    // Route steps are only computed for the cheapest chain.
+    verify(pointRouter, times(2)).getRouteSteps(any(Point.class), any(Point.class));
+  }
+
+  @Test
+  public void shouldFindSameCostsAsExhaustiveSearch() {
+    int stopCount = 4;
+    int pointsPerLocation = 4;
+    Random random = new Random(4711);
+    Point source = createPoint("S");
+    List<List<String>> pointNames = new ArrayList<>();
+    Location[] locations = new Location[stopCount];
+    for (int stop = 0; stop < stopCount; stop++) {
+      List<String> names = new ArrayList<>();
+      Point[] points = new Point[pointsPerLocation];
+      for (int i = 0; i < pointsPerLocation; i++) {
+        points[i] = createPoint("P" + stop + "-" + i);
+        names.add(points[i].getName());
+      }
+      locations[stop] = createLocation("L" + stop, points);
+      pointNames.add(names);
+    }
+    List<String> previousNames = Arrays.asList("S");
+    for (List<String> names : pointNames) {
+      for (String from : previousNames) {
+        for (String to : names) {
+          setCosts(from, to, 1 + random.nextInt(1000));
+        }
+      }
+      previousNames = names;
+    }
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+    router.initialize();
+
+    Optional<List<DriveOrder>> result
+        = router.getRoute(vehicle, source, createTransportOrder(locations));
+
+    assertTrue(result.isPresent());
+    assertEquals(cheapestChainCosts("S", pointNames, 0),
+                 result.get().stream().mapToLong(order -> order.getRoute().getCosts()).sum());
+    // Exhaustive enumeration used to build routes for all 4^4 combinations of destination points.
+    verify(pointRouter, times(stopCount)).getRouteSteps(any(Point.class), any(Point.class));
+  }
+
   /**
    * Creates a vehicle with a unique id, the given name and the given routing group.
    * If the routing group is negative no property will be added.
@@ -137,11 +262,73 @@ public class DefaultRouterTest {
    */
   @SuppressWarnings("unchecked")
   private Router createRouter() {
-    when(builder.createPointRouter(any())).thenReturn(mock(PointRouter.class));
+    pointRouter = mock(PointRouter.class);
+    when(pointRouter.getCosts(any(Point.class), any(Point.class)))
+        .then(o -> costs.getOrDefault(costKey(o.getArgument(0), o.getArgument(1)),
+                                      PointRouter.INFINITE_COSTS));
+    when(pointRouter.getRouteSteps(any(Point.class), any(Point.class)))
+        .then(o -> new ArrayList<>(Arrays.asList(new Route.Step(null,
+                                                                o.getArgument(0),
+                                                                o.getArgument(1),
+                                                                Vehicle.Orientation.FORWARD,
+                                                                0))));
+    when(builder.createPointRouter(any())).thenReturn(pointRouter);
+    when(objectService.fetchObject(eq(Point.class), any(TCSObjectReference.class)))
+        .then(o -> points.get(((TCSObjectReference<?>) o.getArgument(1)).getName()));
+    when(objectService.fetchObject(eq(Location.class), anyString()))
+        .then(o -> locations.get((String) o.getArgument(1)));
+    when(objectService.fetchObject(eq(LocationType.class), any(TCSObjectReference.class)))
+        .thenReturn(locationType);
 
     return new DefaultRouter(objectService, builder, configuration);
   }
 
+  private Point createPoint(String name) {
+    Point point = new Point(name).withType(Point.Type.HALT_POSITION);
+    points.put(name, point);
+    return point;
+  }
+
+  private Location createLocation(String name, Point... linkedPoints) {
+    Location location = new Location(name, locationType.getReference());
+    Set<Location.Link> links = new HashSet<>();
+    for (Point point : linkedPoints) {
+      links.add(new Location.Link(location.getReference(), point.getReference()));
+    }
+    location = location.withAttachedLinks(links);
+    locations.put(name, location);
+    return location;
+  }
+
+  private TransportOrder createTransportOrder(Location... destinations) {
+    List<DriveOrder> driveOrders = new ArrayList<>();
+    for (Location destination : destinations) {
+      driveOrders.add(new DriveOrder(new DriveOrder.Destination(destination.getReference())));
+    }
+    return new TransportOrder("order", driveOrders);
+  }
+
+  private void setCosts(String from, String to, long pathCosts) {
+    costs.put(costKey(points.get(from), points.get(to)), pathCosts);
+  }
+
+  private String costKey(Point from, Point to) {
+    return from.getName() + "-->" + to.getName();
+  }
+
+  private long cheapestChainCosts(String from, List<List<String>> pointNames, int stop) {
+    if (stop == pointNames.size()) {
+      return 0;
+    }
+    long result = Long.MAX_VALUE;
+    for (String to : pointNames.get(stop)) {
+      result = Math.min(result,
+                        costs.get(costKey(points.get(from), points.get(to)))
+                        + cheapestChainCosts(to, pointNames, stop + 1));
+    }
+    return result;
+  }
+
   /**
    * Stream filter to check if the second argument of the invocation is equal to the object's name.
    *
@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Unit tests for {@link CompactGraphPointRouter}.
+ *
+ * @author The openTCS Authors
+ */
+public class CompactGraphPointRouterTest {
+
+  /**
+   * The number of points per row/column of the grid layout.
+   */
+  private static final int GRID_SIZE = 30;
+  /**
+   * The distance between neighbouring points in the grid layout.
+   */
+  private static final int GRID_SPACING = 1000;
+
+  private final Random random = new Random(4711);
+
+  private final List<Point> points = new ArrayList<>();
+
+  private Graph<String, ModelEdge> graph;
+
+  private ShortestPathPointRouter referenceRouter;
+
+  @Before
+  public void setUp() {
+    // A grid layout with random weights not lower than the distance between points. Some of the
+    // paths can be travelled in one direction only.
+    graph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+    for (int row = 0; row < GRID_SIZE; row++) {
+      for (int column = 0; column < GRID_SIZE; column++) {
+        Point point = new Point(pointName(row, column))
+            .withPosition(new Triple(column * GRID_SPACING, row * GRID_SPACING, 0));
+        points.add(point);
+        graph.addVertex(point.getName());
+      }
+    }
+    for (int row = 0; row < GRID_SIZE; row++) {
+      for (int column = 0; column < GRID_SIZE; column++) {
+        if (column + 1 < GRID_SIZE) {
+          connect(pointName(row, column), pointName(row, column + 1));
+        }
+        if (row + 1 < GRID_SIZE) {
+          connect(pointName(row, column), pointName(row + 1, column));
+        }
+      }
+    }
+    // A point that cannot be reached.
+    Point isolatedPoint = new Point("isolated");
+    points.add(isolatedPoint);
+    graph.addVertex(isolatedPoint.getName());
+
+    referenceRouter = new ShortestPathPointRouter(new DijkstraShortestPath<>(graph), points);
+  }
+
+  @Test
+  public void compileGraph() {
+    CompactRoutingGraph compactGraph = new CompactRoutingGraph(graph);
+
+    assertEquals(graph.vertexSet().size(), compactGraph.getVertexCount());
+    assertEquals(graph.edgeSet().size(), compactGraph.getEdgeCount());
+    assertEquals(-1, compactGraph.indexOf("unknown"));
+    int index = compactGraph.indexOf(pointName(0, 0));
+    assertEquals(pointName(0, 0), compactGraph.getVertexName(index));
+    assertEquals(graph.outDegreeOf(pointName(0, 0)),
+                 compactGraph.edgeOffset(index + 1) - compactGraph.edgeOffset(index));
+  }
+
+  @Test
+  public void returnSameCostsAsJGraphTDijkstra() {
+    CompactGraphPointRouter router
+        = new CompactGraphPointRouter(new CompactRoutingGraph(graph), points, false);
+
+    for (int i = 0; i < 500; i++) {
+      Point srcPoint = randomPoint();
+      Point destPoint = randomPoint();
+      assertEquals(referenceRouter.getCosts(srcPoint, destPoint),
+                   router.getCosts(srcPoint, destPoint));
+    }
+  }
+
+  @Test
+  public void returnSameCostsWithCaching() {
+    CompactGraphPointRouter router
+        = new CompactGraphPointRouter(new CompactRoutingGraph(graph), points, true);
+
+    for (int i = 0; i < 500; i++) {
+      Point srcPoint = randomPoint();
+      Point destPoint = randomPoint();
+      assertEquals(referenceRouter.getCosts(srcPoint, destPoint),
+                   router.getCosts(srcPoint, destPoint));
+    }
+  }
+
+  @Test
+  public void keepUnaffectedCachedCostsWhenGraphChanges() {
+    CompactGraphPointRouter router
+        = new CompactGraphPointRouter(new CompactRoutingGraph(graph), points, true);
+    router.precomputeCosts();
+
+    // Remove the edges of a path in the middle of the layout, as when the path is locked.
+    String pointName1 = pointName(GRID_SIZE / 2, GRID_SIZE / 2);
+    String pointName2 = pointName(GRID_SIZE / 2, GRID_SIZE / 2 + 1);
+    List<ModelEdge> removedEdges = new ArrayList<>(graph.getAllEdges(pointName1, pointName2));
+    removedEdges.addAll(graph.getAllEdges(pointName2, pointName1));
+    graph.removeAllEdges(removedEdges);
+    router = updateRouter(router);
+
+    assertTrue(router.getCachedCostsCount() > 0);
+    assertTrue(router.getCachedCostsCount() < points.size());
+    assertSameCostsAsReference(router);
+
+    // Add a cheaper edge, as when the path is unlocked with a different weight.
+    router.precomputeCosts();
+    addEdge(pointName1, pointName2, removedEdges.get(0), 1);
+    router = updateRouter(router);
+
+    assertTrue(router.getCachedCostsCount() > 0);
+    assertTrue(router.getCachedCostsCount() < points.size());
+    assertSameCostsAsReference(router);
+  }
+
+  @Test
+  public void returnConnectedRouteStepsWithShortestLength() {
+    CompactGraphPointRouter router
+        = new CompactGraphPointRouter(new CompactRoutingGraph(graph), points, false);
+
+    for (int i = 0; i < 100; i++) {
+      Point srcPoint = points.get(random.nextInt(GRID_SIZE * GRID_SIZE));
+      Point destPoint = points.get(random.nextInt(GRID_SIZE * GRID_SIZE));
+      List<Route.Step> steps = router.getRouteSteps(srcPoint, destPoint);
+
+      assertNotNull(steps);
+      Point expectedSource = srcPoint;
+      long costs = 0;
+      for (int routeIndex = 0; routeIndex < steps.size(); routeIndex++) {
+        Route.Step step = steps.get(routeIndex);
+        assertEquals(routeIndex, step.getRouteIndex());
+        assertEquals(expectedSource, step.getSourcePoint());
+        costs += (long) graph.getEdgeWeight(graph.getAllEdges(step.getSourcePoint().getName(),
+                                                              step.getDestinationPoint().getName())
+            .iterator().next());
+        expectedSource = step.getDestinationPoint();
+      }
+      assertEquals(destPoint, expectedSource);
+      assertEquals(referenceRouter.getCosts(srcPoint, destPoint), costs);
+    }
+  }
+
+  @Test
+  public void returnSameCostsWithHeuristics() {
+    CompactRoutingGraph compactGraph = new CompactRoutingGraph(graph);
+    CompactGraphPointRouter dijkstraRouter
+        = new CompactGraphPointRouter(compactGraph, points, false);
+    CompactGraphPointRouter aStarRouter
+        = new CompactGraphPointRouter(compactGraph,
+                                      points,
+                                      false,
+                                      new EuclideanSearchHeuristic(compactGraph, points));
+    CompactGraphPointRouter altRouter
+        = new CompactGraphPointRouter(compactGraph,
+                                      points,
+                                      false,
+                                      new LandmarkSearchHeuristic(compactGraph, 8));
+
+    for (int i = 0; i < 500; i++) {
+      Point srcPoint = randomPoint();
+      Point destPoint = randomPoint();
+      long expectedCosts = referenceRouter.getCosts(srcPoint, destPoint);
+      assertEquals(expectedCosts, aStarRouter.getCosts(srcPoint, destPoint));
+      assertEquals(expectedCosts, altRouter.getCosts(srcPoint, destPoint));
+      dijkstraRouter.getCosts(srcPoint, destPoint);
+    }
+
+    // The heuristics should guide the searches, requiring less vertices to be settled.
+    assertTrue(aStarRouter.getSettledVertexCount() < dijkstraRouter.getSettledVertexCount() / 2);
+    assertTrue(altRouter.getSettledVertexCount() < dijkstraRouter.getSettledVertexCount() / 2);
+  }
+
+  @Test
+  public void scaleEuclideanDistanceByLowestEdgeWeightRatio() {
+    EuclideanSearchHeuristic heuristic
+        = new EuclideanSearchHeuristic(new CompactRoutingGraph(graph), points);
+
+    assertEquals(1.0, heuristic.getScale(), 0.001);
+  }
+
+  @Test
+  public void selectUnreachableVertexAsLandmark() {
+    CompactRoutingGraph compactGraph = new CompactRoutingGraph(graph);
+    LandmarkSearchHeuristic heuristic = new LandmarkSearchHeuristic(compactGraph, 4);
+
+    assertEquals(4, heuristic.getLandmarks().length);
+    // The isolated point cannot be reached from any other landmark, so it is selected.
+    int isolatedIndex = compactGraph.indexOf("isolated");
+    assertTrue(Arrays.stream(heuristic.getLandmarks())
+        .anyMatch(landmark -> landmark == isolatedIndex));
+    assertEquals(0.0, heuristic.estimateCosts(isolatedIndex, isolatedIndex), 0.0);
+  }
+
+  @Test
+  public void returnNoRouteToUnreachablePoint() {
+    CompactGraphPointRouter router
+        = new CompactGraphPointRouter(new CompactRoutingGraph(graph), points, false);
+    Point isolatedPoint = points.get(points.size() - 1);
+
+    assertNull(router.getRouteSteps(points.get(0), isolatedPoint));
+    assertEquals(PointRouter.INFINITE_COSTS, router.getCosts(points.get(0), isolatedPoint));
+    assertTrue(router.getRouteSteps(isolatedPoint, isolatedPoint).isEmpty());
+    assertEquals(0, router.getCosts(isolatedPoint, isolatedPoint));
+  }
+
+  private CompactGraphPointRouter updateRouter(CompactGraphPointRouter router) {
+    referenceRouter = new ShortestPathPointRouter(new DijkstraShortestPath<>(graph), points);
+    return router.withGraph(new CompactRoutingGraph(graph, router.getGraph()), points, null);
+  }
+
+  private void assertSameCostsAsReference(PointRouter router) {
+    for (int i = 0; i < 500; i++) {
+      Point srcPoint = randomPoint();
+      Point destPoint = randomPoint();
+      assertEquals(referenceRouter.getCosts(srcPoint, destPoint),
+                   router.getCosts(srcPoint, destPoint));
+    }
+  }
+
+  private Point randomPoint() {
+    return points.get(random.nextInt(points.size()));
+  }
+
+  private void connect(String pointName1, String pointName2) {
+    int weight = GRID_SPACING + random.nextInt(GRID_SPACING);
+    Path path = new Path(pointName1 + "--" + pointName2,
+                         new Point(pointName1).getReference(),
+                         new Point(pointName2).getReference());
+    addEdge(pointName1, pointName2, new ModelEdge(path, false), weight);
+    // Every fifth path is a one-way path.
+    if (random.nextInt(5) != 0) {
+      addEdge(pointName2, pointName1, new ModelEdge(path, true), weight);
+    }
+  }
+
+  private void addEdge(String source, String target, ModelEdge edge, double weight) {
+    graph.addEdge(source, target, edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+
+  private static String pointName(int row, int column) {
+    return "Point-" + row + "-" + column;
+  }
+}
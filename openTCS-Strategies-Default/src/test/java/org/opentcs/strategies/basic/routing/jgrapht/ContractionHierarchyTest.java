@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Unit tests for {@link ContractionHierarchy} and {@link ContractionHierarchyPointRouter}.
+ *
+ * @author The openTCS Authors
+ */
+public class ContractionHierarchyTest {
+
+  /**
+   * The number of points per row/column of the grid layout.
+   */
+  private static final int GRID_SIZE = 40;
+
+  private final Random random = new Random(4711);
+
+  private final List<Point> points = new ArrayList<>();
+
+  private Graph<String, ModelEdge> graph;
+
+  private ShortestPathPointRouter referenceRouter;
+
+  private ContractionHierarchyPointRouter router;
+
+  @Before
+  public void setUp() {
+    // A grid layout with random weights. Some of the paths can be travelled in one direction only,
+    // some points are connected by two parallel paths.
+    graph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+    for (int row = 0; row < GRID_SIZE; row++) {
+      for (int column = 0; column < GRID_SIZE; column++) {
+        Point point = new Point(pointName(row, column));
+        points.add(point);
+        graph.addVertex(point.getName());
+      }
+    }
+    for (int row = 0; row < GRID_SIZE; row++) {
+      for (int column = 0; column < GRID_SIZE; column++) {
+        if (column + 1 < GRID_SIZE) {
+          connect(pointName(row, column), pointName(row, column + 1));
+        }
+        if (row + 1 < GRID_SIZE) {
+          connect(pointName(row, column), pointName(row + 1, column));
+        }
+      }
+    }
+    // A point that cannot be reached.
+    Point isolatedPoint = new Point("isolated");
+    points.add(isolatedPoint);
+    graph.addVertex(isolatedPoint.getName());
+
+    referenceRouter = new ShortestPathPointRouter(new DijkstraShortestPath<>(graph), points);
+    router = new ContractionHierarchyPointRouter(
+        new ContractionHierarchy(new CompactRoutingGraph(graph)),
+        points
+    );
+  }
+
+  @Test
+  public void returnSameCostsAsJGraphTDijkstra() {
+    for (int i = 0; i < 1000; i++) {
+      Point srcPoint = randomPoint();
+      Point destPoint = randomPoint();
+      assertEquals(referenceRouter.getCosts(srcPoint, destPoint),
+                   router.getCosts(srcPoint, destPoint));
+    }
+  }
+
+  @Test
+  public void returnConnectedRouteStepsWithShortestLength() {
+    for (int i = 0; i < 200; i++) {
+      Point srcPoint = points.get(random.nextInt(GRID_SIZE * GRID_SIZE));
+      Point destPoint = points.get(random.nextInt(GRID_SIZE * GRID_SIZE));
+      List<Route.Step> steps = router.getRouteSteps(srcPoint, destPoint);
+
+      assertNotNull(steps);
+      Point expectedSource = srcPoint;
+      long costs = 0;
+      for (int routeIndex = 0; routeIndex < steps.size(); routeIndex++) {
+        Route.Step step = steps.get(routeIndex);
+        assertEquals(routeIndex, step.getRouteIndex());
+        assertEquals(expectedSource, step.getSourcePoint());
+        costs += cheapestEdgeWeight(step);
+        expectedSource = step.getDestinationPoint();
+      }
+      assertEquals(destPoint, expectedSource);
+      assertEquals(referenceRouter.getCosts(srcPoint, destPoint), costs);
+    }
+  }
+
+  @Test
+  public void settleFewVerticesPerQuery() {
+    CompactRoutingGraph compactGraph = new CompactRoutingGraph(graph);
+    ContractionHierarchy hierarchy = router.getHierarchy();
+    ContractionHierarchy.Query query = hierarchy.createQuery();
+    CompactGraphSearch dijkstraSearch = new CompactGraphSearch(compactGraph.getVertexCount());
+    long hierarchySettled = 0;
+    long dijkstraSettled = 0;
+    for (int i = 0; i < 200; i++) {
+      int srcIndex = random.nextInt(GRID_SIZE * GRID_SIZE);
+      int destIndex = random.nextInt(GRID_SIZE * GRID_SIZE);
+      query.search(srcIndex, destIndex);
+      dijkstraSearch.search(compactGraph, srcIndex, destIndex, null);
+      hierarchySettled += query.getSettledVertexCount();
+      dijkstraSettled += dijkstraSearch.getSettledVertexCount();
+    }
+
+    assertTrue(hierarchySettled < dijkstraSettled / 5);
+    assertTrue(hierarchy.getShortcutCount() > 0);
+    assertTrue(hierarchy.getMemoryUsage() > 0);
+  }
+
+  @Test
+  public void returnNoRouteToUnreachablePoint() {
+    Point isolatedPoint = points.get(points.size() - 1);
+
+    assertNull(router.getRouteSteps(points.get(0), isolatedPoint));
+    assertNull(router.getRouteSteps(isolatedPoint, points.get(0)));
+    assertEquals(PointRouter.INFINITE_COSTS, router.getCosts(points.get(0), isolatedPoint));
+    assertTrue(router.getRouteSteps(isolatedPoint, isolatedPoint).isEmpty());
+    assertEquals(0, router.getCosts(isolatedPoint, isolatedPoint));
+  }
+
+  @Test
+  public void returnShortestRoutesAfterContractionInPreviousOrder() {
+    // Lock every tenth path.
+    Set<String> lockedPaths = new HashSet<>();
+    for (ModelEdge edge : graph.edgeSet()) {
+      if (random.nextInt(10) == 0) {
+        lockedPaths.add(edge.getModelPath().getName());
+      }
+    }
+    Graph<String, ModelEdge> modifiedGraph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+    graph.vertexSet().forEach(vertex -> modifiedGraph.addVertex(vertex));
+    for (ModelEdge edge : graph.edgeSet()) {
+      if (!lockedPaths.contains(edge.getModelPath().getName())) {
+        modifiedGraph.addEdge(graph.getEdgeSource(edge), graph.getEdgeTarget(edge), edge);
+        modifiedGraph.setEdgeWeight(edge, graph.getEdgeWeight(edge));
+      }
+    }
+
+    ContractionHierarchy hierarchy
+        = new ContractionHierarchy(new CompactRoutingGraph(modifiedGraph,
+                                                           router.getHierarchy().getGraph()),
+                                   router.getHierarchy());
+    ContractionHierarchyPointRouter modifiedRouter
+        = new ContractionHierarchyPointRouter(hierarchy, points);
+    ShortestPathPointRouter modifiedReferenceRouter
+        = new ShortestPathPointRouter(new DijkstraShortestPath<>(modifiedGraph), points);
+
+    assertTrue(hierarchy.isPreviousOrder());
+    assertFalse(router.getHierarchy().isPreviousOrder());
+    for (int i = 0; i < 1000; i++) {
+      Point srcPoint = randomPoint();
+      Point destPoint = randomPoint();
+      assertEquals(modifiedReferenceRouter.getCosts(srcPoint, destPoint),
+                   modifiedRouter.getCosts(srcPoint, destPoint));
+    }
+  }
+
+  private Point randomPoint() {
+    return points.get(random.nextInt(points.size()));
+  }
+
+  private long cheapestEdgeWeight(Route.Step step) {
+    return (long) graph.getAllEdges(step.getSourcePoint().getName(),
+                                    step.getDestinationPoint().getName()).stream()
+        .mapToDouble(edge -> graph.getEdgeWeight(edge))
+        .min()
+        .getAsDouble();
+  }
+
+  private void connect(String pointName1, String pointName2) {
+    int parallelPaths = random.nextInt(10) == 0 ? 2 : 1;
+    for (int i = 0; i < parallelPaths; i++) {
+      int weight = 1 + random.nextInt(1000);
+      Path path = new Path(pointName1 + "--" + pointName2 + "-" + i,
+                           new Point(pointName1).getReference(),
+                           new Point(pointName2).getReference());
+      addEdge(pointName1, pointName2, new ModelEdge(path, false), weight);
+      // Every fifth path is a one-way path.
+      if (random.nextInt(5) != 0) {
+        addEdge(pointName2, pointName1, new ModelEdge(path, true), weight);
+      }
+    }
+  }
+
+  private void addEdge(String source, String target, ModelEdge edge, double weight) {
+    graph.addEdge(source, target, edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+
+  private static String pointName(int row, int column) {
+    return "Point-" + row + "-" + column;
+  }
+}
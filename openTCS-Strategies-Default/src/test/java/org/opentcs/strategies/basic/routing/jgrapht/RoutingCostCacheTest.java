@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Unit tests for {@link RoutingCostCache}.
+ *
+ * @author The openTCS Authors
+ */
+public class RoutingCostCacheTest {
+
+  private Graph<String, ModelEdge> graph;
+
+  private ShortestPathAlgorithm<String, ModelEdge> algo;
+
+  private RoutingCostCache costCache;
+
+  @Before
+  public void setUp() {
+    // A --> B --> C, D is not connected.
+    graph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+    graph.addVertex("A");
+    graph.addVertex("B");
+    graph.addVertex("C");
+    graph.addVertex("D");
+    addEdge("A", "B", 100);
+    addEdge("B", "C", 200);
+
+    algo = new DijkstraShortestPath<>(graph);
+    costCache = new RoutingCostCache(algo, graph.vertexSet());
+  }
+
+  @Test
+  public void returnCostsOfShortestRoutes() {
+    assertEquals(0, costCache.getCosts("A", "A"));
+    assertEquals(100, costCache.getCosts("A", "B"));
+    assertEquals(300, costCache.getCosts("A", "C"));
+    assertEquals(200, costCache.getCosts("B", "C"));
+  }
+
+  @Test
+  public void returnInfiniteCostsIfNoRouteExists() {
+    assertEquals(PointRouter.INFINITE_COSTS, costCache.getCosts("C", "A"));
+    assertEquals(PointRouter.INFINITE_COSTS, costCache.getCosts("A", "D"));
+  }
+
+  @Test
+  public void computeCostsOncePerSource() {
+    costCache.getCosts("A", "B");
+    costCache.getCosts("A", "C");
+    costCache.getCosts("A", "D");
+    costCache.getCosts("B", "C");
+
+    assertEquals(2, costCache.getCachedSourceCount());
+    assertEquals(2, costCache.getMissCount());
+    assertEquals(2, costCache.getHitCount());
+    assertEquals(0.5, costCache.getHitRate(), 0.001);
+    assertEquals(2 * 4 * Long.BYTES, costCache.getMemoryUsage());
+  }
+
+  @Test
+  public void precomputeCostsForAllSources() {
+    costCache.precompute();
+
+    assertEquals(4, costCache.getCachedSourceCount());
+    assertEquals(300, costCache.getCosts("A", "C"));
+    assertEquals(0, costCache.getMissCount());
+  }
+
+  @Test
+  public void returnSameCostsAsPointRouterWithoutCache() {
+    Point pointA = new Point("A");
+    Point pointC = new Point("C");
+    ShortestPathPointRouter uncachedRouter
+        = new ShortestPathPointRouter(new DijkstraShortestPath<>(graph),
+                                      Arrays.asList(pointA, pointC));
+    ShortestPathPointRouter cachedRouter
+        = new ShortestPathPointRouter(new DijkstraShortestPath<>(graph),
+                                      Arrays.asList(pointA, pointC),
+                                      costCache);
+
+    assertEquals(uncachedRouter.getCosts(pointA, pointC), cachedRouter.getCosts(pointA, pointC));
+    assertEquals(uncachedRouter.getCosts(pointC, pointA), cachedRouter.getCosts(pointC, pointA));
+    assertTrue(cachedRouter.getCostCache().isPresent());
+  }
+
+  @Test
+  public void keepCostsNotAffectedByChanges() {
+    costCache.precompute();
+    // Lock the path from B to C.
+    Graph<String, ModelEdge> oldGraph = graph;
+    graph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+    oldGraph.vertexSet().forEach(vertex -> graph.addVertex(vertex));
+    addEdge("A", "B", 100);
+    GraphChanges changes = GraphChanges.between(oldGraph, graph);
+
+    RoutingCostCache newCostCache
+        = costCache.withChanges(new DijkstraShortestPath<>(graph), changes);
+
+    // Only the costs from A and B are affected by the removed path.
+    assertEquals(2, newCostCache.getCachedSourceCount());
+    assertEquals(PointRouter.INFINITE_COSTS, newCostCache.getCosts("A", "C"));
+    assertEquals(100, newCostCache.getCosts("A", "B"));
+    assertEquals(PointRouter.INFINITE_COSTS, newCostCache.getCosts("B", "C"));
+    assertEquals(PointRouter.INFINITE_COSTS, newCostCache.getCosts("C", "A"));
+    assertEquals(2, newCostCache.getMissCount());
+  }
+
+  @Test
+  public void discardCostsShortenedByAddedEdges() {
+    costCache.precompute();
+    // Add a shortcut from A to C.
+    Graph<String, ModelEdge> oldGraph = graph;
+    graph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+    oldGraph.vertexSet().forEach(vertex -> graph.addVertex(vertex));
+    addEdge("A", "B", 100);
+    addEdge("B", "C", 200);
+    addEdge("A", "C", 50);
+    GraphChanges changes = GraphChanges.between(oldGraph, graph);
+
+    RoutingCostCache newCostCache
+        = costCache.withChanges(new DijkstraShortestPath<>(graph), changes);
+
+    assertEquals(1, changes.getAddedEdges().size());
+    assertTrue(changes.getRemovedEdges().isEmpty());
+    assertEquals(3, newCostCache.getCachedSourceCount());
+    assertEquals(50, newCostCache.getCosts("A", "C"));
+  }
+
+  private void addEdge(String source, String target, double weight) {
+    Path path = new Path(source + "-->" + target,
+                         new Point(source).getReference(),
+                         new Point(target).getReference());
+    ModelEdge edge = new ModelEdge(path, false);
+    graph.addEdge(source, target, edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+}
@@ -0,0 +1,236 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link UpdatableFloydWarshallShortestPaths}.
+ *
+ * @author The openTCS Authors
+ */
+public class UpdatableFloydWarshallShortestPathsTest {
+
+  /**
+   * The number of points per row/column of the grid layout.
+   */
+  private static final int GRID_SIZE = 12;
+
+  private final Random random = new Random(4711);
+
+  private Graph<String, ModelEdge> graph;
+
+  private UpdatableFloydWarshallShortestPaths algo;
+
+  @Before
+  public void setUp() {
+    // A grid layout with random weights. Some of the paths can be travelled in one direction only.
+    graph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+    for (int row = 0; row < GRID_SIZE; row++) {
+      for (int column = 0; column < GRID_SIZE; column++) {
+        graph.addVertex(pointName(row, column));
+      }
+    }
+    for (int row = 0; row < GRID_SIZE; row++) {
+      for (int column = 0; column < GRID_SIZE; column++) {
+        if (column + 1 < GRID_SIZE) {
+          connect(pointName(row, column), pointName(row, column + 1));
+        }
+        if (row + 1 < GRID_SIZE) {
+          connect(pointName(row, column), pointName(row + 1, column));
+        }
+      }
+    }
+
+    algo = new UpdatableFloydWarshallShortestPaths(graph);
+  }
+
+  @Test
+  public void returnSameWeightsAsJGraphTDijkstra() {
+    assertSameShortestPaths(graph, algo);
+  }
+
+  @Test
+  public void returnShortestPathsAfterPathsLocked() {
+    Graph<String, ModelEdge> modifiedGraph = withoutPaths(randomPathNames(10));
+
+    UpdatableFloydWarshallShortestPaths modifiedAlgo
+        = algo.withChanges(GraphChanges.between(graph, modifiedGraph));
+
+    assertSame(modifiedGraph, modifiedAlgo.getGraph());
+    assertSameShortestPaths(modifiedGraph, modifiedAlgo);
+  }
+
+  @Test
+  public void returnShortestPathsAfterPathsUnlocked() {
+    Graph<String, ModelEdge> lockedGraph = withoutPaths(randomPathNames(10));
+    UpdatableFloydWarshallShortestPaths lockedAlgo
+        = new UpdatableFloydWarshallShortestPaths(lockedGraph);
+
+    UpdatableFloydWarshallShortestPaths unlockedAlgo
+        = lockedAlgo.withChanges(GraphChanges.between(lockedGraph, graph));
+
+    assertSameShortestPaths(graph, unlockedAlgo);
+  }
+
+  @Test
+  public void returnShortestPathsAfterWeightsChanged() {
+    Set<String> changedPaths = randomPathNames(5);
+    Graph<String, ModelEdge> modifiedGraph
+        = copy(graph,
+               edge -> changedPaths.contains(edge.getModelPath().getName())
+               ? 1.0 + random.nextInt(1000)
+               : graph.getEdgeWeight(edge));
+
+    GraphChanges changes = GraphChanges.between(graph, modifiedGraph);
+    UpdatableFloydWarshallShortestPaths modifiedAlgo = algo.withChanges(changes);
+
+    assertFalse(changes.isEmpty());
+    assertSameShortestPaths(modifiedGraph, modifiedAlgo);
+    // Apply another change to the modified version, restoring the original weights.
+    Map<String, Double> originalWeights = new HashMap<>();
+    graph.edgeSet().forEach(edge -> originalWeights.put(edgeKey(edge), graph.getEdgeWeight(edge)));
+    Graph<String, ModelEdge> restoredGraph
+        = copy(modifiedGraph, edge -> originalWeights.get(edgeKey(edge)));
+    assertSameShortestPaths(restoredGraph,
+                            modifiedAlgo.withChanges(GraphChanges.between(modifiedGraph,
+                                                                          restoredGraph)));
+  }
+
+  @Test
+  public void returnNoChangesForEquivalentGraph() {
+    Graph<String, ModelEdge> copiedGraph = copy(graph, edge -> graph.getEdgeWeight(edge));
+
+    GraphChanges changes = GraphChanges.between(graph, copiedGraph);
+
+    assertTrue(changes.isEmpty());
+    assertSameShortestPaths(copiedGraph, algo.withChanges(changes));
+  }
+
+  @Test
+  public void returnNoChangesForDifferentVertices() {
+    Graph<String, ModelEdge> copiedGraph = copy(graph, edge -> graph.getEdgeWeight(edge));
+    copiedGraph.addVertex("additional");
+
+    assertNull(GraphChanges.between(graph, copiedGraph));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void throwOnUnknownVertex() {
+    algo.getPath(pointName(0, 0), "unknown");
+  }
+
+  private void assertSameShortestPaths(Graph<String, ModelEdge> expectedGraph,
+                                       UpdatableFloydWarshallShortestPaths actualAlgo) {
+    ShortestPathAlgorithm<String, ModelEdge> referenceAlgo
+        = new DijkstraShortestPath<>(expectedGraph);
+    for (String source : expectedGraph.vertexSet()) {
+      ShortestPathAlgorithm.SingleSourcePaths<String, ModelEdge> paths
+          = actualAlgo.getPaths(source);
+      for (String target : expectedGraph.vertexSet()) {
+        double expectedWeight = referenceAlgo.getPathWeight(source, target);
+        assertEquals(expectedWeight, actualAlgo.getPathWeight(source, target), 0.0);
+        assertEquals(expectedWeight, paths.getWeight(target), 0.0);
+
+        GraphPath<String, ModelEdge> path = actualAlgo.getPath(source, target);
+        if (Double.isInfinite(expectedWeight)) {
+          assertNull(path);
+          continue;
+        }
+        String vertex = source;
+        double weight = 0.0;
+        for (ModelEdge edge : path.getEdgeList()) {
+          assertEquals(vertex, expectedGraph.getEdgeSource(edge));
+          weight += expectedGraph.getEdgeWeight(edge);
+          vertex = expectedGraph.getEdgeTarget(edge);
+        }
+        assertEquals(target, vertex);
+        assertEquals(expectedWeight, weight, 0.0);
+      }
+    }
+  }
+
+  private Set<String> randomPathNames(int ratio) {
+    Set<String> result = new HashSet<>();
+    for (ModelEdge edge : graph.edgeSet()) {
+      if (random.nextInt(ratio) == 0) {
+        result.add(edge.getModelPath().getName());
+      }
+    }
+    return result;
+  }
+
+  private static String edgeKey(ModelEdge edge) {
+    return edge.getModelPath().getName() + (edge.isTravellingReverse() ? "-reverse" : "");
+  }
+
+  private Graph<String, ModelEdge> withoutPaths(Set<String> lockedPaths) {
+    return copy(graph,
+                edge -> lockedPaths.contains(edge.getModelPath().getName())
+                ? null
+                : graph.getEdgeWeight(edge));
+  }
+
+  /**
+   * Copies the given graph with new edges.
+   *
+   * @param original The graph to be copied.
+   * @param weights Provides the weight of the copy of every edge, or <code>null</code> to omit the
+   * edge.
+   * @return The copy.
+   */
+  private Graph<String, ModelEdge> copy(Graph<String, ModelEdge> original,
+                                        Function<ModelEdge, Double> weights) {
+    Graph<String, ModelEdge> result = new DirectedWeightedMultigraph<>(ModelEdge.class);
+    original.vertexSet().forEach(vertex -> result.addVertex(vertex));
+    for (ModelEdge edge : original.edgeSet()) {
+      Double weight = weights.apply(edge);
+      if (weight != null) {
+        ModelEdge copy = new ModelEdge(edge.getModelPath(), edge.isTravellingReverse());
+        result.addEdge(original.getEdgeSource(edge), original.getEdgeTarget(edge), copy);
+        result.setEdgeWeight(copy, weight);
+      }
+    }
+    return result;
+  }
+
+  private void connect(String pointName1, String pointName2) {
+    int weight = 1 + random.nextInt(1000);
+    Path path = new Path(pointName1 + "--" + pointName2,
+                         new Point(pointName1).getReference(),
+                         new Point(pointName2).getReference());
+    addEdge(pointName1, pointName2, new ModelEdge(path, false), weight);
+    // Every fifth path is a one-way path.
+    if (random.nextInt(5) != 0) {
+      addEdge(pointName2, pointName1, new ModelEdge(path, true), weight);
+    }
+  }
+
+  private void addEdge(String source, String target, ModelEdge edge, double weight) {
+    graph.addEdge(source, target, edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+
+  private static String pointName(int row, int column) {
+    return "Point-" + row + "-" + column;
+  }
+}